@@ -0,0 +1,93 @@
+package com.sprint.deokhugam.domain.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.deokhugam.domain.api.dto.NaverBookDto;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ISBN 도서 정보 캐시의 영속 계층. 재시작 직후에도 자주 조회되는 ISBN 을 네이버 API 없이 돌려주기 위해 book_info_cache 에 JSON 으로
+ * 저장한다. payload 가 NULL 인 행은 "없는 ISBN" 이다. 만료된 행은 지우지 않고 다음 조회 때 덮어쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BookInfoCacheStore {
+
+    private static final String SELECT_SQL = """
+        SELECT payload, cached_at FROM book_info_cache WHERE isbn = ?
+        """;
+    private static final String UPDATE_SQL = """
+        UPDATE book_info_cache SET payload = ?, cached_at = ? WHERE isbn = ?
+        """;
+    private static final String INSERT_SQL = """
+        INSERT INTO book_info_cache (isbn, payload, cached_at)
+        SELECT ?, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM book_info_cache WHERE isbn = ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @return 저장된 조회 결과, 없거나 만료되었으면 null
+     */
+    public CachedBookInfo find(String isbn, Duration ttl, Duration negativeTtl) {
+        Instant now = Instant.now();
+        List<CachedBookInfo> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            String payload = rs.getString("payload");
+            Instant cachedAt = rs.getTimestamp("cached_at").toInstant();
+            Duration age = Duration.between(cachedAt, now);
+            if (age.compareTo(payload == null ? negativeTtl : ttl) >= 0) {
+                return null;
+            }
+            return new CachedBookInfo(payload == null ? null : read(payload));
+        }, isbn);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    /**
+     * @param book null 이면 없는 ISBN 으로 저장한다.
+     */
+    public void save(String isbn, NaverBookDto book) {
+        String payload = book == null ? null : write(book);
+        Timestamp now = Timestamp.from(Instant.now());
+        if (jdbcTemplate.update(UPDATE_SQL, payload, now, isbn) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, isbn, payload, now, isbn);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 저장했다 - 같은 조회 결과이므로 무시한다.
+        }
+    }
+
+    private NaverBookDto read(String payload) {
+        try {
+            return objectMapper.readValue(payload, NaverBookDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 도서 정보를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private String write(NaverBookDto book) {
+        try {
+            return objectMapper.writeValueAsString(book);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도서 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * @param book null 이면 없는 ISBN
+     */
+    public record CachedBookInfo(NaverBookDto book) {
+
+    }
+}
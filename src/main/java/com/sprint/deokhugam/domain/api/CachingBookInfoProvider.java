@@ -0,0 +1,183 @@
+package com.sprint.deokhugam.domain.api;
+
+import com.sprint.deokhugam.domain.api.BookInfoCacheStore.CachedBookInfo;
+import com.sprint.deokhugam.domain.api.dto.NaverBookDto;
+import com.sprint.deokhugam.domain.book.exception.BookInfoNotFoundException;
+import com.sprint.deokhugam.global.cache.LruCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link NaverBookInfoProvider} 앞에 두는 ISBN 도서 정보 캐시.
+ * <p>
+ * ISBN 은 구분자를 지우고 ISBN-10 을 ISBN-13 으로 바꾼 값을 key 로 쓴다. 찾은 도서는 ttl, 없는 ISBN 은 negative-ttl 동안 기억해
+ * 네이버 API 호출과 표지 이미지 변환을 생략한다. 같은 ISBN 을 동시에 조회하면 먼저 온 요청만 API 를 호출하고 나머지는 그 결과를 기다린다.
+ * persistent 를 켜면 결과를 DB 에도 저장해 재시작 후 메모리 캐시가 비어 있어도 API 를 다시 부르지 않는다. 통신 오류는 캐시하지 않는다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingBookInfoProvider implements BookInfoProvider {
+
+    private static final String ISBN_13_PREFIX = "978";
+
+    private final NaverBookInfoProvider delegate;
+    private final BookInfoCacheStore store;
+    private final MeterRegistry meterRegistry;
+    private final LruCache<String, NaverBookDto> found;
+    private final LruCache<String, Boolean> notFound;
+    private final ConcurrentMap<String, CompletableFuture<NaverBookDto>> inFlight =
+        new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final boolean persistent;
+
+    public CachingBookInfoProvider(NaverBookInfoProvider delegate,
+        BookInfoCacheStore store,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.book-info.cache.max-size:500}") int maxSize,
+        @Value("${deokhugam.book-info.cache.ttl:24h}") Duration ttl,
+        @Value("${deokhugam.book-info.cache.negative-ttl:10m}") Duration negativeTtl,
+        @Value("${deokhugam.book-info.cache.persistent.enabled:false}") boolean persistent) {
+        this.delegate = delegate;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.persistent = persistent;
+        this.found = new LruCache<>("book-info", maxSize, ttl, meterRegistry);
+        this.notFound = new LruCache<>("book-info.not-found", maxSize, negativeTtl,
+            meterRegistry);
+    }
+
+    @Override
+    public NaverBookDto fetchInfoByIsbn(String isbn) {
+        String key = normalize(isbn);
+
+        NaverBookDto cached = found.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (notFound.get(key) != null) {
+            throw new BookInfoNotFoundException(key);
+        }
+
+        CompletableFuture<NaverBookDto> call = new CompletableFuture<>();
+        CompletableFuture<NaverBookDto> running = inFlight.putIfAbsent(key, call);
+        if (running != null) {
+            log.debug("[BookInfoCache] 진행 중인 조회 결과를 기다림 - isbn: {}", key);
+            return await(running);
+        }
+
+        try {
+            NaverBookDto book = load(key);
+            call.complete(book);
+            return book;
+        } catch (Throwable e) {
+            // Error 로 끝나도 기다리는 요청이 영원히 막히지 않도록 함께 실패시킨다.
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 영속 계층, 네이버 API 순으로 조회하고 결과를 캐시에 넣는다. 캐시에 넣은 뒤 대기 중인 요청을 깨우므로, 그 사이 들어온 요청은 캐시에서
+     * 결과를 얻는다.
+     */
+    private NaverBookDto load(String key) {
+        CachedBookInfo stored = persistent ? findStored(key) : null;
+        if (stored != null) {
+            if (stored.book() == null) {
+                notFound.put(key, Boolean.TRUE);
+                throw new BookInfoNotFoundException(key);
+            }
+            found.put(key, stored.book());
+            return stored.book();
+        }
+
+        long start = System.nanoTime();
+        String result = "failed";
+        try {
+            NaverBookDto book = delegate.fetchInfoByIsbn(key);
+            result = "found";
+            found.put(key, book);
+            persist(key, book);
+            return book;
+        } catch (BookInfoNotFoundException e) {
+            result = "not-found";
+            notFound.put(key, Boolean.TRUE);
+            persist(key, null);
+            throw e;
+        } finally {
+            Timer.builder("deokhugam.book-info.upstream")
+                .description("네이버 도서 정보 조회 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * 영속 계층 저장 실패는 조회 결과에 영향을 주지 않는다.
+     */
+    private void persist(String key, NaverBookDto book) {
+        if (!persistent) {
+            return;
+        }
+        try {
+            store.save(key, book);
+        } catch (Exception e) {
+            log.warn("[BookInfoCache] 도서 정보 저장 실패 - isbn: {}", key, e);
+        }
+    }
+
+    private CachedBookInfo findStored(String key) {
+        try {
+            return store.find(key, ttl, negativeTtl);
+        } catch (Exception e) {
+            log.warn("[BookInfoCache] 저장된 도서 정보 조회 실패 - isbn: {}", key, e);
+            return null;
+        }
+    }
+
+    private NaverBookDto await(CompletableFuture<NaverBookDto> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 하이픈과 공백을 지우고 ISBN-10 은 ISBN-13 으로 바꾼다. 형식이 맞지 않으면 구분자만 지운 값을 돌려주고, 검증은 네이버 조회에서 한다.
+     */
+    static String normalize(String isbn) {
+        String digits = isbn.replaceAll("[\\s-]", "").toUpperCase();
+        if (!digits.matches("\\d{9}[\\dX]")) {
+            return digits;
+        }
+        String body = ISBN_13_PREFIX + digits.substring(0, 9);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
@@ -7,12 +7,14 @@ import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
+import com.sprint.deokhugam.domain.book.dto.request.ThumbnailUploadRequest;
 import com.sprint.deokhugam.domain.book.exception.OcrException;
 import com.sprint.deokhugam.domain.book.service.BookService;
 import com.sprint.deokhugam.domain.popularbook.dto.data.PopularBookDto;
 import com.sprint.deokhugam.domain.popularbook.dto.request.PopularBookGetRequest;
 import com.sprint.deokhugam.domain.popularbook.service.PopularBookService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import com.sprint.deokhugam.global.storage.UploadSession;
 import jakarta.validation.Valid;
 import java.io.IOException;
 import java.time.Instant;
@@ -28,6 +30,8 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -48,9 +52,24 @@ public class BookController implements BookApi {
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<BookDto> create(
         @Valid @RequestPart("bookData") BookCreateRequest bookData,
-        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage
+        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage,
+        @RequestHeader("Deokhugam-Request-User-ID") UUID requestUserId
     ) throws IOException {
-        BookDto result = bookService.create(bookData, thumbnailImage);
+        BookDto result = bookService.create(bookData, thumbnailImage, requestUserId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+
+    @Override
+    @PostMapping("/thumbnail-uploads")
+    public ResponseEntity<UploadSession> createThumbnailUpload(
+        @Valid @RequestBody ThumbnailUploadRequest request,
+        @RequestHeader("Deokhugam-Request-User-ID") UUID requestUserId
+    ) {
+        log.info("[BookController] 썸네일 업로드 세션 요청 - contentType: {}, size: {}",
+            request.contentType(), request.contentLength());
+
+        UploadSession result = bookService.createThumbnailUpload(request, requestUserId);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(result);
     }
@@ -58,12 +77,13 @@ public class BookController implements BookApi {
     /**
      * 도서 목록 조회 ( 키워드 검색 + 커서 페이지네이션 )
      *
-     * @param keyword   검색 키워드 ( 제목, 저자, ISBN에서 부분 일치 )
-     * @param orderBy   정렬 기준 ( 제목, 출판일, 평점, 리뷰수 )
-     * @param direction 정렬 방향 ( ASC, DESC )
-     * @param cursor    커서 값 ( 이전 페이지 마지막 요소의 정렬 기준 값 )
-     * @param after     이전 페이지 마지막 요소의 생성 시간
-     * @param limit     페이지 크기
+     * @param keyword      검색 키워드 ( 제목, 저자, ISBN에서 부분 일치 )
+     * @param orderBy      정렬 기준 ( 제목, 출판일, 평점, 리뷰수 )
+     * @param direction    정렬 방향 ( ASC, DESC )
+     * @param cursor       커서 값 ( 이전 페이지 마지막 요소의 정렬 기준 값 )
+     * @param after        이전 페이지 마지막 요소의 생성 시간
+     * @param limit        페이지 크기
+     * @param includeTotal totalElements 포함 여부
      * @return 도서 목록 응답
      */
 
@@ -75,11 +95,12 @@ public class BookController implements BookApi {
         @RequestParam(defaultValue = "DESC") String direction,
         @RequestParam(required = false) String cursor,
         @RequestParam(required = false) Long after,
-        @RequestParam(defaultValue = "50") Integer limit
+        @RequestParam(defaultValue = "50") Integer limit,
+        @RequestParam(defaultValue = "true") boolean includeTotal
     ) {
         log.info(
-            "[BookController] 도서 목록 조회 요청 - keyword: {}, orderBy: {}, direction: {}, cursor: {}, after: {}, limit: {}",
-            keyword, orderBy, direction, cursor, after, limit);
+            "[BookController] 도서 목록 조회 요청 - keyword: {}, orderBy: {}, direction: {}, cursor: {}, after: {}, limit: {}, includeTotal: {}",
+            keyword, orderBy, direction, cursor, after, limit, includeTotal);
 
         // Request DTO 생성
         BookSearchRequest request = BookSearchRequest.of(
@@ -88,7 +109,8 @@ public class BookController implements BookApi {
             direction,
             cursor,
             after != null ? Instant.ofEpochMilli(after) : null,
-            limit
+            limit,
+            includeTotal
         ).validate();
 
         CursorPageResponse<BookDto> response = bookService.getBooks(request);
@@ -121,11 +143,12 @@ public class BookController implements BookApi {
     public ResponseEntity<BookDto> update(
         @PathVariable UUID bookId,
         @Valid @RequestPart("bookData") BookUpdateRequest bookData,
-        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage
+        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage,
+        @RequestHeader("Deokhugam-Request-User-ID") UUID requestUserId
     ) throws IOException {
         log.info("[BookController] 도서 정보 수정 요청 - id: {}", bookId);
 
-        BookDto result = bookService.update(bookId, bookData, thumbnailImage);
+        BookDto result = bookService.update(bookId, bookData, thumbnailImage, requestUserId);
 
         return ResponseEntity.status(HttpStatus.OK).body(result);
     }
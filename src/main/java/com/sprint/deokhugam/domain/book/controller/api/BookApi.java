@@ -4,10 +4,12 @@ import com.sprint.deokhugam.domain.api.dto.NaverBookDto;
 import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
+import com.sprint.deokhugam.domain.book.dto.request.ThumbnailUploadRequest;
 import com.sprint.deokhugam.domain.book.exception.OcrException;
 import com.sprint.deokhugam.domain.popularbook.dto.data.PopularBookDto;
 import com.sprint.deokhugam.domain.popularbook.dto.request.PopularBookGetRequest;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import com.sprint.deokhugam.global.storage.UploadSession;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -30,6 +32,8 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
@@ -84,9 +88,43 @@ public interface BookApi {
 
         @Parameter(description = "도서 썸네일 이미지",
             schema = @Schema(type = "string", format = "binary"))
-        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage)
+        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage,
+
+        @RequestHeader("Deokhugam-Request-User-ID")
+        @Parameter(description = "요청자 ID", required = true) UUID requestUserId)
         throws IOException;
 
+    @Operation(
+        summary = "도서 썸네일 업로드 세션 발급"
+        , description = "썸네일을 저장소에 직접 올릴 PUT 주소와 key 를 발급합니다. 업로드 후 key 를 도서 등록/수정의 thumbnailKey 로 넘깁니다. key 는 발급받은 사용자만 한 번 쓸 수 있습니다."
+        , security = @SecurityRequirement(name = "CustomHeaderAuth")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "201",
+            description = "업로드 세션 발급 성공",
+            content = @Content(
+                mediaType = "*/*",
+                schema = @Schema(implementation = UploadSession.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 이미지 형식 또는 크기 초과",
+            content = @Content(
+                mediaType = "*/*",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping("/thumbnail-uploads")
+    ResponseEntity<UploadSession> createThumbnailUpload(
+        @Parameter(description = "업로드할 썸네일 타입과 크기")
+        @Valid @RequestBody ThumbnailUploadRequest request,
+
+        @RequestHeader("Deokhugam-Request-User-ID")
+        @Parameter(description = "요청자 ID", required = true) UUID requestUserId);
+
     @Operation(
         summary = "도서 목록 조회"
         , description = "검색 조건에 맞는 도서 목록을 조회합니다."
@@ -138,7 +176,11 @@ public interface BookApi {
         @RequestParam(required = false) Long after,
 
         @Parameter(description = "페이지 크기", example = "50")
-        @RequestParam(defaultValue = "50") Integer limit
+        @RequestParam(defaultValue = "50") Integer limit,
+
+        @Parameter(description = "totalElements 포함 여부 (false 면 개수를 구하지 않고 null)",
+            example = "true")
+        @RequestParam(defaultValue = "true") boolean includeTotal
     );
 
     @Operation(
@@ -276,7 +318,10 @@ public interface BookApi {
         @Valid @RequestPart("bookData") BookUpdateRequest bookData,
 
         @Parameter(description = "수정할 도서 썸네일 이미지")
-        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage
+        @RequestPart(value = "thumbnailImage", required = false) MultipartFile thumbnailImage,
+
+        @RequestHeader("Deokhugam-Request-User-ID")
+        @Parameter(description = "요청자 ID", required = true) UUID requestUserId
     ) throws IOException;
 
     @Operation(
@@ -29,7 +29,10 @@ public record BookCreateRequest(
     LocalDate publishedDate,
 
     @Size(max = 13, message = "isbn은 13자까지만 입력 가능합니다.")
-    String isbn
+    String isbn,
+
+    // 업로드 세션으로 직접 올린 썸네일 key. 썸네일 파일 파트가 있으면 무시한다.
+    String thumbnailKey
 ) {
 
 }
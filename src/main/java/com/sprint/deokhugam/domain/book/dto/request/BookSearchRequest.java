@@ -8,7 +8,8 @@ public record BookSearchRequest(String keyword,
                                 String direction,
                                 String cursor,
                                 Instant after,
-                                Integer limit) {
+                                Integer limit,
+                                boolean includeTotal) {
 
     private static final List<String> VALID_ORDER_BY = List.of("title", "publishedDate", "rating",
         "reviewCount");
@@ -17,13 +18,20 @@ public record BookSearchRequest(String keyword,
     // 기본값을 적용한 정적 팩토리 메서드
     public static BookSearchRequest of(String keyword, String orderBy, String direction,
         String cursor, Instant after, Integer limit) {
+        return of(keyword, orderBy, direction, cursor, after, limit, null);
+    }
+
+    // includeTotal 이 null 이면 totalElements 를 포함한다.
+    public static BookSearchRequest of(String keyword, String orderBy, String direction,
+        String cursor, Instant after, Integer limit, Boolean includeTotal) {
         return new BookSearchRequest(
             keyword,
             orderBy != null ? orderBy : "title",
             direction != null ? direction : "DESC",
             cursor,
             after,
-            limit != null ? limit : 50
+            limit != null ? limit : 50,
+            includeTotal == null || includeTotal
         );
     }
 
@@ -26,7 +26,10 @@ public record BookUpdateRequest(
 
     @NotNull
     @PastOrPresent(message = "출간일은 현재 또는 과거 날짜만 입력 가능합니다.")
-    LocalDate publishedDate
+    LocalDate publishedDate,
+
+    // 업로드 세션으로 직접 올린 썸네일 key. 썸네일 파일 파트가 있으면 무시한다.
+    String thumbnailKey
 ) {
 
 }
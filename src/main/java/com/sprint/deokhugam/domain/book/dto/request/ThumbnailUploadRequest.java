@@ -0,0 +1,16 @@
+package com.sprint.deokhugam.domain.book.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+@Builder
+public record ThumbnailUploadRequest(
+    @NotBlank
+    String contentType,
+
+    @Positive
+    long contentLength
+) {
+
+}
@@ -1,15 +1,20 @@
 package com.sprint.deokhugam.domain.book.entity;
 
+import com.sprint.deokhugam.domain.book.search.BookSearchIndexListener;
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariant;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.global.base.BaseUpdatableEntity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,6 +27,7 @@ import org.hibernate.annotations.SQLRestriction;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @SQLRestriction("is_deleted = false")
+@EntityListeners(BookSearchIndexListener.class)
 @Entity
 @Table(name = "books")
 public class Book extends BaseUpdatableEntity {
@@ -47,12 +53,25 @@ public class Book extends BaseUpdatableEntity {
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
-    @Column(name = "review_count", nullable = false)
+    // 목록용 썸네일 변형 key - ThumbnailVariantService 가 비동기로 채운다
+    @Column(name = "thumbnail_small_key")
+    private String thumbnailSmallKey;
+
+    @Column(name = "thumbnail_medium_key")
+    private String thumbnailMediumKey;
+
+    // review_count, rating, rating_sum 은 BookRepository 의 증분 UPDATE 로만 갱신 - 엔티티 flush 대상에서 제외
+    @Column(name = "review_count", nullable = false, updatable = false)
     private Long reviewCount = 0L;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Double rating = 0.0;
 
+    // 리뷰 평점 합계 - rating 은 rating_sum / review_count 로 SQL 에서 증분 갱신된다
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private Long ratingSum = 0L;
+
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
 
@@ -81,20 +100,9 @@ public class Book extends BaseUpdatableEntity {
 
     public void updateThumbnailUrl(String thumbnailUrl) {
         this.thumbnailUrl = thumbnailUrl;
-    }
-
-    public void updateRating(Double newRating) {
-        this.rating = newRating;
-    }
-
-    public void increaseReviewCount() {
-        this.reviewCount++;
-    }
-
-    public void decreaseReviewCount() {
-        if (this.reviewCount > 0) {
-            this.reviewCount--;
-        }
+        // 원본이 바뀌면 이전 원본으로 만든 변형은 쓰지 않는다
+        this.thumbnailSmallKey = null;
+        this.thumbnailMediumKey = null;
     }
 
     public void delete() {
@@ -108,4 +116,21 @@ public class Book extends BaseUpdatableEntity {
     public String getThumbnailUrl() {
         return this.thumbnailUrl;
     }
+
+    /**
+     * 화면에 필요한 너비 이상인 썸네일 변형 중 가장 작은 것의 key. 변형이 없으면 원본 key
+     */
+    public String getThumbnailKey(ThumbnailVariant required) {
+        return ThumbnailVariant.select(required, thumbnailUrl, thumbnailSmallKey,
+            thumbnailMediumKey);
+    }
+
+    /**
+     * 원본과 변형을 포함한 썸네일 key 전체
+     */
+    public List<String> getThumbnailKeys() {
+        return Stream.of(thumbnailUrl, thumbnailSmallKey, thumbnailMediumKey)
+            .filter(Objects::nonNull)
+            .toList();
+    }
 }
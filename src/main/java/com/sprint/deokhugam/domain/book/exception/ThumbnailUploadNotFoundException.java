@@ -0,0 +1,11 @@
+package com.sprint.deokhugam.domain.book.exception;
+
+import com.sprint.deokhugam.global.exception.BadRequestException;
+import java.util.Map;
+
+public class ThumbnailUploadNotFoundException extends BadRequestException {
+
+    public ThumbnailUploadNotFoundException(String thumbnailKey) {
+        super("FILE", Map.of("thumbnailKey", thumbnailKey));
+    }
+}
@@ -3,7 +3,9 @@ package com.sprint.deokhugam.domain.book.mapper;
 import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariant;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import java.util.Map;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,19 +16,36 @@ public interface BookMapper {
     // BookCreateRequest -> Book
     @Mapping(target = "rating", expression = "java(0.0)")
     @Mapping(target = "reviewCount", expression = "java(0L)")
+    @Mapping(target = "ratingSum", expression = "java(0L)")
     @Mapping(target = "isDeleted", expression = "java(false)")
     Book toEntity(BookCreateRequest request);
 
-    default BookDto toDto(Book book, @Context S3Storage s3Storage) {
+    default BookDto toDto(Book book, @Context FileStorage fileStorage) {
         if (book == null) {
             return null;
         }
 
+        // 도서 카드/상세 표지는 480px 변형이면 충분하다
+        String thumbnailKey = book.getThumbnailKey(ThumbnailVariant.MEDIUM);
         String thumbnailUrl = null;
-        if (book.getThumbnailUrl() != null && !book.getThumbnailUrl().isEmpty()) {
-            thumbnailUrl = s3Storage.generatePresignedUrl(book.getThumbnailUrl());
+        if (thumbnailKey != null && !thumbnailKey.isEmpty()) {
+            thumbnailUrl = fileStorage.generatePresignedUrl(thumbnailKey);
         }
+        return toDtoWithThumbnailUrl(book, thumbnailUrl);
+    }
+
+    /**
+     * 목록 조회용 - 페이지 단위로 {@link FileStorage#presignAll} 한 결과에서 표지 url 을 꺼낸다.
+     */
+    default BookDto toDto(Book book, Map<String, String> thumbnailUrls) {
+        if (book == null) {
+            return null;
+        }
+        return toDtoWithThumbnailUrl(book,
+            thumbnailUrls.get(book.getThumbnailKey(ThumbnailVariant.MEDIUM)));
+    }
 
+    default BookDto toDtoWithThumbnailUrl(Book book, String thumbnailUrl) {
         return new BookDto(
             book.getId(),
             book.getTitle(),
@@ -16,6 +16,22 @@ public interface BookRepository extends JpaRepository<Book, UUID>, BookRepositor
 
     boolean existsByIsbn(String isbn);
 
+    /**
+     * 썸네일 원본이 그대로일 때만 변형 key 를 기록한다.
+     *
+     * @return 원본이 바뀌었거나 도서가 없으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Book b SET b.thumbnailSmallKey = :smallKey, b.thumbnailMediumKey = :mediumKey
+        WHERE b.id = :bookId AND b.thumbnailUrl = :originalKey
+        """)
+    int updateThumbnailVariants(@Param("bookId") UUID bookId,
+        @Param("originalKey") String originalKey,
+        @Param("smallKey") String smallKey,
+        @Param("mediumKey") String mediumKey);
+
     @Query(value = "SELECT * FROM books WHERE id = :id AND is_deleted = true", nativeQuery = true)
     Optional<Book> findDeletedById(@Param("id") UUID bookId);
 
@@ -28,8 +44,65 @@ public interface BookRepository extends JpaRepository<Book, UUID>, BookRepositor
         UPDATE Book b SET b.reviewCount = (
             SELECT COUNT(r) FROM Review r 
             WHERE r.book.id = b.id AND r.isDeleted = false
+        ), b.ratingSum = (
+            SELECT COALESCE(SUM(r.rating), 0) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        ), b.rating = (
+            SELECT COALESCE(AVG(r.rating), 0.0) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
         ) 
         WHERE b.id IN :bookIds
         """)
     void recalculateBookCounts(@Param("bookIds") List<UUID> bookIds);
+
+    /**
+     * 리뷰 평점 변화량만큼 도서의 평점 합계/리뷰 수를 원자적으로 갱신하고 평균 평점을 다시 계산한다.
+     * <p>
+     * SET 절의 우변은 갱신 전 값을 기준으로 계산되므로 동시 요청에서도 변화량이 유실되지 않는다.
+     *
+     * @param ratingDelta 평점 합계 변화량 (생성: +평점, 삭제: -평점, 수정: 새 평점 - 기존 평점)
+     * @param countDelta  리뷰 수 변화량 (생성: 1, 삭제: -1, 수정: 0)
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        UPDATE Book b SET
+            b.ratingSum = b.ratingSum + :ratingDelta,
+            b.reviewCount = b.reviewCount + :countDelta,
+            b.rating = CASE WHEN b.reviewCount + :countDelta > 0
+                THEN (b.ratingSum + :ratingDelta) * 1.0 / (b.reviewCount + :countDelta)
+                ELSE 0.0 END
+        WHERE b.id = :bookId
+        """)
+    int applyReviewRatingDelta(@Param("bookId") UUID bookId,
+        @Param("ratingDelta") long ratingDelta,
+        @Param("countDelta") long countDelta);
+
+    /**
+     * 평점 합계/리뷰 수가 실제 리뷰와 어긋난 도서만 다시 계산한다. (증분 갱신 보정용)
+     *
+     * @return 보정된 도서 수
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE Book b SET b.reviewCount = (
+            SELECT COUNT(r) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        ), b.ratingSum = (
+            SELECT COALESCE(SUM(r.rating), 0) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        ), b.rating = (
+            SELECT COALESCE(AVG(r.rating), 0.0) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        )
+        WHERE b.reviewCount <> (
+            SELECT COUNT(r) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        ) OR b.ratingSum <> (
+            SELECT COALESCE(SUM(r.rating), 0) FROM Review r
+            WHERE r.book.id = b.id AND r.isDeleted = false
+        )
+        """)
+    int reconcileRatings();
 }
@@ -10,14 +10,17 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.book.entity.QBook;
+import com.sprint.deokhugam.domain.book.search.BookSearchIndex;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -30,17 +33,20 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     private static final QBook book = QBook.book;
     private final JPAQueryFactory queryFactory;
     private final EntityManager entityManager;
+    private final ObjectProvider<BookSearchIndex> bookSearchIndexProvider;
 
     @Override
     public List<Book> findBooksWithKeyword(BookSearchRequest request) {
         log.debug("[BookRepository] 키워드 검색 실행 - keyword: {}, orderBy: {}, direction: {}, limit: {}",
             request.keyword(), request.orderBy(), request.direction(), request.limit());
 
+        KeywordCandidates candidates = findCandidates(request.keyword());
+
         return queryFactory
             .selectFrom(book)
             .where(
                 book.isDeleted.eq(false),
-                keywordCondition(request.keyword())
+                keywordCondition(request.keyword(), candidates)
             )
             .orderBy(createOrderSpecifiers(request.orderBy(), request.direction()))
             .limit(request.limit())
@@ -52,9 +58,11 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         log.debug("[BookRepository] 커서 기반 검색 실행 - keyword: {}, cursor: {}, after: {}",
             request.keyword(), request.cursor(), request.after());
 
+        KeywordCandidates candidates = findCandidates(request.keyword());
+
         BooleanBuilder whereCondition = new BooleanBuilder()
             .and(book.isDeleted.eq(false))
-            .and(keywordCondition(request.keyword()))
+            .and(keywordCondition(request.keyword(), candidates))
             .and(cursorCondition(request.orderBy(), request.direction(), request.cursor(),
                 request.after()));
 
@@ -70,12 +78,14 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
     public long countBooksWithKeyword(String keyword) {
         log.debug("[BookRepository] 총 개수 조회 실행 - keyword: {}", keyword);
 
+        KeywordCandidates candidates = findCandidates(keyword);
+
         Long count = queryFactory
             .select(book.count())
             .from(book)
             .where(
                 book.isDeleted.eq(false),
-                keywordCondition(keyword)
+                keywordCondition(keyword, candidates)
             )
             .fetchOne();
 
@@ -96,17 +106,56 @@ public class BookRepositoryImpl implements BookRepositoryCustom {
         }
     }
 
+    /**
+     * 키워드 역색인에서 후보 도서 id 를 찾는다. 후보가 있으면 LIKE 조건을 전체 테이블이 아닌 후보 행과 최근 수정된 행에만 적용한다.
+     *
+     * @return 키워드가 없거나 색인을 쓸 수 없으면(재구성 중, 후보 과다, 색인 빈 없음) null
+     */
+    private KeywordCandidates findCandidates(String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return null;
+        }
+        BookSearchIndex index = bookSearchIndexProvider.getIfAvailable();
+        if (index == null) {
+            return null;
+        }
+        // 후보를 찾는 사이 재구성되면 더 이른 시각을 쓰게 되어 범위가 넓어질 뿐이므로 먼저 읽는다.
+        Instant changedSince = index.changedSince();
+        Set<UUID> ids = index.search(keyword);
+        if (ids == null || changedSince == null) {
+            return null;
+        }
+        return new KeywordCandidates(ids, changedSince);
+    }
+
     /**
      * 키워드 검색 조건 생성
      */
-    private BooleanExpression keywordCondition(String keyword) {
+    private BooleanExpression keywordCondition(String keyword, KeywordCandidates candidates) {
         if (!StringUtils.hasText(keyword)) {
             return null;
         }
 
-        return book.title.containsIgnoreCase(keyword)
+        BooleanExpression matches = book.title.containsIgnoreCase(keyword)
             .or(book.author.containsIgnoreCase(keyword))
             .or(book.isbn.contains(keyword));
+        if (candidates == null) {
+            return matches;
+        }
+        // 색인은 이 인스턴스의 변경과 마지막 재구성까지만 알므로, 그 뒤 다른 인스턴스에서 수정한 도서도 함께 확인한다.
+        BooleanExpression recentlyChanged = book.updatedAt.goe(candidates.changedSince());
+        BooleanExpression scope = candidates.ids().isEmpty()
+            ? recentlyChanged
+            : book.id.in(candidates.ids()).or(recentlyChanged);
+        return scope.and(matches);
+    }
+
+    /**
+     * @param ids          색인이 찾은 후보 도서 id
+     * @param changedSince 이 시각 이후 수정된 도서는 색인에 없을 수 있다
+     */
+    private record KeywordCandidates(Set<UUID> ids, Instant changedSince) {
+
     }
 
     /**
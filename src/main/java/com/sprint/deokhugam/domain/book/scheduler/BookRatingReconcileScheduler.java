@@ -0,0 +1,28 @@
+package com.sprint.deokhugam.domain.book.scheduler;
+
+import com.sprint.deokhugam.domain.book.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 평점은 리뷰 생성/수정/삭제 시 변화량으로만 갱신되므로, 하드 삭제나 직접 수정된 데이터로 생긴 오차를 매일 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookRatingReconcileScheduler {
+
+    private final BookRepository bookRepository;
+
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul")
+    public void reconcileBookRatings() {
+        try {
+            int reconciled = bookRepository.reconcileRatings();
+            log.info("[BookRatingReconciler] 도서 평점 보정 완료 - 보정된 도서 수: {}", reconciled);
+        } catch (Exception e) {
+            log.error("[BookRatingReconciler] 도서 평점 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
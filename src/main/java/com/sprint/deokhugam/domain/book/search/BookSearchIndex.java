@@ -0,0 +1,308 @@
+package com.sprint.deokhugam.domain.book.search;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.global.database.AfterCommit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 제목/저자/ISBN 키워드 검색용 인스턴스 로컬 역색인.
+ * <p>
+ * 각 필드를 소문자로 바꾼 뒤 한 글자(unigram)와 두 글자(bigram) 토큰으로 나눠 토큰별 도서 id 목록을 유지한다. 띄어쓰기 없이 붙여 쓰는
+ * 한국어 제목도 부분 문자열로 찾을 수 있다. 키워드의 모든 토큰을 가진 도서가 후보이며, 후보는 실제 포함 여부보다 넓을 수 있으므로 조회는
+ * 항상 후보 id 안에서 기존 LIKE 조건으로 다시 거른다.
+ * <p>
+ * 도서 저장 시 새 토큰은 즉시 추가하고, 빠지는 토큰과 삭제된 도서는 커밋 후에 제거한다. 롤백되더라도 색인은 실제보다 넓을 뿐 결과는
+ * 정확하다. 다른 인스턴스에서 등록/수정한 도서는 다음 재구성 전까지 색인에 없으므로, 후보는 거르는 조건이 아니라 가속용이다. 조회는
+ * 후보와 함께 {@link #changedSince()} 이후 수정된 도서도 LIKE 로 확인한다. 이 시각은 마지막 재구성을 시작한 시각에서 서버 간 시계
+ * 차이와 긴 트랜잭션을 위한 여유(clock-skew)를 뺀 값이다.
+ */
+@Slf4j
+@Component
+public class BookSearchIndex {
+
+    private static final String LOAD_SQL =
+        "SELECT id, title, author, isbn FROM books WHERE is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final Duration clockSkew;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings postings = new Postings();
+    // 재구성 중에 들어온 변경 - 새 색인으로 교체할 때 다시 적용한다.
+    private List<Runnable> pending;
+    private volatile boolean ready;
+    private volatile Instant changedSince;
+
+    public BookSearchIndex(JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.book.search-index.enabled:true}") boolean enabled,
+        @Value("${deokhugam.book.search-index.max-candidates:1000}") int maxCandidates,
+        @Value("${deokhugam.book.search-index.clock-skew:1m}") Duration clockSkew) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.clockSkew = clockSkew;
+
+        Gauge.builder("deokhugam.book.search-index.documents", this, BookSearchIndex::size)
+            .description("키워드 역색인에 올라간 도서 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 도서 id 를 찾는다.
+     *
+     * @return 색인이 준비되지 않았거나, 토큰을 만들 수 없거나, 후보가 너무 많으면 null (LIKE 검색으로 처리)
+     */
+    public Set<UUID> search(String keyword) {
+        if (!ready || keyword == null) {
+            return null;
+        }
+        Set<String> tokens = queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<UUID>> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                Set<UUID> ids = postings.byToken.get(token);
+                if (ids == null) {
+                    return Set.of();
+                }
+                lists.add(ids);
+            }
+            // 가장 짧은 목록부터 교집합을 구한다.
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<UUID> candidates = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+            // 후보가 너무 많으면 IN 조건보다 LIKE 검색이 낫다.
+            return candidates.size() > maxCandidates ? null : candidates;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이 시각 이후 수정된 도서는 다른 인스턴스에서 바뀌어 색인에 없을 수 있다. 후보와 함께 따로 확인해야 한다.
+     *
+     * @return 색인이 준비되지 않았으면 null
+     */
+    public Instant changedSince() {
+        return changedSince;
+    }
+
+    /**
+     * 저장된 도서를 색인한다. 새 토큰은 바로 추가하고, 수정으로 빠진 토큰은 커밋 후에 정리한다.
+     */
+    public void index(Book book) {
+        if (!enabled) {
+            return;
+        }
+        UUID id = book.getId();
+        Set<String> tokens = documentTokens(book.getTitle(), book.getAuthor(), book.getIsbn());
+        mutate(() -> postings.add(id, tokens));
+        AfterCommit.run(() -> mutate(() -> postings.retain(id, tokens)));
+    }
+
+    public void remove(UUID bookId) {
+        if (!enabled) {
+            return;
+        }
+        AfterCommit.run(() -> mutate(() -> postings.remove(bookId)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${deokhugam.book.search-index.rebuild-cron:0 */10 * * * *}",
+        zone = "Asia/Seoul")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pending != null) {
+                return;
+            }
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Instant start = Instant.now();
+        Postings next = new Postings();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                next.add(rs.getObject("id", UUID.class),
+                    documentTokens(rs.getString("title"), rs.getString("author"),
+                        rs.getString("isbn")));
+            });
+        } catch (Exception e) {
+            log.error("[BookSearchIndex] 도서 색인 재구성 실패: {}", e.getMessage(), e);
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Postings previous = postings;
+            postings = next;
+            pending.forEach(Runnable::run);
+            pending = null;
+            changedSince = start.minus(clockSkew);
+            ready = true;
+            log.info("[BookSearchIndex] 도서 색인 재구성 완료 - 도서: {}건 (이전 {}건), 토큰: {}개, 소요: {}ms",
+                next.byDocument.size(), previous.byDocument.size(), next.byToken.size(),
+                Duration.between(start, Instant.now()).toMillis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return postings.byDocument.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 색인과, 재구성 중이면 새 색인에도 같은 변경이 반영되도록 기록한다.
+     */
+    private void mutate(Runnable change) {
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static Set<String> documentTokens(String... fields) {
+        Set<String> tokens = new HashSet<>();
+        for (String field : fields) {
+            if (field != null) {
+                addTokens(field.toLowerCase(Locale.ROOT), tokens);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 한 글자 키워드는 unigram 으로, 그 외에는 bigram 만으로 찾는다.
+     */
+    static Set<String> queryTokens(String keyword) {
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        Set<String> tokens = new HashSet<>();
+        if (normalized.length() == 1) {
+            addToken(normalized, tokens);
+            return tokens;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            addToken(normalized.substring(i, i + 2), tokens);
+        }
+        return tokens;
+    }
+
+    private static void addTokens(String text, Set<String> tokens) {
+        for (int i = 0; i < text.length(); i++) {
+            addToken(text.substring(i, i + 1), tokens);
+            if (i + 1 < text.length()) {
+                addToken(text.substring(i, i + 2), tokens);
+            }
+        }
+    }
+
+    private static void addToken(String token, Set<String> tokens) {
+        if (!token.isBlank()) {
+            tokens.add(token);
+        }
+    }
+
+    /**
+     * 토큰 -> 도서 id 목록과 도서 -> 토큰 목록. 잠금은 바깥에서 잡는다.
+     */
+    private static final class Postings {
+
+        private final Map<String, Set<UUID>> byToken = new HashMap<>();
+        private final Map<UUID, Set<String>> byDocument = new HashMap<>();
+
+        void add(UUID id, Set<String> tokens) {
+            byDocument.computeIfAbsent(id, key -> new HashSet<>()).addAll(tokens);
+            tokens.forEach(token -> byToken.computeIfAbsent(token, key -> new HashSet<>()).add(id));
+        }
+
+        /**
+         * 도서의 토큰을 주어진 토큰으로 맞춘다.
+         */
+        void retain(UUID id, Set<String> tokens) {
+            Set<String> current = byDocument.get(id);
+            if (current == null) {
+                add(id, tokens);
+                return;
+            }
+            for (String token : current) {
+                if (!tokens.contains(token)) {
+                    unlink(token, id);
+                }
+            }
+            add(id, tokens);
+            current.retainAll(tokens);
+        }
+
+        void remove(UUID id) {
+            Set<String> current = byDocument.remove(id);
+            if (current != null) {
+                current.forEach(token -> unlink(token, id));
+            }
+        }
+
+        private void unlink(String token, UUID id) {
+            Set<UUID> ids = byToken.get(token);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    byToken.remove(token);
+                }
+            }
+        }
+    }
+}
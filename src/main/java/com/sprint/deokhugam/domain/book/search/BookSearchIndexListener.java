@@ -0,0 +1,46 @@
+package com.sprint.deokhugam.domain.book.search;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 도서 엔티티가 저장/수정/삭제될 때 키워드 역색인에 반영한다. 서비스를 거치지 않는 저장도 색인되도록 엔티티 리스너로 둔다.
+ * <p>
+ * 색인 빈이 없는 환경(JPA 슬라이스 테스트 등)에서는 아무것도 하지 않는다.
+ */
+public class BookSearchIndexListener {
+
+    // Hibernate 가 스프링 빈 컨테이너로 리스너를 만들 때 주입된다.
+    @Autowired
+    private ObjectProvider<BookSearchIndex> bookSearchIndexProvider;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Book book) {
+        BookSearchIndex index = findIndex();
+        if (index == null) {
+            return;
+        }
+        if (book.isDeleted()) {
+            index.remove(book.getId());
+        } else {
+            index.index(book);
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Book book) {
+        BookSearchIndex index = findIndex();
+        if (index != null) {
+            index.remove(book.getId());
+        }
+    }
+
+    private BookSearchIndex findIndex() {
+        return bookSearchIndexProvider != null ? bookSearchIndexProvider.getIfAvailable() : null;
+    }
+}
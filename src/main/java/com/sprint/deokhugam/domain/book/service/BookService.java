@@ -4,22 +4,31 @@ import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
+import com.sprint.deokhugam.domain.book.dto.request.ThumbnailUploadRequest;
 import com.sprint.deokhugam.domain.book.exception.OcrException;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import com.sprint.deokhugam.global.storage.UploadSession;
 import java.io.IOException;
 import java.util.UUID;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface BookService {
 
-    BookDto create(BookCreateRequest bookData, MultipartFile thumbnailImage) throws IOException;
+    BookDto create(BookCreateRequest bookData, MultipartFile thumbnailImage, UUID requestUserId)
+        throws IOException;
 
     CursorPageResponse<BookDto> getBooks(BookSearchRequest request);
 
     BookDto findById(UUID bookId);
 
-    BookDto update(UUID bookId, BookUpdateRequest bookData, MultipartFile thumbnailImage)
-        throws IOException;
+    BookDto update(UUID bookId, BookUpdateRequest bookData, MultipartFile thumbnailImage,
+        UUID requestUserId) throws IOException;
+
+    /**
+     * 썸네일을 저장소에 직접 올릴 업로드 세션을 발급한다. 업로드가 끝나면 세션의 key 를 도서 등록/수정 요청의 thumbnailKey 로 넘긴다.
+     * key 는 세션을 발급받은 사용자만 한 번 쓸 수 있다.
+     */
+    UploadSession createThumbnailUpload(ThumbnailUploadRequest request, UUID requestUserId);
 
     void delete(UUID bookId);
 
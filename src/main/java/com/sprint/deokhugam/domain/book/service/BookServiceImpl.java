@@ -4,6 +4,7 @@ import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
+import com.sprint.deokhugam.domain.book.dto.request.ThumbnailUploadRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.book.exception.BookNotFoundException;
 import com.sprint.deokhugam.domain.book.exception.BookNotSoftDeletedException;
@@ -11,38 +12,107 @@ import com.sprint.deokhugam.domain.book.exception.DuplicateIsbnException;
 import com.sprint.deokhugam.domain.book.exception.FileSizeExceededException;
 import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
 import com.sprint.deokhugam.domain.book.exception.OcrException;
+import com.sprint.deokhugam.domain.book.exception.ThumbnailUploadNotFoundException;
 import com.sprint.deokhugam.domain.book.mapper.BookMapper;
 import com.sprint.deokhugam.domain.book.ocr.TesseractOcrExtractor;
 import com.sprint.deokhugam.domain.book.repository.BookRepository;
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariant;
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariantService;
+import com.sprint.deokhugam.global.count.CountScope;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.DirectUploadStorage;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import com.sprint.deokhugam.global.storage.ImageReferenceService;
+import com.sprint.deokhugam.global.storage.ObjectDeletionQueue;
+import com.sprint.deokhugam.global.storage.StagedUploadRegistry;
+import com.sprint.deokhugam.global.storage.UploadSession;
+import com.sprint.deokhugam.global.storage.UploadedObject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class BookServiceImpl implements BookService {
 
-    private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    // OCR 은 TesseractOcrExtractor 의 한도와 같게 둔다.
+    private static final long MAX_OCR_IMAGE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final List<String> SUPPORTED_IMAGE_TYPES =
         List.of("image/jpeg", "image/jpg", "image/png", "image/gif", "image/bmp", "image/webp");
     private final BookMapper bookMapper;
     private final BookRepository bookRepository;
-    private final S3Storage s3Storage;
+    private final FileStorage fileStorage;
     private final TesseractOcrExtractor tesseractOcrExtractor;
+    private final TotalCountService totalCountService;
+    private final DirectUploadStorage directUploadStorage;
+    private final StagedUploadRegistry stagedUploadRegistry;
+    private final ThumbnailVariantService thumbnailVariantService;
+    private final ImageReferenceService imageReferenceService;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer createTimer;
+    private final Timer updateTimer;
+
+    public BookServiceImpl(BookMapper bookMapper,
+        BookRepository bookRepository,
+        FileStorage fileStorage,
+        TesseractOcrExtractor tesseractOcrExtractor,
+        TotalCountService totalCountService,
+        DirectUploadStorage directUploadStorage,
+        StagedUploadRegistry stagedUploadRegistry,
+        ThumbnailVariantService thumbnailVariantService,
+        ImageReferenceService imageReferenceService,
+        ObjectDeletionQueue objectDeletionQueue,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry) {
+        this.bookMapper = bookMapper;
+        this.bookRepository = bookRepository;
+        this.fileStorage = fileStorage;
+        this.tesseractOcrExtractor = tesseractOcrExtractor;
+        this.totalCountService = totalCountService;
+        this.directUploadStorage = directUploadStorage;
+        this.stagedUploadRegistry = stagedUploadRegistry;
+        this.thumbnailVariantService = thumbnailVariantService;
+        this.imageReferenceService = imageReferenceService;
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.createTimer = transactionTimer(meterRegistry, "create");
+        this.updateTimer = transactionTimer(meterRegistry, "update");
+    }
+
+    private static Timer transactionTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("deokhugam.book.write.transaction")
+            .description("도서 등록/수정의 메타데이터 트랜잭션 시간 (요청당 DB 커넥션 점유 시간)")
+            .tag("operation", operation)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
 
+    /**
+     * 썸네일은 트랜잭션 밖에서 먼저 올리고, 도서와 참조 수는 짧은 트랜잭션으로 저장한다. 저장에 실패하면 올린 썸네일을 참조 없는
+     * 객체로 등록해 정리 작업이 지우게 한다. 업로드하는 동안 커넥션을 잡지 않도록 이 메서드는 트랜잭션을 시작하지 않는다(SUPPORTS). 호출한
+     * 쪽에 트랜잭션이 있으면 그대로 참여한다.
+     */
     @Override
-    @Transactional
-    public BookDto create(BookCreateRequest bookData, MultipartFile thumbnailImage)
-        throws IOException {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BookDto create(BookCreateRequest bookData, MultipartFile thumbnailImage,
+        UUID requestUserId) throws IOException {
         log.debug("[BookService] 책 등록 요청 - bookData: {}", bookData);
 
         String isbn = bookData.isbn();
@@ -51,19 +121,31 @@ public class BookServiceImpl implements BookService {
             throw new DuplicateIsbnException(isbn);
         }
 
-        Book book = bookMapper.toEntity(bookData);
-
+        // Book Entity를 저장할 때는 저장소의 실제 key 저장
+        String thumbnailKey = null;
         if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
-            // Book Entity를 저장할 때는 S3의 실제 경로 저장
-            String thumbnailImageUrl = s3Storage.uploadImage(thumbnailImage);
-            book.updateThumbnailUrl(thumbnailImageUrl);
+            thumbnailKey = fileStorage.uploadImage(thumbnailImage);
+        } else if (bookData.thumbnailKey() != null) {
+            thumbnailKey = finalizeThumbnail(bookData.thumbnailKey(), requestUserId);
         }
 
-        Book savedBook = bookRepository.save(book);
+        String stagedKey = thumbnailKey;
+        Book savedBook = inShortTransaction(createTimer, stagedKey, status -> {
+            Book book = bookMapper.toEntity(bookData);
+            if (stagedKey != null) {
+                imageReferenceService.acquire(stagedKey);
+                book.updateThumbnailUrl(stagedKey);
+            }
+
+            Book saved = bookRepository.save(book);
+            totalCountService.invalidate(CountScope.BOOK);
+            thumbnailVariantService.schedule(saved.getId(), saved.getThumbnailUrl());
+            return saved;
+        });
 
         log.info("[BookService] 책 등록 완료: id={}, title={}", savedBook.getId(), savedBook.getTitle());
 
-        return bookMapper.toDto(savedBook, s3Storage);
+        return bookMapper.toDto(savedBook, fileStorage);
     }
 
     @Override
@@ -92,8 +174,10 @@ public class BookServiceImpl implements BookService {
             books = bookRepository.findBooksWithKeyword(queryRequest);
         }
 
-        // 총 개수 조회
-        long totalElements = bookRepository.countBooksWithKeyword(validatedRequest.keyword());
+        // 총 개수 조회 - 같은 키워드의 개수는 캐시된 값을 쓴다
+        Long totalElements = totalCountService.count(CountScope.BOOK,
+            TotalCountService.filter(validatedRequest.keyword()), validatedRequest.includeTotal(),
+            () -> bookRepository.countBooksWithKeyword(validatedRequest.keyword()));
 
         // 다음 페이지 존재 여부 확인
         boolean hasNext = books.size() > validatedRequest.limit();
@@ -111,8 +195,12 @@ public class BookServiceImpl implements BookService {
             nextAfter = lastBook.getCreatedAt().toString();
         }
 
+        // 페이지의 썸네일을 한 번에 서명하고 매핑에서는 그 결과를 쓴다.
+        Map<String, String> thumbnailUrls = fileStorage.presignAll(books.stream()
+            .map(book -> book.getThumbnailKey(ThumbnailVariant.MEDIUM))
+            .toList());
         CursorPageResponse<BookDto> response = new CursorPageResponse<>(
-            books.stream().map(book -> bookMapper.toDto(book, s3Storage)).toList(),
+            books.stream().map(book -> bookMapper.toDto(book, thumbnailUrls)).toList(),
             nextCursor,
             nextAfter,
             books.size(),
@@ -170,8 +258,8 @@ public class BookServiceImpl implements BookService {
             throw new IllegalArgumentException("[BookService] 이미지 파일이 필요합니다.");
         }
 
-        if (image.getSize() > MAX_FILE_SIZE) {
-            throw new FileSizeExceededException(image.getSize(), MAX_FILE_SIZE);
+        if (image.getSize() > MAX_OCR_IMAGE_SIZE) {
+            throw new FileSizeExceededException(image.getSize(), MAX_OCR_IMAGE_SIZE);
         }
 
         // 파일 형식 검사
@@ -194,47 +282,162 @@ public class BookServiceImpl implements BookService {
 
         log.info("[BookService] 책 조회 성공: book: {}", book);
 
-        return bookMapper.toDto(book, s3Storage);
+        return bookMapper.toDto(book, fileStorage);
     }
 
+    /**
+     * 등록과 같이 새 썸네일은 트랜잭션 밖에서 올리고 도서 정보와 참조 수만 짧은 트랜잭션으로 저장한다.
+     */
     @Override
-    @Transactional
-    public BookDto update(UUID bookId, BookUpdateRequest bookData, MultipartFile thumbnailImage)
-        throws IOException {
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BookDto update(UUID bookId, BookUpdateRequest bookData, MultipartFile thumbnailImage,
+        UUID requestUserId) throws IOException {
         log.debug("[BookService] 책 정보 수정 요청 - id: {}", bookId);
 
-        Book book = findBook(bookId);
+        // 없는 도서면 업로드 전에 실패한다.
+        Book current = findBook(bookId);
+
+        String thumbnailKey = null;
+        if (thumbnailImage != null && !thumbnailImage.isEmpty()) {
+            // thumbnailImage에 새 파일이 들어있음 -> 새로 업로드 후 기존 참조 해제
+            thumbnailKey = fileStorage.uploadImage(thumbnailImage);
+        } else if (thumbnailImage == null && bookData.thumbnailKey() != null
+            && !bookData.thumbnailKey().equals(current.getThumbnailUrl())) {
+            // 직접 업로드한 썸네일로 교체
+            thumbnailKey = finalizeThumbnail(bookData.thumbnailKey(), requestUserId);
+        }
 
-        book.updateTitle(bookData.title());
-        book.updateAuthor(bookData.author());
-        book.updateDescription(bookData.description());
-        book.updatePublisher(bookData.publisher());
-        book.updatePublishedDate(bookData.publishedDate());
+        String stagedKey = thumbnailKey;
+        Book updatedBook = inShortTransaction(updateTimer, stagedKey, status -> {
+            Book book = findBook(bookId);
 
-        if (thumbnailImage != null) {
-            if (thumbnailImage.isEmpty()) {
+            book.updateTitle(bookData.title());
+            book.updateAuthor(bookData.author());
+            book.updateDescription(bookData.description());
+            book.updatePublisher(bookData.publisher());
+            book.updatePublishedDate(bookData.publishedDate());
+
+            String previousThumbnail = book.getThumbnailUrl();
+            if (thumbnailImage != null && thumbnailImage.isEmpty()) {
                 // thumbnailImage 파트가 빈 파일 -> 이미지 삭제 요청으로 해석
-                if (book.getThumbnailUrl() != null) {
-                    s3Storage.deleteImage(book.getThumbnailUrl());
+                if (previousThumbnail != null) {
+                    releaseThumbnail(book);
                     book.updateThumbnailUrl(null);
                     log.info("[BookService] 썸네일 삭제 완료 - id: {}", bookId);
                 }
-            } else {
-                // thumbnailImage에 새 파일이 들어있음 -> 기존 삭제 후 새 업로드
-                if (book.getThumbnailUrl() != null) {
-                    s3Storage.deleteImage(book.getThumbnailUrl());
-                }
-                String thumbnailImageUrl = s3Storage.uploadImage(thumbnailImage);
-                book.updateThumbnailUrl(thumbnailImageUrl);
-                log.info("[BookService] 썸네일 새로 업로드 완료 - id: {}", bookId);
+            } else if (stagedKey != null && !stagedKey.equals(previousThumbnail)) {
+                // 같은 내용이면 key 가 같으므로 기존 썸네일과 변형을 그대로 둔다.
+                imageReferenceService.acquire(stagedKey);
+                releaseThumbnail(book);
+                book.updateThumbnailUrl(stagedKey);
+                log.info("[BookService] 썸네일 교체 완료 - id: {}, key: {}", bookId, stagedKey);
             }
-        }
 
-        Book updatedBook = bookRepository.save(book);
+            Book saved = bookRepository.save(book);
+            // 제목/저자/설명이 바뀌면 도서, 리뷰의 키워드 검색 개수가 달라진다.
+            totalCountService.invalidate(CountScope.BOOK);
+            totalCountService.invalidate(CountScope.REVIEW);
+            if (!Objects.equals(previousThumbnail, saved.getThumbnailUrl())) {
+                thumbnailVariantService.schedule(saved.getId(), saved.getThumbnailUrl());
+            }
+            return saved;
+        });
 
         log.info("[BookService] 도서 정보 수정 완료- book: {}", updatedBook);
 
-        return bookMapper.toDto(updatedBook, s3Storage);
+        return bookMapper.toDto(updatedBook, fileStorage);
+    }
+
+    @Override
+    public UploadSession createThumbnailUpload(ThumbnailUploadRequest request,
+        UUID requestUserId) {
+        log.debug("[BookService] 썸네일 업로드 세션 요청 - request: {}", request);
+
+        validateThumbnail(request.contentType(), request.contentLength());
+
+        UploadSession session = directUploadStorage.createUploadSession(
+            request.contentType().toLowerCase(Locale.ROOT), request.contentLength());
+        stagedUploadRegistry.stage(session.key(), requestUserId);
+        return session;
+    }
+
+    /**
+     * 직접 업로드한 썸네일을 확인한다. 세션을 발급받은 사용자만 한 번 쓸 수 있고, 크기나 실제 형식이 맞지 않으면 객체를 지우고 거절한다.
+     *
+     * @return 도서에 저장할 썸네일 key
+     */
+    private String finalizeThumbnail(String thumbnailKey, UUID requestUserId) {
+        if (!thumbnailKey.startsWith(DirectUploadStorage.KEY_PREFIX)) {
+            throw new ThumbnailUploadNotFoundException(thumbnailKey);
+        }
+
+        // 아직 올리지 않았으면 key 를 가져가지 않아 다시 시도할 수 있다.
+        UploadedObject uploaded = directUploadStorage.findUploadedObject(thumbnailKey)
+            .orElseThrow(() -> new ThumbnailUploadNotFoundException(thumbnailKey));
+        if (!stagedUploadRegistry.claim(thumbnailKey, requestUserId)) {
+            throw new ThumbnailUploadNotFoundException(thumbnailKey);
+        }
+        try {
+            validateThumbnail(uploaded.contentType(), uploaded.contentLength());
+        } catch (RuntimeException e) {
+            directUploadStorage.delete(thumbnailKey);
+            throw e;
+        }
+
+        log.info("[BookService] 직접 업로드한 썸네일 확인 - key: {}, size: {}", thumbnailKey,
+            uploaded.contentLength());
+        return thumbnailKey;
+    }
+
+    /**
+     * 도서가 참조하던 썸네일을 놓는다. 참조 수를 관리하지 않는 이전 key 면 원본과 변형의 삭제를 같은 트랜잭션에서 예약한다.
+     */
+    private void releaseThumbnail(Book book) {
+        String thumbnailKey = book.getThumbnailUrl();
+        if (thumbnailKey != null && !imageReferenceService.release(thumbnailKey)) {
+            objectDeletionQueue.enqueue(book.getThumbnailKeys());
+        }
+    }
+
+    /**
+     * 도서 메타데이터만 저장하는 짧은 트랜잭션을 실행하고 커넥션을 잡고 있던 시간을 기록한다. 실패하면 미리 올린 썸네일을 참조 없는 객체로
+     * 등록한다. 같은 내용의 썸네일을 다른 도서가 쓰고 있을 수 있으므로 바로 지우지 않는다.
+     */
+    private Book inShortTransaction(Timer timer, String stagedKey, TransactionCallback<Book> action) {
+        long start = System.nanoTime();
+        try {
+            return transactionTemplate.execute(action);
+        } catch (RuntimeException e) {
+            if (stagedKey != null) {
+                discardStagedThumbnail(stagedKey);
+            }
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void discardStagedThumbnail(String key) {
+        try {
+            imageReferenceService.track(key);
+            log.info("[BookService] 저장 실패로 미리 올린 썸네일을 정리 대상으로 등록 - key: {}", key);
+        } catch (Exception e) {
+            log.error("[BookService] 미리 올린 썸네일 정리 등록 실패 - key: {}", key, e);
+        }
+    }
+
+    /**
+     * 직접 업로드도 multipart 업로드와 같은 저장소 한도(deokhugam.storage.*.max-image-size)를 따른다.
+     */
+    private void validateThumbnail(String contentType, long contentLength) {
+        long maxImageSize = fileStorage.maxImageSize();
+        if (contentLength > maxImageSize) {
+            throw new FileSizeExceededException(contentLength, maxImageSize);
+        }
+        if (contentType == null
+            || !SUPPORTED_IMAGE_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
+            throw new InvalidFileTypeException(String.valueOf(contentType));
+        }
     }
 
     @Override
@@ -246,6 +449,9 @@ public class BookServiceImpl implements BookService {
 
         book.delete();
         bookRepository.save(book);
+        // 논리 삭제된 도서와 그 리뷰는 목록에서 빠진다.
+        totalCountService.invalidate(CountScope.BOOK);
+        totalCountService.invalidate(CountScope.REVIEW);
 
         log.info("[BookService] 도서 논리 삭제 완료 - id: {}", bookId);
     }
@@ -264,15 +470,11 @@ public class BookServiceImpl implements BookService {
             throw new BookNotSoftDeletedException(bookId);
         }
 
-        // S3에서 썸네일 이미지 삭제
+        // 썸네일 참조 해제 - 다른 도서가 같은 이미지를 쓰지 않으면 정리 작업이 변형과 함께 지운다.
+        // 참조 해제와 삭제 예약은 DB 에만 기록하므로 도서 삭제와 함께 커밋/롤백된다.
         if (book.getThumbnailUrl() != null) {
-            try {
-                s3Storage.deleteImage(book.getThumbnailUrl());
-                log.info("[BookService] 썸네일 이미지 삭제 완료 - id: {}", bookId);
-            } catch (Exception e) {
-                log.error("[BookService] 썸네일 이미지 삭제 실패 - id: {}, error: {}", bookId,
-                    e.getMessage());
-            }
+            releaseThumbnail(book);
+            log.info("[BookService] 썸네일 이미지 참조 해제 완료 - id: {}", bookId);
         }
 
         // 데이터베이스에서 물리 삭제 (관련 데이터 모두 삭제)
@@ -0,0 +1,45 @@
+package com.sprint.deokhugam.domain.book.thumbnail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * 원본 이미지를 지정한 너비로 줄여 JPEG 로 만든다.
+ */
+final class ThumbnailRenderer {
+
+    private ThumbnailRenderer() {
+    }
+
+    static byte[] render(BufferedImage source, int width) throws IOException {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        // bilinear 보간으로 한 번에 크게 줄이면 거칠어지므로 목표 크기까지 절반씩 줄인다.
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+
+            // JPEG 는 알파 채널이 없으므로 투명한 부분은 흰색으로 채운다.
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, Color.WHITE, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != width || currentHeight != height);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(current, "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,39 @@
+package com.sprint.deokhugam.domain.book.thumbnail;
+
+/**
+ * 목록 화면용 썸네일 변형. 원본 옆에 {@code <원본 key>.w<너비>.jpg} 로 저장한다.
+ */
+public enum ThumbnailVariant {
+    SMALL(160),
+    MEDIUM(480);
+
+    private final int width;
+
+    ThumbnailVariant(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public String keyFor(String originalKey) {
+        return originalKey + ".w" + width + ".jpg";
+    }
+
+    /**
+     * 필요한 너비 이상인 변형 중 가장 작은 것을 고른다. 만들어진 변형이 없으면 원본 key 를 쓴다.
+     *
+     * @param required 화면에 필요한 최소 변형
+     */
+    public static String select(ThumbnailVariant required, String originalKey, String smallKey,
+        String mediumKey) {
+        if (required == SMALL && smallKey != null) {
+            return smallKey;
+        }
+        if (mediumKey != null) {
+            return mediumKey;
+        }
+        return originalKey;
+    }
+}
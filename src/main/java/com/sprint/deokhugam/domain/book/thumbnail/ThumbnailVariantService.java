@@ -0,0 +1,256 @@
+package com.sprint.deokhugam.domain.book.thumbnail;
+
+import com.sprint.deokhugam.domain.book.repository.BookRepository;
+import com.sprint.deokhugam.global.database.AfterCommit;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 썸네일 원본으로 목록용 변형(160px, 480px)을 비동기로 만든다.
+ * <p>
+ * 도서 등록/수정이 커밋된 뒤 작업을 큐에 넣고, 정해진 수의 스레드가 원본을 내려받아 줄인 뒤 원본 옆에 저장하고 도서에 변형 key 를 기록한다.
+ * 작업은 커밋 후 요청 스레드에서 넣으므로, 큐가 가득 차면 그 자리에서 렌더링하지 않고 작업을 버린 뒤 메트릭과 로그로 알린다. 변형이
+ * 없는 도서는 원본을 쓴다. 원본보다 크거나 같은 변형은 만들지 않고, ImageIO 가 읽지 못하는 형식(WEBP 등)이나 픽셀 수가 max-pixels 를
+ * 넘는 이미지는 디코딩 전에 헤더의 크기만 보고 변형 없이 원본을 쓴다.
+ * <p>
+ * 작업 중 도서의 썸네일이 바뀌었거나 도서가 삭제되었으면 기록하지 않고 만든 변형을 지운다. 내용 해시 key 의 변형은 같은 이미지를 쓰는
+ * 다른 도서와 공유하므로, 원본 너비에 맞는 변형이 모두 있으면 다시 만들지 않고 기록만 하며 버릴 때도 지우지 않는다(원본 정리 시 함께
+ * 지워진다). 일부 변형만 있으면 원본 헤더의 너비만 읽어 빠진 변형이 원본보다 넓어 만들지 않은 것인지 확인한다.
+ */
+@Slf4j
+@Component
+public class ThumbnailVariantService {
+
+    private static final String METRIC_PREFIX = "deokhugam.thumbnail.variant";
+
+    private final FileStorage fileStorage;
+    private final BookRepository bookRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+
+    public ThumbnailVariantService(FileStorage fileStorage,
+        BookRepository bookRepository,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.thumbnail.variant.enabled:true}") boolean enabled,
+        @Value("${deokhugam.thumbnail.variant.threads:2}") int threads,
+        @Value("${deokhugam.thumbnail.variant.queue-capacity:100}") int queueCapacity,
+        @Value("${deokhugam.thumbnail.variant.max-pixels:40000000}") long maxPixels) {
+        this.fileStorage = fileStorage;
+        this.bookRepository = bookRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxPixels = maxPixels;
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+            .description("큐가 가득 차 버린 변형 작업 수")
+            .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("thumbnail-variant-"),
+            (task, pool) -> {
+                if (pool.isShutdown()) {
+                    return;
+                }
+                rejectedCounter.increment();
+                log.warn("[ThumbnailVariant] 큐가 가득 차 변형 작업을 버림 - 대기 중: {}건",
+                    pool.getQueue().size());
+            });
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, pool -> pool.getQueue().size())
+            .description("대기 중인 썸네일 변형 작업 수")
+            .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 썸네일 변형 작업 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 커밋 후 도서의 썸네일 변형 작업을 큐에 넣는다.
+     *
+     * @param originalKey 도서에 저장한 썸네일 원본 key
+     */
+    public void schedule(UUID bookId, String originalKey) {
+        if (!enabled || bookId == null || originalKey == null) {
+            return;
+        }
+        AfterCommit.run(() -> executor.execute(() -> generate(bookId, originalKey)));
+    }
+
+    void generate(UUID bookId, String originalKey) {
+        long start = System.nanoTime();
+        String result = "failed";
+        try {
+            boolean shared = FileStorage.isContentAddressed(originalKey);
+            Map<ThumbnailVariant, String> existing = shared ? findVariants(originalKey) : Map.of();
+            if (isComplete(originalKey, existing)) {
+                result = record(bookId, originalKey, existing, false) ? "reused" : "stale";
+            } else {
+                result = render(bookId, originalKey, shared);
+            }
+        } catch (Exception e) {
+            log.warn("[ThumbnailVariant] 썸네일 변형 생성 실패 - bookId: {}, key: {}", bookId,
+                originalKey, e);
+        } finally {
+            Timer.builder(METRIC_PREFIX + ".render")
+                .description("썸네일 변형 생성 시간")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private String render(UUID bookId, String originalKey, boolean shared) throws IOException {
+        try (InputStream in = fileStorage.openImage(originalKey);
+            ImageInputStream image = in != null ? ImageIO.createImageInputStream(in) : null) {
+            Iterator<ImageReader> readers =
+                image != null ? ImageIO.getImageReaders(image) : null;
+            if (readers == null || !readers.hasNext()) {
+                log.info("[ThumbnailVariant] 읽을 수 없는 이미지 - 원본을 그대로 사용 - bookId: {}, key: {}",
+                    bookId, originalKey);
+                return "unsupported";
+            }
+
+            BufferedImage source;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(image, true, true);
+                // 헤더의 크기만 먼저 읽어 지나치게 큰 이미지는 디코딩하지 않는다.
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("[ThumbnailVariant] 픽셀 수 제한 초과 - 원본을 그대로 사용 - bookId: {}, key: {}, "
+                        + "pixels: {}", bookId, originalKey, pixels);
+                    return "too-large";
+                }
+                source = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+
+            Map<ThumbnailVariant, String> variantKeys = new EnumMap<>(ThumbnailVariant.class);
+            for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+                if (source.getWidth() <= variant.width()) {
+                    continue;
+                }
+                String key = variant.keyFor(originalKey);
+                fileStorage.putImage(key, ThumbnailRenderer.render(source, variant.width()),
+                    "image/jpeg");
+                variantKeys.put(variant, key);
+            }
+            if (variantKeys.isEmpty()) {
+                return "skipped";
+            }
+
+            return record(bookId, originalKey, variantKeys, !shared) ? "success" : "stale";
+        }
+    }
+
+    /**
+     * @param discardOnStale 썸네일이 바뀌어 기록하지 못하면 변형을 지울지 여부
+     * @return 도서에 기록했으면 true
+     */
+    private boolean record(UUID bookId, String originalKey,
+        Map<ThumbnailVariant, String> variantKeys, boolean discardOnStale) {
+        int updated = bookRepository.updateThumbnailVariants(bookId, originalKey,
+            variantKeys.get(ThumbnailVariant.SMALL), variantKeys.get(ThumbnailVariant.MEDIUM));
+        if (updated == 0) {
+            if (discardOnStale) {
+                variantKeys.values().forEach(fileStorage::deleteImage);
+            }
+            log.info("[ThumbnailVariant] 썸네일이 바뀌어 변형을 버림 - bookId: {}, key: {}", bookId,
+                originalKey);
+            return false;
+        }
+
+        log.info("[ThumbnailVariant] 썸네일 변형 기록 완료 - bookId: {}, variants: {}", bookId,
+            variantKeys.keySet());
+        return true;
+    }
+
+    /**
+     * @return 원본 너비에 맞는 변형(원본보다 좁은 변형)이 모두 있으면 true
+     */
+    private boolean isComplete(String originalKey, Map<ThumbnailVariant, String> existing)
+        throws IOException {
+        if (existing.isEmpty()) {
+            return false;
+        }
+        if (existing.size() == ThumbnailVariant.values().length) {
+            return true;
+        }
+        Integer width = readWidth(originalKey);
+        if (width == null) {
+            return false;
+        }
+        for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+            if (width > variant.width() && !existing.containsKey(variant)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 디코딩하지 않고 헤더에서 원본 너비만 읽는다.
+     *
+     * @return 읽을 수 없는 이미지면 null
+     */
+    private Integer readWidth(String originalKey) throws IOException {
+        try (InputStream in = fileStorage.openImage(originalKey);
+            ImageInputStream image = in != null ? ImageIO.createImageInputStream(in) : null) {
+            Iterator<ImageReader> readers =
+                image != null ? ImageIO.getImageReaders(image) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(image, true, true);
+                return reader.getWidth(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private Map<ThumbnailVariant, String> findVariants(String originalKey) {
+        Map<ThumbnailVariant, String> variantKeys = new EnumMap<>(ThumbnailVariant.class);
+        for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+            String key = variant.keyFor(originalKey);
+            if (fileStorage.exists(key)) {
+                variantKeys.put(variant, key);
+            }
+        }
+        return variantKeys;
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[ThumbnailVariant] 종료 대기 시간 초과 - 남은 작업: {}건", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
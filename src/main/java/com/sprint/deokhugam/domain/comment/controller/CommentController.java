@@ -55,10 +55,11 @@ public class CommentController implements CommentApi {
     }
 
     public ResponseEntity<CursorPageResponse<CommentDto>> getCommentsByReviewId(
-        UUID reviewId, String cursor, String after, String direction, int limit
+        UUID reviewId, String cursor, String after, String direction, int limit,
+        boolean includeTotal
     ) {
         CursorPageResponse<CommentDto> response = commentService.findAll(
-            reviewId, cursor, after, direction, limit
+            reviewId, cursor, after, direction, limit, includeTotal
         );
 
         return ResponseEntity
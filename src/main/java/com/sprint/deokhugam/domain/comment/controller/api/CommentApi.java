@@ -70,7 +70,9 @@ public interface CommentApi {
         @RequestParam(required = false, defaultValue = "DESC")
         @Parameter(description = "정렬 방향") String direction,
         @RequestParam(required = false, defaultValue = "50")
-        @Parameter(description = "페이지 크기") int limit
+        @Parameter(description = "페이지 크기") int limit,
+        @RequestParam(required = false, defaultValue = "true")
+        @Parameter(description = "totalElements 포함 여부 (false 면 null)") boolean includeTotal
     );
 
     @PostMapping
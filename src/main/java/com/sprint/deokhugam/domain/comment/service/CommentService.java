@@ -11,7 +11,7 @@ public interface CommentService {
     CommentDto create(CommentCreateRequest request);
 
     CursorPageResponse<CommentDto> findAll(UUID reviewId, String cursor, String after,
-        String direction, int limit);
+        String direction, int limit, boolean includeTotal);
 
     CommentDto findById(UUID commentId);
 
@@ -10,6 +10,7 @@ import com.sprint.deokhugam.domain.comment.exception.CommentUnauthorizedAccessEx
 import com.sprint.deokhugam.domain.comment.exception.InvalidCursorTypeException;
 import com.sprint.deokhugam.domain.comment.mapper.CommentMapper;
 import com.sprint.deokhugam.domain.comment.repository.CommentRepository;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
@@ -17,6 +18,10 @@ import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
 import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.count.CountScope;
+import com.sprint.deokhugam.global.count.TotalCountService;
+import com.sprint.deokhugam.global.counter.CounterService;
+import com.sprint.deokhugam.global.counter.CounterType;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -39,6 +44,8 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
     private final NotificationService notificationService;
+    private final CounterService counterService;
+    private final TotalCountService totalCountService;
 
     @Transactional
     @Override
@@ -61,9 +68,10 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = new Comment(review, user, content);
         Comment savedComment = commentRepository.save(comment);
 
-        review.increaseCommentCount();
-        notificationService.create(user, review,
-            user.getNickname() + "님이 나의 리뷰 댓글을 남겼습니다.\n" + content, false);
+        counterService.add(CounterType.REVIEW_COMMENT, reviewId, 1);
+        totalCountService.invalidate(CountScope.COMMENT, TotalCountService.filter(reviewId));
+        notificationService.publish(NotificationEventType.REVIEW_COMMENTED, reviewId, userId,
+            savedComment.getId());
 
         return commentMapper.toDto(savedComment);
     }
@@ -100,7 +108,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     public CursorPageResponse<CommentDto> findAll(UUID reviewId, String cursor, String after,
-        String direction, int limit) {
+        String direction, int limit, boolean includeTotal) {
         log.info(
             "[CommentService] 댓글 목록 조회 시작 - reviewId={}, cursor={}, after={}, direction={}, limit={}",
             reviewId, cursor, after, direction, limit);
@@ -136,7 +144,8 @@ public class CommentServiceImpl implements CommentService {
             nextCursor != null ? nextCursor.toString() : null,
             nextCursor != null ? nextCursor.toString() : null,
             dtos.size(),
-            commentRepository.countByReviewId(reviewId),
+            totalCountService.count(CountScope.COMMENT, TotalCountService.filter(reviewId),
+                includeTotal, () -> commentRepository.countByReviewId(reviewId)),
             hasNext
         );
 
@@ -156,7 +165,9 @@ public class CommentServiceImpl implements CommentService {
 
         validateAuthorizedUser(comment, userId);
         comment.softDelete();
-        comment.getReview().decreaseCommentCount();
+        counterService.add(CounterType.REVIEW_COMMENT, comment.getReview().getId(), -1);
+        totalCountService.invalidate(CountScope.COMMENT,
+            TotalCountService.filter(comment.getReview().getId()));
     }
 
     @Transactional
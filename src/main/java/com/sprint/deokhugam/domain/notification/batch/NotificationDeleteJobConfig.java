@@ -1,22 +1,21 @@
 package com.sprint.deokhugam.domain.notification.batch;
 
-import com.sprint.deokhugam.domain.notification.entity.Notification;
-import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
-import jakarta.persistence.EntityManagerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.database.JpaPagingItemReader;
-import org.springframework.batch.item.database.builder.JpaPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @Configuration
@@ -25,10 +24,21 @@ public class NotificationDeleteJobConfig {
 
     private static final String JOB_NAME = "notificationDeleteJob";
     private static final String STEP_NAME = "notificationDeleteStep";
+    public static final String CUTOFF_PARAMETER = "cutoff";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
-    private final EntityManagerFactory entityManagerFactory;
-    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${deokhugam.notification.purge.retention-days:7}")
+    private long retentionDays;
+
+    @Value("${deokhugam.notification.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${deokhugam.notification.purge.throttle-ms:100}")
+    private long throttleMillis;
 
     @Bean
     public Job notificationDeleteJob() {
@@ -39,33 +49,26 @@ public class NotificationDeleteJobConfig {
 
     @Bean
     public Step notificationDeleteStep() {
+        NotificationPurgeTasklet tasklet = notificationPurgeTasklet(null);
         return new StepBuilder(STEP_NAME, jobRepository)
-            .<Notification, Notification>chunk(100, transactionManager)
-            .reader(notificationItemReader())
-            .writer(notificationItemWriter())
+            .tasklet(tasklet, transactionManager)
+            .listener((StepExecutionListener) tasklet)
+            .listener((ChunkListener) tasklet)
             .build();
     }
 
+    /**
+     * 삭제 기준 시각은 실행마다 잡 파라미터로 받고, 없으면 실행 시점 기준 보관 기간으로 계산한다.
+     */
     @Bean
-    public JpaPagingItemReader<Notification> notificationItemReader() {
-        return new JpaPagingItemReaderBuilder<Notification>()
-            .name("notificationItemReader")
-            .entityManagerFactory(entityManagerFactory)
-            .queryString("""
-                    SELECT n FROM Notification n
-                    WHERE n.isConfirmed = true
-                    AND n.updatedAt < :oneWeekAgo
-                """)
-            .parameterValues(Map.of("oneWeekAgo", Instant.now().minus(7, ChronoUnit.DAYS)))
-            .pageSize(100)
-            .build();
-    }
-
-    @Bean
-    public ItemWriter<Notification> notificationItemWriter() {
-        return notifications -> notificationRepository.deleteAllInBatch(
-            notifications.getItems().stream().map(n -> (Notification) n).toList()
-        );
+    @StepScope
+    public NotificationPurgeTasklet notificationPurgeTasklet(
+        @Value("#{jobParameters['" + CUTOFF_PARAMETER + "']}") String cutoff
+    ) {
+        Instant cutoffInstant = cutoff != null
+            ? Instant.parse(cutoff)
+            : Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+        return new NotificationPurgeTasklet(jdbcTemplate, meterRegistry, cutoffInstant, chunkSize,
+            throttleMillis);
     }
 }
-
@@ -1,9 +1,12 @@
 package com.sprint.deokhugam.domain.notification.batch;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,12 +18,17 @@ public class NotificationDeleteJobScheduler {
     private final JobLauncher jobLauncher;
     private final Job notificationDeleteJob;
 
+    @Value("${deokhugam.notification.purge.retention-days:7}")
+    private long retentionDays;
+
     @Scheduled(cron = "00 00 00 * * *")
     public void runNotificationDeleteJob() {
         try {
             jobLauncher.run(notificationDeleteJob,
                 new org.springframework.batch.core.JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
+                    .addString(NotificationDeleteJobConfig.CUTOFF_PARAMETER,
+                        Instant.now().minus(retentionDays, ChronoUnit.DAYS).toString())
                     .toJobParameters()
             );
         } catch (Exception e) {
@@ -0,0 +1,388 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * notification_outbox 에 쌓인 이벤트를 모아 notifications 에 다건 INSERT 로 옮긴다.
+ * <p>
+ * 한 배치의 조회/생성/삭제는 한 트랜잭션으로 처리되어, 실패하면 이벤트가 아웃박스에 남아 다음 주기에 다시 처리된다. PostgreSQL 에서는
+ * {@code FOR UPDATE SKIP LOCKED} 로 여러 인스턴스가 같은 이벤트를 중복 발송하지 않는다.
+ * <p>
+ * 묶음 모드에서는 같은 수신자/리뷰/종류의 읽지 않은 알림을 한 행으로 합쳐 행위자 수와 최근 행위자/댓글만 갱신한다. 배치 안의 이벤트도 먼저
+ * 묶어서 처리하므로 조회/쓰기 횟수와 저장되는 행 수가 이벤트 수가 아니라 서로 다른 리뷰 수에 비례한다. 행위자 수는 notification_actors 에
+ * 기록한 서로 다른 행위자 수라서, 한 사용자가 좋아요를 눌렀다 취소하기를 반복해도 늘지 않는다.
+ * <p>
+ * 생성/갱신된 알림은 커밋 후 알림 캐시에 반영되고 SSE 로 구독 중인 수신자에게 전송된다.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final String SELECT_SQL = """
+        SELECT o.id, o.created_at, o.event_type, o.comment_id, r.user_id AS recipient_id,
+               o.review_id, o.actor_id, u.nickname, c.content AS comment_content
+        FROM notification_outbox o
+        JOIN reviews r ON r.id = o.review_id
+        JOIN users u ON u.id = o.actor_id
+        LEFT JOIN comments c ON c.id = o.comment_id AND c.is_deleted = false
+        ORDER BY o.created_at
+        LIMIT ?
+        """;
+    private static final String LOCK_CLAUSE = " FOR UPDATE OF o SKIP LOCKED";
+    // 파티션 테이블에는 읽지 않은 묶음의 유일 인덱스를 둘 수 없어, 묶음별 트랜잭션 잠금으로 동시에 같은 묶음을 만들지 않게 한다.
+    private static final String GROUP_LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext(?))";
+    private static final String INSERT_SQL = """
+        INSERT INTO notifications (id, created_at, updated_at, review_id, user_id, confirmed,
+                                   event_type, actor_count, latest_actor_id, comment_id)
+        VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?)
+        """;
+    private static final String FIND_UNREAD_GROUP_SQL = """
+        SELECT n.id, n.latest_actor_id,
+               CASE WHEN w.last_read_at IS NOT NULL AND n.created_at <= w.last_read_at
+                    THEN true ELSE false END AS read_by_watermark
+        FROM notifications n
+        LEFT JOIN notification_read_watermarks w ON w.user_id = n.user_id
+        WHERE n.user_id = ? AND n.review_id = ? AND n.event_type = ? AND n.confirmed = false
+        """;
+    // 모두 읽음 기준 시각 이전의 묶음은 읽은 알림이므로 확정 처리하고 새 묶음을 만든다.
+    private static final String CONFIRM_SQL = """
+        UPDATE notifications SET confirmed = true WHERE id = ?
+        """;
+    // 조회와 갱신 사이에 읽음 처리된 알림은 건드리지 않고 새 묶음을 만든다.
+    // created_at 을 최근 이벤트 시각으로 바꾸므로 PostgreSQL 에서는 행이 그 달의 파티션(없으면 기본 파티션)으로 옮겨진다.
+    private static final String MERGE_SQL = """
+        UPDATE notifications
+        SET actor_count = ?, latest_actor_id = ?, comment_id = ?, created_at = ?, updated_at = ?
+        WHERE id = ? AND confirmed = false
+        """;
+    private static final String INSERT_ACTOR_SQL = """
+        INSERT INTO notification_actors (notification_id, actor_id) VALUES (?, ?)
+        """;
+    // 기존 묶음에 이미 기록된 행위자는 건너뛴다.
+    private static final String ADD_ACTOR_SQL_POSTGRESQL = """
+        INSERT INTO notification_actors (notification_id, actor_id) VALUES (?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+    private static final String ADD_ACTOR_SQL = """
+        INSERT INTO notification_actors (notification_id, actor_id)
+        SELECT ?, ?
+        WHERE NOT EXISTS (
+            SELECT 1 FROM notification_actors WHERE notification_id = ? AND actor_id = ?
+        )
+        """;
+    private static final String COUNT_ACTORS_SQL =
+        "SELECT COUNT(*) FROM notification_actors WHERE notification_id = ?";
+    private static final String DELETE_ACTORS_SQL =
+        "DELETE FROM notification_actors WHERE notification_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM notification_outbox WHERE id = ?";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM notification_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final NotificationSseService notificationSseService;
+    private final NotificationInboxCache notificationInboxCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final boolean coalesceEnabled;
+
+    private final AtomicLong depth = new AtomicLong();
+    private final Timer lagTimer;
+    private final Counter dispatchedCounter;
+
+    public NotificationOutboxDispatcher(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        NotificationSseService notificationSseService,
+        NotificationInboxCache notificationInboxCache,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.notification.outbox.batch-size:500}") int batchSize,
+        @Value("${deokhugam.notification.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+        @Value("${deokhugam.notification.coalesce.enabled:true}") boolean coalesceEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.notificationSseService = notificationSseService;
+        this.notificationInboxCache = notificationInboxCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.coalesceEnabled = coalesceEnabled;
+
+        Gauge.builder("deokhugam.notification.outbox.depth", depth, AtomicLong::get)
+            .description("발송 대기 중인 알림 이벤트 수")
+            .register(meterRegistry);
+        this.lagTimer = Timer.builder("deokhugam.notification.outbox.lag")
+            .description("이벤트 기록부터 알림 생성까지 걸린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("deokhugam.notification.outbox.dispatched")
+            .description("아웃박스에서 생성된 알림 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${deokhugam.notification.outbox.dispatch-interval-ms:500}")
+    public void dispatch() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                Integer dispatched = transactionTemplate.execute(status -> dispatchBatch());
+                if (dispatched == null || dispatched < batchSize) {
+                    break;
+                }
+            }
+            Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+            depth.set(count != null ? count : 0L);
+        } catch (Exception e) {
+            log.error("[NotificationOutbox] 알림 발송 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    int dispatchBatch() {
+        List<OutboxEvent> events = jdbcTemplate.query(selectSql(), (rs, rowNum) -> new OutboxEvent(
+            rs.getObject("id", UUID.class),
+            rs.getTimestamp("created_at").toInstant(),
+            NotificationEventType.valueOf(rs.getString("event_type")),
+            rs.getObject("review_id", UUID.class),
+            rs.getObject("recipient_id", UUID.class),
+            rs.getObject("actor_id", UUID.class),
+            rs.getString("nickname"),
+            rs.getObject("comment_id", UUID.class),
+            rs.getString("comment_content")
+        ), batchSize);
+
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        List<NotificationDto> inserted = new ArrayList<>();
+        List<NotificationDto> merged = new ArrayList<>();
+        if (coalesceEnabled) {
+            coalesce(events, inserted, merged);
+        } else {
+            inserted.addAll(insert(events.stream()
+                .map(event -> new NotificationGroup(event, Set.of(event.actorId())))
+                .toList()));
+        }
+        jdbcTemplate.batchUpdate(DELETE_SQL, events.stream()
+            .map(event -> new Object[]{event.id()})
+            .toList());
+
+        Instant now = Instant.now();
+        events.forEach(event -> lagTimer.record(Duration.between(event.createdAt(), now)));
+        dispatchedCounter.increment(events.size());
+        log.debug("[NotificationOutbox] 알림 발송 완료 - 건수: {}", events.size());
+
+        // 커밋 후 캐시를 먼저 갱신해야 SSE 로 보내는 안 읽은 수가 새 값을 반영한다.
+        notificationInboxCache.applyWritten(inserted, merged);
+        List<NotificationDto> written = new ArrayList<>(inserted);
+        written.addAll(merged);
+        notificationSseService.publish(written);
+        return events.size();
+    }
+
+    /**
+     * 배치 안의 이벤트를 수신자/리뷰/종류별로 묶은 뒤, 읽지 않은 기존 알림이 있으면 합치고 없으면 새로 만든다.
+     */
+    private void coalesce(List<OutboxEvent> events, List<NotificationDto> inserted,
+        List<NotificationDto> merged) {
+        Map<GroupKey, NotificationGroup> groups = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            // 이벤트는 created_at 순으로 조회되므로 마지막 이벤트가 최근 행위자다.
+            groups.merge(event.groupKey(), new NotificationGroup(event, Set.of(event.actorId())),
+                (prev, next) -> prev.with(next.latest()));
+        }
+
+        lockGroups(groups.keySet());
+        List<NotificationGroup> inserts = new ArrayList<>();
+        for (Map.Entry<GroupKey, NotificationGroup> entry : groups.entrySet()) {
+            GroupKey key = entry.getKey();
+            NotificationGroup group = entry.getValue();
+            List<Map<String, Object>> existing = jdbcTemplate.queryForList(FIND_UNREAD_GROUP_SQL,
+                key.recipientId(), key.reviewId(), key.eventType().name());
+            NotificationDto mergedNotification = existing.isEmpty()
+                ? null
+                : merge(existing.get(0), group);
+            if (mergedNotification != null) {
+                merged.add(mergedNotification);
+            } else {
+                inserts.add(group);
+            }
+        }
+        inserted.addAll(insert(inserts));
+    }
+
+    /**
+     * 인스턴스끼리 교착되지 않도록 항상 같은 순서로 잠근다. 잠금은 배치 트랜잭션이 끝날 때 풀린다.
+     */
+    private void lockGroups(Collection<GroupKey> keys) {
+        if (!databaseDialect.isPostgres()) {
+            return;
+        }
+        keys.stream()
+            .map(GroupKey::lockKey)
+            .sorted()
+            .forEach(lockKey -> jdbcTemplate.queryForList(GROUP_LOCK_SQL, lockKey));
+    }
+
+    /**
+     * @return 이미 읽은 알림이라 합치지 못했으면 null
+     */
+    private NotificationDto merge(Map<String, Object> existing, NotificationGroup group) {
+        Object rawId = existing.get("id");
+        UUID id = rawId instanceof UUID uuid ? uuid : UUID.fromString(rawId.toString());
+        if (Boolean.TRUE.equals(existing.get("read_by_watermark"))) {
+            jdbcTemplate.update(CONFIRM_SQL, id);
+            jdbcTemplate.update(DELETE_ACTORS_SQL, id);
+            return null;
+        }
+        OutboxEvent latest = group.latest();
+        // 행위자를 기록하기 전에 만들어진 묶음도 기존 최근 행위자는 세도록 함께 넣는다.
+        Set<UUID> actorIds = new LinkedHashSet<>();
+        Object previousActor = existing.get("latest_actor_id");
+        if (previousActor != null) {
+            actorIds.add(previousActor instanceof UUID uuid
+                ? uuid : UUID.fromString(previousActor.toString()));
+        }
+        actorIds.addAll(group.actorIds());
+        addActors(id, actorIds);
+        Long distinctActors = jdbcTemplate.queryForObject(COUNT_ACTORS_SQL, Long.class, id);
+        int actorCount = distinctActors != null ? distinctActors.intValue() : group.count();
+        Timestamp eventTime = Timestamp.from(latest.createdAt());
+        int updated = jdbcTemplate.update(MERGE_SQL,
+            actorCount,
+            latest.actorId(),
+            latest.commentId(),
+            eventTime,
+            eventTime,
+            id);
+        return updated > 0 ? toDto(id, latest, actorCount) : null;
+    }
+
+    private List<NotificationDto> insert(List<NotificationGroup> groups) {
+        if (groups.isEmpty()) {
+            return List.of();
+        }
+        List<NotificationDto> written = new ArrayList<>(groups.size());
+        List<Object[]> args = new ArrayList<>(groups.size());
+        List<Object[]> actorArgs = new ArrayList<>();
+        for (NotificationGroup group : groups) {
+            OutboxEvent latest = group.latest();
+            UUID id = UUID.randomUUID();
+            // 합칠 일이 없는 개별 모드에서는 행위자를 기록하지 않는다.
+            if (coalesceEnabled) {
+                group.actorIds().forEach(actorId -> actorArgs.add(new Object[]{id, actorId}));
+            }
+            args.add(new Object[]{
+                id,
+                Timestamp.from(latest.createdAt()),
+                Timestamp.from(latest.createdAt()),
+                latest.reviewId(),
+                latest.recipientId(),
+                latest.eventType().name(),
+                group.count(),
+                latest.actorId(),
+                latest.commentId()
+            });
+            written.add(toDto(id, latest, group.count()));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        if (!actorArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ACTOR_SQL, actorArgs);
+        }
+        return written;
+    }
+
+    private void addActors(UUID notificationId, Collection<UUID> actorIds) {
+        boolean postgres = databaseDialect.isPostgres();
+        jdbcTemplate.batchUpdate(postgres ? ADD_ACTOR_SQL_POSTGRESQL : ADD_ACTOR_SQL,
+            actorIds.stream()
+                .map(actorId -> postgres
+                    ? new Object[]{notificationId, actorId}
+                    : new Object[]{notificationId, actorId, notificationId, actorId})
+                .toList());
+    }
+
+    /**
+     * 알림 행에는 문구를 저장하지 않지만, 캐시와 SSE 로 바로 내보낼 DTO 에는 이미 조회한 닉네임과 댓글로 문구를 채운다.
+     */
+    private NotificationDto toDto(UUID id, OutboxEvent latest, int actorCount) {
+        return NotificationDto.builder()
+            .id(id)
+            .userId(latest.recipientId())
+            .reviewId(latest.reviewId())
+            .content(latest.eventType()
+                .render(latest.actorNickname(), actorCount - 1, latest.commentContent()))
+            .confirmed(false)
+            .actorCount(actorCount)
+            .createdAt(latest.createdAt())
+            .updatedAt(latest.createdAt())
+            .build();
+    }
+
+    private String selectSql() {
+        return databaseDialect.isPostgres() ? SELECT_SQL.stripTrailing() + LOCK_CLAUSE : SELECT_SQL;
+    }
+
+    private record OutboxEvent(
+        UUID id,
+        Instant createdAt,
+        NotificationEventType eventType,
+        UUID reviewId,
+        UUID recipientId,
+        UUID actorId,
+        String actorNickname,
+        UUID commentId,
+        String commentContent
+    ) {
+
+        GroupKey groupKey() {
+            return new GroupKey(recipientId, reviewId, eventType);
+        }
+    }
+
+    private record GroupKey(UUID recipientId, UUID reviewId, NotificationEventType eventType) {
+
+        String lockKey() {
+            return "notification-group:" + recipientId + ":" + reviewId + ":" + eventType;
+        }
+    }
+
+    private record NotificationGroup(OutboxEvent latest, Set<UUID> actorIds) {
+
+        NotificationGroup with(OutboxEvent next) {
+            Set<UUID> merged = new LinkedHashSet<>(actorIds);
+            merged.add(next.actorId());
+            return new NotificationGroup(next, merged);
+        }
+
+        int count() {
+            return actorIds.size();
+        }
+    }
+}
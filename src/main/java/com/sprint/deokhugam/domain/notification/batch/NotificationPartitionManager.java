@@ -0,0 +1,290 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import static com.sprint.deokhugam.domain.notification.repository.NotificationPartitions.monthStart;
+
+import com.sprint.deokhugam.domain.notification.repository.NotificationPartitions;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * notifications 의 월별 파티션을 관리한다. 앞으로 쓰일 파티션을 미리 만들고, 보관 기간이 지난 파티션은 행 단위 삭제 없이 통째로
+ * 떼어내 삭제한다.
+ * <p>
+ * PostgreSQL 에서는 created_at 범위 파티션({@code notifications_pYYYYMM})을 직접 다룬다. notifications 가 파티션 테이블이 아니면
+ * 아무 작업도 하지 않는다. H2 에는 파티션 테이블이 없어 notification_partitions 에 월 파티션 목록만 기록하고, 만료된 파티션은 해당
+ * 기간의 행을 지우는 방식으로 흉내 낸다. 파티션 경계는 {@link NotificationPartitions} 를 따른다.
+ * <p>
+ * 월 파티션이 없는 기간의 알림(관리 작업 누락, 시계 오차, 묶음 알림 병합으로 created_at 이 바뀐 행)은 기본 파티션에 쌓인다. 기본
+ * 파티션에 그 기간의 행이 있으면 PostgreSQL 은 월 파티션 생성을 거부하므로, 한 트랜잭션에서 기본 파티션을 떼어낸 뒤 월 파티션을 만들고 행을
+ * 옮겨 다시 붙인다. 보관 기간이 지난 기본 파티션 행도 삭제하고, 남은 행 수는 지표와 경고 로그로 알린다.
+ */
+@Slf4j
+@Component
+public class NotificationPartitionManager {
+
+    private static final String PARTITION_PREFIX = "notifications_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String PG_IS_PARTITIONED_SQL = """
+        SELECT COUNT(*) FROM pg_partitioned_table p
+        JOIN pg_class c ON c.oid = p.partrelid
+        WHERE c.oid = to_regclass('notifications')
+        """;
+    private static final String PG_LIST_SQL = """
+        SELECT c.relname FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass('notifications')
+        """;
+    private static final String PG_CREATE_SQL =
+        "CREATE TABLE IF NOT EXISTS %s PARTITION OF notifications FOR VALUES FROM ('%s') TO ('%s')";
+    private static final String PG_DETACH_SQL = "ALTER TABLE notifications DETACH PARTITION %s";
+    private static final String PG_DROP_SQL = "DROP TABLE %s";
+
+    private static final String DEFAULT_PARTITION = "notifications_default";
+    private static final String PG_HAS_DEFAULT_SQL =
+        "SELECT to_regclass('notifications_default') IS NOT NULL";
+    private static final String PG_DEFAULT_HAS_ROWS_SQL = """
+        SELECT EXISTS (
+            SELECT 1 FROM notifications_default WHERE created_at >= ? AND created_at < ?
+        )
+        """;
+    private static final String PG_ATTACH_DEFAULT_SQL =
+        "ALTER TABLE notifications ATTACH PARTITION notifications_default DEFAULT";
+    // 떼어낸 기본 파티션의 행을 부모 테이블에 넣으면 새 월 파티션으로 들어간다.
+    private static final String PG_MOVE_DEFAULT_ROWS_SQL = """
+        INSERT INTO notifications
+        SELECT * FROM notifications_default WHERE created_at >= ? AND created_at < ?
+        """;
+    private static final String PG_DELETE_DEFAULT_RANGE_SQL =
+        "DELETE FROM notifications_default WHERE created_at >= ? AND created_at < ?";
+    private static final String PG_PURGE_DEFAULT_SQL =
+        "DELETE FROM notifications_default WHERE created_at < ?";
+    private static final String PG_COUNT_DEFAULT_SQL = "SELECT COUNT(*) FROM notifications_default";
+
+    private static final String CATALOG_CREATE_SQL = """
+        CREATE TABLE IF NOT EXISTS notification_partitions
+        (
+            partition_name VARCHAR(64) PRIMARY KEY,
+            range_start    TIMESTAMP   NOT NULL,
+            range_end      TIMESTAMP   NOT NULL
+        )
+        """;
+    private static final String CATALOG_LIST_SQL = "SELECT partition_name FROM notification_partitions";
+    private static final String CATALOG_INSERT_SQL = """
+        INSERT INTO notification_partitions (partition_name, range_start, range_end)
+        VALUES (?, ?, ?)
+        """;
+    private static final String CATALOG_DELETE_ROWS_SQL =
+        "DELETE FROM notifications WHERE created_at >= ? AND created_at < ?";
+    private static final String CATALOG_DELETE_SQL =
+        "DELETE FROM notification_partitions WHERE partition_name = ?";
+    // 기록된 월 파티션 범위 밖의 행이 PostgreSQL 의 기본 파티션 행에 해당한다.
+    private static final String CATALOG_PURGE_DEFAULT_SQL =
+        "DELETE FROM notifications WHERE created_at < ?";
+    private static final String CATALOG_COUNT_DEFAULT_SQL = """
+        SELECT COUNT(*) FROM notifications n
+        WHERE NOT EXISTS (
+            SELECT 1 FROM notification_partitions p
+            WHERE n.created_at >= p.range_start AND n.created_at < p.range_end
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final AtomicLong defaultRows = new AtomicLong();
+
+    public NotificationPartitionManager(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.notification.partition.months-ahead:3}") int monthsAhead,
+        @Value("${deokhugam.notification.partition.retention-months:6}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+
+        Gauge.builder("deokhugam.notification.partition.default-rows", defaultRows,
+                AtomicLong::get)
+            .description("월 파티션 밖(기본 파티션)에 남아 있는 알림 수")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!databaseDialect.isPostgres()) {
+            jdbcTemplate.execute(CATALOG_CREATE_SQL);
+        }
+        maintain();
+    }
+
+    @Scheduled(cron = "${deokhugam.notification.partition.cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        try {
+            maintain(YearMonth.now(NotificationPartitions.ZONE));
+        } catch (Exception e) {
+            log.error("[NotificationPartition] 알림 파티션 관리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    void maintain(YearMonth current) {
+        if (databaseDialect.isPostgres() && !isPartitioned()) {
+            log.warn("[NotificationPartition] notifications 가 파티션 테이블이 아니라 건너뜀");
+            return;
+        }
+
+        List<YearMonth> existing = listPartitions();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (!existing.contains(month)) {
+                createPartition(month);
+            }
+        }
+
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        existing.stream()
+            .filter(month -> month.isBefore(oldestKept))
+            .forEach(this::dropPartition);
+        maintainDefaultPartition(oldestKept);
+    }
+
+    /**
+     * 보관 기간이 지난 기본 파티션 행을 지우고, 남은 행이 있으면 경고한다.
+     */
+    private void maintainDefaultPartition(YearMonth oldestKept) {
+        boolean postgres = databaseDialect.isPostgres();
+        if (postgres && !hasDefaultPartition()) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.from(monthStart(oldestKept));
+        int purged = jdbcTemplate.update(
+            postgres ? PG_PURGE_DEFAULT_SQL : CATALOG_PURGE_DEFAULT_SQL, cutoff);
+        if (purged > 0) {
+            log.info("[NotificationPartition] 보관 기간이 지난 기본 파티션 알림 삭제 - 건수: {}", purged);
+        }
+
+        Long count = jdbcTemplate.queryForObject(
+            postgres ? PG_COUNT_DEFAULT_SQL : CATALOG_COUNT_DEFAULT_SQL, Long.class);
+        defaultRows.set(count != null ? count : 0L);
+        if (defaultRows.get() > 0) {
+            log.warn("[NotificationPartition] 월 파티션 밖(기본 파티션)에 알림이 남아 있음 - 건수: {}",
+                defaultRows.get());
+        }
+    }
+
+    private List<YearMonth> listPartitions() {
+        String sql = databaseDialect.isPostgres() ? PG_LIST_SQL : CATALOG_LIST_SQL;
+        return jdbcTemplate.queryForList(sql, String.class).stream()
+            .map(this::parseMonth)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void createPartition(YearMonth month) {
+        String name = partitionName(month);
+        Instant start = monthStart(month);
+        Instant end = monthStart(month.plusMonths(1));
+        if (databaseDialect.isPostgres()) {
+            String createSql = String.format(PG_CREATE_SQL, name, start, end);
+            if (defaultPartitionHasRows(start, end)) {
+                moveDefaultRows(createSql, name, start, end);
+            } else {
+                jdbcTemplate.execute(createSql);
+            }
+        } else {
+            jdbcTemplate.update(CATALOG_INSERT_SQL, name, Timestamp.from(start),
+                Timestamp.from(end));
+        }
+        log.info("[NotificationPartition] 알림 파티션 생성 - {}", name);
+    }
+
+    private boolean defaultPartitionHasRows(Instant start, Instant end) {
+        if (!hasDefaultPartition()) {
+            return false;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(PG_DEFAULT_HAS_ROWS_SQL,
+            Boolean.class, Timestamp.from(start), Timestamp.from(end)));
+    }
+
+    /**
+     * 기본 파티션을 떼어낸 상태에서 월 파티션을 만들고 그 기간의 행을 옮긴 뒤 다시 붙인다. 실패하면 전부 되돌린다.
+     */
+    private void moveDefaultRows(String createSql, String name, Instant start, Instant end) {
+        Timestamp from = Timestamp.from(start);
+        Timestamp to = Timestamp.from(end);
+        Integer moved = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute(String.format(PG_DETACH_SQL, DEFAULT_PARTITION));
+            jdbcTemplate.execute(createSql);
+            int inserted = jdbcTemplate.update(PG_MOVE_DEFAULT_ROWS_SQL, from, to);
+            jdbcTemplate.update(PG_DELETE_DEFAULT_RANGE_SQL, from, to);
+            jdbcTemplate.execute(PG_ATTACH_DEFAULT_SQL);
+            return inserted;
+        });
+        log.warn("[NotificationPartition] 기본 파티션의 알림을 새 월 파티션으로 옮김 - {}, 건수: {}",
+            name, moved);
+    }
+
+    private void dropPartition(YearMonth month) {
+        String name = partitionName(month);
+        if (databaseDialect.isPostgres()) {
+            // 떼어낸 뒤 삭제해 부모 테이블 잠금을 짧게 잡는다.
+            jdbcTemplate.execute(String.format(PG_DETACH_SQL, name));
+            jdbcTemplate.execute(String.format(PG_DROP_SQL, name));
+            log.info("[NotificationPartition] 보관 기간이 지난 알림 파티션 삭제 - {}", name);
+            return;
+        }
+        int deleted = jdbcTemplate.update(CATALOG_DELETE_ROWS_SQL,
+            Timestamp.from(monthStart(month)), Timestamp.from(monthStart(month.plusMonths(1))));
+        jdbcTemplate.update(CATALOG_DELETE_SQL, name);
+        log.info("[NotificationPartition] 보관 기간이 지난 알림 파티션 삭제 - {}, 건수: {}", name, deleted);
+    }
+
+    private boolean hasDefaultPartition() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(PG_HAS_DEFAULT_SQL, Boolean.class));
+    }
+
+    private boolean isPartitioned() {
+        Long count = jdbcTemplate.queryForObject(PG_IS_PARTITIONED_SQL, Long.class);
+        return count != null && count > 0;
+    }
+
+    /**
+     * @return 월 파티션 이름이 아니면(기본 파티션 등) null
+     */
+    private YearMonth parseMonth(String name) {
+        if (!name.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+}
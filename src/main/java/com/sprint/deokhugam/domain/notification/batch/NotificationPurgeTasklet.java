@@ -0,0 +1,109 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 읽음 처리 후 보관 기간이 지난 알림을 청크 단위 집합 DELETE 로 삭제한다.
+ * <p>
+ * 엔티티를 읽지 않고 (confirmed, updated_at) 인덱스로 가장 오래된 id 를 n 건 골라 바로 지운다. 삭제된 행은 다시 조회되지 않으므로
+ * 오프셋 없이 항상 인덱스의 앞부분만 읽는다. 한 번의 실행이 한 청크이자 한 트랜잭션이며, 커밋 후 {@link #afterChunk} 에서 잠시 쉬어
+ * 운영 트래픽과 잠금/IO 를 나눠 쓴다.
+ */
+@Slf4j
+public class NotificationPurgeTasklet implements Tasklet, StepExecutionListener, ChunkListener {
+
+    static final String DELETED_ROWS_KEY = "deletedRows";
+    static final String ROWS_PER_SECOND_KEY = "rowsPerSecond";
+
+    private static final String DELETE_SQL = """
+        DELETE FROM notifications
+        WHERE id IN (
+            SELECT id FROM notifications
+            WHERE confirmed = true AND updated_at < ?
+            ORDER BY updated_at
+            LIMIT ?
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Instant cutoff;
+    private final int chunkSize;
+    private final long throttleMillis;
+    private final Counter deletedCounter;
+
+    private long deletedRows;
+    private boolean hasMore;
+    private Instant startedAt;
+
+    public NotificationPurgeTasklet(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+        Instant cutoff, int chunkSize, long throttleMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cutoff = cutoff;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+        this.deletedCounter = Counter.builder("deokhugam.notification.purge.deleted")
+            .description("보관 기간이 지나 삭제된 알림 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        startedAt = Instant.now();
+        deletedRows = 0;
+        log.info("[NotificationPurge] 알림 삭제 시작 - cutoff: {}, chunkSize: {}", cutoff, chunkSize);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        int deleted = jdbcTemplate.update(DELETE_SQL, Timestamp.from(cutoff), chunkSize);
+        deletedRows += deleted;
+        deletedCounter.increment(deleted);
+        contribution.incrementWriteCount(deleted);
+
+        hasMore = deleted == chunkSize;
+        return hasMore ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 청크 트랜잭션이 커밋된 뒤 호출되므로 잠금이나 커넥션을 잡지 않은 채 쉰다.
+     */
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (!hasMore || throttleMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(throttleMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Duration elapsed = Duration.between(startedAt, Instant.now());
+        double rowsPerSecond = elapsed.toMillis() == 0
+            ? deletedRows
+            : deletedRows * 1000.0 / elapsed.toMillis();
+
+        stepExecution.getExecutionContext().putLong(DELETED_ROWS_KEY, deletedRows);
+        stepExecution.getExecutionContext().putDouble(ROWS_PER_SECOND_KEY, rowsPerSecond);
+        log.info("[NotificationPurge] 알림 삭제 완료 - 삭제: {}건, 소요: {}ms, 초당 {}건",
+            deletedRows, elapsed.toMillis(), String.format("%.1f", rowsPerSecond));
+        return stepExecution.getExitStatus();
+    }
+}
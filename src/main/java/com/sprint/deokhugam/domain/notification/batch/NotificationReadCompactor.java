@@ -0,0 +1,114 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모두 읽음 기준 시각 이전에 생성되었지만 아직 confirmed = false 인 알림을 조금씩 읽음 처리한다.
+ * <p>
+ * 조회와 안 읽은 수 계산은 기준 시각만으로 정확하므로 이 작업은 저장 상태를 맞추는 용도다. updated_at 을 기준 시각으로 두어 보관 기간
+ * 삭제 배치의 대상이 되도록 한다. 청크마다 자동 커밋되는 짧은 UPDATE 를 실행해 긴 잠금을 잡지 않는다.
+ * <p>
+ * 묶음에 더 합쳐질 일이 없는 알림(읽었거나 삭제된 알림)의 notification_actors 행도 같은 방식으로 조금씩 지운다.
+ */
+@Slf4j
+@Component
+public class NotificationReadCompactor {
+
+    private static final String COMPACT_SQL = """
+        UPDATE notifications
+        SET confirmed = true,
+            updated_at = (
+                SELECT w.last_read_at FROM notification_read_watermarks w
+                WHERE w.user_id = notifications.user_id
+            )
+        WHERE id IN (
+            SELECT n.id FROM notifications n
+            JOIN notification_read_watermarks w ON w.user_id = n.user_id
+            WHERE n.confirmed = false AND n.created_at <= w.last_read_at
+            LIMIT ?
+        )
+        """;
+
+    private static final String SWEEP_ACTORS_SQL = """
+        DELETE FROM notification_actors
+        WHERE notification_id IN (
+            SELECT a.notification_id FROM notification_actors a
+            WHERE NOT EXISTS (
+                SELECT 1 FROM notifications n
+                WHERE n.id = a.notification_id AND n.confirmed = false
+            )
+            LIMIT ?
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long throttleMillis;
+    private final Counter compactedCounter;
+
+    public NotificationReadCompactor(JdbcTemplate jdbcTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.notification.watermark.compact-chunk-size:1000}") int chunkSize,
+        @Value("${deokhugam.notification.watermark.compact-max-chunks:100}") int maxChunksPerRun,
+        @Value("${deokhugam.notification.watermark.compact-throttle-ms:100}") long throttleMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.throttleMillis = throttleMillis;
+        this.compactedCounter = Counter.builder("deokhugam.notification.watermark.compacted")
+            .description("모두 읽음 기준 시각에 따라 읽음 처리된 알림 수")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${deokhugam.notification.watermark.compact-cron:0 */10 * * * *}",
+        zone = "Asia/Seoul")
+    public void compact() {
+        try {
+            long total = 0;
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                int updated = compactChunk();
+                total += updated;
+                if (updated < chunkSize) {
+                    break;
+                }
+                Thread.sleep(throttleMillis);
+            }
+            if (total > 0) {
+                log.info("[NotificationReadCompactor] 알림 읽음 정리 완료 - 건수: {}", total);
+            }
+            long swept = 0;
+            for (int i = 0; i < maxChunksPerRun; i++) {
+                int deleted = sweepActorsChunk();
+                swept += deleted;
+                if (deleted < chunkSize) {
+                    break;
+                }
+                Thread.sleep(throttleMillis);
+            }
+            if (swept > 0) {
+                log.info("[NotificationReadCompactor] 알림 행위자 정리 완료 - 건수: {}", swept);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[NotificationReadCompactor] 알림 읽음 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    int compactChunk() {
+        int updated = jdbcTemplate.update(COMPACT_SQL, chunkSize);
+        compactedCounter.increment(updated);
+        return updated;
+    }
+
+    int sweepActorsChunk() {
+        return jdbcTemplate.update(SWEEP_ACTORS_SQL, chunkSize);
+    }
+}
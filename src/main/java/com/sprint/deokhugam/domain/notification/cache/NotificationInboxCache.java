@@ -0,0 +1,187 @@
+package com.sprint.deokhugam.domain.notification.cache;
+
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.notification.mapper.NotificationRenderer;
+import com.sprint.deokhugam.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import com.sprint.deokhugam.global.cache.LruCache;
+import com.sprint.deokhugam.global.database.AfterCommit;
+import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 안 읽은 알림 수와 최근 알림 목록(첫 페이지) 캐시.
+ * <p>
+ * 알림 생성, 단건 읽음, 전체 읽음 시 DB 를 다시 조회하지 않고 캐시 값을 직접 갱신하므로, 앱을 열 때의 배지 수와 첫 페이지 조회는 캐시
+ * 적중 시 SQL 없이 처리된다. 갱신은 트랜잭션 커밋 후에 반영된다. 캐시는 인스턴스마다 따로 유지되므로, 다른 인스턴스에서 일어난 변경이나
+ * 리뷰/사용자 삭제로 인한 연쇄 삭제는 만료 시간(ttl)이 지나야 반영된다.
+ */
+@Slf4j
+@Component
+public class NotificationInboxCache {
+
+    private static final Comparator<NotificationDto> NEWEST_FIRST = Comparator
+        .comparing(NotificationDto::createdAt)
+        .thenComparing(NotificationDto::id)
+        .reversed();
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationRenderer notificationRenderer;
+    private final NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+    // 다음 페이지 존재 여부를 알 수 있도록 첫 페이지보다 한 건 더 보관한다.
+    private final int capacity;
+
+    private final LruCache<UUID, Long> unreadCounts;
+    private final LruCache<UUID, RecentInbox> recentInboxes;
+
+    public NotificationInboxCache(NotificationRepository notificationRepository,
+        NotificationRenderer notificationRenderer,
+        NotificationReadWatermarkRepository notificationReadWatermarkRepository,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.notification.cache.max-users:10000}") int maxUsers,
+        @Value("${deokhugam.notification.cache.recent-size:20}") int recentSize,
+        @Value("${deokhugam.notification.cache.ttl:10m}") Duration ttl) {
+        this.notificationRepository = notificationRepository;
+        this.notificationRenderer = notificationRenderer;
+        this.notificationReadWatermarkRepository = notificationReadWatermarkRepository;
+        this.capacity = recentSize + 1;
+        this.unreadCounts = new LruCache<>("notification.unread-count", maxUsers, ttl,
+            meterRegistry);
+        this.recentInboxes = new LruCache<>("notification.recent-inbox", maxUsers, ttl,
+            meterRegistry);
+    }
+
+    public long getUnreadCount(UUID userId) {
+        Long cached = unreadCounts.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long count = notificationRepository.countUnreadByUserId(userId);
+        unreadCounts.put(userId, count);
+        return count;
+    }
+
+    /**
+     * 첫 페이지(커서 없음)를 최근 알림 캐시에서 만든다. 캐시된 목록으로 요청한 크기를 채울 수 없으면 null 을 반환한다.
+     */
+    public CursorPageResponse<NotificationDto> getFirstPage(UUID userId, int limit) {
+        if (limit >= capacity) {
+            return null;
+        }
+        RecentInbox inbox = recentInboxes.get(userId);
+        if (inbox == null) {
+            inbox = load(userId);
+        }
+        if (inbox.items().size() <= limit && !inbox.complete()) {
+            return null;
+        }
+
+        boolean hasNext = inbox.items().size() > limit;
+        List<NotificationDto> content = hasNext ? inbox.items().subList(0, limit) : inbox.items();
+        String nextCursor = null;
+        String nextAfter = null;
+        if (hasNext) {
+            NotificationDto last = content.get(content.size() - 1);
+            nextCursor = last.id().toString();
+            nextAfter = last.createdAt().toString();
+        }
+        return new CursorPageResponse<>(
+            content,
+            nextCursor,
+            nextAfter,
+            content.size(),
+            null,
+            hasNext
+        );
+    }
+
+    /**
+     * 아웃박스 디스패처가 새로 만든 알림과 묶음으로 갱신한 알림을 반영한다. 갱신된 묶음 알림은 안 읽은 수를 바꾸지 않는다.
+     */
+    public void applyWritten(Collection<NotificationDto> inserted,
+        Collection<NotificationDto> merged) {
+        AfterCommit.run(() -> {
+            inserted.forEach(notification -> {
+                unreadCounts.computeIfPresent(notification.userId(), count -> count + 1);
+                recentInboxes.computeIfPresent(notification.userId(),
+                    inbox -> inbox.upsert(notification, capacity));
+            });
+            merged.forEach(notification -> recentInboxes.computeIfPresent(notification.userId(),
+                inbox -> inbox.upsert(notification, capacity)));
+        });
+    }
+
+    public void applyRead(UUID userId, UUID notificationId) {
+        AfterCommit.run(() -> {
+            unreadCounts.computeIfPresent(userId, count -> Math.max(count - 1, 0L));
+            recentInboxes.computeIfPresent(userId, inbox -> inbox.markRead(notificationId));
+        });
+    }
+
+    public void applyReadAll(UUID userId) {
+        AfterCommit.run(() -> {
+            unreadCounts.put(userId, 0L);
+            recentInboxes.computeIfPresent(userId, inbox -> inbox.markRead(null));
+        });
+    }
+
+    private RecentInbox load(UUID userId) {
+        CursorPageResponse<Notification> page = notificationRepository.findByUserIdWithCursor(
+            userId, Instant.now(), null, capacity);
+        NotificationReadWatermark watermark = notificationReadWatermarkRepository.findById(userId)
+            .orElse(null);
+        RecentInbox inbox = new RecentInbox(
+            notificationRenderer.toDtos(page.content(), watermark),
+            !page.hasNext());
+        recentInboxes.put(userId, inbox);
+        log.debug("[NotificationInboxCache] 최근 알림 적재 - userId: {}, 건수: {}", userId,
+            inbox.items().size());
+        return inbox;
+    }
+
+    /**
+     * @param items    최신순으로 정렬된 최근 알림 (최대 recentSize + 1 건)
+     * @param complete 사용자의 알림이 모두 담겨 있는지 여부
+     */
+    record RecentInbox(List<NotificationDto> items, boolean complete) {
+
+        RecentInbox upsert(NotificationDto notification, int maxSize) {
+            List<NotificationDto> updated = new ArrayList<>(items.size() + 1);
+            updated.add(notification);
+            items.stream()
+                .filter(item -> !item.id().equals(notification.id()))
+                .forEach(updated::add);
+            updated.sort(NEWEST_FIRST);
+            if (updated.size() <= maxSize) {
+                return new RecentInbox(List.copyOf(updated), complete);
+            }
+            return new RecentInbox(List.copyOf(updated.subList(0, maxSize)), false);
+        }
+
+        /**
+         * @param notificationId null 이면 모든 알림을 읽음 처리한다.
+         */
+        RecentInbox markRead(UUID notificationId) {
+            return new RecentInbox(items.stream()
+                .map(item -> item.confirmed()
+                    || (notificationId != null && !item.id().equals(notificationId))
+                    ? item
+                    : item.toBuilder()
+                        .confirmed(true)
+                        .build())
+                .toList(), complete);
+        }
+    }
+}
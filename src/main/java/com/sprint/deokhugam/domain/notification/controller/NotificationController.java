@@ -4,14 +4,15 @@ import com.sprint.deokhugam.domain.notification.controller.api.NotificationApi;
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.dto.request.NotificationGetRequest;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
-import java.time.Instant;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
@@ -20,26 +21,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController implements NotificationApi {
 
     private final NotificationService notificationService;
+    private final NotificationSseService notificationSseService;
 
     public ResponseEntity<CursorPageResponse<NotificationDto>> getNotifications(
         NotificationGetRequest request
     ) {
-        // after가 null이면 현재 시각으로 보정
-        if (request.after() == null) {
-            request = new NotificationGetRequest(
-                request.userId(),
-                request.direction(),
-                request.cursor(),
-                Instant.now(),
-                request.limit()
-            );
-        }
-
         CursorPageResponse<NotificationDto> response = notificationService.getNotifications(
             request);
         return ResponseEntity.ok(response);
     }
 
+    public SseEmitter subscribe(UUID requestUserId, String lastEventId) {
+
+        return notificationSseService.subscribe(requestUserId, lastEventId);
+    }
+
     public ResponseEntity<?> readAllNotifications(UUID requestUserId) {
 
         notificationService.markAllAsRead(requestUserId);
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.UUID;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "알림 관리")
 public interface NotificationApi {
@@ -67,6 +69,31 @@ public interface NotificationApi {
         @PathVariable @Parameter(description = "알림 ID", required = true) UUID notificationId
     );
 
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "알림 실시간 구독",
+        description = """
+            SSE 로 새 알림(notification)과 안 읽은 알림 수(unread-count)를 전송합니다.<br>
+            재연결 시 Last-Event-ID 헤더를 보내면 놓친 알림을 이어서 받고, 놓친 알림이 너무 많으면 resync 이벤트가 전송됩니다.
+            """,
+        operationId = "subscribeNotifications"
+        , security = @SecurityRequirement(name = "CustomHeaderAuth")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "구독 성공",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 (요청자 ID 누락)",
+            content = @Content(schema = @Schema(hidden = true))),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(hidden = true)))
+    })
+    SseEmitter subscribe(
+        @Parameter(description = "요청자 ID", required = true)
+        @RequestHeader("Deokhugam-Request-User-ID") UUID requestUserId,
+        @Parameter(description = "마지막으로 받은 이벤트 ID")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    );
+
     @PatchMapping("/read-all")
     @Operation(
         summary = "모든 알림 읽음 처리",
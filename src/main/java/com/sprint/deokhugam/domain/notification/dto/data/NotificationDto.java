@@ -4,13 +4,14 @@ import java.time.Instant;
 import java.util.UUID;
 import lombok.Builder;
 
-@Builder
+@Builder(toBuilder = true)
 public record NotificationDto(
     UUID id,
     UUID userId,
     UUID reviewId,
     String content,
     boolean confirmed,
+    int actorCount,
     Instant createdAt,
     Instant updatedAt
 ) {
@@ -5,9 +5,13 @@ import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.base.BaseUpdatableEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,11 +25,11 @@ import lombok.NoArgsConstructor;
 @Table(name = "notifications")
 public class Notification extends BaseUpdatableEntity {
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "review_id", nullable = false)
     private Review review;
 
@@ -35,6 +39,22 @@ public class Notification extends BaseUpdatableEntity {
     @Column(name = "confirmed", nullable = false)
     private boolean isConfirmed = false;
 
+    // 묶음 알림 - 같은 수신자/리뷰/종류의 읽지 않은 알림은 한 행으로 합쳐진다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 30)
+    private NotificationEventType eventType;
+
+    @Builder.Default
+    @Column(name = "actor_count", nullable = false)
+    private int actorCount = 1;
+
+    @Column(name = "latest_actor_id")
+    private UUID latestActorId;
+
+    // 댓글 알림의 최근 댓글. 종류가 있는 알림은 content 대신 이 참조들로 조회 시점에 문구를 만든다.
+    @Column(name = "comment_id")
+    private UUID commentId;
+
     public void update() {
         this.isConfirmed = true;
     }
@@ -0,0 +1,45 @@
+package com.sprint.deokhugam.domain.notification.entity;
+
+/**
+ * 알림 이벤트 종류 - 알림 문구는 저장하지 않고 조회 시점에 행위자 닉네임과 댓글 내용으로 만든다.
+ */
+public enum NotificationEventType {
+
+    REVIEW_LIKED {
+        @Override
+        String text(String actorNickname, int othersCount, String content) {
+            return actors(actorNickname, othersCount) + "이 나의 리뷰를 좋아합니다.";
+        }
+    },
+    REVIEW_COMMENTED {
+        @Override
+        String text(String actorNickname, int othersCount, String content) {
+            String text = actors(actorNickname, othersCount) + "이 나의 리뷰 댓글을 남겼습니다.";
+            // 댓글이 삭제되었으면 문구만 보여준다.
+            return content != null ? text + "\n" + content : text;
+        }
+    };
+
+    private static final int MAX_LENGTH = 255;
+
+    /**
+     * @param othersCount 묶음 알림에서 최근 행위자를 제외한 나머지 행위 수
+     * @return 최대 255자로 자른 알림 문구
+     */
+    public String render(String actorNickname, int othersCount, String content) {
+        String text = text(actorNickname, othersCount, content);
+        return text.length() > MAX_LENGTH ? text.substring(0, MAX_LENGTH) : text;
+    }
+
+    abstract String text(String actorNickname, int othersCount, String content);
+
+    public String render(String actorNickname, String content) {
+        return render(actorNickname, 0, content);
+    }
+
+    private static String actors(String actorNickname, int othersCount) {
+        return othersCount > 0
+            ? actorNickname + "님 외 " + othersCount + "명"
+            : actorNickname + "님";
+    }
+}
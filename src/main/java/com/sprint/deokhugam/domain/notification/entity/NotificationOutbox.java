@@ -0,0 +1,49 @@
+package com.sprint.deokhugam.domain.notification.entity;
+
+import com.sprint.deokhugam.global.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 발송 대기 이벤트 - 좋아요/댓글 트랜잭션 안에서 한 행만 기록하고, 알림 생성은 디스패처가 모아서 처리한다.
+ * <p>
+ * 리뷰/유저 엔티티를 참조하지 않고 id 만 저장해 요청 트랜잭션에서 연관 엔티티를 로딩하지 않는다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notification_outbox", indexes = {
+    @Index(name = "idx_notification_outbox", columnList = "created_at")
+})
+public class NotificationOutbox extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 30)
+    private NotificationEventType eventType;
+
+    @Column(name = "review_id", nullable = false)
+    private UUID reviewId;
+
+    @Column(name = "actor_id", nullable = false)
+    private UUID actorId;
+
+    // 댓글 알림의 댓글 - 알림 문구는 조회 시점에 댓글 내용으로 만든다.
+    @Column(name = "comment_id")
+    private UUID commentId;
+
+    public NotificationOutbox(NotificationEventType eventType, UUID reviewId, UUID actorId,
+        UUID commentId) {
+        this.eventType = eventType;
+        this.reviewId = reviewId;
+        this.actorId = actorId;
+        this.commentId = commentId;
+    }
+}
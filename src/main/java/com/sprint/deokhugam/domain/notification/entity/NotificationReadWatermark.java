@@ -0,0 +1,48 @@
+package com.sprint.deokhugam.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 "모두 읽음" 기준 시각. 이 시각 이전에 생성된 알림은 confirmed 값과 관계없이 읽은 알림으로 본다.
+ * <p>
+ * 모두 읽음 처리 시 알림 행을 일괄 수정하지 않고 이 값만 바꾸며, 실제 행은 {@code NotificationReadCompactor} 가 나중에 정리한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "notification_read_watermarks")
+public class NotificationReadWatermark {
+
+    @Id
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "last_read_at", nullable = false)
+    private Instant lastReadAt;
+
+    public NotificationReadWatermark(UUID userId, Instant lastReadAt) {
+        this.userId = userId;
+        this.lastReadAt = lastReadAt;
+    }
+
+    public void advance(Instant readAt) {
+        if (readAt.isAfter(lastReadAt)) {
+            this.lastReadAt = readAt;
+        }
+    }
+
+    /**
+     * 기준 시각 이전에 생성된 알림인지 여부
+     */
+    public boolean covers(Instant createdAt) {
+        return createdAt != null && !createdAt.isAfter(lastReadAt);
+    }
+}
@@ -2,6 +2,7 @@ package com.sprint.deokhugam.domain.notification.mapper;
 
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,4 +14,14 @@ public interface NotificationMapper {
     @Mapping(source = "review.id", target = "reviewId")
     @Mapping(source = "confirmed", target = "confirmed")
     NotificationDto toDto(Notification notification);
+
+    // 모두 읽음 기준 시각 이전에 생성된 알림은 읽음으로 변환
+    default NotificationDto toDto(Notification notification, NotificationReadWatermark watermark) {
+        NotificationDto dto = toDto(notification);
+        if (dto == null || dto.confirmed() || watermark == null
+            || !watermark.covers(dto.createdAt())) {
+            return dto;
+        }
+        return dto.toBuilder().confirmed(true).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package com.sprint.deokhugam.domain.notification.mapper;
+
+import com.sprint.deokhugam.domain.comment.entity.Comment;
+import com.sprint.deokhugam.domain.comment.repository.CommentRepository;
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 엔티티를 DTO 로 바꾸면서 알림 문구를 만든다.
+ * <p>
+ * 종류가 있는 알림은 최근 행위자와 댓글 id 만 저장하므로, 목록 안의 닉네임과 댓글 내용을 각각 IN 조회 한 번으로 모아 문구를 만든다.
+ * 닉네임이 바뀌면 기존 알림에도 바로 반영된다. 종류가 없는 예전 알림은 저장된 문구를 그대로 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationRenderer {
+
+    private static final String UNKNOWN_ACTOR = "알 수 없는 사용자";
+
+    private final NotificationMapper notificationMapper;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+
+    public List<NotificationDto> toDtos(List<Notification> notifications,
+        NotificationReadWatermark watermark) {
+        Set<UUID> actorIds = new HashSet<>();
+        Set<UUID> commentIds = new HashSet<>();
+        for (Notification notification : notifications) {
+            if (notification.getEventType() == null) {
+                continue;
+            }
+            if (notification.getLatestActorId() != null) {
+                actorIds.add(notification.getLatestActorId());
+            }
+            if (notification.getCommentId() != null) {
+                commentIds.add(notification.getCommentId());
+            }
+        }
+
+        Map<UUID, String> nicknames = actorIds.isEmpty()
+            ? Map.of()
+            : userRepository.findAllById(actorIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+        Map<UUID, String> comments = commentIds.isEmpty()
+            ? Map.of()
+            : commentRepository.findAllById(commentIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Comment::getContent));
+
+        return notifications.stream()
+            .map(notification -> render(notification, watermark, nicknames, comments))
+            .toList();
+    }
+
+    private NotificationDto render(Notification notification, NotificationReadWatermark watermark,
+        Map<UUID, String> nicknames, Map<UUID, String> comments) {
+        NotificationDto dto = notificationMapper.toDto(notification, watermark);
+        if (notification.getEventType() == null) {
+            return dto;
+        }
+        // 행위자가 탈퇴했거나 댓글이 삭제되었으면 참조가 비어 있다.
+        UUID actorId = notification.getLatestActorId();
+        UUID commentId = notification.getCommentId();
+        String content = notification.getEventType().render(
+            actorId != null ? nicknames.getOrDefault(actorId, UNKNOWN_ACTOR) : UNKNOWN_ACTOR,
+            notification.getActorCount() - 1,
+            commentId != null ? comments.get(commentId) : null);
+        return dto.toBuilder()
+            .content(content)
+            .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import com.sprint.deokhugam.domain.notification.entity.NotificationOutbox;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, UUID> {
+
+}
@@ -0,0 +1,39 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * notifications 월 파티션의 경계. 파티션 관리 작업과 파티션 단위로 나눠 읽는 조회가 같은 경계를 쓴다.
+ * <p>
+ * 경계는 서비스 기준 시간대(Asia/Seoul)의 매월 1일 0시다.
+ */
+public final class NotificationPartitions {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private NotificationPartitions() {
+    }
+
+    /**
+     * 해당 시각이 속한 월 파티션
+     */
+    public static YearMonth monthOf(Instant at) {
+        return YearMonth.from(at.atZone(ZONE));
+    }
+
+    /**
+     * 월 파티션의 시작 시각(포함). 끝 시각(제외)은 다음 달의 시작 시각이다.
+     */
+    public static Instant monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZONE).toInstant();
+    }
+
+    /**
+     * 해당 시각이 속한 월 파티션의 시작 시각
+     */
+    public static Instant partitionStart(Instant at) {
+        return monthStart(monthOf(at));
+    }
+}
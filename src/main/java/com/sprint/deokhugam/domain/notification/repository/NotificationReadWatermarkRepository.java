@@ -0,0 +1,12 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationReadWatermarkRepository extends
+    JpaRepository<NotificationReadWatermark, UUID>, NotificationReadWatermarkRepositoryCustom {
+
+}
@@ -0,0 +1,14 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface NotificationReadWatermarkRepositoryCustom {
+
+    /**
+     * 사용자의 "모두 읽음" 기준 시각을 readAt 으로 옮긴다. 행이 없으면 만들고, 있으면 더 최근 시각일 때만 바꾼다.
+     * <p>
+     * 같은 사용자의 첫 "모두 읽음" 요청이 동시에 들어와도 기본 키 충돌 없이 한 행으로 합쳐진다.
+     */
+    void advance(UUID userId, Instant readAt);
+}
@@ -0,0 +1,59 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationReadWatermarkRepositoryImpl implements
+    NotificationReadWatermarkRepositoryCustom {
+
+    // PostgreSQL: 기본 키 충돌 시 더 최근 시각으로만 갱신
+    private static final String UPSERT_SQL_POSTGRESQL = """
+        INSERT INTO notification_read_watermarks (user_id, last_read_at)
+        VALUES (:userId, :readAt)
+        ON CONFLICT (user_id) DO UPDATE
+        SET last_read_at = GREATEST(notification_read_watermarks.last_read_at,
+                                    EXCLUDED.last_read_at)
+        """;
+
+    // H2(개발/테스트): 조건부 생성 후 없던 행이 아니면 조건부 갱신, 동시 생성은 기본 키로 차단
+    private static final String INSERT_SQL = """
+        INSERT INTO notification_read_watermarks (user_id, last_read_at)
+        SELECT :userId, :readAt
+        WHERE NOT EXISTS (SELECT 1 FROM notification_read_watermarks WHERE user_id = :userId)
+        """;
+    private static final String UPDATE_SQL = """
+        UPDATE notification_read_watermarks
+        SET last_read_at = :readAt
+        WHERE user_id = :userId AND last_read_at < :readAt
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    @Override
+    public void advance(UUID userId, Instant readAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userId", userId)
+            .addValue("readAt", Timestamp.from(readAt));
+
+        if (databaseDialect.isPostgres()) {
+            jdbcTemplate.update(UPSERT_SQL_POSTGRESQL, params);
+            return;
+        }
+        try {
+            if (jdbcTemplate.update(INSERT_SQL, params) > 0) {
+                return;
+            }
+        } catch (DuplicateKeyException e) {
+            // 동시 요청이 먼저 만들었으면 갱신으로 넘어간다.
+        }
+        jdbcTemplate.update(UPDATE_SQL, params);
+    }
+}
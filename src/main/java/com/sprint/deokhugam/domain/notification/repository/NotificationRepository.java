@@ -21,4 +21,15 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
         )
         """, nativeQuery = true)
     void deleteByReviewUserIdIn(@Param("userIds") List<UUID> userIds);
+
+    // 모두 읽음 기준 시각 이전에 생성된 알림은 confirmed 가 false 여도 읽은 것으로 본다.
+    @Query(value = """
+        SELECT COUNT(*) FROM notifications n
+        WHERE n.user_id = :userId AND n.confirmed = false
+        AND NOT EXISTS (
+            SELECT 1 FROM notification_read_watermarks w
+            WHERE w.user_id = n.user_id AND n.created_at <= w.last_read_at
+        )
+        """, nativeQuery = true)
+    long countUnreadByUserId(@Param("userId") UUID userId);
 }
\ No newline at end of file
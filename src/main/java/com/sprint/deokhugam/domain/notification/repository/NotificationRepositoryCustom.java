@@ -3,6 +3,7 @@ package com.sprint.deokhugam.domain.notification.repository;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 public interface NotificationRepositoryCustom {
@@ -14,5 +15,13 @@ public interface NotificationRepositoryCustom {
         int limit
     );
 
-    void markAllAsReadByUserId(UUID userId);
+    /**
+     * 커서(createdAt, id) 이후에 생성/갱신된 알림을 오래된 순으로 조회한다. SSE 재연결 시 놓친 알림을 보내는 데 사용한다.
+     */
+    List<Notification> findByUserIdAfterCursor(
+        UUID userId,
+        Instant createdAt,
+        UUID cursor,
+        int limit
+    );
 }
\ No newline at end of file
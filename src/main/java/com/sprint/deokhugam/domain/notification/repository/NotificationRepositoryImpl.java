@@ -1,7 +1,5 @@
 package com.sprint.deokhugam.domain.notification.repository;
 
-import static com.sprint.deokhugam.domain.notification.entity.QNotification.notification;
-
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
@@ -9,20 +7,28 @@ import com.sprint.deokhugam.domain.notification.entity.QNotification;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
     private final EntityManager em;
+    private final int retentionMonths;
+
+    public NotificationRepositoryImpl(JPAQueryFactory queryFactory, EntityManager em,
+        @Value("${deokhugam.notification.partition.retention-months:6}") int retentionMonths) {
+        this.queryFactory = queryFactory;
+        this.em = em;
+        this.retentionMonths = retentionMonths;
+    }
 
     @Override
     public CursorPageResponse<Notification> findByUserIdWithCursor(UUID userId, Instant after,
@@ -39,12 +45,25 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
             where = where.and(notification.id.lt(cursor));
         }
 
-        List<Notification> results = queryFactory
-            .selectFrom(notification)
-            .where(where)
-            .orderBy(notification.createdAt.desc(), notification.id.desc())
-            .limit(limit + 1)
-            .fetch();
+        // after 가 속한 월 파티션부터 한 달씩 거슬러 올라가며 읽고, 페이지가 차거나 보관 기간의 첫 달에 닿으면 멈춘다.
+        // 각 조회는 한 파티션 범위로 제한해 모든 파티션을 훑지 않는다.
+        YearMonth month = NotificationPartitions.monthOf(after);
+        YearMonth oldest = YearMonth.now(NotificationPartitions.ZONE).minusMonths(retentionMonths);
+        Instant end = null;
+        List<Notification> results = new ArrayList<>();
+        while (results.size() <= limit) {
+            Instant start = NotificationPartitions.monthStart(month);
+            BooleanExpression range = notification.createdAt.goe(start);
+            if (end != null) {
+                range = range.and(notification.createdAt.lt(end));
+            }
+            results.addAll(fetchPage(where.and(range), limit + 1 - results.size()));
+            if (!month.isAfter(oldest)) {
+                break;
+            }
+            end = start;
+            month = month.minusMonths(1);
+        }
 
         for (Notification n : results) {
             em.detach(n); // 1차 캐시에서 강제로 떼어내기
@@ -77,19 +96,30 @@ public class NotificationRepositoryImpl implements NotificationRepositoryCustom
         );
     }
 
+    private List<Notification> fetchPage(BooleanExpression where, int limit) {
+        QNotification notification = QNotification.notification;
+        return queryFactory
+            .selectFrom(notification)
+            .where(where)
+            .orderBy(notification.createdAt.desc(), notification.id.desc())
+            .limit(limit)
+            .fetch();
+    }
 
-    @Transactional
     @Override
-    public void markAllAsReadByUserId(UUID userId) {
-        queryFactory
-            .update(notification)
-            .set(notification.isConfirmed, true)
-            .set(notification.updatedAt, Instant.now())
-            .where(notification.user.id.eq(userId)
-                .and(notification.isConfirmed.eq(false)))
-            .execute();
-
-        em.flush();
-        em.clear();
+    public List<Notification> findByUserIdAfterCursor(UUID userId, Instant createdAt,
+        UUID cursor, int limit) {
+        QNotification notification = QNotification.notification;
+
+        BooleanExpression where = notification.user.id.eq(userId)
+            .and(notification.createdAt.after(createdAt)
+                .or(notification.createdAt.eq(createdAt).and(notification.id.gt(cursor))));
+
+        return queryFactory
+            .selectFrom(notification)
+            .where(where)
+            .orderBy(notification.createdAt.asc(), notification.id.asc())
+            .limit(limit)
+            .fetch();
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.sprint.deokhugam.domain.notification.service;
 
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.dto.request.NotificationGetRequest;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
@@ -15,5 +16,14 @@ public interface NotificationService {
 
     NotificationDto create(User user, Review review, String content, boolean isConfirmed);
 
+    /**
+     * 알림 이벤트를 현재 트랜잭션의 아웃박스에 기록한다. 실제 알림은 디스패처가 비동기로 생성한다.
+     *
+     * @param reviewId  알림 대상 리뷰 (수신자는 리뷰 작성자)
+     * @param actorId   좋아요/댓글을 남긴 유저
+     * @param commentId 댓글 알림의 댓글 (없으면 null). 알림 문구는 조회 시점에 댓글 내용으로 만든다.
+     */
+    void publish(NotificationEventType eventType, UUID reviewId, UUID actorId, UUID commentId);
+
     void updateNotification(UUID id);
 }
\ No newline at end of file
@@ -1,15 +1,24 @@
 package com.sprint.deokhugam.domain.notification.service;
 
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.dto.request.NotificationGetRequest;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
+import com.sprint.deokhugam.domain.notification.entity.NotificationOutbox;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
 import com.sprint.deokhugam.domain.notification.exception.InvalidNotificationRequestException;
 import com.sprint.deokhugam.domain.notification.mapper.NotificationMapper;
+import com.sprint.deokhugam.domain.notification.mapper.NotificationRenderer;
+import com.sprint.deokhugam.domain.notification.repository.NotificationOutboxRepository;
+import com.sprint.deokhugam.domain.notification.repository.NotificationReadWatermarkRepository;
 import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.InvalidUserRequestException;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +33,11 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
+    private final NotificationRenderer notificationRenderer;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationSseService notificationSseService;
+    private final NotificationInboxCache notificationInboxCache;
+    private final NotificationReadWatermarkRepository notificationReadWatermarkRepository;
 
     public NotificationDto create(User user, Review review, String content, boolean isConfirmed) {
         log.info("[notification] 알림 등록 요청 - user: {}, review: {}", user, review);
@@ -31,27 +45,55 @@ public class NotificationServiceImpl implements NotificationService {
             log.warn("[notification] 알림 생성 실패 - user: {}, review: {}", user, review);
             throw new InvalidUserRequestException("error", "null 값이 들어왔습니다.");
         }
-        Notification notification = new Notification(review.getUser(), review, content,
-            isConfirmed);
+        Notification notification = Notification.builder()
+            .user(review.getUser())
+            .review(review)
+            .content(content)
+            .isConfirmed(isConfirmed)
+            .build();
 
         Notification saved = notificationRepository.save(notification);
         log.info("[notification] 알림 생성 완료 - user: {}, review: {}", user, review);
         return notificationMapper.toDto(saved);
     }
 
+    @Transactional
+    @Override
+    public void publish(NotificationEventType eventType, UUID reviewId, UUID actorId,
+        UUID commentId) {
+        if (eventType == null || reviewId == null || actorId == null) {
+            log.warn("[notification] 알림 이벤트 기록 실패 - type: {}, reviewId: {}, actorId: {}",
+                eventType, reviewId, actorId);
+            throw new InvalidUserRequestException("error", "null 값이 들어왔습니다.");
+        }
+        notificationOutboxRepository.save(
+            new NotificationOutbox(eventType, reviewId, actorId, commentId));
+        log.debug("[notification] 알림 이벤트 기록 - type: {}, reviewId: {}, actorId: {}",
+            eventType, reviewId, actorId);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public CursorPageResponse<NotificationDto> getNotifications(NotificationGetRequest request) {
+        // 커서 없는 첫 페이지는 최근 알림 캐시에서 응답한다.
+        if (request.cursor() == null && request.after() == null) {
+            CursorPageResponse<NotificationDto> cached = notificationInboxCache.getFirstPage(
+                request.userId(), request.limit());
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         CursorPageResponse<Notification> notifications = notificationRepository.findByUserIdWithCursor(
             request.userId(),
-            request.after(),
+            request.after() != null ? request.after() : Instant.now(),
             request.cursor(),
             request.limit()
         );
 
-        List<NotificationDto> content = notifications.content().stream()
-            .map(notificationMapper::toDto)
-            .toList();
+        NotificationReadWatermark watermark = findWatermark(request.userId());
+        List<NotificationDto> content = notificationRenderer.toDtos(notifications.content(),
+            watermark);
         return new CursorPageResponse<>(
             content,
             notifications.nextCursor(),
@@ -65,7 +107,10 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     @Override
     public void markAllAsRead(UUID userId) {
-        notificationRepository.markAllAsReadByUserId(userId);
+        // 알림 행을 일괄 수정하지 않고 기준 시각만 옮긴다. 행 정리는 NotificationReadCompactor 가 맡는다.
+        notificationReadWatermarkRepository.advance(userId, Instant.now());
+        notificationInboxCache.applyReadAll(userId);
+        notificationSseService.publishUnreadCount(userId);
     }
 
     @Transactional
@@ -74,7 +119,19 @@ public class NotificationServiceImpl implements NotificationService {
         Notification notification = notificationRepository.findById(id)
             .orElseThrow(() -> new InvalidNotificationRequestException("id", "해당 알림은 존재하지 않습니다."));
 
+        UUID userId = notification.getUser().getId();
+        NotificationReadWatermark watermark = findWatermark(userId);
+        boolean unread = !notification.isConfirmed()
+            && (watermark == null || !watermark.covers(notification.getCreatedAt()));
+        if (unread) {
+            notificationInboxCache.applyRead(userId, id);
+        }
         notification.update();
+        notificationSseService.publishUnreadCount(userId);
+    }
+
+    private NotificationReadWatermark findWatermark(UUID userId) {
+        return notificationReadWatermarkRepository.findById(userId).orElse(null);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,260 @@
+package com.sprint.deokhugam.domain.notification.sse;
+
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.notification.mapper.NotificationRenderer;
+import com.sprint.deokhugam.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import com.sprint.deokhugam.global.database.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 사용자별 SSE 구독 관리 및 알림 푸시.
+ * <p>
+ * 구독은 인스턴스 메모리에만 보관한다. 이벤트 id 는 알림 목록 조회 커서와 같은 (createdAt, id) 이므로, 재연결 시 Last-Event-ID 이후의
+ * 알림을 DB 에서 다시 보내 준다. 놓친 알림이 너무 많으면 {@code resync} 이벤트로 목록을 새로 조회하도록 알린다.
+ */
+@Slf4j
+@Service
+public class NotificationSseService {
+
+    static final String EVENT_NOTIFICATION = "notification";
+    static final String EVENT_UNREAD_COUNT = "unread-count";
+    static final String EVENT_RESYNC = "resync";
+    private static final String EVENT_ID_DELIMITER = "_";
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+    private final NotificationRenderer notificationRenderer;
+    private final NotificationInboxCache notificationInboxCache;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final int resumeLimit;
+
+    private final Map<UUID, List<NotificationSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService senderExecutor;
+    private final Counter overflowCounter;
+
+    public NotificationSseService(NotificationRepository notificationRepository,
+        NotificationReadWatermarkRepository notificationReadWatermarkRepository,
+        NotificationRenderer notificationRenderer,
+        NotificationInboxCache notificationInboxCache,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.notification.sse.timeout-ms:1800000}") long timeoutMs,
+        @Value("${deokhugam.notification.sse.buffer-size:100}") int bufferSize,
+        @Value("${deokhugam.notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+        @Value("${deokhugam.notification.sse.resume-limit:100}") int resumeLimit,
+        @Value("${deokhugam.notification.sse.sender-threads:4}") int senderThreads) {
+        this.notificationRepository = notificationRepository;
+        this.notificationReadWatermarkRepository = notificationReadWatermarkRepository;
+        this.notificationRenderer = notificationRenderer;
+        this.notificationInboxCache = notificationInboxCache;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.resumeLimit = resumeLimit;
+        // 연결마다 예약되는 전송 작업은 최대 하나라 작업 큐는 연결 수를 넘지 않는다.
+        this.senderExecutor = Executors.newFixedThreadPool(senderThreads,
+            new CustomizableThreadFactory("notification-sse-"));
+
+        Gauge.builder("deokhugam.notification.sse.connections", connections, AtomicInteger::get)
+            .description("열려 있는 알림 SSE 연결 수")
+            .register(meterRegistry);
+        this.overflowCounter = Counter.builder("deokhugam.notification.sse.overflow")
+            .description("버퍼가 가득 차 끊은 SSE 연결 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 놓친 알림을 읽어 DTO 로 바꾸는 동안 영속성 컨텍스트가 필요하므로 읽기 전용 트랜잭션으로 실행한다.
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        NotificationSubscriber subscriber = new NotificationSubscriber(userId, emitter, bufferSize);
+
+        List<NotificationSubscriber> userSubscribers = subscribers.compute(userId, (id, list) -> {
+            List<NotificationSubscriber> result = list != null ? list : new CopyOnWriteArrayList<>();
+            result.add(subscriber);
+            return result;
+        });
+        connections.incrementAndGet();
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        // 사용자당 연결 수를 넘으면 가장 오래된 연결부터 닫는다.
+        int overflow = userSubscribers.size() - maxConnectionsPerUser;
+        for (int i = 0; i < overflow; i++) {
+            NotificationSubscriber oldest = userSubscribers.get(0);
+            oldest.close();
+            unregister(oldest);
+        }
+
+        log.info("[NotificationSse] 구독 시작 - userId: {}, lastEventId: {}", userId, lastEventId);
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            resume(subscriber, lastEventId);
+        }
+        enqueue(subscriber, unreadCountEvent(userId));
+        return emitter;
+    }
+
+    /**
+     * 새로 생성되거나 묶음으로 갱신된 알림을 구독 중인 수신자에게 보낸다. 트랜잭션 안이면 커밋 후에 전송한다.
+     */
+    public void publish(Collection<NotificationDto> notifications) {
+        Map<UUID, List<NotificationDto>> byUser = notifications.stream()
+            .filter(notification -> subscribers.containsKey(notification.userId()))
+            .collect(Collectors.groupingBy(NotificationDto::userId));
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        AfterCommit.run(() -> byUser.forEach((userId, userNotifications) -> {
+            List<Supplier<SseEventBuilder>> events = userNotifications.stream()
+                .map(this::notificationEvent)
+                .collect(Collectors.toList());
+            events.add(unreadCountEvent(userId));
+            broadcast(userId, events);
+        }));
+    }
+
+    /**
+     * 읽음 처리처럼 안 읽은 알림 수가 바뀌었을 때 호출한다. 트랜잭션 안이면 커밋 후에 전송한다.
+     */
+    public void publishUnreadCount(UUID userId) {
+        if (userId == null || !subscribers.containsKey(userId)) {
+            return;
+        }
+        AfterCommit.run(() -> broadcast(userId, List.of(unreadCountEvent(userId))));
+    }
+
+    @Scheduled(fixedDelayString = "${deokhugam.notification.sse.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach((userId, list) ->
+            list.forEach(subscriber -> enqueue(subscriber,
+                () -> SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(NotificationSubscriber::close));
+        senderExecutor.shutdown();
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    private void resume(NotificationSubscriber subscriber, String lastEventId) {
+        int separator = lastEventId.lastIndexOf(EVENT_ID_DELIMITER);
+        Instant createdAt;
+        UUID cursor;
+        try {
+            createdAt = Instant.parse(lastEventId.substring(0, separator));
+            cursor = UUID.fromString(lastEventId.substring(separator + 1));
+        } catch (DateTimeParseException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("[NotificationSse] 잘못된 Last-Event-ID - userId: {}, lastEventId: {}",
+                subscriber.getUserId(), lastEventId);
+            enqueue(subscriber, () -> SseEmitter.event().name(EVENT_RESYNC).data(""));
+            return;
+        }
+
+        List<Notification> missed = notificationRepository.findByUserIdAfterCursor(
+            subscriber.getUserId(), createdAt, cursor, resumeLimit + 1);
+        if (missed.size() > resumeLimit) {
+            enqueue(subscriber, () -> SseEmitter.event().name(EVENT_RESYNC).data(""));
+            return;
+        }
+        // 목록 조회와 같이 모두 읽음 기준 시각 이전 알림은 읽음으로 보낸다.
+        NotificationReadWatermark watermark = missed.isEmpty()
+            ? null
+            : notificationReadWatermarkRepository.findById(subscriber.getUserId()).orElse(null);
+        notificationRenderer.toDtos(missed, watermark)
+            .forEach(notification -> enqueue(subscriber, notificationEvent(notification)));
+    }
+
+    private void broadcast(UUID userId, List<Supplier<SseEventBuilder>> events) {
+        List<NotificationSubscriber> list = subscribers.get(userId);
+        if (list == null) {
+            return;
+        }
+        for (NotificationSubscriber subscriber : list) {
+            for (Supplier<SseEventBuilder> event : events) {
+                if (!enqueue(subscriber, event)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean enqueue(NotificationSubscriber subscriber,
+        Supplier<SseEventBuilder> event) {
+        if (!subscriber.offer(event)) {
+            if (!subscriber.isClosed()) {
+                overflowCounter.increment();
+                log.warn("[NotificationSse] 전송 버퍼 초과로 연결 종료 - userId: {}",
+                    subscriber.getUserId());
+                subscriber.close();
+            }
+            return false;
+        }
+        if (subscriber.tryStartDrain()) {
+            senderExecutor.execute(subscriber::drain);
+        }
+        return true;
+    }
+
+    private void unregister(NotificationSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.getUserId(), (id, list) -> {
+            if (list.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private Supplier<SseEventBuilder> notificationEvent(NotificationDto notification) {
+        String eventId = notification.createdAt() + EVENT_ID_DELIMITER + notification.id();
+        return () -> SseEmitter.event()
+            .id(eventId)
+            .name(EVENT_NOTIFICATION)
+            .data(notification);
+    }
+
+    private Supplier<SseEventBuilder> unreadCountEvent(UUID userId) {
+        Map<String, Long> data = Map.of("unreadCount",
+            notificationInboxCache.getUnreadCount(userId));
+        return () -> SseEmitter.event()
+            .name(EVENT_UNREAD_COUNT)
+            .data(data);
+    }
+}
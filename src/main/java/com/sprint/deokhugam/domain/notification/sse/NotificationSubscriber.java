@@ -0,0 +1,85 @@
+package com.sprint.deokhugam.domain.notification.sse;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * SSE 연결 하나 - 보낼 이벤트를 크기가 정해진 버퍼에 담고, 한 번에 한 스레드만 버퍼를 비우며 전송한다.
+ * <p>
+ * {@link SseEventBuilder} 는 전송할 때 내부 상태가 바뀌어 여러 연결이 공유할 수 없으므로, 버퍼에는 전송 시점에 이벤트를 만드는 함수를 담는다.
+ * <p>
+ * 느린 클라이언트 때문에 버퍼가 가득 차면 이벤트를 버리지 않고 연결을 닫는다. 클라이언트는 Last-Event-ID 로 재연결해 놓친 알림을 DB 에서
+ * 다시 받는다.
+ */
+final class NotificationSubscriber {
+
+    @Getter
+    private final UUID userId;
+    @Getter
+    private final SseEmitter emitter;
+    private final BlockingQueue<Supplier<SseEventBuilder>> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    NotificationSubscriber(UUID userId, SseEmitter emitter, int bufferSize) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * @return 버퍼가 가득 찼거나 이미 닫힌 연결이면 false
+     */
+    boolean offer(Supplier<SseEventBuilder> event) {
+        return !closed.get() && buffer.offer(event);
+    }
+
+    /**
+     * 버퍼를 비우는 스레드가 없을 때만 true 를 반환해, 연결마다 전송 작업이 최대 하나만 예약되도록 한다.
+     */
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void drain() {
+        while (true) {
+            Supplier<SseEventBuilder> event = buffer.poll();
+            if (event == null) {
+                draining.set(false);
+                // 플래그를 내린 직후 들어온 이벤트가 있으면 다시 이어서 전송한다.
+                if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (closed.get()) {
+                buffer.clear();
+                draining.set(false);
+                return;
+            }
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException e) {
+                close();
+            }
+        }
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            emitter.complete();
+        }
+    }
+}
@@ -66,7 +66,8 @@ public class PopularBookRepositoryCustomImpl implements PopularBookRepositoryCus
                 pb.book.id,
                 pb.book.title,
                 pb.book.author,
-                pb.book.thumbnailUrl,
+                // 목록용 썸네일 변형이 있으면 가장 작은 변형 key
+                b.thumbnailSmallKey.coalesce(b.thumbnailMediumKey, b.thumbnailUrl),
                 pb.period,
                 pb.rank,
                 pb.score,
@@ -6,8 +6,9 @@ import com.sprint.deokhugam.domain.popularbook.exception.InvalidSortDirectionExc
 import com.sprint.deokhugam.domain.popularbook.repository.PopularBookRepository;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +22,7 @@ public class PopularBookServiceImpl implements PopularBookService {
 
     private static final Set<String> VALID_SORT_DIRECTION = Set.of("ASC", "DESC");
     private final PopularBookRepository popularBookRepository;
-    private final S3Storage s3Storage;
+    private final FileStorage fileStorage;
 
     /**
      * 요청된 기간과 정렬 기준에 따라 인기 도서 목록을 조회합니다.
@@ -65,11 +66,14 @@ public class PopularBookServiceImpl implements PopularBookService {
             nextAfter = null;
         }
 
+        // 페이지의 썸네일을 한 번에 서명한다.
+        Map<String, String> thumbnailUrls = fileStorage.presignAll(popularBooks.stream()
+            .map(PopularBookDto::getThumbnailUrl)
+            .toList());
         List<PopularBookDto> popularBookDtos = popularBooks.stream()
             .peek(dto -> {
                 if (dto.getThumbnailUrl() != null) {
-                    String thumbnailUrl = s3Storage.generatePresignedUrl(dto.getThumbnailUrl());
-                    dto.updateThumbnailUrl(thumbnailUrl);
+                    dto.updateThumbnailUrl(thumbnailUrls.get(dto.getThumbnailUrl()));
                 }
             })
             .toList();
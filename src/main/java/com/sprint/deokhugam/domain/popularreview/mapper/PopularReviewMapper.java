@@ -1,28 +1,33 @@
 package com.sprint.deokhugam.domain.popularreview.mapper;
 
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariant;
 import com.sprint.deokhugam.domain.popularreview.dto.data.PopularReviewDto;
 import com.sprint.deokhugam.domain.popularreview.entity.PopularReview;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import java.util.Map;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = ThumbnailVariant.class)
 public interface PopularReviewMapper {
 
     @Mapping(target = "reviewId", source = "review.id")
     @Mapping(target = "bookId", source = "review.book.id")
     @Mapping(target = "bookTitle", source = "review.book.title")
-    @Mapping(target = "bookThumbnailUrl", expression = "java(generateThumbnailUrl(popularReview.getReview().getBook().getThumbnailUrl(), s3Storage))")
+    @Mapping(target = "bookThumbnailUrl", expression = "java(thumbnailUrl(popularReview.getReview().getBook().getThumbnailKey(ThumbnailVariant.SMALL), thumbnailUrls))")
     @Mapping(target = "userId", source = "review.user.id")
     @Mapping(target = "userNickname", source = "review.user.nickname")
     @Mapping(target = "reviewContent", source = "review.content")
     @Mapping(target = "reviewRating", source = "review.rating")
-    PopularReviewDto toDto(PopularReview popularReview, @Context S3Storage s3Storage);
+    PopularReviewDto toDto(PopularReview popularReview,
+        @Context Map<String, String> thumbnailUrls);
 
-    default String generateThumbnailUrl(String thumbnailKey, S3Storage s3Storage) {
+    /**
+     * 페이지 단위로 presignAll 한 결과에서 썸네일 url 을 꺼낸다.
+     */
+    default String thumbnailUrl(String thumbnailKey, Map<String, String> thumbnailUrls) {
         if (thumbnailKey != null && !thumbnailKey.isBlank()) {
-            return s3Storage.generatePresignedUrl(thumbnailKey);
+            return thumbnailUrls.get(thumbnailKey);
         }
         return null;
     }
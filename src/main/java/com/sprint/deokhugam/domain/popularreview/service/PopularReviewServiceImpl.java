@@ -1,5 +1,6 @@
 package com.sprint.deokhugam.domain.popularreview.service;
 
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariant;
 import com.sprint.deokhugam.domain.popularreview.dto.data.PopularReviewDto;
 import com.sprint.deokhugam.domain.popularreview.dto.data.ReviewScoreDto;
 import com.sprint.deokhugam.domain.popularreview.entity.PopularReview;
@@ -10,7 +11,7 @@ import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import com.sprint.deokhugam.global.exception.BatchAlreadyRunException;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -34,7 +35,7 @@ public class PopularReviewServiceImpl implements PopularReviewService {
 
     private final PopularReviewRepository popularReviewRepository;
     private final ReviewRepository reviewRepository;
-    private final S3Storage s3Storage;
+    private final FileStorage fileStorage;
     private final PopularReviewMapper popularReviewMapper;
 
     @Override
@@ -59,8 +60,12 @@ public class PopularReviewServiceImpl implements PopularReviewService {
             entities = entities.subList(0, limit);
         }
 
+        // 페이지의 썸네일을 한 번에 서명하고 매핑에서는 그 결과를 쓴다.
+        Map<String, String> thumbnailUrls = fileStorage.presignAll(entities.stream()
+            .map(entity -> entity.getReview().getBook().getThumbnailKey(ThumbnailVariant.SMALL))
+            .toList());
         List<PopularReviewDto> dtos = entities.stream()
-            .map(entity -> popularReviewMapper.toDto(entity, s3Storage))
+            .map(entity -> popularReviewMapper.toDto(entity, thumbnailUrls))
             .toList();
 
         // 커서 생성
@@ -157,6 +157,7 @@ public class PowerUserRepositoryImpl implements PowerUserRepositoryCustom {
     public List<PowerUser> findTopPowerUsersNByPeriod(PeriodType period, int limit) {
         return queryFactory
             .selectFrom(powerUser)
+            .join(powerUser.user).fetchJoin()
             .where(powerUser.period.eq(period))
             .orderBy(powerUser.rank.asc()) // 순위 오름차순 ( 1등, 2등, 3등... )
             .limit(limit)
@@ -225,8 +226,10 @@ public class PowerUserRepositoryImpl implements PowerUserRepositoryCustom {
             }
         }
 
+        // 응답에 닉네임을 쓰므로 사용자를 함께 읽는다.
         return queryFactory
             .selectFrom(powerUser)
+            .join(powerUser.user).fetchJoin()
             .where(whereClause)
             .orderBy(orderSpecifier, powerUser.createdAt.desc())
             .limit(limit)
@@ -4,6 +4,8 @@ import com.sprint.deokhugam.domain.popularbook.exception.InvalidSortDirectionExc
 import com.sprint.deokhugam.domain.poweruser.dto.PowerUserDto;
 import com.sprint.deokhugam.domain.poweruser.entity.PowerUser;
 import com.sprint.deokhugam.domain.poweruser.repository.PowerUserRepository;
+import com.sprint.deokhugam.global.count.CountScope;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import java.util.Comparator;
@@ -22,6 +24,7 @@ public class PowerUserService {
     public static final double LIKE_COUNT_WEIGHT = 0.2;
     public static final double COMMENT_COUNT_WEIGHT = 0.3;
     private final PowerUserRepository powerUserRepository;
+    private final TotalCountService totalCountService;
 
     /**
      * 활동 점수 계산 - 인기 리뷰 점수를 실제로 반영
@@ -62,6 +65,7 @@ public class PowerUserService {
 
         log.info("PowerUser 저장 시작 - {} 건", sortedUsers.size());
         powerUserRepository.saveAll(sortedUsers);
+        totalCountService.invalidate(CountScope.POWER_USER);
         log.info("PowerUser 저장 완료 - {} 건", sortedUsers.size());
     }
 
@@ -87,6 +91,7 @@ public class PowerUserService {
 
         log.info("{} PowerUser 새 데이터 저장 시작 - {} 건", period, sortedUsers.size());
         powerUserRepository.saveAll(sortedUsers);
+        totalCountService.invalidate(CountScope.POWER_USER, TotalCountService.filter(period));
         log.info("{} PowerUser 새 데이터 저장 완료 - {} 건", period, sortedUsers.size());
     }
 
@@ -128,6 +133,7 @@ public class PowerUserService {
     /**
      * 기간별 파워 유저 조회 ( 상위 limit 명 )
      */
+    @Transactional(readOnly = true)
     public List<PowerUser> getPowerUsersByPeriod(PeriodType period, int limit) {
         validateGetPowerUserInput(limit, "DESC", period);
         return powerUserRepository.findTopPowerUsersNByPeriod(period, limit);
@@ -136,8 +142,10 @@ public class PowerUserService {
     /**
      * 커서 기반 파워유저 조회
      */
+    @Transactional(readOnly = true)
     public CursorPageResponse<PowerUserDto> getPowerUsersWithCursor(
-        PeriodType period, String direction, int size, String cursor, String after) {
+        PeriodType period, String direction, int size, String cursor, String after,
+        boolean includeTotal) {
 
         validateGetPowerUserInput(size, direction, period);
 
@@ -148,7 +156,9 @@ public class PowerUserService {
             .map(this::convertToDto)
             .toList();
 
-        long totalElements = powerUserRepository.countByPeriod(period);
+        Long totalElements = totalCountService.count(CountScope.POWER_USER,
+            TotalCountService.filter(period), includeTotal,
+            () -> powerUserRepository.countByPeriod(period));
         boolean hasNext = powerUsers.size() == size;
 
         String nextCursor = hasNext && !powerUsers.isEmpty()
@@ -7,10 +7,13 @@ import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewCreateRequest;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewUpdateRequest;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.review.search.ReviewSearchResult;
 import com.sprint.deokhugam.domain.review.service.ReviewService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/reviews")
 public class ReviewController implements ReviewApi {
 
+    private static final String SEARCH_PLAN_HEADER = "Deokhugam-Search-Plan";
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
     private final ReviewService reviewService;
     private final PopularReviewService popularReviewService;
 
@@ -35,12 +41,25 @@ public class ReviewController implements ReviewApi {
         ReviewGetRequest reviewGetRequest, UUID requestUserId) {
         log.info("[ReviewController] 리뷰 조회 : reviewGetRequest: {}, requestUserId:{}",
             reviewGetRequest.toString(), requestUserId);
-        CursorPageResponse<ReviewDto> cursorReviewDtoList = this.reviewService.findAll(
-            reviewGetRequest, requestUserId);
-
-        return ResponseEntity
-            .status(HttpStatus.OK)
-            .body(cursorReviewDtoList);
+        long start = System.nanoTime();
+        ReviewSearchResult result = this.reviewService.findAll(reviewGetRequest, requestUserId);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        ReviewKeywordMatch match = result.keywordMatch();
+        if (match != null) {
+            // 키워드 검색 방식과 소요 시간을 요청마다 응답 헤더로 알린다.
+            double totalMillis = (System.nanoTime() - start) / 1_000_000.0;
+            double matchMillis = match.elapsed().toNanos() / 1_000_000.0;
+            log.info("[ReviewController] 리뷰 키워드 검색 - plan: {}, 키워드 매칭: {}ms, 전체: {}ms",
+                match.plan().tag(), String.format(Locale.ROOT, "%.1f", matchMillis),
+                String.format(Locale.ROOT, "%.1f", totalMillis));
+            response.header(SEARCH_PLAN_HEADER, match.plan().tag())
+                .header(SERVER_TIMING_HEADER, String.format(Locale.ROOT,
+                    "keyword-match;desc=\"%s\";dur=%.1f, review-search;dur=%.1f",
+                    match.plan().tag(), matchMillis, totalMillis));
+        }
+
+        return response.body(result.page());
     }
 
     public ResponseEntity<ReviewDto> createReview(ReviewCreateRequest request) {
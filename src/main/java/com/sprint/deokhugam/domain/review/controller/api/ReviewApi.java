@@ -70,7 +70,8 @@ public interface ReviewApi {
                 - **direction**: 정렬 방향 (ASC, DESC, 기본값: ASC)<br>
                 - **cursor**: 커서 페이지네이션을 위한 커서<br>
                 - **after**: createdAt 기준 보조 커서<br>
-                - **limit**: 페이지 크기 (기본값: 50)
+                - **limit**: 페이지 크기 (기본값: 50)<br>
+                - **includeTotal**: totalElements 포함 여부 (기본값: true, false 면 null)
                 """
         )
         @ModelAttribute @Valid ReviewGetRequest reviewGetRequest,
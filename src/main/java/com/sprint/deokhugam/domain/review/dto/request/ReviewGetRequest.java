@@ -13,7 +13,8 @@ public record ReviewGetRequest(
     @Positive
     Integer limit, // 페이지 크기 , default:50
     String orderBy, // 정렬 기준(createdAt | rating)
-    String direction  // 정렬 방향( DESC | ASC )
+    String direction, // 정렬 방향( DESC | ASC )
+    Boolean includeTotal // totalElements 포함 여부, default:true
 ) {
 
     public ReviewGetRequest {
@@ -26,10 +27,13 @@ public record ReviewGetRequest(
         if (direction == null) {
             direction = "ASC";
         }
+        if (includeTotal == null) {
+            includeTotal = true;
+        }
     }
 
     public ReviewGetRequest withLimit(Integer newLimit) {
         return new ReviewGetRequest(this.userId, this.bookId, this.keyword, this.cursor, this.after,
-            newLimit, this.orderBy, this.direction);
+            newLimit, this.orderBy, this.direction, this.includeTotal);
     }
 }
@@ -38,10 +38,11 @@ public class Review extends BaseUpdatableEntity {
     @Column(name = "content", nullable = false)
     private String content = "";
 
-    @Column(name = "like_count")
+    // 카운터는 CounterService 의 증분 UPDATE 로만 갱신 - 엔티티 flush 가 오래된 값으로 덮어쓰지 않도록 제외
+    @Column(name = "like_count", updatable = false)
     private Long likeCount = 0L;
 
-    @Column(name = "comment_count")
+    @Column(name = "comment_count", updatable = false)
     private Long commentCount = 0L;
 
     @Column(name = "is_deleted", nullable = false)
@@ -76,26 +77,6 @@ public class Review extends BaseUpdatableEntity {
         this.rating = newRating;
     }
 
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
-
     public void softDelete() {
         this.isDeleted = true;
     }
@@ -1,7 +1,9 @@
 package com.sprint.deokhugam.domain.review.repository;
 
+import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
 import java.util.List;
 import org.springframework.stereotype.Repository;
 
@@ -10,5 +12,7 @@ public interface CustomReviewRepository {
 
     List<Review> findAll(ReviewGetRequest params);
 
-    Long countAllByFilterCondition(ReviewGetRequest params);
+    List<ReviewDto> findAllAsDto(ReviewGetRequest params, ReviewKeywordMatch keywordMatch);
+
+    Long countAllByFilterCondition(ReviewGetRequest params, ReviewKeywordMatch keywordMatch);
 }
@@ -2,10 +2,17 @@ package com.sprint.deokhugam.domain.review.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sprint.deokhugam.domain.book.entity.QBook;
+import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.entity.QReview;
 import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.user.entity.QUser;
 import com.sprint.deokhugam.global.exception.InvalidTypeException;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
@@ -28,80 +35,139 @@ public class CustomReviewRepositoryImpl implements CustomReviewRepository {
 
     public List<Review> findAll(ReviewGetRequest params) {
         QReview review = QReview.review;
-        String direction = params.direction();
-        String orderBy = params.orderBy();
-
-        BooleanBuilder whereCondition = new BooleanBuilder();
-        BooleanBuilder cursorCondition = new BooleanBuilder();
-
-        // 논리 삭제된 책의 리뷰는 가져오지 않음
-        whereCondition.and(review.book.isDeleted.eq(false));
-
-        if (params.userId() != null || params.bookId() != null
-            || params.keyword() != null) {
-            whereCondition.and(filterByIdAndKeyword(review, params));
-        }
-        //Q. after만 오는 경우는 의미없음
-        boolean isCursorExisted = params.cursor() != null;
-        if (isCursorExisted) {
-            cursorCondition =
-                orderBy.equals(ORDER_BY_CREATED_AT) ? filterByCreatedAt(review, params)
-                    : filterByRating(review, params);
-        }
 
         return queryFactory
             .selectFrom(review)
-            .where(whereCondition, cursorCondition)
-            .orderBy(getOrderSpecifiers(review, orderBy, direction))
+            .where(buildWhereCondition(review.book, review.user, params, null),
+                buildCursorCondition(review, params))
+            .orderBy(getOrderSpecifiers(review, params.orderBy(), params.direction()))
             .limit(params.limit())
             .fetch();
     }
 
-    public Long countAllByFilterCondition(ReviewGetRequest params) {
+    /**
+     * 리뷰 목록 조회(읽기 전용) - ReviewDto에 필요한 컬럼만 book, user 조인 한 번으로 조회한다.
+     * <p>
+     * 엔티티를 로딩하지 않으므로 book, user 지연 로딩이 발생하지 않는다. bookThumbnailUrl에는 스토리지 key가 담기며,
+     * presigned url 변환과 likedByMe 계산은 서비스에서 수행한다. 썸네일은 목록용 변형이 있으면 가장 작은 변형 key 를 쓴다.
+     */
+    @Override
+    public List<ReviewDto> findAllAsDto(ReviewGetRequest params,
+        ReviewKeywordMatch keywordMatch) {
         QReview review = QReview.review;
+        QBook book = QBook.book;
+        QUser user = QUser.user;
+        StringExpression thumbnailKey = book.thumbnailSmallKey
+            .coalesce(book.thumbnailMediumKey, book.thumbnailUrl);
 
-        BooleanBuilder whereCondition = new BooleanBuilder();
-
-        // 논리 삭제된 책의 리뷰는 가져오지 않음
-        whereCondition.and(review.book.isDeleted.eq(false));
+        return queryFactory
+            .select(review.id, book.id, book.title, thumbnailKey, user.id, user.nickname,
+                review.content, review.rating, review.likeCount, review.commentCount,
+                review.createdAt, review.updatedAt)
+            .from(review)
+            .join(review.book, book)
+            .join(review.user, user)
+            .where(buildWhereCondition(book, user, params, keywordMatch),
+                buildCursorCondition(review, params))
+            .orderBy(getOrderSpecifiers(review, params.orderBy(), params.direction()))
+            .limit(params.limit())
+            .fetch()
+            .stream()
+            .map(tuple -> ReviewDto.builder()
+                .id(tuple.get(review.id))
+                .bookId(tuple.get(book.id))
+                .bookTitle(tuple.get(book.title))
+                .bookThumbnailUrl(tuple.get(thumbnailKey))
+                .userId(tuple.get(user.id))
+                .userNickname(tuple.get(user.nickname))
+                .content(tuple.get(review.content))
+                .rating(tuple.get(review.rating))
+                .likeCount(tuple.get(review.likeCount))
+                .commentCount(tuple.get(review.commentCount))
+                .createdAt(tuple.get(review.createdAt))
+                .updatedAt(tuple.get(review.updatedAt))
+                .build())
+            .toList();
+    }
 
-        if (params.userId() != null || params.bookId() != null || params.keyword() != null) {
-            whereCondition.and(filterByIdAndKeyword(review, params));
-        }
+    @Override
+    public Long countAllByFilterCondition(ReviewGetRequest params,
+        ReviewKeywordMatch keywordMatch) {
+        QReview review = QReview.review;
 
         return queryFactory
             .select(review.count())
             .from(review)
-            .where(whereCondition)
+            .where(buildWhereCondition(review.book, review.user, params, keywordMatch))
             .fetchOne();
 
     }
 
-    private BooleanBuilder filterByIdAndKeyword(QReview review, ReviewGetRequest params) {
+    private BooleanBuilder buildWhereCondition(QBook book, QUser user, ReviewGetRequest params,
+        ReviewKeywordMatch keywordMatch) {
+        BooleanBuilder whereCondition = new BooleanBuilder();
+
+        // 논리 삭제된 책의 리뷰는 가져오지 않음
+        whereCondition.and(book.isDeleted.eq(false));
+
+        if (params.userId() != null || params.bookId() != null
+            || params.keyword() != null) {
+            whereCondition.and(filterByIdAndKeyword(book, user, params, keywordMatch));
+        }
+        return whereCondition;
+    }
+
+    private BooleanBuilder buildCursorCondition(QReview review, ReviewGetRequest params) {
+        //Q. after만 오는 경우는 의미없음
+        if (params.cursor() == null) {
+            return new BooleanBuilder();
+        }
+        return params.orderBy().equals(ORDER_BY_CREATED_AT) ? filterByCreatedAt(review, params)
+            : filterByRating(review, params);
+    }
+
+    private BooleanBuilder filterByIdAndKeyword(QBook book, QUser user,
+        ReviewGetRequest params, ReviewKeywordMatch keywordMatch) {
         BooleanBuilder whereCondition = new BooleanBuilder();
         String keyword = params.keyword();
         UUID userId = params.userId();
         UUID bookId = params.bookId();
 
         if (userId != null) {
-            whereCondition.and(review.user.id.eq(userId));
+            whereCondition.and(user.id.eq(userId));
         }
         if (bookId != null) {
-            whereCondition.and(review.book.id.eq(bookId));
+            whereCondition.and(book.id.eq(bookId));
         }
         /* keyword 조건 */
         if (keyword != null) {
-            whereCondition.and(
-                review.user.nickname.containsIgnoreCase(keyword)
-                    .or(review.book.title.containsIgnoreCase(keyword)
-                        .or(review.book.description.containsIgnoreCase(keyword)))
-            );
-
+            whereCondition.and(keywordCondition(book, user, keyword, keywordMatch));
         }
 
         return whereCondition;
     }
 
+    /**
+     * 서비스가 키워드에 해당하는 도서/작성자 id 를 미리 찾아 넘겼으면 id 로 거르고, 아니면 조인한 컬럼에 LIKE 를 건다.
+     */
+    private Predicate keywordCondition(QBook book, QUser user, String keyword,
+        ReviewKeywordMatch match) {
+        if (match == null || !match.resolved() || !keyword.equals(match.keyword())) {
+            return user.nickname.containsIgnoreCase(keyword)
+                .or(book.title.containsIgnoreCase(keyword)
+                    .or(book.description.containsIgnoreCase(keyword)));
+        }
+
+        BooleanBuilder matched = new BooleanBuilder();
+        if (!match.bookIds().isEmpty()) {
+            matched.or(book.id.in(match.bookIds()));
+        }
+        if (!match.userIds().isEmpty()) {
+            matched.or(user.id.in(match.userIds()));
+        }
+        return matched.hasValue() ? matched : Expressions.FALSE.isTrue();
+    }
+
     private BooleanBuilder filterByCreatedAt(QReview review, ReviewGetRequest params) {
         try {
             BooleanBuilder whereCondition = new BooleanBuilder();
@@ -1,6 +1,5 @@
 package com.sprint.deokhugam.domain.review.repository;
 
-import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import java.util.Collection;
 import java.util.List;
@@ -21,9 +20,6 @@ public interface ReviewRepository extends JpaRepository<Review, UUID>, CustomRev
     @Query(value = "SELECT * FROM reviews WHERE id = :id AND is_deleted = true", nativeQuery = true)
     Optional<Review> findDeletedById(@Param("id") UUID reviewId);
 
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.book = :book")
-    Double findAverageRatingByBook(@Param("book") Book book);
-
     List<Review> findAllByIdInAndIsDeletedFalse(Collection<UUID> ids);
 
     /* 배치에서 사용 */
@@ -0,0 +1,45 @@
+package com.sprint.deokhugam.domain.review.search;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 리뷰 키워드에 해당하는 도서/작성자를 찾은 결과.
+ *
+ * @param keyword 검색 키워드
+ * @param plan    키워드를 찾은 방식
+ * @param bookIds 제목/설명이 키워드에 해당하는 도서 id (plan 이 LIKE 이면 null)
+ * @param userIds 닉네임이 키워드를 포함하는 사용자 id (plan 이 LIKE 이면 null)
+ * @param elapsed 도서/작성자를 찾는 데 걸린 시간
+ */
+public record ReviewKeywordMatch(
+    String keyword,
+    Plan plan,
+    Set<UUID> bookIds,
+    Set<UUID> userIds,
+    Duration elapsed
+) {
+
+    public static ReviewKeywordMatch like(String keyword, Duration elapsed) {
+        return new ReviewKeywordMatch(keyword, Plan.LIKE, null, null, elapsed);
+    }
+
+    public boolean resolved() {
+        return plan != Plan.LIKE;
+    }
+
+    public enum Plan {
+        // books.search_vector 단어 앞부분 일치 (PostgreSQL)
+        FULLTEXT,
+        // lower(...) LIKE 부분 문자열 일치 + pg_trgm 인덱스 (PostgreSQL)
+        TRIGRAM,
+        // 리뷰 조회 쿼리에서 조인 후 LIKE (H2, 짧은 키워드, 결과 과다)
+        LIKE;
+
+        public String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
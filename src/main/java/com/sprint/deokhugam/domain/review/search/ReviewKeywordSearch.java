@@ -0,0 +1,138 @@
+package com.sprint.deokhugam.domain.review.search;
+
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch.Plan;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 목록의 키워드 조건(작성자 닉네임, 도서 제목/설명)에 해당하는 도서와 작성자를 먼저 찾는다.
+ * <p>
+ * 리뷰 조회 쿼리에서 세 컬럼을 OR 로 묶으면 books, users 를 조인한 뒤 전체를 훑어야 한다. PostgreSQL 에서는 테이블별로 인덱스를 타는
+ * 쿼리로 id 를 먼저 구하고, 리뷰 조회는 그 id 로 거른다. trigram 모드는 pg_trgm 인덱스로 기존과 같은 부분 문자열 검색을, fulltext
+ * 모드는 books.search_vector 로 단어 앞부분 검색을 한다. H2 이거나, 키워드가 trigram 을 만들 수 없을 만큼 짧거나, 찾은 id 가 너무
+ * 많으면 기존 LIKE 조건으로 처리한다.
+ * <p>
+ * 서비스가 요청마다 한 번 찾아 목록 조회와 총 개수 조회에 같은 결과를 넘기고, 컨트롤러는 그 결과로 방식과 소요 시간을 응답 헤더에
+ * 내보낸다.
+ */
+@Slf4j
+@Component
+public class ReviewKeywordSearch {
+
+    private static final String METRIC_NAME = "deokhugam.review.search.match";
+    // pg_trgm 은 세 글자 미만 패턴에서 인덱스 후보를 줄이지 못한다.
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+
+    private static final String TRIGRAM_BOOKS_SQL = """
+        SELECT id FROM books
+        WHERE is_deleted = false AND (lower(title) LIKE ? OR lower(description) LIKE ?)
+        LIMIT ?
+        """;
+    private static final String FULLTEXT_BOOKS_SQL = """
+        SELECT id FROM books
+        WHERE is_deleted = false AND search_vector @@ to_tsquery('simple', ?)
+        LIMIT ?
+        """;
+    private static final String USERS_SQL = "SELECT id FROM users WHERE lower(nickname) LIKE ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final MeterRegistry meterRegistry;
+    private final Plan mode;
+    private final int maxIds;
+
+    public ReviewKeywordSearch(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.review.search.mode:trigram}") String mode,
+        @Value("${deokhugam.review.search.max-ids:1000}") int maxIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.meterRegistry = meterRegistry;
+        this.mode = Plan.valueOf(mode.toUpperCase(Locale.ROOT));
+        this.maxIds = maxIds;
+    }
+
+    public ReviewKeywordMatch resolve(String keyword) {
+        long start = System.nanoTime();
+        ReviewKeywordMatch match = find(keyword);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        match = new ReviewKeywordMatch(keyword, match.plan(), match.bookIds(), match.userIds(),
+            elapsed);
+
+        Timer.builder(METRIC_NAME)
+            .description("리뷰 키워드에 해당하는 도서/작성자를 찾는 데 걸린 시간")
+            .tag("plan", match.plan().tag())
+            .register(meterRegistry)
+            .record(elapsed);
+        log.debug("[ReviewKeywordSearch] 키워드 검색 - keyword: {}, plan: {}, 도서: {}건, 작성자: {}건, 소요: {}ms",
+            keyword, match.plan().tag(), match.bookIds() != null ? match.bookIds().size() : null,
+            match.userIds() != null ? match.userIds().size() : null, elapsed.toMillis());
+        return match;
+    }
+
+    private ReviewKeywordMatch find(String keyword) {
+        if (mode == Plan.LIKE || keyword.isBlank() || !databaseDialect.isPostgres()) {
+            return ReviewKeywordMatch.like(keyword, Duration.ZERO);
+        }
+
+        String pattern = "%" + escapeLike(keyword.toLowerCase(Locale.ROOT)) + "%";
+        Set<UUID> bookIds;
+        if (mode == Plan.FULLTEXT) {
+            String query = prefixQuery(keyword);
+            if (query.isEmpty()) {
+                return ReviewKeywordMatch.like(keyword, Duration.ZERO);
+            }
+            bookIds = findIds(FULLTEXT_BOOKS_SQL, query, maxIds + 1);
+        } else {
+            if (keyword.strip().length() < MIN_TRIGRAM_LENGTH) {
+                return ReviewKeywordMatch.like(keyword, Duration.ZERO);
+            }
+            bookIds = findIds(TRIGRAM_BOOKS_SQL, pattern, pattern, maxIds + 1);
+        }
+        if (bookIds.size() > maxIds) {
+            return ReviewKeywordMatch.like(keyword, Duration.ZERO);
+        }
+
+        Set<UUID> userIds = findIds(USERS_SQL, pattern, maxIds + 1);
+        if (userIds.size() > maxIds) {
+            return ReviewKeywordMatch.like(keyword, Duration.ZERO);
+        }
+        return new ReviewKeywordMatch(keyword, mode, bookIds, userIds, Duration.ZERO);
+    }
+
+    private Set<UUID> findIds(String sql, Object... args) {
+        List<UUID> ids = jdbcTemplate.queryForList(sql, UUID.class, args);
+        return new HashSet<>(ids);
+    }
+
+    /**
+     * 공백으로 나눈 단어마다 앞부분 일치(:*)를 걸고 AND 로 묶는다. tsquery 연산자 문자는 버린다.
+     */
+    static String prefixQuery(String keyword) {
+        return Arrays.stream(keyword.toLowerCase(Locale.ROOT).split("\\s+"))
+            .map(word -> word.replaceAll("[&|!():*<>'\\\\]", ""))
+            .filter(word -> !word.isEmpty())
+            .map(word -> word + ":*")
+            .collect(Collectors.joining(" & "));
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+    }
+}
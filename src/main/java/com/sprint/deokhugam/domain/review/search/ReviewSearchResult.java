@@ -0,0 +1,17 @@
+package com.sprint.deokhugam.domain.review.search;
+
+import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
+import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+
+/**
+ * 리뷰 목록 조회 결과와, 키워드 검색이 있었다면 그 키워드를 찾은 방식과 소요 시간.
+ *
+ * @param page         응답 본문으로 내보낼 리뷰 목록
+ * @param keywordMatch 키워드에 해당하는 도서/작성자를 찾은 결과 (키워드가 없으면 null)
+ */
+public record ReviewSearchResult(
+    CursorPageResponse<ReviewDto> page,
+    ReviewKeywordMatch keywordMatch
+) {
+
+}
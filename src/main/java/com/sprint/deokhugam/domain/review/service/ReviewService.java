@@ -4,7 +4,7 @@ import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewCreateRequest;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewUpdateRequest;
-import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
+import com.sprint.deokhugam.domain.review.search.ReviewSearchResult;
 import java.util.UUID;
 
 public interface ReviewService {
@@ -13,7 +13,7 @@ public interface ReviewService {
 
     ReviewDto findById(UUID reviewId, UUID requestUserId);
 
-    CursorPageResponse<ReviewDto> findAll(ReviewGetRequest reviewGetRequest, UUID requestUserId);
+    ReviewSearchResult findAll(ReviewGetRequest reviewGetRequest, UUID requestUserId);
 
     void delete(UUID reviewId, UUID userId);
 
@@ -14,16 +14,23 @@ import com.sprint.deokhugam.domain.review.exception.ReviewNotSoftDeletedExceptio
 import com.sprint.deokhugam.domain.review.exception.ReviewUnauthorizedAccessException;
 import com.sprint.deokhugam.domain.review.mapper.ReviewMapper;
 import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordSearch;
+import com.sprint.deokhugam.domain.review.search.ReviewSearchResult;
 import com.sprint.deokhugam.domain.reviewlike.repository.ReviewLikeRepository;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
 import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.aop.QueryCounted;
+import com.sprint.deokhugam.global.count.CountScope;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.exception.InvalidTypeException;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -43,22 +50,30 @@ public class ReviewServiceImpl implements ReviewService {
     private final BookRepository bookRepository;
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewMapper reviewMapper;
-    private final S3Storage s3Storage;
+    private final FileStorage fileStorage;
+    private final TotalCountService totalCountService;
+    private final ReviewKeywordSearch reviewKeywordSearch;
 
     @Override
-    public CursorPageResponse<ReviewDto> findAll(ReviewGetRequest params, UUID requestUserId) {
+    @QueryCounted("review.findAll")
+    public ReviewSearchResult findAll(ReviewGetRequest params, UUID requestUserId) {
+        // 키워드에 해당하는 도서/작성자는 한 번만 찾아 목록 조회와 총 개수 조회에 같이 쓴다.
+        ReviewKeywordMatch keywordMatch = params.keyword() != null
+            ? reviewKeywordSearch.resolve(params.keyword()) : null;
         // 마지막 요소를 한개 더 가져온 후 다음 페이지 있는지 확인
         ReviewGetRequest paramsWithExtraLimit = params.withLimit(params.limit() + 1);
-        List<Review> reviewsWithNextCheck = reviewRepository.findAll(paramsWithExtraLimit);
+        // 엔티티 대신 ReviewDto 컬럼만 조인 조회 (book, user 지연 로딩 없음)
+        List<ReviewDto> reviewsWithNextCheck = reviewRepository.findAllAsDto(paramsWithExtraLimit,
+            keywordMatch);
 
         // 데이터 없으면 바로 return
         if (reviewsWithNextCheck == null || reviewsWithNextCheck.isEmpty()) {
-            return new CursorPageResponse<>(new ArrayList<>(),
+            return new ReviewSearchResult(new CursorPageResponse<>(new ArrayList<>(),
                 null, null, params.limit(),
-                0L, false);
+                0L, false), keywordMatch);
         }
 
-        List<Review> reviews = reviewsWithNextCheck;
+        List<ReviewDto> reviews = reviewsWithNextCheck;
 
         // hasNext 값 구하기 + limit값만큼만 데이터 전달
         boolean hasNext = false;
@@ -67,38 +82,49 @@ public class ReviewServiceImpl implements ReviewService {
             hasNext = true;
         }
 
-        Review lastReview = reviews.get(reviews.size() - 1);
+        ReviewDto lastReview = reviews.get(reviews.size() - 1);
         String nextCursor = calculateNextCursor(lastReview, params.orderBy());
-        String nextAfter = lastReview.getCreatedAt().toString();
-        Long totalElements = reviewRepository.countAllByFilterCondition(params);
+        String nextAfter = lastReview.createdAt().toString();
+        Long totalElements = totalCountService.count(CountScope.REVIEW,
+            TotalCountService.filter(params.userId(), params.bookId(), params.keyword()),
+            params.includeTotal(),
+            () -> reviewRepository.countAllByFilterCondition(params, keywordMatch));
 
-        List<ReviewDto> reviewDtoList = toDtoWithLikedByMe(reviews, requestUserId);
+        List<ReviewDto> reviewDtoList = withLikedByMe(reviews, requestUserId);
 
-        return new CursorPageResponse<>(reviewDtoList,
+        return new ReviewSearchResult(new CursorPageResponse<>(reviewDtoList,
             nextCursor, nextAfter, params.limit(),
-            totalElements, hasNext);
+            totalElements, hasNext), keywordMatch);
 
     }
 
     //(createdAt | rating 어떤값을 기준으로 order하는지에 따라 cursor 타입 달라짐)
-    private String calculateNextCursor(Review lastReview, String orderBy) {
+    private String calculateNextCursor(ReviewDto lastReview, String orderBy) {
         return switch (orderBy) {
-            case ORDER_BY_CREATED_AT -> lastReview.getCreatedAt().toString();
-            case ORDER_BY_RATING -> lastReview.getRating().toString();
+            case ORDER_BY_CREATED_AT -> lastReview.createdAt().toString();
+            case ORDER_BY_RATING -> lastReview.rating().toString();
             default -> throw new InvalidTypeException("review", Map.of("requestedType", orderBy));
         };
     }
 
-    // ReviewDto에 likeByMe값 동적 추가
-    private List<ReviewDto> toDtoWithLikedByMe(List<Review> reviews, UUID requestUserId) {
-        // TODO : likedByMe는 나중에 mapper 에서 처리하는게 좋을듯 -> 서비스 관련 로직이라 서비스에 냅둘것
+    // 프로젝션 결과에 썸네일 presigned url, likedByMe 값 추가 - 페이지당 좋아요 조회 쿼리 1회
+    private List<ReviewDto> withLikedByMe(List<ReviewDto> reviews, UUID requestUserId) {
+        Set<UUID> likedReviewIds = findLikedReviewIds(
+            reviews.stream().map(ReviewDto::id).toList(), requestUserId);
+        // 페이지의 썸네일을 한 번에 서명하고 그 결과로 key 를 url 로 바꾼다.
+        Map<String, String> thumbnailUrls = fileStorage.presignAll(
+            reviews.stream().map(ReviewDto::bookThumbnailUrl).toList());
+
+        return reviews.stream().map(review -> review.toBuilder()
+            .bookThumbnailUrl(review.bookThumbnailUrl() != null
+                ? thumbnailUrls.get(review.bookThumbnailUrl()) : null)
+            .likedByMe(likedReviewIds.contains(review.id()))
+            .build()
+        ).toList();
+    }
 
-        return reviews.stream().map((review -> {
-            ReviewDto reviewDto = reviewMapper.toDto(review, s3Storage);
-            boolean likedByMe = reviewLikeRepository.existsByReviewIdAndUserId(review.getId(),
-                requestUserId);
-            return reviewDto.toBuilder().likedByMe(likedByMe).build();
-        })).toList();
+    private Set<UUID> findLikedReviewIds(List<UUID> reviewIds, UUID requestUserId) {
+        return reviewLikeRepository.findLikedReviewIds(requestUserId, reviewIds);
     }
 
     @Transactional
@@ -117,22 +143,24 @@ public class ReviewServiceImpl implements ReviewService {
 
         Review review = new Review(rating, content, book, user);
         Review savedReview = reviewRepository.save(review);
-        book.increaseReviewCount();
-        updateBookRating(book);
+        applyBookRatingDelta(bookId, rating, 1);
+        totalCountService.invalidate(CountScope.REVIEW);
 
         log.info("[review] 생성 완료 - reviewId: {}, bookId: {}, userId: {}, rating: {}, content: {}",
             savedReview.getId(), bookId, userId, rating, content);
 
-        return reviewMapper.toDto(savedReview, s3Storage);
+        return reviewMapper.toDto(savedReview, fileStorage);
     }
 
     @Override
+    @QueryCounted("review.findById")
     public ReviewDto findById(UUID reviewId, UUID requestUserId) {
         log.info("[review] 조회 요청: id={}", reviewId);
         Review review = findByReviewId(reviewId);
-        ReviewDto reviewDto = reviewMapper.toDto(review, s3Storage);
+        ReviewDto reviewDto = reviewMapper.toDto(review, fileStorage);
 
-        boolean likedByMe = reviewLikeRepository.existsByReviewIdAndUserId(reviewId, requestUserId);
+        boolean likedByMe = findLikedReviewIds(List.of(reviewId), requestUserId)
+            .contains(reviewId);
         return reviewDto.toBuilder().likedByMe(likedByMe).build();
     }
 
@@ -144,8 +172,8 @@ public class ReviewServiceImpl implements ReviewService {
         validateAuthorizedUser(review, userId);
 
         review.softDelete();
-        review.getBook().decreaseReviewCount();
-        updateBookRating(review.getBook());
+        applyBookRatingDelta(review.getBook().getId(), -review.getRating(), -1);
+        totalCountService.invalidate(CountScope.REVIEW);
 
     }
 
@@ -171,21 +199,21 @@ public class ReviewServiceImpl implements ReviewService {
         validateAuthorizedUser(review, userId);
         log.info("[review] 수정 요청 - reviewId: {}, userId: {}", reviewId, userId);
 
+        int ratingDelta = request.rating() != null ? request.rating() - review.getRating() : 0;
         review.update(request.content(), request.rating());
         log.info("[review] 수정 완료 - reviewId: {}, userId: {}, newContent={}, newRating={}", reviewId,
             userId, request.content(), request.rating());
 
-        updateBookRating(review.getBook());
+        if (ratingDelta != 0) {
+            applyBookRatingDelta(review.getBook().getId(), ratingDelta, 0);
+        }
 
-        return reviewMapper.toDto(review, s3Storage);
+        return reviewMapper.toDto(review, fileStorage);
     }
 
-    private void updateBookRating(Book book) {
-        // 해당 도서의 모든 리뷰 평점 평균 계산
-        Double averageRating = reviewRepository.findAverageRatingByBook(book);
-
-        book.updateRating(averageRating != null ? averageRating : 0.0);
-        bookRepository.save(book);
+    private void applyBookRatingDelta(UUID bookId, int ratingDelta, int countDelta) {
+        // 전체 리뷰 AVG 재계산 대신 평점 합계/리뷰 수를 변화량만큼 SQL 에서 원자적으로 갱신 - O(1)
+        bookRepository.applyReviewRatingDelta(bookId, ratingDelta, countDelta);
     }
 
     // 검증 메서드
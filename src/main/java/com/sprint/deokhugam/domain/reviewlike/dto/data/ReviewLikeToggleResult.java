@@ -0,0 +1,17 @@
+package com.sprint.deokhugam.domain.reviewlike.dto.data;
+
+/**
+ * 좋아요 토글 결과
+ *
+ * @param liked 토글 후 좋아요 상태
+ * @param delta 좋아요 수 변화량 (생성 1, 취소 -1, 변화 없음 0)
+ */
+public record ReviewLikeToggleResult(
+    boolean liked,
+    int delta
+) {
+
+    public boolean changed() {
+        return delta != 0;
+    }
+}
@@ -5,6 +5,7 @@ import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.base.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -16,6 +17,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "review_likes", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"review_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_review_likes", columnList = "user_id, review_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
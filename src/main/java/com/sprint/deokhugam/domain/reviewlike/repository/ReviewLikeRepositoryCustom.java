@@ -1,10 +1,25 @@
 package com.sprint.deokhugam.domain.reviewlike.repository;
 
+import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeToggleResult;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ReviewLikeRepositoryCustom {
 
     Map<UUID, Long> countByReviewIdBetween(Instant start, Instant end);
+
+    /**
+     * 주어진 리뷰 중 사용자가 좋아요를 누른 리뷰 ID 목록 (review_id IN (...) 단일 쿼리)
+     */
+    Set<UUID> findLikedReviewIds(UUID userId, Collection<UUID> reviewIds);
+
+    /**
+     * 좋아요가 있으면 삭제하고 없으면 생성한다. (review_id, user_id) 유니크 제약으로 중복 생성을 막는다.
+     * <p>
+     * 삭제되었거나 존재하지 않는 리뷰/유저에는 좋아요를 생성하지 않으며, 이 경우 delta 는 0 이다.
+     */
+    ReviewLikeToggleResult toggle(UUID reviewId, UUID userId);
 }
@@ -1,18 +1,70 @@
 package com.sprint.deokhugam.domain.reviewlike.repository;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeToggleResult;
 import com.sprint.deokhugam.domain.reviewlike.entity.QReviewLike;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 
 @RequiredArgsConstructor
 public class ReviewLikeRepositoryImpl implements ReviewLikeRepositoryCustom {
 
     private static final QReviewLike reviewLike = QReviewLike.reviewLike;
+
+    // PostgreSQL: 삭제 또는 생성을 data-modifying CTE 한 문장으로 처리
+    private static final String TOGGLE_SQL_POSTGRESQL = """
+        WITH deleted AS (
+            DELETE FROM review_likes
+            WHERE review_id = :reviewId AND user_id = :userId
+              AND EXISTS (SELECT 1 FROM reviews WHERE id = :reviewId AND is_deleted = false)
+            RETURNING id
+        ), inserted AS (
+            INSERT INTO review_likes (id, created_at, review_id, user_id)
+            SELECT :id, :createdAt, r.id, u.id
+            FROM reviews r, users u
+            WHERE r.id = :reviewId AND r.is_deleted = false
+              AND u.id = :userId AND u.is_deleted = false
+              AND NOT EXISTS (SELECT 1 FROM deleted)
+            ON CONFLICT (review_id, user_id) DO NOTHING
+            RETURNING id
+        )
+        SELECT (SELECT COUNT(*) FROM inserted) - (SELECT COUNT(*) FROM deleted)
+        """;
+
+    // H2(개발/테스트): 쓰기 CTE 미지원 - 조건부 삭제 후 조건부 생성, 동시 생성은 유니크 제약으로 차단
+    private static final String DELETE_SQL = """
+        DELETE FROM review_likes
+        WHERE review_id = :reviewId AND user_id = :userId
+          AND EXISTS (SELECT 1 FROM reviews WHERE id = :reviewId AND is_deleted = false)
+        """;
+    private static final String INSERT_SQL = """
+        INSERT INTO review_likes (id, created_at, review_id, user_id)
+        SELECT :id, :createdAt, r.id, u.id
+        FROM reviews r, users u
+        WHERE r.id = :reviewId AND r.is_deleted = false
+          AND u.id = :userId AND u.is_deleted = false
+          AND NOT EXISTS (
+            SELECT 1 FROM review_likes WHERE review_id = :reviewId AND user_id = :userId
+          )
+        """;
+    private static final String EXISTS_SQL = """
+        SELECT COUNT(*) FROM review_likes WHERE review_id = :reviewId AND user_id = :userId
+        """;
+
     private final JPAQueryFactory queryFactory;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
 
     // 특정 기간 동안 리뷰에 눌린 좋아요 개수
     @Override
@@ -33,4 +85,52 @@ public class ReviewLikeRepositoryImpl implements ReviewLikeRepositoryCustom {
                 tuple -> tuple.get(reviewLike.count())
             ));
     }
+
+    // 페이지 단위로 likedByMe 계산 - (user_id, review_id) 인덱스 사용
+    @Override
+    public Set<UUID> findLikedReviewIds(UUID userId, Collection<UUID> reviewIds) {
+        if (userId == null || reviewIds == null || reviewIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(queryFactory
+            .select(reviewLike.review.id)
+            .from(reviewLike)
+            .where(
+                reviewLike.user.id.eq(userId),
+                reviewLike.review.id.in(reviewIds)
+            )
+            .fetch());
+    }
+
+    @Override
+    public ReviewLikeToggleResult toggle(UUID reviewId, UUID userId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", UUID.randomUUID())
+            .addValue("createdAt", Timestamp.from(Instant.now()))
+            .addValue("reviewId", reviewId)
+            .addValue("userId", userId);
+
+        int delta = databaseDialect.isPostgres()
+            ? jdbcTemplate.queryForObject(TOGGLE_SQL_POSTGRESQL, params, Integer.class)
+            : toggleWithoutWritableCte(params);
+
+        if (delta != 0) {
+            return new ReviewLikeToggleResult(delta > 0, delta);
+        }
+        // 변화 없음: 동시 요청이 먼저 생성했거나, 리뷰/유저가 없는 경우
+        Long count = jdbcTemplate.queryForObject(EXISTS_SQL, params, Long.class);
+        return new ReviewLikeToggleResult(count != null && count > 0, 0);
+    }
+
+    private int toggleWithoutWritableCte(MapSqlParameterSource params) {
+        if (jdbcTemplate.update(DELETE_SQL, params) > 0) {
+            return -1;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, params);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
 }
@@ -1,16 +1,15 @@
 package com.sprint.deokhugam.domain.reviewlike.service;
 
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
-import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
 import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
 import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeDto;
-import com.sprint.deokhugam.domain.reviewlike.entity.ReviewLike;
-import com.sprint.deokhugam.domain.reviewlike.mapper.ReviewLikeMapper;
+import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeToggleResult;
 import com.sprint.deokhugam.domain.reviewlike.repository.ReviewLikeRepository;
-import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
-import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.counter.CounterService;
+import com.sprint.deokhugam.global.counter.CounterType;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,9 +23,8 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
 
     private final ReviewLikeRepository reviewLikeRepository;
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
-    private final ReviewLikeMapper reviewLikeMapper;
     private final NotificationService notificationService;
+    private final CounterService counterService;
 
     @Transactional
     @Override
@@ -34,40 +32,41 @@ public class ReviewLikeServiceImpl implements ReviewLikeService {
         if (reviewId == null || userId == null) {
             throw new IllegalArgumentException("reviewId와 userId는 필수 파라미터입니다");
         }
-        Review review = reviewRepository.findById(reviewId)
-            .orElseThrow(() -> {
-                log.warn("[reviewLike] 생성/삭제 실패 - 존재하지 않는 reviewId: {}", reviewId);
-                throw new ReviewNotFoundException(reviewId);
-            });
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> {
-                log.warn("[reviewLike] 생성/삭제 실패 - 존재하지 않는 userId: {}", userId);
-//                    throw new IllegalArgumentException();
-                throw new UserNotFoundException(userId, "존재하지 않은 사용자입니다.");
-            });
+        // 리뷰/유저 엔티티 조회 없이 삭제-또는-생성 한 번으로 토글
+        ReviewLikeToggleResult result = reviewLikeRepository.toggle(reviewId, userId);
 
-        boolean alreadyLiked = reviewLikeRepository.existsByReviewIdAndUserId(reviewId,
-            userId);
+        if (!result.changed()) {
+            validateToggleTarget(reviewId, userId, result.liked());
+            // 동시 요청이 이미 좋아요를 생성한 경우 - 카운터/알림은 먼저 생성한 요청에서 처리됨
+            log.info("[reviewLike] 변경 없음(동시 요청) - reviewId: {}, userId: {}", reviewId, userId);
+            return new ReviewLikeDto(reviewId, userId, true);
+        }
+
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, result.delta());
 
-        if (alreadyLiked) {
-            reviewLikeRepository.deleteByReviewIdAndUserId(reviewId, userId);
+        if (!result.liked()) {
             log.info("[reviewLike] 좋아요 취소 완료 - reviewId: {}, userId: {}", reviewId, userId);
+            return new ReviewLikeDto(reviewId, userId, false);
+        }
 
-            review.decreaseLikeCount();
+        log.info("[reviewLike] 생성 완료 - reviewId: {}, userId: {}, isLiked: {}",
+            reviewId, userId, true);
+        notificationService.publish(NotificationEventType.REVIEW_LIKED, reviewId, userId, null);
 
-            // db에서는 삭제됐지만 liked=false로 변환하는 과정에서 새 응답용 객체가 생성됨..
-            return new ReviewLikeDto(reviewId, userId, false);
-        } else {
-            ReviewLike reviewLike = new ReviewLike(review, user);
-            ReviewLike savedReviewLike = reviewLikeRepository.save(reviewLike);
-            log.info("[reviewLike] 생성 완료 - reviewLikeId: {}, reviewId: {}, userId: {}, isLiked: {}",
-                savedReviewLike.getId(), reviewId, userId, true);
-            notificationService.create(user, review, user.getNickname() + "님이 나의 리뷰를 좋아합니다.",
-                false);
-            review.increaseLikeCount();
+        return new ReviewLikeDto(reviewId, userId, true);
+    }
 
-            return reviewLikeMapper.toDto(savedReviewLike);
+    // 토글이 아무것도 바꾸지 못한 경우에만 호출 - 대상 리뷰/유저가 없는지 확인
+    private void validateToggleTarget(UUID reviewId, UUID userId, boolean liked) {
+        if (!reviewRepository.existsById(reviewId)) {
+            log.warn("[reviewLike] 생성/삭제 실패 - 존재하지 않는 reviewId: {}", reviewId);
+            throw new ReviewNotFoundException(reviewId);
+        }
+        if (liked) {
+            return;
         }
+        log.warn("[reviewLike] 생성/삭제 실패 - 존재하지 않는 userId: {}", userId);
+        throw new UserNotFoundException(userId, "존재하지 않은 사용자입니다.");
     }
 }
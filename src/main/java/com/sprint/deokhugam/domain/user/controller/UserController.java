@@ -106,7 +106,8 @@ public class UserController implements UserApi {
     }
 
     public ResponseEntity<CursorPageResponse<PowerUserDto>> getPopularUsers(
-        String period, String direction, String cursor, String after, int limit
+        String period, String direction, String cursor, String after, int limit,
+        boolean includeTotal
     ) {
         log.info(
             "[UserController] 파워유저 목록 조회 요청: period: {}, direction: {}, limit: {}, cursor: {}, after: {}",
@@ -114,7 +115,7 @@ public class UserController implements UserApi {
 
         PeriodType periodType = PeriodType.valueOf(period.toUpperCase());
         CursorPageResponse<PowerUserDto> response = powerUserService.getPowerUsersWithCursor(
-            periodType, direction, limit, cursor, after);
+            periodType, direction, limit, cursor, after, includeTotal);
 
         log.info("[UserController] 파워유저 목록 조회 완료: {} 명", response.content().size());
 
@@ -250,7 +250,10 @@ public interface UserApi {
         @RequestParam(required = false) String after,
 
         @Parameter(description = "페이지 크기")
-        @RequestParam(defaultValue = "50") @Min(1) @Max(100) int limit
+        @RequestParam(defaultValue = "50") @Min(1) @Max(100) int limit,
+
+        @Parameter(description = "totalElements 포함 여부 (false 면 null)")
+        @RequestParam(defaultValue = "true") boolean includeTotal
     );
 
 }
@@ -24,6 +24,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
 
+    @Transactional
     @Override
     public UserDto createUser(UserCreateRequest userCreateRequest) {
 
@@ -41,6 +42,7 @@ public class UserServiceImpl implements UserService {
 
     }
 
+    @Transactional(readOnly = true)
     @Override
     public UserDto findUser(UUID userId) {
 
@@ -54,6 +56,7 @@ public class UserServiceImpl implements UserService {
             });
     }
 
+    @Transactional(readOnly = true)
     @Override
     public UserDto loginUser(UserLoginRequest userLoginRequest) {
         if (userLoginRequest == null) {
@@ -0,0 +1,46 @@
+package com.sprint.deokhugam.global.aop;
+
+import com.sprint.deokhugam.global.jpa.QueryCountInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class QueryCountAspect {
+
+    private static final String METRIC_NAME = "deokhugam.query.count";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * {@link QueryCounted} 메서드 실행 동안의 SQL 수를 집계해 지표로 기록
+     * <p>
+     * 이미 바깥 메서드에서 집계 중이면 바깥 구간에 합산된다.
+     */
+    @Around("@annotation(queryCounted)")
+    public Object countQueries(ProceedingJoinPoint joinPoint, QueryCounted queryCounted)
+        throws Throwable {
+        boolean outermost = QueryCountInspector.start();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (outermost) {
+                long count = QueryCountInspector.stop();
+                DistributionSummary.builder(METRIC_NAME)
+                    .description("요청 한 번에 실행된 SQL 수")
+                    .tag("operation", queryCounted.value())
+                    .register(meterRegistry)
+                    .record(count);
+                log.debug("[QueryCount] operation: {}, 쿼리 수: {}", queryCounted.value(), count);
+            }
+        }
+    }
+}
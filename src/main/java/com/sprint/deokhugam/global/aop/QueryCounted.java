@@ -0,0 +1,19 @@
+package com.sprint.deokhugam.global.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드 한 번 호출 동안 실행된 SQL 수를 deokhugam.query.count 지표로 기록
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryCounted {
+
+    /**
+     * 지표의 operation 태그 값
+     */
+    String value();
+}
@@ -0,0 +1,128 @@
+package com.sprint.deokhugam.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한과 만료 시간을 가진 인스턴스 로컬 LRU 캐시.
+ * <p>
+ * 접근 순서 {@link LinkedHashMap} 을 하나의 락으로 보호하는 단순한 구현으로, 값은 불변 객체로 다루고 갱신은
+ * {@link #computeIfPresent} 로 교체한다. 조회 적중/실패, 축출 횟수와 현재 크기를 {@code cache} 태그로 구분해 기록한다.
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final Map<K, Entry<V>> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public LruCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(name, maxSize, ttl, meterRegistry, Clock.systemUTC());
+    }
+
+    LruCache(String name, int maxSize, Duration ttl, MeterRegistry meterRegistry, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                boolean evict = size() > LruCache.this.maxSize;
+                if (evict) {
+                    evictionCounter.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hitCounter = Counter.builder("deokhugam.cache.gets")
+            .tag("cache", name)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("deokhugam.cache.gets")
+            .tag("cache", name)
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder("deokhugam.cache.evictions")
+            .tag("cache", name)
+            .register(meterRegistry);
+        Gauge.builder("deokhugam.cache.size", this, LruCache::size)
+            .tag("cache", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return 없거나 만료되었으면 null
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || isExpired(entry)) {
+            if (entry != null) {
+                entries.remove(key);
+            }
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.value();
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.millis()));
+    }
+
+    /**
+     * 캐시에 있는 값만 교체한다. 만료 시각은 처음 적재한 시점을 유지하며, 함수가 null 을 반환하면 항목을 제거한다.
+     */
+    public synchronized void computeIfPresent(K key, UnaryOperator<V> remapping) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            return;
+        }
+        V updated = remapping.apply(entry.value());
+        if (updated == null) {
+            entries.remove(key);
+        } else {
+            entries.put(key, new Entry<>(updated, entry.loadedAt()));
+        }
+    }
+
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateIf(Predicate<K> condition) {
+        entries.keySet().removeIf(condition);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return clock.millis() - entry.loadedAt() >= ttlMillis;
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+
+    }
+}
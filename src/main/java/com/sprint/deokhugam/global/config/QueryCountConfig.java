@@ -0,0 +1,37 @@
+package com.sprint.deokhugam.global.config;
+
+import com.sprint.deokhugam.global.jpa.QueryCountInspector;
+import com.sprint.deokhugam.global.jpa.QueryCountingJdbcTemplate;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.jdbc.JdbcProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+            new QueryCountInspector());
+    }
+
+    /**
+     * 자동 구성 JdbcTemplate 대신 등록해 JdbcTemplate 쿼리도 집계한다. spring.jdbc.template.* 설정은 그대로 적용한다.
+     * NamedParameterJdbcTemplate 은 이 JdbcTemplate 을 감싸므로 함께 집계된다.
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource, JdbcProperties properties) {
+        JdbcTemplate jdbcTemplate = new QueryCountingJdbcTemplate(dataSource);
+        JdbcProperties.Template template = properties.getTemplate();
+        jdbcTemplate.setFetchSize(template.getFetchSize());
+        jdbcTemplate.setMaxRows(template.getMaxRows());
+        if (template.getQueryTimeout() != null) {
+            jdbcTemplate.setQueryTimeout((int) template.getQueryTimeout().getSeconds());
+        }
+        return jdbcTemplate;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sprint.deokhugam.global.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
@@ -9,7 +10,12 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+/**
+ * 파일 저장소나 직접 업로드 중 하나라도 S3 를 쓸 때만 클라이언트를 만든다. 둘 다 local 이면 AWS 설정 없이 실행할 수 있다.
+ */
 @Configuration
+@ConditionalOnExpression("'${deokhugam.storage.type:s3}' == 's3'"
+    + " or '${deokhugam.storage.direct-upload.backend:s3}' == 's3'")
 public class S3Config {
 
     @Value("${deokhugam.storage.s3.access-key}")
@@ -21,10 +21,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(mdcLoggingInterceptor)
             .addPathPatterns("/api/**");
 
-        // 로그인, 회원가입, 대시보드 관련 api만 허용
+        // 로그인, 회원가입, 대시보드, 로컬 직접 업로드(토큰으로 인증), 로컬 파일 조회(서명으로 인증) 관련 api만 허용
         registry.addInterceptor(loginInterceptor)
             .addPathPatterns("/api/**")
             .excludePathPatterns("/api/users/login", "/api/users",
-                "/api/users/power", "/api/books/popular", "/api/reviews/popular");
+                "/api/users/power", "/api/books/popular", "/api/reviews/popular",
+                "/api/storage/uploads/**", "/api/storage/files/**");
     }
 }
@@ -0,0 +1,21 @@
+package com.sprint.deokhugam.global.count;
+
+/**
+ * 총 개수를 캐시하는 목록 종류와 조건 없는 목록의 추정치를 읽을 테이블.
+ */
+public enum CountScope {
+    BOOK("books"),
+    REVIEW("reviews"),
+    COMMENT("comments"),
+    POWER_USER("power_users");
+
+    private final String table;
+
+    CountScope(String table) {
+        this.table = table;
+    }
+
+    public String table() {
+        return table;
+    }
+}
@@ -0,0 +1,149 @@
+package com.sprint.deokhugam.global.count;
+
+import com.sprint.deokhugam.global.cache.LruCache;
+import com.sprint.deokhugam.global.database.AfterCommit;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커서 페이지 응답의 totalElements 를 구한다.
+ * <p>
+ * 같은 목록, 같은 조건의 개수는 짧은 만료 시간(ttl) 동안 캐시해 2페이지부터는 COUNT 를 다시 실행하지 않는다. 목록에 영향을 주는 쓰기는
+ * 커밋 후에 해당 목록의 캐시를 지운다. 캐시는 인스턴스마다 따로 유지되므로 다른 인스턴스의 쓰기는 ttl 이 지나야 반영된다.
+ * <p>
+ * 호출한 쪽이 includeTotal 을 false 로 넘기면 개수를 구하지 않고 null 을 반환한다. PostgreSQL 에서 조건 없는 목록은 테이블 행 수가
+ * min-rows 이상이면 pg_class.reltuples 추정치를 쓴다. 추정치는 논리 삭제된 행도 포함하는 근사값이다.
+ */
+@Slf4j
+@Component
+public class TotalCountService {
+
+    private static final String ESTIMATE_SQL =
+        "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final boolean estimateEnabled;
+    private final long estimateMinRows;
+    private final LruCache<CountKey, Long> cache;
+    private final Counter skippedCounter;
+    private final Counter estimatedCounter;
+
+    public TotalCountService(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.count.max-entries:10000}") int maxEntries,
+        @Value("${deokhugam.count.ttl:30s}") Duration ttl,
+        @Value("${deokhugam.count.estimate.enabled:true}") boolean estimateEnabled,
+        @Value("${deokhugam.count.estimate.min-rows:100000}") long estimateMinRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.estimateEnabled = estimateEnabled;
+        this.estimateMinRows = estimateMinRows;
+        this.cache = new LruCache<>("total-count", maxEntries, ttl, meterRegistry);
+        this.skippedCounter = Counter.builder("deokhugam.count.requests")
+            .description("totalElements 계산 방식별 요청 수")
+            .tag("mode", "skipped")
+            .register(meterRegistry);
+        this.estimatedCounter = Counter.builder("deokhugam.count.requests")
+            .description("totalElements 계산 방식별 요청 수")
+            .tag("mode", "estimated")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 목록 조건을 캐시 키로 정규화한다. 문자열은 소문자로 바꾸고 빈 문자열은 조건 없음(null)으로 본다.
+     */
+    public static List<Object> filter(Object... values) {
+        List<Object> normalized = new ArrayList<>(values.length);
+        for (Object value : values) {
+            if (value instanceof String text) {
+                normalized.add(text.isEmpty() ? null : text.toLowerCase(Locale.ROOT));
+            } else {
+                normalized.add(value);
+            }
+        }
+        return Collections.unmodifiableList(normalized);
+    }
+
+    /**
+     * @param filter       {@link #filter(Object...)} 로 만든 목록 조건. 모든 값이 null 이면 조건 없는 목록으로 본다.
+     * @param includeTotal 요청의 includeTotal 값. false 면 개수를 구하지 않는다.
+     * @param counter      캐시에 없을 때 실행할 COUNT 쿼리
+     * @return includeTotal 이 false 면 null
+     */
+    public Long count(CountScope scope, List<Object> filter, boolean includeTotal,
+        Supplier<Long> counter) {
+        if (!includeTotal) {
+            skippedCounter.increment();
+            return null;
+        }
+
+        CountKey key = new CountKey(scope, filter);
+        Long cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long count = null;
+        if (filter.stream().allMatch(Objects::isNull)) {
+            count = estimate(scope);
+        }
+        if (count == null) {
+            count = counter.get();
+        }
+        cache.put(key, count);
+        return count;
+    }
+
+    /**
+     * 커밋 후 해당 목록의 모든 조건에 대한 개수 캐시를 지운다.
+     */
+    public void invalidate(CountScope scope) {
+        AfterCommit.run(() -> cache.invalidateIf(key -> key.scope() == scope));
+    }
+
+    /**
+     * 커밋 후 해당 목록에서 조건이 일치하는 개수 캐시만 지운다.
+     */
+    public void invalidate(CountScope scope, List<Object> filter) {
+        AfterCommit.run(() -> cache.invalidate(new CountKey(scope, filter)));
+    }
+
+    /**
+     * @return 추정치를 쓰지 않거나 쓸 수 없으면 null
+     */
+    private Long estimate(CountScope scope) {
+        if (!estimateEnabled || !databaseDialect.isPostgres()) {
+            return null;
+        }
+        try {
+            // 한 번도 ANALYZE 되지 않은 테이블은 -1 이다.
+            Long rows = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, scope.table());
+            if (rows == null || rows < estimateMinRows) {
+                return null;
+            }
+            estimatedCounter.increment();
+            return rows;
+        } catch (Exception e) {
+            log.warn("[TotalCount] 행 수 추정 실패 - table: {}, {}", scope.table(), e.getMessage());
+            return null;
+        }
+    }
+
+    private record CountKey(CountScope scope, List<Object> filter) {
+
+    }
+}
@@ -0,0 +1,152 @@
+package com.sprint.deokhugam.global.counter;
+
+import com.sprint.deokhugam.global.database.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 카운터 변화량을 스트라이프로 나눈 메모리 버퍼에 누적했다가 주기적으로 한 번에 반영한다.
+ * <p>
+ * 인기 리뷰에 좋아요가 몰려도 요청마다 같은 행 잠금을 잡지 않고, 플러시 시점에 키당 UPDATE 한 번으로 합쳐진다. 변화량은 요청 트랜잭션이
+ * 커밋된 뒤에만 버퍼에 들어가므로 롤백된 요청은 반영되지 않는다. 반영 전까지 조회되는 카운터는 최대 플러시 주기만큼 늦을 수 있다.
+ * <p>
+ * 버퍼는 메모리에만 있으므로 프로세스가 비정상 종료(kill -9, OOM, 장비 장애)되면 마지막 플러시 이후 커밋된 변화량, 즉 최대
+ * flush-interval-ms 동안의 변화량과 플러시 실패로 되돌려 둔 변화량이 유실된다. 정상 종료 시에는 {@link #flushOnShutdown()} 이 남은
+ * 변화량을 반영하지만, 이때 플러시가 실패하면 그 변화량도 유실된다. 이 유실을 허용하는 환경에서만 명시적으로
+ * {@code deokhugam.counter.mode=buffered} 로 켠다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "deokhugam.counter.mode", havingValue = "buffered")
+public class BufferedCounterService implements CounterService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 호출마다 임의의 스트라이프에 나눠 담아 같은 키에 대한 merge 경합을 줄임
+    private final List<ConcurrentHashMap<CounterKey, Long>> stripes;
+
+    private final Counter flushedRows;
+    private final Counter failedRows;
+    private final Timer flushTimer;
+
+    public BufferedCounterService(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.counter.stripes:8}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+
+        Gauge.builder("deokhugam.counter.pending", this, BufferedCounterService::pendingKeys)
+            .description("아직 DB 에 반영되지 않은 카운터 키 수")
+            .register(meterRegistry);
+        this.flushedRows = Counter.builder("deokhugam.counter.flushed")
+            .description("플러시로 반영된 카운터 행 수")
+            .register(meterRegistry);
+        this.failedRows = Counter.builder("deokhugam.counter.flush.failed")
+            .description("플러시 실패로 버퍼에 되돌린 카운터 행 수")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("deokhugam.counter.flush.duration")
+            .description("카운터 플러시 소요 시간")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void add(CounterType type, UUID id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        CounterKey key = new CounterKey(type, id);
+        AfterCommit.run(() -> buffer(key, delta));
+    }
+
+    @Scheduled(fixedDelayString = "${deokhugam.counter.flush-interval-ms:1000}")
+    public void flush() {
+        Map<CounterKey, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<CounterType, List<Object[]>> batches = new EnumMap<>(CounterType.class);
+        drained.forEach((key, delta) -> batches
+            .computeIfAbsent(key.type(), t -> new ArrayList<>())
+            .add(new Object[]{delta, key.id()}));
+
+        flushTimer.record(() -> batches.forEach((type, args) -> {
+            try {
+                // 배치 일부만 반영된 채 재시도되어 중복 가산되지 않도록 타입별 배치를 한 트랜잭션으로 묶음
+                transactionTemplate.executeWithoutResult(
+                    status -> jdbcTemplate.batchUpdate(type.incrementSql(), args));
+                flushedRows.increment(args.size());
+            } catch (DataAccessException | TransactionException e) {
+                // 유실되지 않도록 다음 주기에 다시 시도
+                args.forEach(arg -> buffer(new CounterKey(type, (UUID) arg[1]), (Long) arg[0]));
+                failedRows.increment(args.size());
+                log.error("[Counter] 플러시 실패 - type: {}, 행 수: {}", type, args.size(), e);
+            }
+        }));
+        log.debug("[Counter] 플러시 완료 - 키 수: {}", drained.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (pendingKeys() > 0) {
+            log.error("[Counter] 종료 중 플러시 실패로 반영하지 못한 카운터 유실 - 키 수: {}",
+                (long) pendingKeys());
+        }
+    }
+
+    private void buffer(CounterKey key, long delta) {
+        stripes.get(ThreadLocalRandom.current().nextInt(stripes.size()))
+            .merge(key, delta, Long::sum);
+    }
+
+    // 키 단위 remove 로 꺼내므로 꺼내는 도중 들어온 변화량은 다음 플러시로 넘어가고 유실되지 않는다
+    private Map<CounterKey, Long> drain() {
+        Map<CounterKey, Long> drained = new HashMap<>();
+        for (ConcurrentHashMap<CounterKey, Long> stripe : stripes) {
+            for (CounterKey key : stripe.keySet()) {
+                Long delta = stripe.remove(key);
+                if (delta != null) {
+                    drained.merge(key, delta, Long::sum);
+                }
+            }
+        }
+        drained.values().removeIf(delta -> delta == 0);
+        return drained;
+    }
+
+    private double pendingKeys() {
+        return stripes.stream().mapToInt(Map::size).sum();
+    }
+
+    private record CounterKey(CounterType type, UUID id) {
+
+    }
+}
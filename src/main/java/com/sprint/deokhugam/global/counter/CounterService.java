@@ -0,0 +1,18 @@
+package com.sprint.deokhugam.global.counter;
+
+import java.util.UUID;
+
+/**
+ * 좋아요 수, 댓글 수 같은 카운터를 엔티티 로딩/수정 없이 {@code column = column + ?} 로 갱신한다.
+ * <p>
+ * {@code deokhugam.counter.mode} 값에 따라 즉시 반영(sync) 또는 메모리에 모아 주기적으로 반영(buffered)한다.
+ */
+public interface CounterService {
+
+    /**
+     * @param type  갱신할 카운터
+     * @param id    대상 행 id
+     * @param delta 변화량 (감소는 음수)
+     */
+    void add(CounterType type, UUID id, long delta);
+}
@@ -0,0 +1,24 @@
+package com.sprint.deokhugam.global.counter;
+
+/**
+ * 증분 방식으로 갱신하는 카운터 컬럼 목록
+ * <p>
+ * 테이블/컬럼명은 SQL 에 그대로 들어가므로 외부 입력이 아닌 이 enum 상수로만 지정한다.
+ */
+public enum CounterType {
+
+    REVIEW_LIKE("reviews", "like_count"),
+    REVIEW_COMMENT("reviews", "comment_count");
+
+    private final String incrementSql;
+
+    CounterType(String table, String column) {
+        // 음수 변화량이 누적되어도 0 아래로 내려가지 않도록 보정
+        this.incrementSql = "UPDATE " + table + " SET " + column + " = GREATEST(" + column
+            + " + ?, 0) WHERE id = ?";
+    }
+
+    public String incrementSql() {
+        return incrementSql;
+    }
+}
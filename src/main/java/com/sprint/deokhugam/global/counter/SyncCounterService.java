@@ -0,0 +1,31 @@
+package com.sprint.deokhugam.global.counter;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 호출 즉시 현재 트랜잭션 안에서 원자적 증분 UPDATE 를 실행한다.
+ * <p>
+ * 기본 구현이다. 요청 트랜잭션과 함께 커밋/롤백되므로 카운터가 곧바로 일관되고 프로세스가 죽어도 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "deokhugam.counter.mode", havingValue = "sync", matchIfMissing = true)
+public class SyncCounterService implements CounterService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void add(CounterType type, UUID id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        jdbcTemplate.update(type.incrementSql(), delta, id);
+        log.debug("[Counter] 즉시 반영 - type: {}, id: {}, delta: {}", type, id, delta);
+    }
+}
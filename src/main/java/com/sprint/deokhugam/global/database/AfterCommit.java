@@ -0,0 +1,29 @@
+package com.sprint.deokhugam.global.database;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화, 인덱스 반영, 알림 전송처럼 DB 변경이 확정된 뒤에만 해야 하는 작업을 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 후에 실행하고, 롤백되면 실행하지 않는다. 트랜잭션 밖이면 바로 실행한다.
+     */
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
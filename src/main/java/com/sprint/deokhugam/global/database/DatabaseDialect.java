@@ -0,0 +1,28 @@
+package com.sprint.deokhugam.global.database;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연결된 데이터베이스 종류를 알려준다. 운영은 PostgreSQL, 개발/테스트는 H2 이므로 PostgreSQL 전용 문법(ON CONFLICT, SKIP LOCKED,
+ * 파티션, pg_trgm 등)을 쓸지 정할 때 사용한다. 첫 호출 때 연결 메타데이터로 한 번만 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseDialect {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sprint.deokhugam.global.jpa;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 수를 스레드 단위로 집계하는 StatementInspector.
+ * <p>
+ * {@link #start()} ~ {@link #stop()} 구간에서 실행된 SQL만 집계하며, 구간 밖에서는 아무 일도 하지 않는다. JdbcTemplate 으로
+ * 실행한 SQL 은 {@link QueryCountingJdbcTemplate} 가 {@link #increment()} 로 같은 구간에 더한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<AtomicLong> COUNTER = new ThreadLocal<>();
+
+    /**
+     * 집계를 시작한다. 이미 집계 중이면 기존 구간을 유지하고 false 반환
+     */
+    public static boolean start() {
+        if (COUNTER.get() != null) {
+            return false;
+        }
+        COUNTER.set(new AtomicLong());
+        return true;
+    }
+
+    /**
+     * 집계를 종료하고 지금까지 실행된 SQL 수를 반환
+     */
+    public static long stop() {
+        AtomicLong counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter.get() : 0L;
+    }
+
+    public static long current() {
+        AtomicLong counter = COUNTER.get();
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * 집계 중이면 SQL 한 건을 더한다.
+     */
+    public static void increment() {
+        AtomicLong counter = COUNTER.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        increment();
+        return sql;
+    }
+}
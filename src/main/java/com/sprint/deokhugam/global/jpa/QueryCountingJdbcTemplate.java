@@ -0,0 +1,25 @@
+package com.sprint.deokhugam.global.jpa;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 실행하는 Statement 수를 {@link QueryCountInspector} 의 집계 구간에 더하는 JdbcTemplate.
+ * <p>
+ * Hibernate를 거치지 않는 JdbcTemplate/NamedParameterJdbcTemplate 쿼리도 deokhugam.query.count 에 포함되도록 한다.
+ * batchUpdate 는 Statement 하나이므로 한 건으로 센다.
+ */
+public class QueryCountingJdbcTemplate extends JdbcTemplate {
+
+    public QueryCountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        QueryCountInspector.increment();
+        super.applyStatementSettings(stmt);
+    }
+}
@@ -1,6 +1,6 @@
 package com.sprint.deokhugam.global.scheduler;
 
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.io.File;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +13,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class LogFileUploadScheduler {
 
-    private final S3Storage s3Storage;
+    private final FileStorage fileStorage;
 
     @Scheduled(cron = "0 0 1 * * *")
     //@Scheduled(cron = "*/10 * * * * *")
@@ -32,7 +32,7 @@ public class LogFileUploadScheduler {
         }
 
         try {
-            String key = s3Storage.uploadFile(logFile);
+            String key = fileStorage.uploadFile(logFile);
             log.info("[LogFileUploader] - 로그 파일 업로드 성공: {}", key);
         } catch (Exception e) {
             log.error("[LogFileUploader] - 로그 파일 업로드 실패: {}", logFile.getName(), e);
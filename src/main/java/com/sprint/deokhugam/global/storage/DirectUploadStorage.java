@@ -0,0 +1,31 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.util.Optional;
+
+/**
+ * 클라이언트가 앱 서버를 거치지 않고 저장소에 직접 올리는 업로드.
+ * <p>
+ * 서버는 업로드 세션(서명된 PUT url 과 key)만 발급하고, 클라이언트가 올린 뒤 도서 등록/수정에 key 를 넘기면 실제 크기와, 파일 앞부분의
+ * 시그니처로 판별한 타입을 확인한다.
+ */
+public interface DirectUploadStorage {
+
+    /**
+     * 직접 업로드로 만드는 객체 key 의 접두어. 이 접두어가 아닌 key 는 확정하지 않는다.
+     */
+    String KEY_PREFIX = "image/";
+
+    /**
+     * @param contentType   업로드할 파일 타입. 업로드 요청의 Content-Type 이 같아야 한다.
+     * @param contentLength 업로드할 파일 크기. 업로드 요청의 Content-Length 가 같아야 한다.
+     */
+    UploadSession createUploadSession(String contentType, long contentLength);
+
+    /**
+     * @return 업로드가 끝난 객체의 크기와 타입, 아직 없으면 empty. 타입은 업로드 요청의 Content-Type 이 아니라 파일 앞부분의
+     * 시그니처로 판별하며, 알 수 없는 형식이면 application/octet-stream 이다.
+     */
+    Optional<UploadedObject> findUploadedObject(String key);
+
+    void delete(String key);
+}
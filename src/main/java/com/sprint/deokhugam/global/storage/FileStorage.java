@@ -0,0 +1,95 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 이미지/로그 파일 저장소.
+ * <p>
+ * {@code deokhugam.storage.type} 으로 구현을 고른다. s3 는 {@link S3Storage}, local 은 AWS 없이 디렉터리에 저장하고 앱이 직접
+ * 내려주는 {@link LocalFileStorage} 다. 이미지 key 는 내용의 SHA-256 이라 같은 이미지는 한 번만 저장되고, 지우는 시점은
+ * {@link ImageReferenceService} 의 참조 수로 정한다.
+ */
+public interface FileStorage {
+
+    String CONTENT_KEY_PREFIX = "image/sha256/";
+    // S3 DeleteObjects 한 번에 지울 수 있는 최대 key 수
+    int MAX_DELETE_BATCH = 1000;
+
+    /**
+     * @return 내용 해시로 만든 key 면 true - 여러 도서가 같은 객체와 파생 이미지를 공유할 수 있다.
+     */
+    static boolean isContentAddressed(String key) {
+        return key != null && key.startsWith(CONTENT_KEY_PREFIX);
+    }
+
+    /**
+     * 이미지를 검증해 내용 해시 key 로 저장한다. 다른 도서가 참조 중인 같은 key 의 객체가 있으면 다시 저장하지 않는다. 정리 작업이
+     * 지우고 있는 key 면 고유 key 로 저장한다.
+     *
+     * @return 저장한 객체 key
+     */
+    String uploadImage(MultipartFile image) throws IOException;
+
+    /**
+     * 직접 업로드 세션 발급 등 저장소 밖에서 크기를 먼저 확인할 때 같은 한도를 쓰도록 한다.
+     *
+     * @return 저장할 수 있는 이미지의 최대 크기(bytes)
+     */
+    long maxImageSize();
+
+    /**
+     * @return key 의 객체가 저장소에 있으면 true
+     */
+    boolean exists(String key);
+
+    /**
+     * 저장된 이미지를 읽는다. 호출한 쪽에서 스트림을 닫아야 한다.
+     */
+    InputStream openImage(String key) throws IOException;
+
+    /**
+     * 서버에서 만든 작은 이미지(썸네일 변형 등)를 저장한다.
+     */
+    void putImage(String key, byte[] content, String contentType);
+
+    /**
+     * 객체를 지운다. 실패는 로그만 남긴다.
+     */
+    void deleteImage(String key);
+
+    /**
+     * key 의 객체와, key 를 접두어로 하는 파생 객체(썸네일 변형 등)를 모두 지운다. 실패하면 예외를 그대로 던진다.
+     */
+    void deleteImageWithDerivatives(String key);
+
+    /**
+     * 여러 객체를 한 번에 지운다. 없는 객체는 지운 것으로 본다. 요청 자체가 실패하면 예외를 그대로 던진다.
+     *
+     * @return 지우지 못한 key -> 원인
+     */
+    Map<String, String> deleteObjects(Collection<String> keys);
+
+    /**
+     * @return 만료 시간이 있는 서명된 조회 url
+     */
+    String generatePresignedUrl(String key);
+
+    /**
+     * 한 페이지의 key 를 모아 한 번에 서명한다. 같은 key 는 한 번만 서명한다.
+     *
+     * @return key -> 서명된 url (null, 빈 key 는 제외)
+     */
+    Map<String, String> presignAll(Collection<String> keys);
+
+    /**
+     * 로그 파일을 저장한다.
+     *
+     * @return 저장한 객체 key
+     */
+    String uploadFile(File file);
+}
@@ -0,0 +1,152 @@
+package com.sprint.deokhugam.global.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내용 해시 key 로 저장한 이미지 객체의 참조 수를 관리한다.
+ * <p>
+ * 같은 이미지를 여러 도서가 공유하므로 도서가 썸네일을 바꾸거나 삭제될 때 객체를 바로 지우지 않고 참조 수만 줄인다. 참조 수 변경은 호출한
+ * 쪽의 트랜잭션에 포함되어 도서 변경과 함께 커밋/롤백된다. 참조 수가 0 이 된 뒤 유예 시간이 지난 객체는 주기 작업이 지운다. 유예 시간은
+ * 방금 올린 객체를 다른 요청이 곧바로 다시 참조하는 경우를 위한 것이고, 같은 내용을 다시 올리는 요청은 {@link ImageReservation} 으로
+ * 유예 시간을 새로 시작한다.
+ * <p>
+ * 정리 작업은 저장소를 호출하는 동안 행을 잠그지 않는다. 조건부 UPDATE 한 번으로 행에 deleting_at 을 찍어 가져가고(그 사이 다시 잡힌
+ * 행은 조건에 맞지 않는다), 트랜잭션 밖에서 객체를 지운 뒤, 찍은 시각이 그대로인 행만 지운다. 지우다 죽은 작업이 남긴 표시는 유예 시간이
+ * 지나면 다시 가져간다.
+ */
+@Slf4j
+@Component
+public class ImageReferenceService {
+
+    private static final String INCREMENT_SQL = """
+        UPDATE image_refs SET ref_count = ref_count + 1, updated_at = ?
+        WHERE image_key = ?
+        """;
+    private static final String DECREMENT_SQL = """
+        UPDATE image_refs SET ref_count = ref_count - 1, updated_at = ?
+        WHERE image_key = ? AND ref_count > 0
+        """;
+    private static final String UNREFERENCED_SQL = """
+        SELECT image_key FROM image_refs
+        WHERE ref_count = 0 AND updated_at < ?
+          AND (deleting_at IS NULL OR deleting_at < ?)
+        ORDER BY updated_at
+        LIMIT ?
+        """;
+    // 그 사이 참조가 늘었거나 다시 잡힌(updated_at 갱신) 행, 다른 인스턴스가 가져간 행은 바뀌지 않는다.
+    private static final String CLAIM_SQL = """
+        UPDATE image_refs SET deleting_at = ?
+        WHERE image_key = ? AND ref_count = 0 AND updated_at < ?
+          AND (deleting_at IS NULL OR deleting_at < ?)
+        """;
+    private static final String UNCLAIM_SQL = """
+        UPDATE image_refs SET deleting_at = NULL WHERE image_key = ? AND deleting_at = ?
+        """;
+    private static final String DELETE_SQL = """
+        DELETE FROM image_refs WHERE image_key = ? AND deleting_at = ? AND ref_count = 0
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ImageReservation imageReservation;
+    private final FileStorage fileStorage;
+    private final Duration gcGrace;
+    private final int gcBatchSize;
+    private final Counter collectedCounter;
+    private final Counter failedCounter;
+
+    public ImageReferenceService(JdbcTemplate jdbcTemplate,
+        ImageReservation imageReservation,
+        FileStorage fileStorage,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.storage.image-refs.gc-grace:1h}") Duration gcGrace,
+        @Value("${deokhugam.storage.image-refs.gc-batch-size:100}") int gcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.imageReservation = imageReservation;
+        this.fileStorage = fileStorage;
+        this.gcGrace = gcGrace;
+        this.gcBatchSize = gcBatchSize;
+        this.collectedCounter = Counter.builder("deokhugam.storage.image-refs.collected")
+            .description("참조가 없어 삭제한 이미지 객체 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("deokhugam.storage.image-refs.collect.failed")
+            .description("삭제에 실패해 다음 주기로 넘긴 이미지 객체 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 도서가 이미지를 참조하기 시작할 때 호출한다.
+     */
+    public void acquire(String key) {
+        track(key);
+        jdbcTemplate.update(INCREMENT_SQL, Timestamp.from(Instant.now()), key);
+    }
+
+    /**
+     * 올렸지만 도서에 연결하지 못한 이미지를 참조 없는 객체로 등록한다. 다른 도서가 이미 참조하고 있으면 그대로 두고, 아니면 유예 시간이
+     * 지난 뒤 지워진다.
+     */
+    public void track(String key) {
+        imageReservation.track(key);
+    }
+
+    /**
+     * 도서가 이미지를 더 이상 참조하지 않을 때 호출한다. 객체는 참조 수가 0 인 채로 유예 시간이 지나면 지워진다.
+     *
+     * @return 참조 수를 관리하지 않는 key(내용 해시 key 도입 전에 올린 이미지 등)면 false - 호출한 쪽에서 직접 지워야 한다.
+     */
+    public boolean release(String key) {
+        return jdbcTemplate.update(DECREMENT_SQL, Timestamp.from(Instant.now()), key) > 0;
+    }
+
+    @Scheduled(cron = "${deokhugam.storage.image-refs.gc-cron:0 */10 * * * *}",
+        zone = "Asia/Seoul")
+    public void collect() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(gcGrace));
+        List<String> keys = jdbcTemplate.queryForList(UNREFERENCED_SQL, String.class, cutoff,
+            cutoff, gcBatchSize);
+
+        int collected = 0;
+        for (String key : keys) {
+            if (collect(key, cutoff)) {
+                collected++;
+            }
+        }
+        if (collected > 0) {
+            collectedCounter.increment(collected);
+            log.info("[ImageReference] 참조 없는 이미지 정리 완료 - 건수: {}", collected);
+        }
+    }
+
+    /**
+     * 아직 참조가 없으면 행을 가져가고, 잠금 없이 객체를 지운 뒤 행을 지운다. 객체 삭제가 실패하면 표시를 지워 다음 주기에 다시 시도한다.
+     */
+    private boolean collect(String key, Timestamp cutoff) {
+        // 찍은 시각을 그대로 비교하므로 DB 가 저장하는 정밀도로 자른다.
+        Timestamp claimedAt = Timestamp.from(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        if (jdbcTemplate.update(CLAIM_SQL, claimedAt, key, cutoff, cutoff) == 0) {
+            return false;
+        }
+
+        try {
+            fileStorage.deleteImageWithDerivatives(key);
+        } catch (Exception e) {
+            jdbcTemplate.update(UNCLAIM_SQL, key, claimedAt);
+            failedCounter.increment();
+            log.warn("[ImageReference] 이미지 삭제 실패 - key: {}", key, e);
+            return false;
+        }
+        jdbcTemplate.update(DELETE_SQL, key, claimedAt);
+        return true;
+    }
+}
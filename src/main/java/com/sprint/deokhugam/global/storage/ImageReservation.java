@@ -0,0 +1,103 @@
+package com.sprint.deokhugam.global.storage;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 내용 해시 key 의 객체를 다시 쓰기 전에 image_refs 행을 잡아 둔다.
+ * <p>
+ * 저장소는 같은 key 의 객체가 있으면 업로드를 생략하지만, 도서에 연결(참조 수 증가)하기 전에 정리 작업이 객체를 지울 수 있다. 그래서
+ * 업로드 전에 행을 잠그고 updated_at 을 지금으로 옮겨 유예 시간 동안 정리 대상에서 빼 둔다. 정리 작업이 이미 지우고 있는 key 는 쓰지
+ * 않는다. 정리 작업({@link ImageReferenceService#collect()})은 같은 행을 조건부 UPDATE 한 번으로 가져가므로 둘 중 하나만 이긴다.
+ */
+@Component
+public class ImageReservation {
+
+    // PostgreSQL: 없으면 0 으로 만들고, 동시에 만들려는 요청은 충돌을 무시한다.
+    private static final String INSERT_POSTGRES_SQL = """
+        INSERT INTO image_refs (image_key, ref_count, updated_at)
+        VALUES (?, 0, ?)
+        ON CONFLICT (image_key) DO NOTHING
+        """;
+    // H2(개발/테스트): ON CONFLICT 미지원 - 없을 때만 생성, 동시 생성은 기본 키로 차단
+    private static final String INSERT_SQL = """
+        INSERT INTO image_refs (image_key, ref_count, updated_at)
+        SELECT ?, 0, ?
+        WHERE NOT EXISTS (SELECT 1 FROM image_refs WHERE image_key = ?)
+        """;
+    private static final String LOCK_SQL = """
+        SELECT ref_count, deleting_at FROM image_refs WHERE image_key = ? FOR UPDATE
+        """;
+    private static final String TOUCH_SQL = """
+        UPDATE image_refs SET updated_at = ? WHERE image_key = ?
+        """;
+
+    /**
+     * 업로드 전에 key 를 잡은 결과
+     */
+    public enum Result {
+        /**
+         * 다른 도서가 참조 중인 객체 - 저장소에 있으면 다시 올리지 않아도 된다.
+         */
+        REUSE,
+        /**
+         * 행이 없었거나 참조가 없던 key - 유예 시간 동안 지워지지 않도록 잡아 두었으니 다시 올린다.
+         */
+        UPLOAD,
+        /**
+         * 정리 작업이 지우고 있는 key - 올려도 곧 지워질 수 있으므로 쓰지 않는다.
+         */
+        UNAVAILABLE
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImageReservation(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 행을 잠그고, 지우는 중이 아니면 updated_at 을 지금으로 옮긴다. 없으면 참조 수 0 으로 만든다.
+     */
+    public Result reserve(String key) {
+        return transactionTemplate.execute(status -> {
+            List<Result> locked = jdbcTemplate.query(LOCK_SQL,
+                (rs, rowNum) -> rs.getTimestamp("deleting_at") != null
+                    ? Result.UNAVAILABLE
+                    : rs.getInt("ref_count") > 0 ? Result.REUSE : Result.UPLOAD,
+                key);
+            if (locked.isEmpty()) {
+                track(key);
+                return Result.UPLOAD;
+            }
+            if (locked.get(0) != Result.UNAVAILABLE) {
+                jdbcTemplate.update(TOUCH_SQL, Timestamp.from(Instant.now()), key);
+            }
+            return locked.get(0);
+        });
+    }
+
+    /**
+     * 참조 수 0 인 행을 만든다. 이미 있으면 그대로 둔다.
+     */
+    void track(String key) {
+        Timestamp now = Timestamp.from(Instant.now());
+        if (databaseDialect.isPostgres()) {
+            jdbcTemplate.update(INSERT_POSTGRES_SQL, key, now);
+        } else {
+            jdbcTemplate.update(INSERT_SQL, key, now, key);
+        }
+    }
+}
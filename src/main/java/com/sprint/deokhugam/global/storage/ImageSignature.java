@@ -0,0 +1,73 @@
+package com.sprint.deokhugam.global.storage;
+
+/**
+ * 파일 앞부분의 시그니처(magic bytes)로 이미지 형식을 판별한다. 업로드 요청의 Content-Type 은 클라이언트가 정하므로 믿지 않는다.
+ */
+final class ImageSignature {
+
+    /**
+     * 판별에 필요한 앞부분 길이 (WEBP: RIFF + 크기 4바이트 + WEBP)
+     */
+    static final int HEADER_LENGTH = 12;
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF87A = {'G', 'I', 'F', '8', '7', 'a'};
+    private static final byte[] GIF89A = {'G', 'I', 'F', '8', '9', 'a'};
+    private static final byte[] BMP = {'B', 'M'};
+    private static final byte[] RIFF = {'R', 'I', 'F', 'F'};
+    private static final byte[] WEBP = {'W', 'E', 'B', 'P'};
+
+    private ImageSignature() {
+    }
+
+    /**
+     * @param header 파일 앞부분. {@link #HEADER_LENGTH} 보다 짧을 수 있다.
+     * @return 판별한 MIME 타입, 알 수 없는 형식이면 null
+     */
+    static String detect(byte[] header) {
+        if (startsWith(header, 0, JPEG)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0, PNG)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0, GIF87A) || startsWith(header, 0, GIF89A)) {
+            return "image/gif";
+        }
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP)) {
+            return "image/webp";
+        }
+        if (startsWith(header, 0, BMP)) {
+            return "image/bmp";
+        }
+        return null;
+    }
+
+    /**
+     * @param contentType {@link #detect(byte[])} 가 판별한 MIME 타입
+     * @return 객체 key 에 붙일 확장자
+     */
+    static String extension(String contentType) {
+        return switch (contentType) {
+            case "image/jpeg" -> "jpg";
+            case "image/png" -> "png";
+            case "image/gif" -> "gif";
+            case "image/webp" -> "webp";
+            case "image/bmp" -> "bmp";
+            default -> "bin";
+        };
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] signature) {
+        if (header.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
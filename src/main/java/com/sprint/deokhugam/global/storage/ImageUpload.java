@@ -0,0 +1,75 @@
+package com.sprint.deokhugam.global.storage;
+
+import com.sprint.deokhugam.domain.book.exception.FileSizeExceededException;
+import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 저장소에 올릴 이미지의 검증 결과와 내용 해시 key.
+ * <p>
+ * 저장소 구현과 무관하게 선언된 타입, 크기, 파일 앞부분의 시그니처를 확인하고, multipart 임시 파일을 한 번 더 읽어 SHA-256 을 구한다.
+ *
+ * @param contentType 시그니처로 판별한 실제 MIME 타입
+ * @param sha256      내용의 SHA-256
+ */
+record ImageUpload(String key, String contentType, long size, byte[] sha256) {
+
+    static ImageUpload inspect(MultipartFile image, long maxImageSize) throws IOException {
+        // 파일 타입 검증
+        String contentType = image.getContentType();
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new InvalidFileTypeException(contentType);
+        }
+
+        // 파일 크기 검증 (예: 5MB 제한)
+        long size = image.getSize();
+        if (size > maxImageSize) {
+            throw new FileSizeExceededException(size, maxImageSize);
+        }
+
+        // 선언된 타입 대신 파일 앞부분의 시그니처로 실제 형식을 확인한다.
+        String detectedType;
+        try (InputStream in = image.getInputStream()) {
+            detectedType = ImageSignature.detect(in.readNBytes(ImageSignature.HEADER_LENGTH));
+        }
+        if (detectedType == null) {
+            throw new InvalidFileTypeException(contentType);
+        }
+
+        // 내용의 SHA-256 으로 key 를 정한다. 같은 이미지는 같은 key 가 된다.
+        byte[] digest = sha256(image);
+        String key = FileStorage.CONTENT_KEY_PREFIX + HexFormat.of().formatHex(digest) + "."
+            + ImageSignature.extension(detectedType);
+        return new ImageUpload(key, detectedType, size, digest);
+    }
+
+    private static byte[] sha256(MultipartFile image) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+
+    /**
+     * 같은 내용을 내용 해시가 아닌 고유 key 로 올린다. 정리 작업이 지우고 있는 key 대신 쓴다.
+     */
+    ImageUpload withUniqueKey() {
+        String uniqueKey = DirectUploadStorage.KEY_PREFIX + UUID.randomUUID().toString()
+            .replace("-", "") + "." + ImageSignature.extension(contentType);
+        return new ImageUpload(uniqueKey, contentType, size, sha256);
+    }
+}
@@ -0,0 +1,189 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * S3 없이 직접 업로드 흐름을 돌려 보기 위한 로컬 디스크 대체 구현.
+ * <p>
+ * 세션마다 일회용 토큰을 발급하고 {@link LocalUploadController} 가 토큰 주소로 들어온 PUT 본문을 디렉터리에 쓴다. 세션과 다른
+ * Content-Type, Content-Length 의 업로드는 S3 의 서명 검증처럼 거절한다. 객체 타입은 파일 앞부분의 시그니처로 판별한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "deokhugam.storage.direct-upload.backend", havingValue = "local")
+public class LocalDirectUploadStorage implements DirectUploadStorage {
+
+    static final String UPLOAD_PATH = "/api/storage/uploads/";
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final Path root;
+    private final Duration expiration;
+    private final Map<String, PendingUpload> pendingUploads = new ConcurrentHashMap<>();
+
+    public LocalDirectUploadStorage(
+        @Value("${deokhugam.storage.direct-upload.local.root:${java.io.tmpdir}/deokhugam-storage}")
+        Path root,
+        @Value("${deokhugam.storage.direct-upload.expiration:10m}") Duration expiration) {
+        this.root = root.toAbsolutePath().normalize();
+        this.expiration = expiration;
+    }
+
+    @Override
+    public UploadSession createUploadSession(String contentType, long contentLength) {
+        Instant now = Instant.now();
+        pendingUploads.values().removeIf(pending -> pending.expiresAt().isBefore(now));
+
+        String key = KEY_PREFIX + UUID.randomUUID().toString().replace("-", "");
+        String token = UUID.randomUUID().toString();
+        Instant expiresAt = now.plus(expiration);
+        pendingUploads.put(token, new PendingUpload(key, contentType, contentLength, expiresAt));
+
+        return new UploadSession(key, uploadUrl(token), "PUT",
+            Map.of("Content-Type", contentType), expiresAt);
+    }
+
+    /**
+     * 토큰 주소로 들어온 업로드 본문을 저장한다. 토큰은 한 번만 쓸 수 있다.
+     *
+     * @return 토큰이 없거나 만료되었거나 세션과 타입, 크기가 다르면 false
+     */
+    public boolean accept(String token, String contentType, long contentLength, InputStream body)
+        throws IOException {
+        PendingUpload pending = pendingUploads.remove(token);
+        if (pending == null || pending.expiresAt().isBefore(Instant.now())) {
+            log.warn("[LocalDirectUploadStorage] 만료되었거나 없는 업로드 토큰 - token: {}", token);
+            return false;
+        }
+        if (!pending.contentType().equals(contentType)
+            || pending.contentLength() != contentLength) {
+            log.warn("[LocalDirectUploadStorage] 세션과 다른 업로드 - key: {}, contentType: {}, size: {}",
+                pending.key(), contentType, contentLength);
+            return false;
+        }
+
+        Path target = resolve(pending.key());
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "upload-", ".part");
+        try {
+            long written;
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                // 선언한 길이보다 긴 본문은 한 바이트만 더 읽고 거절한다.
+                written = body.transferTo(new LimitedOutputStream(out, contentLength + 1));
+            }
+            if (written != contentLength) {
+                log.warn("[LocalDirectUploadStorage] 업로드 크기 불일치 - key: {}, expected: {}, actual: {}",
+                    pending.key(), contentLength, written);
+                return false;
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.info("[LocalDirectUploadStorage] 업로드 저장 완료 - key: {}, size: {}", pending.key(),
+            contentLength);
+        return true;
+    }
+
+    @Override
+    public Optional<UploadedObject> findUploadedObject(String key) {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] header;
+            try (InputStream in = Files.newInputStream(file)) {
+                header = in.readNBytes(ImageSignature.HEADER_LENGTH);
+            }
+            String contentType = ImageSignature.detect(header);
+            return Optional.of(new UploadedObject(key, Files.size(file),
+                contentType != null ? contentType : DEFAULT_CONTENT_TYPE));
+        } catch (IOException e) {
+            log.warn("[LocalDirectUploadStorage] 업로드 파일 확인 실패 - key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("[LocalDirectUploadStorage] 업로드 파일 삭제 중 오류 발생 - key: {}", key, e);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root)) {
+            throw new IllegalArgumentException("저장소 밖의 경로입니다: " + key);
+        }
+        return file;
+    }
+
+    private String uploadUrl(String token) {
+        // 웹 요청 밖(테스트 등)에서는 상대 경로를 준다.
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return UPLOAD_PATH + token;
+        }
+        return ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path(UPLOAD_PATH + token)
+            .toUriString();
+    }
+
+    private record PendingUpload(String key, String contentType, long contentLength,
+                                 Instant expiresAt) {
+
+    }
+
+    /**
+     * limit 바이트까지만 쓰고 나머지는 버린다. transferTo 의 반환값으로 실제 본문 길이를 알 수 있도록 쓴 척은 한다.
+     */
+    private static class LimitedOutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private long remaining;
+
+        LimitedOutputStream(OutputStream out, long limit) {
+            this.out = out;
+            this.remaining = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (remaining > 0) {
+                out.write(b);
+                remaining--;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            int n = (int) Math.min(len, remaining);
+            if (n > 0) {
+                out.write(b, off, n);
+                remaining -= n;
+            }
+        }
+    }
+}
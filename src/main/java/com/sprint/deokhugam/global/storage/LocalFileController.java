@@ -0,0 +1,190 @@
+package com.sprint.deokhugam.global.storage;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * {@link LocalFileStorage} 에 저장한 파일을 서명된 url 로 내려준다. 서명과 만료 시각이 인증을 대신한다.
+ * <p>
+ * 본문은 힙을 거치지 않는다. Tomcat 이 sendfile 을 지원하고 보낼 길이가 sendfile-min-size 이상이면 파일 경로와 구간만 요청 속성으로
+ * 넘겨 컨테이너가 sendfile 로 보내게 하고, 아니면 {@link FileChannel#transferTo} 로 응답 스트림에 복사한다. 단일 Range 요청은 206 으로
+ * 해당 구간만, 여러 구간 요청은 전체를 보낸다. Last-Modified 로 조건부 요청(304)을 처리한다.
+ * <p>
+ * 전송 방식별 처리 시간과 전송 바이트를 기록해 같은 부하로 S3 presigned url 과 처리량을 비교할 수 있다.
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = "deokhugam.storage.type", havingValue = "local")
+public class LocalFileController {
+
+    // Tomcat 이 sendfile 을 쓸 수 있을 때 요청에 넣어 주는 속성과, 앱이 보낼 파일을 넘기는 속성
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final String METRIC_PREFIX = "deokhugam.storage.local.serve";
+
+    private final LocalFileStorage localFileStorage;
+    private final MeterRegistry meterRegistry;
+    private final String cacheControl;
+    private final long sendfileMinSize;
+    private final DistributionSummary servedBytes;
+
+    public LocalFileController(LocalFileStorage localFileStorage,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.storage.local.cache-control:private, max-age=86400, immutable}")
+        String cacheControl,
+        @Value("${deokhugam.storage.local.sendfile-min-size:48KB}") DataSize sendfileMinSize) {
+        this.localFileStorage = localFileStorage;
+        this.meterRegistry = meterRegistry;
+        this.cacheControl = cacheControl;
+        this.sendfileMinSize = sendfileMinSize.toBytes();
+        this.servedBytes = DistributionSummary.builder(METRIC_PREFIX + ".bytes")
+            .description("로컬 저장소가 응답 본문으로 보낸 바이트 수")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @GetMapping(LocalFileStorage.FILE_PATH + "**")
+    public void serve(@RequestParam(LocalFileStorage.EXPIRES_PARAMETER) long expires,
+        @RequestParam(LocalFileStorage.SIGNATURE_PARAMETER) String signature,
+        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long start = System.nanoTime();
+        String mode = serve(key(request), expires, signature, request, response);
+        Timer.builder(METRIC_PREFIX)
+            .description("로컬 저장소 파일 응답 시간")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 처리 방식 (메트릭 태그)
+     */
+    private String serve(String key, long expires, String signature, HttpServletRequest request,
+        HttpServletResponse response) throws IOException {
+        if (!localFileStorage.verify(key, expires, signature)) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return "forbidden";
+        }
+        Path file;
+        try {
+            file = localFileStorage.resolve(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return "forbidden";
+        }
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return "not-found";
+        }
+
+        long length = Files.size(file);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (new ServletWebRequest(request, response)
+            .checkNotModified(Files.getLastModifiedTime(file).toMillis())) {
+            return "not-modified";
+        }
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+            .orElse(MediaType.APPLICATION_OCTET_STREAM)
+            .toString());
+
+        long rangeStart = 0;
+        long rangeEnd = length - 1;
+        HttpRange range = singleRange(request.getHeader(HttpHeaders.RANGE));
+        if (range != null) {
+            try {
+                rangeStart = range.getRangeStart(length);
+                rangeEnd = range.getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                rangeStart = length;
+            }
+            if (rangeStart >= length || rangeEnd < rangeStart) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return "unsatisfiable";
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                "bytes " + rangeStart + "-" + rangeEnd + "/" + length);
+        }
+        long count = rangeEnd - rangeStart + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+        if (count <= 0 || "HEAD".equals(request.getMethod())) {
+            return "head";
+        }
+
+        servedBytes.record(count);
+        if (count >= sendfileMinSize
+            && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, rangeStart);
+            request.setAttribute(SENDFILE_END, rangeEnd + 1);
+            return "sendfile";
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = rangeStart;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        return range != null ? "partial" : "transfer";
+    }
+
+    /**
+     * @return 구간이 하나인 Range 요청이면 그 구간, 없거나 여러 구간이거나 형식이 틀리면 null (전체를 보낸다)
+     */
+    private HttpRange singleRange(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("[LocalFileController] 잘못된 Range 헤더 무시 - range: {}", header);
+            return null;
+        }
+    }
+
+    private String key(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return UriUtils.decode(path.substring(LocalFileStorage.FILE_PATH.length()),
+            StandardCharsets.UTF_8);
+    }
+}
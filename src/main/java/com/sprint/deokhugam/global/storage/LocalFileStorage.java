@@ -0,0 +1,273 @@
+package com.sprint.deokhugam.global.storage;
+
+import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * AWS 없이 개발/테스트/사내 서버에서 쓰는 로컬 디스크 저장소.
+ * <p>
+ * 객체는 root 아래 key 경로에 파일로 저장하고 {@link LocalFileController} 가 내려준다. 조회 url 은 S3 presigned url 처럼 만료
+ * 시각과 HMAC-SHA256 서명을 붙인다. 만료 시각은 유효 시간의 절반 단위로 맞춰 그 동안 같은 url 을 돌려주므로, S3 의 presigned url 캐시와
+ * 마찬가지로 브라우저 이미지 캐시를 재사용할 수 있고 남은 유효 시간은 항상 절반 이상이다.
+ * <p>
+ * 서명 키를 설정하지 않으면 시작할 때마다 임의로 만든다. 이 경우 재시작 전의 url 은 무효가 되고 여러 대가 같은 디렉터리를 쓸 수 없다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "deokhugam.storage.type", havingValue = "local")
+public class LocalFileStorage implements FileStorage {
+
+    static final String FILE_PATH = "/api/storage/files/";
+    static final String EXPIRES_PARAMETER = "expires";
+    static final String SIGNATURE_PARAMETER = "signature";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ImageReservation imageReservation;
+    private final Path root;
+    private final long maxImageSize;
+    private final long expirationSeconds;
+    private final SecretKeySpec signingKey;
+    private final Counter deduplicatedCounter;
+
+    public LocalFileStorage(ImageReservation imageReservation,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.storage.local.root:${java.io.tmpdir}/deokhugam-storage}") Path root,
+        @Value("${deokhugam.storage.local.url-expiration:600}") long expirationSeconds,
+        @Value("${deokhugam.storage.local.signing-key:}") String signingKey,
+        @Value("${deokhugam.storage.local.max-image-size:10MB}") DataSize maxImageSize) {
+        this.imageReservation = imageReservation;
+        this.root = root.toAbsolutePath().normalize();
+        this.expirationSeconds = expirationSeconds;
+        this.maxImageSize = maxImageSize.toBytes();
+        this.signingKey = new SecretKeySpec(signingKey.isBlank()
+            ? randomKey()
+            : signingKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.deduplicatedCounter = Counter.builder("deokhugam.storage.upload.deduplicated")
+            .description("같은 내용의 객체가 있어 업로드를 생략한 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String uploadImage(MultipartFile image) throws IOException {
+        ImageUpload upload = ImageUpload.inspect(image, maxImageSize);
+        // 객체를 확인하기 전에 행을 잡아, 도서에 연결하기 전에 정리 작업이 지우지 못하게 한다.
+        ImageReservation.Result reservation = imageReservation.reserve(upload.key());
+        if (reservation == ImageReservation.Result.REUSE && exists(upload.key())) {
+            deduplicatedCounter.increment();
+            log.info("[LocalFileStorage] 같은 내용의 이미지가 있어 업로드 생략 - key: {}", upload.key());
+            return upload.key();
+        }
+        if (reservation == ImageReservation.Result.UNAVAILABLE) {
+            log.info("[LocalFileStorage] 정리 중인 key 라 고유 key 로 업로드 - key: {}", upload.key());
+            upload = upload.withUniqueKey();
+        }
+        String key = upload.key();
+
+        try (InputStream in = image.getInputStream()) {
+            write(key, in);
+        }
+        return key;
+    }
+
+    @Override
+    public long maxImageSize() {
+        return maxImageSize;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public InputStream openImage(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public void putImage(String key, byte[] content, String contentType) {
+        try {
+            write(key, new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteImage(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("[LocalFileStorage] 이미지 삭제 중 오류 발생 - key: {}", key, e);
+        }
+    }
+
+    @Override
+    public void deleteImageWithDerivatives(String key) {
+        Path file = resolve(key);
+        if (!Files.isDirectory(file.getParent())) {
+            return;
+        }
+        String prefix = file.getFileName().toString();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(file.getParent(),
+            path -> path.getFileName().toString().startsWith(prefix))) {
+            for (Path path : files) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteObjects(Collection<String> keys) {
+        Map<String, String> failed = new HashMap<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | IllegalArgumentException e) {
+                failed.put(key, e.toString());
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public String generatePresignedUrl(String key) {
+        long expires = expiresAt(System.currentTimeMillis() / 1000);
+        String path = FILE_PATH + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+            + "?" + EXPIRES_PARAMETER + "=" + expires
+            + "&" + SIGNATURE_PARAMETER + "=" + sign(key, expires);
+
+        // 웹 요청 밖(배치, 테스트 등)에서는 상대 경로를 준다.
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return path;
+        }
+        return ServletUriComponentsBuilder.fromCurrentContextPath().toUriString() + path;
+    }
+
+    @Override
+    public Map<String, String> presignAll(Collection<String> keys) {
+        Map<String, String> urls = new HashMap<>();
+        for (String key : keys) {
+            if (key == null || key.isBlank() || urls.containsKey(key)) {
+                continue;
+            }
+            urls.put(key, generatePresignedUrl(key));
+        }
+        return urls;
+    }
+
+    @Override
+    public String uploadFile(File file) {
+        // 파일 타입 검증
+        String fileName = file.getName();
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        if (!extension.equals("log")) {
+            throw new InvalidFileTypeException(extension);
+        }
+
+        String key = "logs/" + fileName;
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            write(key, in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return key;
+    }
+
+    /**
+     * @return 서명이 맞고 만료되지 않았으면 true
+     */
+    boolean verify(String key, long expires, String signature) {
+        if (expires < System.currentTimeMillis() / 1000) {
+            return false;
+        }
+        return MessageDigest.isEqual(sign(key, expires).getBytes(StandardCharsets.US_ASCII),
+            signature.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 현재 시각이 속한 구간(유효 시간의 절반)의 시작 시각에 유효 시간을 더한다. 같은 구간에서는 같은 값이다.
+     */
+    long expiresAt(long nowSeconds) {
+        long window = Math.max(expirationSeconds / 2, 1);
+        return nowSeconds - nowSeconds % window + expirationSeconds;
+    }
+
+    /**
+     * @throws IllegalArgumentException key 가 root 밖을 가리키면
+     */
+    Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("저장소 밖의 경로입니다: " + key);
+        }
+        return file;
+    }
+
+    /**
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 옮겨, 읽는 쪽이 쓰다 만 파일을 보지 않도록 한다.
+     */
+    private void write(String key, InputStream in) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "upload-", ".part");
+        try {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String sign(String key, long expires) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            byte[] signature = mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] randomKey() {
+        log.warn("[LocalFileStorage] 서명 키가 없어 임의로 생성 - 재시작하면 이전 url 은 무효가 됩니다.");
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return key;
+    }
+}
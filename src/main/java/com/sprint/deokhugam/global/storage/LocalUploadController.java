@@ -0,0 +1,37 @@
+package com.sprint.deokhugam.global.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로컬 직접 업로드 대체 구현의 업로드 주소. presigned PUT url 처럼 토큰이 인증을 대신한다.
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(LocalDirectUploadStorage.UPLOAD_PATH)
+@ConditionalOnProperty(name = "deokhugam.storage.direct-upload.backend", havingValue = "local")
+public class LocalUploadController {
+
+    private final LocalDirectUploadStorage localDirectUploadStorage;
+
+    @PutMapping("{token}")
+    public ResponseEntity<Void> upload(@PathVariable String token, HttpServletRequest request)
+        throws IOException {
+        boolean accepted = localDirectUploadStorage.accept(token, request.getContentType(),
+            request.getContentLengthLong(), request.getInputStream());
+
+        return accepted
+            ? ResponseEntity.ok().build()
+            : ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.sprint.deokhugam.global.storage;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 저장소 객체 삭제 큐.
+ * <p>
+ * 도서 수정/삭제 요청은 저장소를 직접 호출하지 않고 object_deletions 에 key 만 기록한다. 기록은 호출한 쪽의 트랜잭션에 포함되어 도서
+ * 변경이 롤백되면 함께 사라지고, 커밋되면 저장소가 잠시 응답하지 않아도 남아 있다.
+ * <p>
+ * 주기 작업이 만기된 key 를 모아 DeleteObjects 한 번(최대 1000개)으로 지운다. 가져온 key 는 짧은 트랜잭션에서 lease 만큼 뒤로 미뤄
+ * 다른 인스턴스가 가져가지 않게 하고, 저장소 호출은 트랜잭션 밖에서 한다. 처리 중 인스턴스가 죽으면 lease 가 끝난 뒤 다시 처리된다. 실패한
+ * key 는 지수 백오프로 다시 시도하고, max-attempts 를 넘기면 더 시도하지 않고 고아 객체로 남겨 메트릭과 로그로 알린다.
+ */
+@Slf4j
+@Component
+public class ObjectDeletionQueue {
+
+    // PostgreSQL: 이미 대기 중인 key 는 그대로 둔다.
+    private static final String INSERT_POSTGRES_SQL = """
+        INSERT INTO object_deletions (object_key, attempts, next_attempt_at, created_at)
+        VALUES (?, 0, ?, ?)
+        ON CONFLICT (object_key) DO NOTHING
+        """;
+    // H2(개발/테스트): ON CONFLICT 미지원 - 없을 때만 생성
+    private static final String INSERT_SQL = """
+        INSERT INTO object_deletions (object_key, attempts, next_attempt_at, created_at)
+        SELECT ?, 0, ?, ?
+        WHERE NOT EXISTS (SELECT 1 FROM object_deletions WHERE object_key = ?)
+        """;
+    private static final String SELECT_DUE_SQL = """
+        SELECT object_key, attempts FROM object_deletions
+        WHERE next_attempt_at <= ? AND attempts < ?
+        ORDER BY next_attempt_at
+        LIMIT ?
+        """;
+    private static final String LOCK_CLAUSE = " FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_SQL = """
+        UPDATE object_deletions SET next_attempt_at = ? WHERE object_key = ?
+        """;
+    private static final String RETRY_SQL = """
+        UPDATE object_deletions SET attempts = ?, next_attempt_at = ?, last_error = ?
+        WHERE object_key = ?
+        """;
+    private static final String DELETE_SQL = "DELETE FROM object_deletions WHERE object_key = ?";
+    private static final String COUNT_SQL = """
+        SELECT COUNT(*) FROM object_deletions WHERE attempts < ?
+        """;
+    private static final String COUNT_ORPHANS_SQL = """
+        SELECT COUNT(*) FROM object_deletions WHERE attempts >= ?
+        """;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorage fileStorage;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong orphans = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter retriedCounter;
+
+    public ObjectDeletionQueue(JdbcTemplate jdbcTemplate,
+        DatabaseDialect databaseDialect,
+        PlatformTransactionManager transactionManager,
+        FileStorage fileStorage,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.storage.deletion.batch-size:1000}") int batchSize,
+        @Value("${deokhugam.storage.deletion.max-batches-per-run:10}") int maxBatchesPerRun,
+        @Value("${deokhugam.storage.deletion.lease:5m}") Duration lease,
+        @Value("${deokhugam.storage.deletion.initial-backoff:30s}") Duration initialBackoff,
+        @Value("${deokhugam.storage.deletion.max-backoff:6h}") Duration maxBackoff,
+        @Value("${deokhugam.storage.deletion.max-attempts:12}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseDialect = databaseDialect;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.fileStorage = fileStorage;
+        this.batchSize = Math.min(batchSize, FileStorage.MAX_DELETE_BATCH);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+
+        Gauge.builder("deokhugam.storage.deletion.backlog", backlog, AtomicLong::get)
+            .description("삭제 대기 중인 저장소 객체 수")
+            .register(meterRegistry);
+        Gauge.builder("deokhugam.storage.deletion.orphans", orphans, AtomicLong::get)
+            .description("재시도 횟수를 넘겨 남아 있는 저장소 객체 수")
+            .register(meterRegistry);
+        this.deletedCounter = Counter.builder("deokhugam.storage.deletion.deleted")
+            .description("삭제 큐에서 지운 저장소 객체 수")
+            .register(meterRegistry);
+        this.retriedCounter = Counter.builder("deokhugam.storage.deletion.retried")
+            .description("삭제에 실패해 다시 시도하도록 미룬 저장소 객체 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 객체 삭제를 예약한다. 호출한 쪽의 트랜잭션이 커밋된 뒤에 지워진다.
+     */
+    public void enqueue(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        boolean postgres = databaseDialect.isPostgres();
+        List<Object[]> args = keys.stream()
+            .distinct()
+            .map(key -> postgres
+                ? new Object[]{key, now, now}
+                : new Object[]{key, now, now, key})
+            .toList();
+        jdbcTemplate.batchUpdate(postgres ? INSERT_POSTGRES_SQL : INSERT_SQL, args);
+        log.debug("[ObjectDeletionQueue] 객체 삭제 예약 - keys: {}", keys);
+    }
+
+    @Scheduled(fixedDelayString = "${deokhugam.storage.deletion.drain-interval-ms:5000}")
+    public void drain() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (drainBatch() < batchSize) {
+                    break;
+                }
+            }
+            Long pending = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, maxAttempts);
+            Long orphaned = jdbcTemplate.queryForObject(COUNT_ORPHANS_SQL, Long.class,
+                maxAttempts);
+            backlog.set(pending != null ? pending : 0L);
+            orphans.set(orphaned != null ? orphaned : 0L);
+        } catch (Exception e) {
+            log.error("[ObjectDeletionQueue] 객체 삭제 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    int drainBatch() {
+        Instant now = Instant.now();
+        List<PendingDeletion> claimed = transactionTemplate.execute(status -> claim(now));
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> failed;
+        try {
+            failed = fileStorage.deleteObjects(claimed.stream().map(PendingDeletion::key).toList());
+        } catch (Exception e) {
+            log.warn("[ObjectDeletionQueue] 삭제 요청 실패 - 건수: {}", claimed.size(), e);
+            String error = String.valueOf(e.getMessage());
+            failed = new HashMap<>();
+            for (PendingDeletion pending : claimed) {
+                failed.put(pending.key(), error);
+            }
+        }
+
+        List<Object[]> deletes = new ArrayList<>();
+        List<Object[]> retries = new ArrayList<>();
+        for (PendingDeletion pending : claimed) {
+            if (!failed.containsKey(pending.key())) {
+                deletes.add(new Object[]{pending.key()});
+                continue;
+            }
+            String error = String.valueOf(failed.get(pending.key()));
+            int attempts = pending.attempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("[ObjectDeletionQueue] 재시도 횟수 초과 - 고아 객체로 남김 - key: {}, error: {}",
+                    pending.key(), error);
+            }
+            retries.add(new Object[]{
+                attempts,
+                Timestamp.from(now.plus(backoff(attempts))),
+                truncate(error),
+                pending.key()
+            });
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+            deletedCounter.increment(deletes.size());
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retries);
+            retriedCounter.increment(retries.size());
+        }
+        log.debug("[ObjectDeletionQueue] 객체 삭제 완료 - 삭제: {}, 재시도: {}", deletes.size(),
+            retries.size());
+        return claimed.size();
+    }
+
+    /**
+     * 만기된 key 를 가져와 lease 만큼 미룬다. 트랜잭션은 저장소를 호출하기 전에 끝난다.
+     */
+    private List<PendingDeletion> claim(Instant now) {
+        List<PendingDeletion> due = jdbcTemplate.query(selectSql(), (rs, rowNum) ->
+                new PendingDeletion(rs.getString("object_key"), rs.getInt("attempts")),
+            Timestamp.from(now), maxAttempts, batchSize);
+        if (!due.isEmpty()) {
+            Timestamp leasedUntil = Timestamp.from(now.plus(lease));
+            jdbcTemplate.batchUpdate(LEASE_SQL, due.stream()
+                .map(pending -> new Object[]{leasedUntil, pending.key()})
+                .toList());
+        }
+        return due;
+    }
+
+    /**
+     * @return initial-backoff * 2^(attempts-1), max-backoff 이하
+     */
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private String selectSql() {
+        return databaseDialect.isPostgres()
+            ? SELECT_DUE_SQL.stripTrailing() + LOCK_CLAUSE
+            : SELECT_DUE_SQL;
+    }
+
+    private record PendingDeletion(String key, int attempts) {
+
+    }
+}
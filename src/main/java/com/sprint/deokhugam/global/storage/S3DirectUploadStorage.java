@@ -0,0 +1,135 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * S3 presigned PUT url 로 직접 업로드를 받는다. Content-Type 과 Content-Length 를 서명에 포함하므로 세션을 만들 때 정한 타입,
+ * 크기와 다른 업로드는 S3 가 거절한다. 다만 본문은 서명하지 않으므로 확정할 때 앞부분만 범위 GET 으로 읽어 실제 형식을 확인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "deokhugam.storage.direct-upload.backend", havingValue = "s3",
+    matchIfMissing = true)
+public class S3DirectUploadStorage implements DirectUploadStorage {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final String bucket;
+    private final Duration expiration;
+
+    public S3DirectUploadStorage(S3Client s3Client,
+        S3Presigner s3Presigner,
+        @Value("${deokhugam.storage.s3.bucket}") String bucket,
+        @Value("${deokhugam.storage.direct-upload.expiration:10m}") Duration expiration) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.bucket = bucket;
+        this.expiration = expiration;
+    }
+
+    @Override
+    public UploadSession createUploadSession(String contentType, long contentLength) {
+        String key = KEY_PREFIX + UUID.randomUUID().toString().replace("-", "");
+
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .contentLength(contentLength)
+            .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(
+            PutObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .putObjectRequest(putRequest)
+                .build());
+
+        // host 는 브라우저가 정하므로 클라이언트에 넘기지 않는다.
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            if (!"host".equalsIgnoreCase(header.getKey())) {
+                headers.put(header.getKey(), String.join(",", header.getValue()));
+            }
+        }
+
+        log.info("[S3DirectUploadStorage] 업로드 세션 발급 - key: {}, contentType: {}, size: {}",
+            key, contentType, contentLength);
+        return new UploadSession(key, presigned.url().toString(), "PUT", headers,
+            presigned.expiration());
+    }
+
+    @Override
+    public Optional<UploadedObject> findUploadedObject(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+            byte[] header = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=0-" + (ImageSignature.HEADER_LENGTH - 1))
+                    .build())
+                .asByteArray();
+            return Optional.of(new UploadedObject(key, head.contentLength(),
+                contentType(key, header, head.contentType())));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 시그니처로 판별한 타입. 알 수 없는 형식이거나 업로드할 때 선언한 타입과 다르면 이미지로 보지 않는다.
+     */
+    private String contentType(String key, byte[] header, String declared) {
+        String detected = ImageSignature.detect(header);
+        if (detected == null || !detected.equals(normalize(declared))) {
+            log.warn("[S3DirectUploadStorage] 업로드 내용이 선언한 타입과 다름 - key: {}, declared: {}, "
+                + "detected: {}", key, declared, detected);
+            return DEFAULT_CONTENT_TYPE;
+        }
+        return detected;
+    }
+
+    private static String normalize(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return "image/jpg".equals(type) ? "image/jpeg" : type;
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+        } catch (Exception e) {
+            log.warn("[S3DirectUploadStorage] 업로드 객체 삭제 중 오류 발생 - key: {}", key, e);
+        }
+    }
+}
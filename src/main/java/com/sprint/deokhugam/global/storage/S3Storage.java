@@ -1,76 +1,299 @@
 package com.sprint.deokhugam.global.storage;
 
-import com.sprint.deokhugam.domain.book.exception.FileSizeExceededException;
 import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
+import com.sprint.deokhugam.global.cache.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+/**
+ * S3 이미지/로그 파일 저장소.
+ * <p>
+ * 썸네일 presigned url 은 객체 key 별로 캐시해 목록 조회마다 다시 서명하지 않는다. 서명 유효 시간의 절반이 지나면 다시 서명하되, 같은 시각에
+ * 몰리지 않도록 항목마다 유효 시간의 최대 10% 만큼 앞당긴다. 다시 서명하기 전까지는 같은 url 을 돌려주고 응답 Cache-Control 을 고정하므로
+ * 브라우저가 이미지 캐시를 재사용할 수 있다.
+ * <p>
+ * 이미지는 multipart 임시 파일에서 스트림으로 읽어 올리고, 형식은 앞부분 몇 바이트의 시그니처로 확인한다. threshold 를 넘는 파일은 multipart
+ * 업로드로 파트 크기만큼씩 나눠 올린다. 같은 내용의 객체를 다른 도서가 참조하고 있으면 {@link ImageReservation} 으로 행을 잡은 뒤
+ * HEAD 로 확인하고 올리지 않는다. 참조가 없던 key 는 정리 작업과 겹치지 않도록 다시 올린다.
+ */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "deokhugam.storage.type", havingValue = "s3")
-public class S3Storage {
+public class S3Storage implements FileStorage {
+
+    private static final double REFRESH_RATIO = 0.5;
+    private static final double JITTER_RATIO = 0.1;
+    // S3 multipart 업로드는 마지막 파트를 제외하고 5MB 이상이어야 한다.
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
 
     private final S3Client s3Client;
 
     private final S3Presigner s3Presigner;
 
+    private final ImageReservation imageReservation;
+
     private final String bucket;
 
-    private final long MAX_SIZE = 5 * 1024 * 1024;
+    private final long maxImageSize;
+    private final long multipartThreshold;
+    private final long partSize;
+
+    private final Duration signatureDuration;
+    private final String cacheControl;
+    private final LruCache<String, SignedUrl> presignedUrls;
+    private final Counter signedCounter;
+    private final Counter deduplicatedCounter;
 
     public S3Storage(S3Client s3Client,
         S3Presigner s3Presigner,
-        @Value("${deokhugam.storage.s3.bucket}") String bucket) {
+        ImageReservation imageReservation,
+        MeterRegistry meterRegistry,
+        @Value("${deokhugam.storage.s3.bucket}") String bucket,
+        @Value("${deokhugam.storage.s3.presigned-url-expiration:600}") long expirationSeconds,
+        @Value("${deokhugam.storage.s3.presigned-url-cache.max-size:10000}") int cacheMaxSize,
+        @Value("${deokhugam.storage.s3.presigned-url-cache.cache-control:private, max-age=86400, immutable}")
+        String cacheControl,
+        @Value("${deokhugam.storage.s3.upload.max-image-size:10MB}") DataSize maxImageSize,
+        @Value("${deokhugam.storage.s3.upload.multipart-threshold:6MB}") DataSize multipartThreshold,
+        @Value("${deokhugam.storage.s3.upload.part-size:5MB}") DataSize partSize) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
+        this.imageReservation = imageReservation;
         this.bucket = bucket;
+        this.maxImageSize = maxImageSize.toBytes();
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.max(partSize.toBytes(), MIN_PART_SIZE);
+        if (this.multipartThreshold >= this.maxImageSize) {
+            log.warn("[S3Storage] multipart-threshold 가 max-image-size 이상이라 multipart 업로드를 쓰지 않음 "
+                + "- threshold: {}, maxImageSize: {}", multipartThreshold, maxImageSize);
+        }
+        this.signatureDuration = Duration.ofSeconds(expirationSeconds);
+        this.cacheControl = cacheControl;
+        this.presignedUrls = new LruCache<>("presigned-url", cacheMaxSize, signatureDuration,
+            meterRegistry);
+        this.signedCounter = Counter.builder("deokhugam.storage.presigned-url.signed")
+            .description("새로 서명한 presigned url 수")
+            .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("deokhugam.storage.upload.deduplicated")
+            .description("같은 내용의 객체가 있어 업로드를 생략한 수")
+            .register(meterRegistry);
     }
 
     /**
      * S3에 이미지 업로드
      */
+    @Override
     public String uploadImage(MultipartFile image) throws IOException {
+        ImageUpload upload = ImageUpload.inspect(image, maxImageSize);
+        // 객체를 확인하기 전에 행을 잡아, 도서에 연결하기 전에 정리 작업이 지우지 못하게 한다.
+        ImageReservation.Result reservation = imageReservation.reserve(upload.key());
+        if (reservation == ImageReservation.Result.REUSE && exists(upload.key())) {
+            deduplicatedCounter.increment();
+            log.info("[S3Storage] 같은 내용의 이미지가 있어 업로드 생략 - key: {}", upload.key());
+            return upload.key();
+        }
+        if (reservation == ImageReservation.Result.UNAVAILABLE) {
+            log.info("[S3Storage] 정리 중인 key 라 고유 key 로 업로드 - key: {}", upload.key());
+            upload = upload.withUniqueKey();
+        }
+        String key = upload.key();
 
-        // 파일 타입 검증
-        String contentType = image.getContentType();
-        if (contentType == null || !contentType.startsWith("image/")) {
-            throw new InvalidFileTypeException(contentType);
+        // 전체를 메모리에 올리지 않고 multipart 임시 파일에서 바로 읽어 보낸다.
+        if (upload.size() > multipartThreshold) {
+            uploadMultipart(image, key, upload.contentType());
+        } else {
+            // 메타 데이터 설정 - S3 가 받은 내용의 체크섬을 검증한다.
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(upload.contentType())
+                .contentLength(upload.size())
+                .checksumSHA256(Base64.getEncoder().encodeToString(upload.sha256()))
+                .build();
+
+            try (InputStream in = image.getInputStream()) {
+                s3Client.putObject(putRequest, RequestBody.fromInputStream(in, upload.size()));
+            }
         }
 
-        // 파일 크기 검증 (예: 5MB 제한)
-        if (image.getSize() > MAX_SIZE) {
-            throw new FileSizeExceededException(image.getSize(), MAX_SIZE);
+        return key;
+    }
+
+    @Override
+    public long maxImageSize() {
+        return maxImageSize;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
         }
+    }
 
-        // UUID 앞에서 12글자만 추출
-        String shortUUID = UUID.randomUUID().toString().replace("-", "").substring(0, 12);
-        String key = "image/" + shortUUID + "_" + image.getOriginalFilename();
+    /**
+     * 파트 크기만큼씩 나눠 올린다. 파트마다 입력 스트림에서 필요한 만큼만 읽으므로 메모리 사용량은 파일 크기와 무관하다. 중간에 실패하면 S3 에
+     * 남은 파트를 지우도록 업로드를 중단한다.
+     */
+    private void uploadMultipart(MultipartFile image, String key, String contentType)
+        throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build())
+            .uploadId();
 
-        // 메타 데이터 설정
+        try (InputStream in = image.getInputStream()) {
+            List<CompletedPart> parts = new ArrayList<>();
+            long remaining = image.getSize();
+            int partNumber = 1;
+            while (remaining > 0) {
+                long length = Math.min(partSize, remaining);
+                UploadPartRequest partRequest = UploadPartRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength(length)
+                    .build();
+                String eTag = s3Client.uploadPart(partRequest,
+                        RequestBody.fromInputStream(new PartInputStream(in, length), length))
+                    .eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                remaining -= length;
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        } catch (IOException | RuntimeException e) {
+            abortMultipart(key, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortMultipart(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+        } catch (Exception e) {
+            log.warn("[S3Storage] multipart 업로드 중단 실패 - key: {}, uploadId: {}", key, uploadId,
+                e);
+        }
+    }
+
+    @Override
+    public InputStream openImage(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .build());
+    }
+
+    @Override
+    public void putImage(String key, byte[] content, String contentType) {
         PutObjectRequest putRequest = PutObjectRequest.builder()
             .bucket(bucket)
             .key(key)
+            .contentType(contentType)
             .build();
 
-        s3Client.putObject(putRequest, RequestBody.fromBytes(image.getBytes()));
+        s3Client.putObject(putRequest, RequestBody.fromBytes(content));
+    }
 
-        return key;
+    @Override
+    public void deleteImageWithDerivatives(String key) {
+        List<ObjectIdentifier> objects = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(key)
+                .build())
+            .contents().stream()
+            .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+            .toList();
+        if (objects.isEmpty()) {
+            return;
+        }
+
+        s3Client.deleteObjects(DeleteObjectsRequest.builder()
+            .bucket(bucket)
+            .delete(Delete.builder().objects(objects).build())
+            .build());
     }
 
+    @Override
+    public Map<String, String> deleteObjects(Collection<String> keys) {
+        List<String> distinct = keys.stream().distinct().toList();
+        Map<String, String> failed = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += MAX_DELETE_BATCH) {
+            List<ObjectIdentifier> objects = distinct
+                .subList(from, Math.min(from + MAX_DELETE_BATCH, distinct.size()))
+                .stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+            // quiet 모드 - 응답에는 실패한 key 만 담긴다.
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder().objects(objects).quiet(true).build())
+                .build());
+            response.errors()
+                .forEach(error -> failed.put(error.key(), error.code() + ": " + error.message()));
+        }
+        return failed;
+    }
+
+    @Override
     public void deleteImage(String key) {
         try {
             DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
@@ -84,23 +307,60 @@ public class S3Storage {
         }
     }
 
+    @Override
     public String generatePresignedUrl(String key) {
+        long now = System.currentTimeMillis();
+        SignedUrl cached = presignedUrls.get(key);
+        if (cached != null && now < cached.refreshAt()) {
+            return cached.url();
+        }
+        return sign(key, now);
+    }
+
+    /**
+     * 한 페이지의 썸네일 key 를 모아 캐시에 없거나 다시 서명할 때가 된 것만 한 번에 서명한다.
+     */
+    @Override
+    public Map<String, String> presignAll(Collection<String> keys) {
+        long now = System.currentTimeMillis();
+        Map<String, String> urls = new HashMap<>();
+        for (String key : keys) {
+            if (key == null || key.isBlank() || urls.containsKey(key)) {
+                continue;
+            }
+            SignedUrl cached = presignedUrls.get(key);
+            urls.put(key, cached != null && now < cached.refreshAt()
+                ? cached.url()
+                : sign(key, now));
+        }
+        return urls;
+    }
+
+    private String sign(String key, long now) {
         // Presigned Url 생성
         GetObjectRequest getRequest = GetObjectRequest.builder()
             .bucket(bucket)
             .key(key)
+            .responseCacheControl(cacheControl)
             .build();
 
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-            .signatureDuration(Duration.ofMinutes(10))
+            .signatureDuration(signatureDuration)
             .getObjectRequest(getRequest)
             .build();
 
-        return s3Presigner.presignGetObject(presignRequest)
+        String url = s3Presigner.presignGetObject(presignRequest)
             .url()
             .toString();
+        signedCounter.increment();
+
+        long lifetime = signatureDuration.toMillis();
+        long jitter = (long) (ThreadLocalRandom.current().nextDouble() * lifetime * JITTER_RATIO);
+        presignedUrls.put(key, new SignedUrl(url, now + (long) (lifetime * REFRESH_RATIO) - jitter));
+        return url;
     }
 
+    @Override
     public String uploadFile(File file) {
         // 파일 타입 검증
         String fileName = file.getName();
@@ -123,4 +383,69 @@ public class S3Storage {
 
         return key;
     }
+
+    /**
+     * 파트 하나 길이만큼만 읽는 스트림. SDK 가 파트 본문을 다 읽은 뒤 닫아도 원본 스트림은 닫지 않는다.
+     */
+    private static class PartInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        PartInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * @param refreshAt 이 시각(epoch ms) 이후 조회하면 다시 서명한다.
+     */
+    private record SignedUrl(String url, long refreshAt) {
+
+    }
 }
@@ -0,0 +1,99 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 직접 업로드 세션으로 발급한 key 를 발급받은 사용자에게 묶어 둔다.
+ * <p>
+ * 세션을 만들 때 key 와 사용자를 staged_uploads 에 기록하고, 도서 등록/수정에서 key 를 쓰려면 같은 사용자가 행을 지워야 한다. 지우기는
+ * 한 번만 성공하므로 같은 key 를 동시에 넘긴 요청 중 하나만 확정하고, 다른 사용자가 받은 key 나 이미 쓴 key 는 확정하지 않는다. 기한
+ * 안에 쓰지 않은 key 는 다음 세션 발급 때 행을 지우고 올라갔을 수 있는 객체를 삭제 큐에 넣는다.
+ */
+@Slf4j
+@Component
+public class StagedUploadRegistry {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO staged_uploads (object_key, user_id, expires_at, created_at)
+        VALUES (?, ?, ?, ?)
+        """;
+    private static final String CLAIM_SQL = """
+        DELETE FROM staged_uploads
+        WHERE object_key = ? AND user_id = ? AND expires_at > ?
+        """;
+    private static final String EXPIRED_SQL = """
+        SELECT object_key FROM staged_uploads
+        WHERE expires_at <= ?
+        ORDER BY expires_at
+        LIMIT ?
+        """;
+    private static final String DELETE_EXPIRED_SQL = """
+        DELETE FROM staged_uploads WHERE object_key = ? AND expires_at <= ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectDeletionQueue objectDeletionQueue;
+    private final Duration claimTtl;
+    private final int pruneBatchSize;
+
+    public StagedUploadRegistry(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        ObjectDeletionQueue objectDeletionQueue,
+        @Value("${deokhugam.storage.direct-upload.claim-ttl:1h}") Duration claimTtl,
+        @Value("${deokhugam.storage.direct-upload.prune-batch-size:100}") int pruneBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectDeletionQueue = objectDeletionQueue;
+        this.claimTtl = claimTtl;
+        this.pruneBatchSize = pruneBatchSize;
+    }
+
+    /**
+     * 발급한 key 를 사용자에게 묶는다. 기한이 지난 key 도 함께 정리한다.
+     */
+    public void stage(String key, UUID userId) {
+        Instant now = Instant.now();
+        pruneExpired(now);
+        jdbcTemplate.update(INSERT_SQL, key, userId, Timestamp.from(now.plus(claimTtl)),
+            Timestamp.from(now));
+    }
+
+    /**
+     * key 를 발급받은 사용자만, 기한 안에 한 번 가져갈 수 있다.
+     *
+     * @return 가져갔으면 true, 다른 사용자의 key 이거나 이미 썼거나 기한이 지났으면 false
+     */
+    public boolean claim(String key, UUID userId) {
+        return jdbcTemplate.update(CLAIM_SQL, key, userId, Timestamp.from(Instant.now())) > 0;
+    }
+
+    private void pruneExpired(Instant now) {
+        Timestamp cutoff = Timestamp.from(now);
+        List<String> keys = jdbcTemplate.queryForList(EXPIRED_SQL, String.class, cutoff,
+            pruneBatchSize);
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<String> pruned = transactionTemplate.execute(status -> {
+            // 그 사이 claim 이 먼저 가져간 key 는 지우지 않는다.
+            List<String> deleted = keys.stream()
+                .filter(key -> jdbcTemplate.update(DELETE_EXPIRED_SQL, key, cutoff) > 0)
+                .toList();
+            objectDeletionQueue.enqueue(deleted);
+            return deleted;
+        });
+        log.info("[StagedUploadRegistry] 기한이 지난 업로드 key 정리 - count: {}", pruned.size());
+    }
+}
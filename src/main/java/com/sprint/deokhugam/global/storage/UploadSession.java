@@ -0,0 +1,21 @@
+package com.sprint.deokhugam.global.storage;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * @param key       업로드가 끝난 뒤 도서 등록/수정에 넘길 객체 key
+ * @param uploadUrl 파일 본문을 보낼 주소
+ * @param method    업로드 요청 메서드 (PUT)
+ * @param headers   업로드 요청에 그대로 넣어야 하는 헤더
+ * @param expiresAt 이 시각이 지나면 uploadUrl 을 쓸 수 없다.
+ */
+public record UploadSession(
+    String key,
+    String uploadUrl,
+    String method,
+    Map<String, String> headers,
+    Instant expiresAt
+) {
+
+}
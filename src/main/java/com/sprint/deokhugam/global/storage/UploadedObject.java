@@ -0,0 +1,12 @@
+package com.sprint.deokhugam.global.storage;
+
+/**
+ * 저장소에 올라간 객체의 메타데이터 (HEAD 결과)
+ */
+public record UploadedObject(
+    String key,
+    long contentLength,
+    String contentType
+) {
+
+}
@@ -93,6 +93,9 @@ CREATE SEQUENCE BATCH_STEP_EXECUTION_SEQ MAXVALUE 9223372036854775807 NO CYCLE;
 CREATE SEQUENCE BATCH_JOB_EXECUTION_SEQ MAXVALUE 9223372036854775807 NO CYCLE;
 CREATE SEQUENCE BATCH_JOB_SEQ MAXVALUE 9223372036854775807 NO CYCLE;
 
+-- 리뷰 키워드 검색용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- user table
 CREATE TABLE users
 (
@@ -119,14 +122,70 @@ CREATE TABLE books
     updated_at     TIMESTAMPTZ,
     title          VARCHAR(100)     NOT NULL,
     thumbnail_url  VARCHAR(512),
+    -- 목록용 썸네일 변형(160px, 480px) key - 비동기로 만들어지며 없으면 원본을 쓴다
+    thumbnail_small_key  VARCHAR(512),
+    thumbnail_medium_key VARCHAR(512),
     author         VARCHAR(50)      NOT NULL,
     description    TEXT             NOT NULL,
     publisher      VARCHAR(50)      NOT NULL,
     published_date DATE             NOT NULL,
     rating         DOUBLE PRECISION NOT NULL CHECK (rating BETWEEN 0 AND 5),
+    rating_sum     BIGINT           NOT NULL DEFAULT 0,
     review_count   BIGINT           NOT NULL DEFAULT 0,
     isbn           VARCHAR(16)      NOT NULL UNIQUE,
-    is_deleted     BOOLEAN          NOT NULL DEFAULT FALSE
+    is_deleted     BOOLEAN          NOT NULL DEFAULT FALSE,
+    -- 리뷰 키워드 전문 검색용 - 제목/설명에서 자동 생성
+    search_vector  TSVECTOR GENERATED ALWAYS AS
+        (to_tsvector('simple', title || ' ' || description)) STORED
+);
+
+-- 내용 해시로 저장한 이미지 객체별 참조 수 - 0 이 되고 유예 시간이 지나면 객체와 파생 이미지를 지운다
+CREATE TABLE image_refs
+(
+    -- Primary Key
+    image_key   VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    ref_count   INT          NOT NULL DEFAULT 0 CHECK (ref_count >= 0),
+    updated_at  TIMESTAMPTZ  NOT NULL,
+    -- 정리 작업이 객체를 지우는 중이면 가져간 시각
+    deleting_at TIMESTAMPTZ
+);
+
+-- 지울 저장소 객체 - 도서 변경과 같은 트랜잭션에 기록하고 주기 작업이 모아서 지운다.
+CREATE TABLE object_deletions
+(
+    -- Primary Key
+    object_key      VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ  NOT NULL,
+    created_at      TIMESTAMPTZ  NOT NULL,
+    last_error      VARCHAR(500)
+);
+
+-- 직접 업로드 세션으로 발급한 key - 발급받은 사용자가 도서에 쓰면 지우고, 기한이 지나면 객체와 함께 정리한다
+CREATE TABLE staged_uploads
+(
+    -- Primary Key
+    object_key VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    user_id    UUID         NOT NULL,
+    expires_at TIMESTAMPTZ  NOT NULL,
+    created_at TIMESTAMPTZ  NOT NULL
+);
+
+-- 네이버 ISBN 조회 결과 캐시 - payload 가 NULL 이면 없는 ISBN
+CREATE TABLE book_info_cache
+(
+    -- Primary Key
+    isbn      VARCHAR(13) PRIMARY KEY,
+
+    -- Column
+    payload   TEXT,
+    cached_at TIMESTAMPTZ NOT NULL
 );
 
 CREATE TABLE reviews
@@ -180,18 +239,25 @@ CREATE TABLE comments
             ON DELETE CASCADE
 );
 
+-- created_at 기준 월별 범위 파티션. 월 파티션은 NotificationPartitionManager 가 미리 만들고 보관 기간이 지나면 통째로 삭제한다.
+-- 파티션 테이블의 기본 키/유일 인덱스는 파티션 키를 포함해야 하므로 (id, created_at) 을 기본 키로 둔다.
+-- 좋아요/댓글 알림은 문구(content)를 저장하지 않고 종류와 최근 행위자/댓글 id 로 조회 시점에 문구를 만든다.
 CREATE TABLE notifications
 (
     -- Primary Key
-    id         UUID PRIMARY KEY,
+    id              UUID        NOT NULL,
 
     -- Column
-    created_at TIMESTAMPTZ NOT NULL,
-    updated_at TIMESTAMPTZ,
-    review_id  UUID        NOT NULL,
-    user_id    UUID        NOT NULL,
-    content    VARCHAR(255),
-    confirmed  BOOLEAN     NOT NULL,
+    created_at      TIMESTAMPTZ NOT NULL,
+    updated_at      TIMESTAMPTZ,
+    review_id       UUID        NOT NULL,
+    user_id         UUID        NOT NULL,
+    content         VARCHAR(255),
+    confirmed       BOOLEAN     NOT NULL,
+    event_type      VARCHAR(30) CHECK ( event_type IN ('REVIEW_LIKED', 'REVIEW_COMMENTED')),
+    actor_count     INT         NOT NULL DEFAULT 1,
+    latest_actor_id UUID,
+    comment_id      UUID,
 
     CONSTRAINT fk_notifications_user
         FOREIGN KEY (user_id)
@@ -201,6 +267,82 @@ CREATE TABLE notifications
     CONSTRAINT fk_notifications_review
         FOREIGN KEY (review_id)
             REFERENCES reviews (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT pk_notifications
+        PRIMARY KEY (id, created_at),
+
+    CONSTRAINT fk_notifications_latest_actor
+        FOREIGN KEY (latest_actor_id)
+            REFERENCES users (id)
+            ON DELETE SET NULL,
+
+    CONSTRAINT fk_notifications_comment
+        FOREIGN KEY (comment_id)
+            REFERENCES comments (id)
+            ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션이 준비되기 전에 들어온 알림을 받는 기본 파티션
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+CREATE TABLE notification_outbox
+(
+    -- Primary Key
+    id         UUID PRIMARY KEY,
+
+    -- Column
+    created_at TIMESTAMPTZ NOT NULL,
+    event_type VARCHAR(30) NOT NULL CHECK ( event_type IN ('REVIEW_LIKED', 'REVIEW_COMMENTED')),
+    review_id  UUID        NOT NULL,
+    actor_id   UUID        NOT NULL,
+    comment_id UUID,
+
+    CONSTRAINT fk_notification_outbox_review
+        FOREIGN KEY (review_id)
+            REFERENCES reviews (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_notification_outbox_actor
+        FOREIGN KEY (actor_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_notification_outbox_comment
+        FOREIGN KEY (comment_id)
+            REFERENCES comments (id)
+            ON DELETE CASCADE
+);
+
+-- 읽지 않은 묶음 알림의 서로 다른 행위자 - actor_count 는 이 테이블의 행 수다.
+-- notifications 의 기본 키에 파티션 키가 들어가 외래 키를 둘 수 없어, 읽었거나 삭제된 알림의 행은 NotificationReadCompactor 가 정리한다.
+CREATE TABLE notification_actors
+(
+    -- Column
+    notification_id UUID NOT NULL,
+    actor_id        UUID NOT NULL,
+
+    CONSTRAINT pk_notification_actors
+        PRIMARY KEY (notification_id, actor_id),
+
+    CONSTRAINT fk_notification_actors_actor
+        FOREIGN KEY (actor_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE
+);
+
+-- 사용자별 "모두 읽음" 기준 시각 - 이 시각 이전에 생성된 알림은 행을 고치지 않아도 읽은 것으로 본다.
+CREATE TABLE notification_read_watermarks
+(
+    -- Primary Key
+    user_id      UUID        PRIMARY KEY,
+
+    -- Column
+    last_read_at TIMESTAMPTZ NOT NULL,
+
+    CONSTRAINT fk_notification_read_watermarks_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (id)
             ON DELETE CASCADE
 );
 
@@ -299,6 +441,21 @@ CREATE INDEX idx_popular_review_rankings ON popular_review_rankings (period, cre
 
 -- notifications index 생성
 CREATE INDEX idx_notifications ON notifications (user_id, confirmed, created_at);
+-- 읽은 알림 보관 기간 삭제 배치용
+CREATE INDEX idx_notifications_purge ON notifications (confirmed, updated_at);
+-- 읽지 않은 묶음 알림 조회용. 파티션 테이블에는 파티션 키 없는 유일 인덱스를 둘 수 없어 한 행 유지는 디스패처가 보장한다.
+CREATE INDEX idx_notifications_group ON notifications (user_id, review_id, event_type)
+    WHERE confirmed = false;
+
+-- notification_outbox index 생성
+CREATE INDEX idx_notification_outbox ON notification_outbox (created_at);
+
+-- 리뷰 키워드 검색용 - 부분 문자열(lower LIKE)은 trigram, 단어 앞부분 검색은 tsvector
+CREATE INDEX idx_books_title_trgm ON books USING gin (lower(title) gin_trgm_ops);
+CREATE INDEX idx_books_description_trgm ON books USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX idx_books_search_vector ON books USING gin (search_vector);
+CREATE INDEX idx_books_updated_at ON books (updated_at);
+CREATE INDEX idx_users_nickname_trgm ON users USING gin (lower(nickname) gin_trgm_ops);
 
 -- reviews index 생성
 CREATE INDEX idx_reviews_created_at ON reviews (book_id, created_at);
@@ -308,7 +465,16 @@ CREATE INDEX idx_reviews_rating ON reviews (book_id, rating);
 CREATE INDEX idx_comments ON comments (review_id, created_at DESC);
 
 -- review likes index 생성
-CREATE INDEX idx_review_likes ON review_likes (user_id);
+CREATE INDEX idx_review_likes ON review_likes (user_id, review_id);
+
+-- 참조가 없는 이미지 정리용
+CREATE INDEX idx_image_refs_unreferenced ON image_refs (updated_at) WHERE ref_count = 0;
+
+-- object_deletions index 생성
+CREATE INDEX idx_object_deletions ON object_deletions (next_attempt_at);
+
+-- staged_uploads index 생성
+CREATE INDEX idx_staged_uploads_expires_at ON staged_uploads (expires_at);
 
 -- 지워지지 않은 review에 대한 unique index 생성
 CREATE UNIQUE INDEX review_active_unique
@@ -0,0 +1,208 @@
+package com.sprint.deokhugam.domain.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.deokhugam.domain.api.BookInfoCacheStore.CachedBookInfo;
+import com.sprint.deokhugam.domain.api.dto.NaverBookDto;
+import com.sprint.deokhugam.domain.book.exception.BookInfoNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingBookInfoProvider 테스트")
+class CachingBookInfoProviderTest {
+
+    private static final String ISBN = "9788979140637";
+
+    @Mock
+    private NaverBookInfoProvider delegate;
+
+    @Mock
+    private BookInfoCacheStore store;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 한_번_조회한_ISBN_은_네이버_API_를_다시_호출하지_않는다() {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(book());
+
+        // when
+        provider.fetchInfoByIsbn(ISBN);
+        NaverBookDto result = provider.fetchInfoByIsbn(ISBN);
+
+        // then
+        assertThat(result.title()).isEqualTo("테스트 도서");
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+        verify(store, never()).save(anyString(), any());
+    }
+
+    @Test
+    void 없는_ISBN_도_기억해_다시_조회하지_않는다() {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        given(delegate.fetchInfoByIsbn(ISBN)).willThrow(new BookInfoNotFoundException(ISBN));
+
+        // when & then
+        assertThatThrownBy(() -> provider.fetchInfoByIsbn(ISBN))
+            .isInstanceOf(BookInfoNotFoundException.class);
+        assertThatThrownBy(() -> provider.fetchInfoByIsbn(ISBN))
+            .isInstanceOf(BookInfoNotFoundException.class);
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+    }
+
+    @Test
+    void 통신_오류는_캐시하지_않는다() {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        given(delegate.fetchInfoByIsbn(ISBN))
+            .willThrow(WebClientRequestException.class)
+            .willReturn(book());
+
+        // when
+        assertThatThrownBy(() -> provider.fetchInfoByIsbn(ISBN))
+            .isInstanceOf(WebClientRequestException.class);
+        NaverBookDto result = provider.fetchInfoByIsbn(ISBN);
+
+        // then
+        assertThat(result).isNotNull();
+        verify(delegate, times(2)).fetchInfoByIsbn(ISBN);
+    }
+
+    @Test
+    void 하이픈이_들어간_ISBN_10_은_ISBN_13_과_같은_key_를_쓴다() {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        given(delegate.fetchInfoByIsbn(ISBN)).willReturn(book());
+
+        // when
+        provider.fetchInfoByIsbn("89-7914-063-0");
+        provider.fetchInfoByIsbn("978-89-7914-063-7");
+
+        // then
+        assertThat(CachingBookInfoProvider.normalize("89 7914 063 0")).isEqualTo(ISBN);
+        verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+    }
+
+    @Test
+    void 같은_ISBN_을_동시에_조회하면_네이버_API_는_한_번만_호출한다() throws Exception {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.fetchInfoByIsbn(ISBN)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return book();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            Future<NaverBookDto> first = executor.submit(() -> provider.fetchInfoByIsbn(ISBN));
+            started.await(5, TimeUnit.SECONDS);
+            Future<NaverBookDto> second = executor.submit(() -> provider.fetchInfoByIsbn(ISBN));
+            Future<NaverBookDto> third = executor.submit(() -> provider.fetchInfoByIsbn(ISBN));
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+            verify(delegate, times(1)).fetchInfoByIsbn(ISBN);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 먼저_온_요청이_Error_로_끝나면_기다리던_요청도_같은_Error_로_끝난다() throws Exception {
+        // given
+        CachingBookInfoProvider provider = provider(false);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.fetchInfoByIsbn(ISBN)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new ExceptionInInitializerError("초기화 실패");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<NaverBookDto> first = executor.submit(() -> provider.fetchInfoByIsbn(ISBN));
+            started.await(5, TimeUnit.SECONDS);
+            Future<NaverBookDto> second = executor.submit(() -> provider.fetchInfoByIsbn(ISBN));
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExceptionInInitializerError.class);
+            assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ExceptionInInitializerError.class);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 영속_캐시에_있으면_네이버_API_를_호출하지_않는다() {
+        // given
+        CachingBookInfoProvider provider = provider(true);
+        given(store.find(eq(ISBN), any(), any())).willReturn(new CachedBookInfo(book()));
+
+        // when
+        NaverBookDto result = provider.fetchInfoByIsbn(ISBN);
+
+        // then
+        assertThat(result.isbn()).isEqualTo(ISBN);
+        verify(delegate, never()).fetchInfoByIsbn(anyString());
+    }
+
+    @Test
+    void 영속_캐시를_켜면_없는_ISBN_도_저장한다() {
+        // given
+        CachingBookInfoProvider provider = provider(true);
+        given(delegate.fetchInfoByIsbn(ISBN)).willThrow(new BookInfoNotFoundException(ISBN));
+
+        // when & then
+        assertThatThrownBy(() -> provider.fetchInfoByIsbn(ISBN))
+            .isInstanceOf(BookInfoNotFoundException.class);
+        verify(store).save(eq(ISBN), isNull());
+    }
+
+    private CachingBookInfoProvider provider(boolean persistent) {
+        return new CachingBookInfoProvider(delegate, store, meterRegistry, 100,
+            Duration.ofHours(24), Duration.ofMinutes(10), persistent);
+    }
+
+    private NaverBookDto book() {
+        return new NaverBookDto("테스트 도서", "테스트 저자", "설명", "테스트 출판사",
+            LocalDate.of(2024, 1, 1), ISBN, null);
+    }
+}
@@ -5,6 +5,7 @@ import static com.sprint.deokhugam.fixture.BookFixture.createRequest;
 import static com.sprint.deokhugam.fixture.BookFixture.createUpdateRequest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
@@ -59,6 +60,8 @@ import org.springframework.web.multipart.MultipartFile;
 @ActiveProfiles("test")
 class BookControllerTest {
 
+    private static final UUID USER_ID = UUID.randomUUID();
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -131,14 +134,16 @@ class BookControllerTest {
         BookDto expectedResponse = createBookDto(bookId, title, author, description, publisher,
             publishedDate, isbn, thumbnailUrl, 0L, 0.0, Instant.now(), Instant.now());
 
-        given(bookService.create(any(BookCreateRequest.class), any(MultipartFile.class)))
+        given(bookService.create(any(BookCreateRequest.class), any(MultipartFile.class),
+            eq(USER_ID)))
             .willReturn(expectedResponse);
 
         // when
         ResultActions result = mockMvc.perform(multipart("/api/books")
             .file(bookData)
             .file(thumbnailImage)
-            .contentType(MediaType.MULTIPART_FORM_DATA));
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .header("Deokhugam-Request-User-ID", USER_ID));
 
         // then
         result.andExpect(status().isCreated())
@@ -156,7 +161,7 @@ class BookControllerTest {
                 req.publisher().equals(publisher) &&
                 req.publishedDate().equals(publishedDate) &&
                 req.isbn().equals(isbn)
-        ), any());
+        ), any(), eq(USER_ID));
     }
 
     @Test
@@ -175,7 +180,8 @@ class BookControllerTest {
         // when
         ResultActions result = mockMvc.perform(multipart("/api/books")
             .file(bookData)
-            .contentType(MediaType.MULTIPART_FORM_DATA));
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .header("Deokhugam-Request-User-ID", USER_ID));
 
         // then
         result.andExpect(status().isBadRequest());
@@ -197,7 +203,8 @@ class BookControllerTest {
         // when
         ResultActions result = mockMvc.perform(multipart("/api/books")
             .file(bookData)
-            .contentType(MediaType.MULTIPART_FORM_DATA));
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .header("Deokhugam-Request-User-ID", USER_ID));
 
         // then
         result.andExpect(status().isBadRequest());
@@ -221,7 +228,8 @@ class BookControllerTest {
         // when
         ResultActions result = mockMvc.perform(multipart("/api/books")
             .file(bookData)
-            .contentType(MediaType.MULTIPART_FORM_DATA));
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .header("Deokhugam-Request-User-ID", USER_ID));
 
         // then
         result.andExpect(status().isBadRequest());
@@ -243,7 +251,8 @@ class BookControllerTest {
         // when
         ResultActions result = mockMvc.perform(multipart("/api/books")
             .file(bookData)
-            .contentType(MediaType.MULTIPART_FORM_DATA));
+            .contentType(MediaType.MULTIPART_FORM_DATA)
+            .header("Deokhugam-Request-User-ID", USER_ID));
 
         // then
         result.andExpect(status().isBadRequest());
@@ -268,6 +277,22 @@ class BookControllerTest {
             .andExpect(jsonPath("$.totalElements").value(2));
     }
 
+    @Test
+    void includeTotal_을_false_로_요청하면_서비스에_그대로_전달한다() throws Exception {
+        // given
+        given(bookService.getBooks(any(BookSearchRequest.class))).willReturn(mockResponse);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/books")
+            .param("includeTotal", "false")
+            .contentType(MediaType.APPLICATION_JSON));
+
+        // then
+        result.andExpect(status().isOk());
+        then(bookService).should()
+            .getBooks(argThat(request -> !request.includeTotal()));
+    }
+
     @Test
     void 도서_목록을_키워드로_조회한다() throws Exception {
         // given
@@ -659,7 +684,7 @@ class BookControllerTest {
             Instant.now(), Instant.now());
 
         given(bookService.update(any(UUID.class), any(BookUpdateRequest.class),
-            any(MultipartFile.class)))
+            any(MultipartFile.class), eq(USER_ID)))
             .willReturn(expectedResponse);
 
         // when
@@ -668,6 +693,7 @@ class BookControllerTest {
                 .file(bookData)
                 .file(thumbnailImage)
                 .contentType(MediaType.MULTIPART_FORM_DATA)
+                .header("Deokhugam-Request-User-ID", USER_ID)
                 .with(request -> {
                     request.setMethod("PATCH");
                     return request;
@@ -708,6 +734,7 @@ class BookControllerTest {
             multipart("/api/books/" + bookId)
                 .file(bookData)
                 .contentType(MediaType.MULTIPART_FORM_DATA)
+                .header("Deokhugam-Request-User-ID", USER_ID)
                 .with(request -> {
                     request.setMethod("PATCH");
                     return request;
@@ -5,29 +5,35 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
 
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.book.search.BookSearchIndex;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.jdbc.Sql;
 
 @Sql(scripts = "/test-schema.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @TestPropertySource(properties = "spring.sql.init.mode=never")
 @ActiveProfiles("test")
 class BookRepositoryTest {
@@ -35,6 +41,13 @@ class BookRepositoryTest {
     @Autowired
     private BookRepository bookRepository;
 
+    @Autowired
+    private TestEntityManager em;
+
+    // 기본값(후보 null)이면 LIKE 검색으로 처리한다.
+    @MockitoBean
+    private BookSearchIndex bookSearchIndex;
+
     @BeforeEach
     void setUp() {
         bookRepository.deleteAll(); // DB 초기화
@@ -296,6 +309,36 @@ class BookRepositoryTest {
         assertThat(result).allMatch(book -> book.getTitle().contains("요일"));
     }
 
+    @Test
+    void 색인에_없어도_마지막_재구성_이후_수정된_도서는_찾는다() {
+        // given - 다른 인스턴스에서 등록되어 이 인스턴스의 색인에는 없는 경우
+        BookSearchRequest request = BookSearchRequest.of("요일", "title", "DESC", null, null, 10);
+        given(bookSearchIndex.search("요일")).willReturn(Set.of());
+        given(bookSearchIndex.changedSince()).willReturn(Instant.now().minus(1, ChronoUnit.HOURS));
+
+        // when
+        List<Book> result = bookRepository.findBooksWithKeyword(request);
+        long count = bookRepository.countBooksWithKeyword("요일");
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    void 색인에_없고_재구성_이후_수정되지_않은_도서는_후보에서_제외한다() {
+        // given
+        BookSearchRequest request = BookSearchRequest.of("요일", "title", "DESC", null, null, 10);
+        given(bookSearchIndex.search("요일")).willReturn(Set.of());
+        given(bookSearchIndex.changedSince()).willReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // when
+        List<Book> result = bookRepository.findBooksWithKeyword(request);
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     @Test
     void 키워드_검색_저자로_검색() {
         // given
@@ -605,4 +648,60 @@ class BookRepositoryTest {
         assertThat(result).isPresent();
         assertThat(result.get().isDeleted()).isFalse();
     }
+
+    @Test
+    void 리뷰_평점_변화량으로_도서_평점이_증분_갱신된다() {
+        // given
+        Book book = bookRepository.save(Book.builder()
+            .title("평점 도서")
+            .author("평점 저자")
+            .description("평점 설명")
+            .publisher("평점 출판사")
+            .publishedDate(LocalDate.of(2024, 1, 1))
+            .isbn("9999999999997")
+            .rating(0.0)
+            .reviewCount(0L)
+            .isDeleted(false)
+            .build());
+        em.flush();
+
+        // when
+        bookRepository.applyReviewRatingDelta(book.getId(), 4, 1);
+        bookRepository.applyReviewRatingDelta(book.getId(), 2, 1);
+        bookRepository.applyReviewRatingDelta(book.getId(), -4, -1);
+        em.clear();
+
+        // then
+        Book result = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(result.getRatingSum()).isEqualTo(2L);
+        assertThat(result.getReviewCount()).isEqualTo(1L);
+        assertThat(result.getRating()).isEqualTo(2.0);
+    }
+
+    @Test
+    void 마지막_리뷰가_삭제되면_도서_평점은_0이_된다() {
+        // given
+        Book book = bookRepository.save(Book.builder()
+            .title("평점 도서")
+            .author("평점 저자")
+            .description("평점 설명")
+            .publisher("평점 출판사")
+            .publishedDate(LocalDate.of(2024, 1, 1))
+            .isbn("9999999999996")
+            .rating(5.0)
+            .ratingSum(5L)
+            .reviewCount(1L)
+            .isDeleted(false)
+            .build());
+        em.flush();
+
+        // when
+        bookRepository.applyReviewRatingDelta(book.getId(), -5, -1);
+        em.clear();
+
+        // then
+        Book result = bookRepository.findById(book.getId()).orElseThrow();
+        assertThat(result.getReviewCount()).isZero();
+        assertThat(result.getRating()).isEqualTo(0.0);
+    }
 }
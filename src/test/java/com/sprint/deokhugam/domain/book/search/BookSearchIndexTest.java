@@ -0,0 +1,144 @@
+package com.sprint.deokhugam.domain.book.search;
+
+import static com.sprint.deokhugam.fixture.BookFixture.createBookEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("BookSearchIndex 테스트")
+class BookSearchIndexTest {
+
+    private BookSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new BookSearchIndex(mock(JdbcTemplate.class), new SimpleMeterRegistry(),
+            true, 2, Duration.ofMinutes(1));
+        // 빈 목록으로 재구성해 색인을 준비 상태로 만든다.
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void 띄어쓰기_없이_붙은_제목도_부분_문자열로_찾는다() {
+        // given
+        Book book = book("월요일아침의자바", "홍길동", "9788966262472");
+        searchIndex.index(book);
+
+        // when
+        Set<UUID> result = searchIndex.search("요일");
+
+        // then
+        assertThat(result).containsExactly(book.getId());
+    }
+
+    @Test
+    void 대소문자와_한_글자_키워드도_찾는다() {
+        // given
+        Book java = book("Effective Java", "Joshua Bloch", "9788966262281");
+        Book spring = book("토비의 스프링", "이일민", "9788960773431");
+        searchIndex.index(java);
+        searchIndex.index(spring);
+
+        // when
+        Set<UUID> byCase = searchIndex.search("JAVA");
+        Set<UUID> bySingle = searchIndex.search("토");
+
+        // then
+        assertThat(byCase).containsExactly(java.getId());
+        assertThat(bySingle).containsExactly(spring.getId());
+    }
+
+    @Test
+    void 포함하지_않는_토큰이_있으면_빈_후보를_반환한다() {
+        // given
+        searchIndex.index(book("클린 코드", "로버트 마틴", "9788966260959"));
+
+        // when
+        Set<UUID> result = searchIndex.search("코틀린");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void 후보가_너무_많거나_준비되지_않았으면_null_을_반환한다() {
+        // given
+        searchIndex.index(book("자바의 정석", "남궁성", "9788994492032"));
+        searchIndex.index(book("자바 ORM 표준 JPA", "김영한", "9788960777330"));
+        searchIndex.index(book("모던 자바 인 액션", "라울", "9791162242025"));
+        BookSearchIndex notReady = new BookSearchIndex(mock(JdbcTemplate.class),
+            new SimpleMeterRegistry(), true, 2, Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(searchIndex.search("자바")).isNull();
+        assertThat(notReady.search("자바")).isNull();
+    }
+
+    @Test
+    void 수정으로_빠진_토큰과_삭제된_도서는_색인에서_제거된다() {
+        // given
+        Book book = book("스프링 입문", "홍길동", "9788966262472");
+        searchIndex.index(book);
+
+        // when
+        book.updateTitle("코틀린 입문");
+        searchIndex.index(book);
+
+        // then
+        assertThat(searchIndex.search("스프링")).isEmpty();
+        assertThat(searchIndex.search("코틀린")).containsExactly(book.getId());
+
+        // when
+        searchIndex.remove(book.getId());
+
+        // then
+        assertThat(searchIndex.search("입문")).isEmpty();
+        assertThat(searchIndex.size()).isZero();
+    }
+
+    @Test
+    void 재구성_시작_시각에서_시계_차이만큼_앞선_시각_이후_변경은_따로_확인하게_한다() {
+        // given
+        BookSearchIndex index = new BookSearchIndex(mock(JdbcTemplate.class),
+            new SimpleMeterRegistry(), true, 2, Duration.ofMinutes(1));
+        Instant before = Instant.now();
+
+        // when
+        Instant notReady = index.changedSince();
+        index.rebuild();
+
+        // then
+        assertThat(notReady).isNull();
+        Instant after = Instant.now();
+        assertThat(index.changedSince())
+            .isBetween(before.minus(Duration.ofMinutes(1)), after.minus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void 키워드가_길면_bigram_으로_나눈다() {
+        // when
+        Set<String> tokens = BookSearchIndex.queryTokens("Java 8");
+
+        // then
+        assertThat(tokens).containsExactlyInAnyOrder("ja", "av", "va", "a ", " 8");
+    }
+
+    private Book book(String title, String author, String isbn) {
+        Book book = createBookEntity(title, author, "설명", "출판사", LocalDate.of(2024, 1, 1), isbn,
+            null, 0.0, 0L);
+        ReflectionTestUtils.setField(book, "id", UUID.randomUUID());
+        return book;
+    }
+}
@@ -12,6 +12,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -24,22 +26,37 @@ import com.sprint.deokhugam.domain.book.dto.data.BookDto;
 import com.sprint.deokhugam.domain.book.dto.request.BookCreateRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookSearchRequest;
 import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
+import com.sprint.deokhugam.domain.book.dto.request.ThumbnailUploadRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.book.exception.BookNotFoundException;
 import com.sprint.deokhugam.domain.book.exception.BookNotSoftDeletedException;
 import com.sprint.deokhugam.domain.book.exception.DuplicateIsbnException;
+import com.sprint.deokhugam.domain.book.exception.FileSizeExceededException;
+import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
 import com.sprint.deokhugam.domain.book.exception.OcrException;
+import com.sprint.deokhugam.domain.book.exception.ThumbnailUploadNotFoundException;
 import com.sprint.deokhugam.domain.book.mapper.BookMapper;
 import com.sprint.deokhugam.domain.book.ocr.TesseractOcrExtractor;
 import com.sprint.deokhugam.domain.book.repository.BookRepository;
+import com.sprint.deokhugam.domain.book.thumbnail.ThumbnailVariantService;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.DirectUploadStorage;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import com.sprint.deokhugam.global.storage.ImageReferenceService;
+import com.sprint.deokhugam.global.storage.ObjectDeletionQueue;
+import com.sprint.deokhugam.global.storage.StagedUploadRegistry;
+import com.sprint.deokhugam.global.storage.UploadSession;
+import com.sprint.deokhugam.global.storage.UploadedObject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,10 +64,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
 @ExtendWith(MockitoExtension.class)
@@ -58,16 +77,35 @@ import org.springframework.web.multipart.MultipartFile;
 @ActiveProfiles("test")
 class BookServiceImplTest {
 
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final long MAX_IMAGE_SIZE = 10 * 1024 * 1024;
+
     @Mock
     TesseractOcrExtractor tesseractOcrExtractor;
     @InjectMocks
     private BookServiceImpl bookService;
     @Mock
+    private TotalCountService totalCountService;
+    @Mock
     private BookRepository bookRepository;
     @Mock
     private BookMapper bookMapper;
     @Mock
-    private S3Storage storage;
+    private FileStorage storage;
+    @Mock
+    private DirectUploadStorage directUploadStorage;
+    @Mock
+    private StagedUploadRegistry stagedUploadRegistry;
+    @Mock
+    private ThumbnailVariantService thumbnailVariantService;
+    @Mock
+    private ImageReferenceService imageReferenceService;
+    @Mock
+    private ObjectDeletionQueue objectDeletionQueue;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private List<Book> testBooks;
     private List<BookDto> testBookDtos;
     private String title;
@@ -126,10 +164,10 @@ class BookServiceImplTest {
         given(bookMapper.toEntity(request)).willReturn(bookEntity);
         given(storage.uploadImage(thumbnail)).willReturn(thumbnailUrl);
         given(bookRepository.save(bookEntity)).willReturn(savedBook);
-        given(bookMapper.toDto(eq(savedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(savedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.create(request, thumbnail);
+        BookDto result = bookService.create(request, thumbnail, USER_ID);
 
         // then
         assertNotNull(result);
@@ -164,10 +202,10 @@ class BookServiceImplTest {
         given(bookRepository.existsByIsbn(anyString())).willReturn(false);
         given(bookMapper.toEntity(request)).willReturn(bookEntity);
         given(bookRepository.save(bookEntity)).willReturn(savedBook);
-        given(bookMapper.toDto(eq(savedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(savedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.create(request, null);
+        BookDto result = bookService.create(request, null, USER_ID);
 
         // then
         assertNotNull(result);
@@ -191,7 +229,7 @@ class BookServiceImplTest {
         given(bookRepository.existsByIsbn(existsIsbn)).willReturn(true);
 
         // when
-        Throwable thrown = catchThrowable(() -> bookService.create(request, null));
+        Throwable thrown = catchThrowable(() -> bookService.create(request, null, USER_ID));
 
         // then
         assertThat(thrown)
@@ -200,6 +238,180 @@ class BookServiceImplTest {
         verify(bookRepository, never()).save(any());
     }
 
+    @Test
+    void 직접_업로드한_썸네일_key_로_책을_등록하면_확인한_뒤_저장한다() throws IOException {
+
+        // given
+        String thumbnailKey = "image/uploaded";
+        BookCreateRequest request = BookCreateRequest.builder()
+            .title(title)
+            .author(author)
+            .description(description)
+            .publisher(publisher)
+            .publishedDate(publishedDate)
+            .isbn(isbn)
+            .thumbnailKey(thumbnailKey)
+            .build();
+        Book bookEntity = createBookEntity(title, author, description, publisher, publishedDate,
+            isbn, null, 0.0, 0L);
+
+        given(bookRepository.existsByIsbn(anyString())).willReturn(false);
+        given(bookMapper.toEntity(request)).willReturn(bookEntity);
+        given(directUploadStorage.findUploadedObject(thumbnailKey))
+            .willReturn(Optional.of(new UploadedObject(thumbnailKey, 1024, "image/png")));
+        given(stagedUploadRegistry.claim(thumbnailKey, USER_ID)).willReturn(true);
+        given(storage.maxImageSize()).willReturn(MAX_IMAGE_SIZE);
+        given(bookRepository.save(bookEntity)).willReturn(bookEntity);
+
+        // when
+        bookService.create(request, null, USER_ID);
+
+        // then
+        assertThat(bookEntity.getThumbnailUrl()).isEqualTo(thumbnailKey);
+        verify(storage, never()).uploadImage(any());
+    }
+
+    @Test
+    void 직접_업로드한_썸네일이_크기_제한을_넘으면_객체를_지우고_등록에_실패한다() {
+
+        // given
+        String thumbnailKey = "image/too-large";
+        BookCreateRequest request = BookCreateRequest.builder()
+            .title(title)
+            .author(author)
+            .description(description)
+            .publisher(publisher)
+            .publishedDate(publishedDate)
+            .isbn(isbn)
+            .thumbnailKey(thumbnailKey)
+            .build();
+
+        given(bookRepository.existsByIsbn(anyString())).willReturn(false);
+        given(directUploadStorage.findUploadedObject(thumbnailKey))
+            .willReturn(Optional.of(
+                new UploadedObject(thumbnailKey, MAX_IMAGE_SIZE + 1, "image/png")));
+        given(stagedUploadRegistry.claim(thumbnailKey, USER_ID)).willReturn(true);
+        given(storage.maxImageSize()).willReturn(MAX_IMAGE_SIZE);
+
+        // when
+        Throwable thrown = catchThrowable(() -> bookService.create(request, null, USER_ID));
+
+        // then
+        assertThat(thrown).isInstanceOf(FileSizeExceededException.class);
+        verify(directUploadStorage).delete(thumbnailKey);
+        verify(bookRepository, never()).save(any());
+    }
+
+    @Test
+    void 업로드되지_않은_썸네일_key_로는_책을_등록할_수_없다() {
+
+        // given
+        String thumbnailKey = "image/missing";
+        BookCreateRequest request = BookCreateRequest.builder()
+            .title(title)
+            .author(author)
+            .description(description)
+            .publisher(publisher)
+            .publishedDate(publishedDate)
+            .isbn(isbn)
+            .thumbnailKey(thumbnailKey)
+            .build();
+
+        given(bookRepository.existsByIsbn(anyString())).willReturn(false);
+        given(directUploadStorage.findUploadedObject(thumbnailKey)).willReturn(Optional.empty());
+
+        // when
+        Throwable thrown = catchThrowable(() -> bookService.create(request, null, USER_ID));
+
+        // then
+        assertThat(thrown).isInstanceOf(ThumbnailUploadNotFoundException.class);
+        verify(stagedUploadRegistry, never()).claim(anyString(), any());
+        verify(bookRepository, never()).save(any());
+    }
+
+    @Test
+    void 다른_사용자가_발급받았거나_이미_쓴_썸네일_key_로는_책을_등록할_수_없다() {
+
+        // given
+        String thumbnailKey = "image/claimed";
+        BookCreateRequest request = BookCreateRequest.builder()
+            .title(title)
+            .author(author)
+            .description(description)
+            .publisher(publisher)
+            .publishedDate(publishedDate)
+            .isbn(isbn)
+            .thumbnailKey(thumbnailKey)
+            .build();
+
+        given(bookRepository.existsByIsbn(anyString())).willReturn(false);
+        given(directUploadStorage.findUploadedObject(thumbnailKey))
+            .willReturn(Optional.of(new UploadedObject(thumbnailKey, 1024, "image/png")));
+        given(stagedUploadRegistry.claim(thumbnailKey, USER_ID)).willReturn(false);
+
+        // when
+        Throwable thrown = catchThrowable(() -> bookService.create(request, null, USER_ID));
+
+        // then
+        assertThat(thrown).isInstanceOf(ThumbnailUploadNotFoundException.class);
+        verify(directUploadStorage, never()).delete(anyString());
+        verify(bookRepository, never()).save(any());
+    }
+
+    @Test
+    void 업로드_세션의_key_는_발급받은_사용자에게_묶는다() {
+
+        // given
+        ThumbnailUploadRequest request = new ThumbnailUploadRequest("IMAGE/PNG", 1024);
+        UploadSession session = new UploadSession("image/staged", "https://upload.example.com",
+            "PUT", Map.of(), Instant.now().plusSeconds(600));
+        given(storage.maxImageSize()).willReturn(MAX_IMAGE_SIZE);
+        given(directUploadStorage.createUploadSession("image/png", 1024)).willReturn(session);
+
+        // when
+        UploadSession result = bookService.createThumbnailUpload(request, USER_ID);
+
+        // then
+        assertThat(result).isEqualTo(session);
+        verify(stagedUploadRegistry).stage("image/staged", USER_ID);
+    }
+
+    @Test
+    void 업로드_세션의_크기_제한은_저장소_한도를_따른다() {
+
+        // given - 저장소 한도(10MB) 안이면 5MB 를 넘어도 발급한다.
+        long size = 6 * 1024 * 1024;
+        ThumbnailUploadRequest request = new ThumbnailUploadRequest("image/png", size);
+        UploadSession session = new UploadSession("image/staged", "https://upload.example.com",
+            "PUT", Map.of(), Instant.now().plusSeconds(600));
+        given(storage.maxImageSize()).willReturn(MAX_IMAGE_SIZE);
+        given(directUploadStorage.createUploadSession("image/png", size)).willReturn(session);
+
+        // when
+        UploadSession result = bookService.createThumbnailUpload(request, USER_ID);
+        Throwable thrown = catchThrowable(() -> bookService.createThumbnailUpload(
+            new ThumbnailUploadRequest("image/png", MAX_IMAGE_SIZE + 1), USER_ID));
+
+        // then
+        assertThat(result).isEqualTo(session);
+        assertThat(thrown).isInstanceOf(FileSizeExceededException.class);
+    }
+
+    @Test
+    void 지원하지_않는_타입은_업로드_세션을_발급하지_않는다() {
+
+        // given
+        ThumbnailUploadRequest request = new ThumbnailUploadRequest("image/svg+xml", 1024);
+        given(storage.maxImageSize()).willReturn(MAX_IMAGE_SIZE);
+
+        // when
+        Throwable thrown = catchThrowable(() -> bookService.createThumbnailUpload(request, USER_ID));
+
+        // then
+        assertThat(thrown).isInstanceOf(InvalidFileTypeException.class);
+        then(directUploadStorage).shouldHaveNoInteractions();
+    }
+
     @Test
     void 키워드_없이_첫_페이지_조회() {
         //given
@@ -208,7 +420,8 @@ class BookServiceImplTest {
             .willReturn(testBooks.subList(0, 3));
         given(bookRepository.countBooksWithKeyword(any()))
             .willReturn(15L);
-        given(bookMapper.toDto(any(Book.class), any(S3Storage.class)))
+        givenTotalCountPassThrough();
+        given(bookMapper.toDto(any(Book.class), anyMap()))
             .willReturn(testBookDtos.get(0), testBookDtos.get(1), testBookDtos.get(2));
 
         //when
@@ -233,7 +446,8 @@ class BookServiceImplTest {
             .willReturn(searchResults);
         given(bookRepository.countBooksWithKeyword("Hot"))
             .willReturn(3L);
-        given(bookMapper.toDto(any(Book.class), any(S3Storage.class)))
+        givenTotalCountPassThrough();
+        given(bookMapper.toDto(any(Book.class), anyMap()))
             .willReturn(testBookDtos.get(0), testBookDtos.get(1), testBookDtos.get(2));
 
         // when
@@ -258,7 +472,8 @@ class BookServiceImplTest {
             .willReturn(searchResults);
         given(bookRepository.countBooksWithKeyword("Super"))
             .willReturn(5L);
-        given(bookMapper.toDto(any(Book.class), any(S3Storage.class)))
+        givenTotalCountPassThrough();
+        given(bookMapper.toDto(any(Book.class), anyMap()))
             .willReturn(testBookDtos.get(0), testBookDtos.get(1));
 
         // when
@@ -281,7 +496,8 @@ class BookServiceImplTest {
             .willReturn(testBooks);
         given(bookRepository.countBooksWithKeyword(any()))
             .willReturn(3L);
-        given(bookMapper.toDto(any(Book.class), any(S3Storage.class)))
+        givenTotalCountPassThrough();
+        given(bookMapper.toDto(any(Book.class), anyMap()))
             .willReturn(testBookDtos.get(0), testBookDtos.get(1), testBookDtos.get(2));
 
         // when
@@ -329,7 +545,7 @@ class BookServiceImplTest {
             isbn, presignedUrl, 0L, 0.0, Instant.now(), Instant.now());
 
         given(bookRepository.findById(bookId)).willReturn(Optional.of(book));
-        given(bookMapper.toDto(eq(book), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(book), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
         BookDto result = bookService.findById(bookId);
@@ -393,20 +609,108 @@ class BookServiceImplTest {
         given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
         given(storage.uploadImage(newThumbnail)).willReturn("newCover.com");
         given(bookRepository.save(any(Book.class))).willReturn(updatedBook);
-        given(bookMapper.toDto(eq(updatedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(updatedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.update(bookId, updateRequest, newThumbnail);
+        BookDto result = bookService.update(bookId, updateRequest, newThumbnail, USER_ID);
 
         // then
         assertNotNull(result);
         assertEquals(expectedResponse, result);
         verify(storage).uploadImage(newThumbnail);
-        verify(storage).deleteImage("testImage.com");
+        verify(objectDeletionQueue).enqueue(List.of("testImage.com"));
         verify(bookRepository).save(any(Book.class));
         verify(bookMapper).toDto(updatedBook, storage);
     }
 
+    @Test
+    void 참조_수를_관리하는_썸네일을_교체하면_객체를_바로_지우지_않는다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String oldKey = "image/sha256/old.png";
+        String newKey = "image/sha256/new.png";
+        Book existBook = createBookEntity(title, author, description, publisher, publishedDate,
+            isbn, oldKey, 0.0, 0L);
+        ReflectionTestUtils.setField(existBook, "id", bookId);
+        BookUpdateRequest updateRequest = createUpdateRequest(title, author, description,
+            publisher, publishedDate);
+        MultipartFile newThumbnail = new MockMultipartFile("coverImage", "new.png", "image/png",
+            "dummy image data".getBytes());
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
+        given(storage.uploadImage(newThumbnail)).willReturn(newKey);
+        given(imageReferenceService.release(oldKey)).willReturn(true);
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        bookService.update(bookId, updateRequest, newThumbnail, USER_ID);
+
+        // then
+        assertThat(existBook.getThumbnailUrl()).isEqualTo(newKey);
+        verify(imageReferenceService).acquire(newKey);
+        verify(imageReferenceService).release(oldKey);
+        verify(objectDeletionQueue, never()).enqueue(any());
+        verify(thumbnailVariantService).schedule(bookId, newKey);
+    }
+
+    @Test
+    void 도서_저장에_실패하면_미리_올린_썸네일을_정리_대상으로_등록한다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String oldKey = "image/sha256/old.png";
+        String newKey = "image/sha256/new.png";
+        Book existBook = createBookEntity(title, author, description, publisher, publishedDate,
+            isbn, oldKey, 0.0, 0L);
+        ReflectionTestUtils.setField(existBook, "id", bookId);
+        BookUpdateRequest updateRequest = createUpdateRequest(title, author, description,
+            publisher, publishedDate);
+        MultipartFile newThumbnail = new MockMultipartFile("coverImage", "new.png", "image/png",
+            "dummy image data".getBytes());
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
+        given(storage.uploadImage(newThumbnail)).willReturn(newKey);
+        given(imageReferenceService.release(oldKey)).willReturn(true);
+        given(bookRepository.save(any(Book.class)))
+            .willThrow(new IllegalStateException("connection is closed"));
+
+        // when
+        Throwable thrown = catchThrowable(
+            () -> bookService.update(bookId, updateRequest, newThumbnail, USER_ID));
+
+        // then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        verify(imageReferenceService).track(newKey);
+        verify(bookMapper, never()).toDto(any(Book.class), any(FileStorage.class));
+        assertThat(meterRegistry.get("deokhugam.book.write.transaction")
+            .tag("operation", "update").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void 같은_내용의_썸네일로_수정하면_참조와_변형을_그대로_둔다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String key = "image/sha256/same.png";
+        Book existBook = createBookEntity(title, author, description, publisher, publishedDate,
+            isbn, key, 0.0, 0L);
+        ReflectionTestUtils.setField(existBook, "id", bookId);
+        BookUpdateRequest updateRequest = createUpdateRequest(title, author, description,
+            publisher, publishedDate);
+        MultipartFile sameThumbnail = new MockMultipartFile("coverImage", "same.png",
+            "image/png", "dummy image data".getBytes());
+
+        given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
+        given(storage.uploadImage(sameThumbnail)).willReturn(key);
+        given(bookRepository.save(any(Book.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        bookService.update(bookId, updateRequest, sameThumbnail, USER_ID);
+
+        // then
+        verify(imageReferenceService, never()).acquire(any());
+        verify(imageReferenceService, never()).release(any());
+        verify(thumbnailVariantService, never()).schedule(any(), any());
+    }
+
     @Test
     void 썸네일이_없는_도서를_수정하면_수정된_책_정보를_반환한다() throws IOException {
 
@@ -432,10 +736,10 @@ class BookServiceImplTest {
 
         given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
         given(bookRepository.save(any(Book.class))).willReturn(updatedBook);
-        given(bookMapper.toDto(eq(updatedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(updatedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.update(bookId, updateRequest, null);
+        BookDto result = bookService.update(bookId, updateRequest, null, USER_ID);
 
         // then
         assertNotNull(result);
@@ -479,10 +783,10 @@ class BookServiceImplTest {
         given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
         given(storage.uploadImage(newThumbnail)).willReturn("newCover.com");
         given(bookRepository.save(any(Book.class))).willReturn(updatedBook);
-        given(bookMapper.toDto(eq(updatedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(updatedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.update(bookId, updateRequest, newThumbnail);
+        BookDto result = bookService.update(bookId, updateRequest, newThumbnail, USER_ID);
 
         // then
         assertNotNull(result);
@@ -523,15 +827,16 @@ class BookServiceImplTest {
 
         given(bookRepository.findById(bookId)).willReturn(Optional.of(existBook));
         given(bookRepository.save(any(Book.class))).willReturn(updatedBook);
-        given(bookMapper.toDto(eq(updatedBook), any(S3Storage.class))).willReturn(expectedResponse);
+        given(bookMapper.toDto(eq(updatedBook), any(FileStorage.class))).willReturn(expectedResponse);
 
         // when
-        BookDto result = bookService.update(bookId, updateRequest, emptyFile);
+        BookDto result = bookService.update(bookId, updateRequest, emptyFile, USER_ID);
 
         // then
         assertNotNull(result);
         assertEquals(expectedResponse, result);
-        verify(storage).deleteImage("image/test.jpg");
+        verify(objectDeletionQueue).enqueue(List.of("image/test.jpg"));
+        verify(storage, never()).deleteImage(any());
         verify(bookRepository).save(any(Book.class));
         verify(bookMapper).toDto(updatedBook, storage);
     }
@@ -548,7 +853,7 @@ class BookServiceImplTest {
 
         // when
         Throwable thrown = catchThrowable(
-            () -> bookService.update(notExistBookId, updateRequest, null));
+            () -> bookService.update(notExistBookId, updateRequest, null, USER_ID));
 
         // then
         assertThat(thrown)
@@ -769,6 +1074,8 @@ class BookServiceImplTest {
         // then
         verify(bookRepository).findByIdIncludingDeleted(bookId);
         verify(bookRepository).hardDeleteBook(bookId);
+        verify(objectDeletionQueue).enqueue(List.of("https://example.com/thumbnail.jpg"));
+        verify(storage, never()).deleteImage(any());
     }
 
     @Test
@@ -860,4 +1167,11 @@ class BookServiceImplTest {
                 now.minusSeconds(5400))
         );
     }
-}
\ No newline at end of file
+
+    // 총 개수 캐시를 거치지 않고 저장소의 COUNT 결과를 그대로 쓴다.
+    @SuppressWarnings("unchecked")
+    private void givenTotalCountPassThrough() {
+        given(totalCountService.count(any(), any(), anyBoolean(), any()))
+            .willAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(3)).get());
+    }
+}
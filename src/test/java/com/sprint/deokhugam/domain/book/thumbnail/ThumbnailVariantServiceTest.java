@@ -0,0 +1,255 @@
+package com.sprint.deokhugam.domain.book.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.deokhugam.domain.book.repository.BookRepository;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ThumbnailVariantService 테스트")
+class ThumbnailVariantServiceTest {
+
+    private static final String ORIGINAL_KEY = "image/cover.png";
+
+    @Mock
+    private FileStorage fileStorage;
+
+    @Mock
+    private BookRepository bookRepository;
+
+    private ThumbnailVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ThumbnailVariantService(fileStorage, bookRepository, new SimpleMeterRegistry(),
+            true, 1, 1, 4_000_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    void 원본보다_작은_변형을_만들어_저장하고_도서에_기록한다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        given(fileStorage.openImage(ORIGINAL_KEY)).willReturn(png(1000, 1500));
+        given(bookRepository.updateThumbnailVariants(bookId, ORIGINAL_KEY,
+            "image/cover.png.w160.jpg", "image/cover.png.w480.jpg")).willReturn(1);
+
+        // when
+        service.generate(bookId, ORIGINAL_KEY);
+
+        // then
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        then(fileStorage).should().putImage(eq("image/cover.png.w160.jpg"), content.capture(),
+            eq("image/jpeg"));
+        BufferedImage small = ImageIO.read(new ByteArrayInputStream(content.getValue()));
+        assertThat(small.getWidth()).isEqualTo(160);
+        assertThat(small.getHeight()).isEqualTo(240);
+        then(fileStorage).should().putImage(eq("image/cover.png.w480.jpg"), any(), eq("image/jpeg"));
+        then(fileStorage).should(never()).deleteImage(anyString());
+    }
+
+    @Test
+    void 작업_중_썸네일이_바뀌었으면_만든_변형을_지운다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        given(fileStorage.openImage(ORIGINAL_KEY)).willReturn(png(1000, 1500));
+        given(bookRepository.updateThumbnailVariants(any(), any(), any(), any())).willReturn(0);
+
+        // when
+        service.generate(bookId, ORIGINAL_KEY);
+
+        // then
+        then(fileStorage).should().deleteImage("image/cover.png.w160.jpg");
+        then(fileStorage).should().deleteImage("image/cover.png.w480.jpg");
+    }
+
+    @Test
+    void 같은_이미지의_변형이_이미_있으면_다시_만들지_않고_기록만_한다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String originalKey = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        given(fileStorage.exists(anyString())).willReturn(true);
+        given(bookRepository.updateThumbnailVariants(bookId, originalKey,
+            originalKey + ".w160.jpg", originalKey + ".w480.jpg")).willReturn(1);
+
+        // when
+        service.generate(bookId, originalKey);
+
+        // then
+        then(fileStorage).should(never()).openImage(anyString());
+        then(fileStorage).should(never()).putImage(anyString(), any(), anyString());
+    }
+
+    @Test
+    void 원본보다_넓은_변형만_없으면_다시_만들지_않고_있는_변형을_기록한다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String originalKey = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        given(fileStorage.exists(originalKey + ".w160.jpg")).willReturn(true);
+        given(fileStorage.exists(originalKey + ".w480.jpg")).willReturn(false);
+        given(fileStorage.openImage(originalKey)).willReturn(png(300, 450));
+        given(bookRepository.updateThumbnailVariants(bookId, originalKey,
+            originalKey + ".w160.jpg", null)).willReturn(1);
+
+        // when
+        service.generate(bookId, originalKey);
+
+        // then
+        then(fileStorage).should(never()).putImage(anyString(), any(), anyString());
+        then(bookRepository).should().updateThumbnailVariants(bookId, originalKey,
+            originalKey + ".w160.jpg", null);
+    }
+
+    @Test
+    void 원본_너비에_맞는_변형이_빠져_있으면_다시_만든다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String originalKey = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        given(fileStorage.exists(originalKey + ".w160.jpg")).willReturn(true);
+        given(fileStorage.exists(originalKey + ".w480.jpg")).willReturn(false);
+        given(fileStorage.openImage(originalKey))
+            .willReturn(png(1000, 1500))
+            .willReturn(png(1000, 1500));
+        given(bookRepository.updateThumbnailVariants(bookId, originalKey,
+            originalKey + ".w160.jpg", originalKey + ".w480.jpg")).willReturn(1);
+
+        // when
+        service.generate(bookId, originalKey);
+
+        // then
+        then(fileStorage).should().putImage(eq(originalKey + ".w480.jpg"), any(), eq("image/jpeg"));
+    }
+
+    @Test
+    void 공유하는_변형은_썸네일이_바뀌어도_지우지_않는다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        String originalKey = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        given(fileStorage.openImage(originalKey)).willReturn(png(1000, 1500));
+        given(bookRepository.updateThumbnailVariants(any(), any(), any(), any())).willReturn(0);
+
+        // when
+        service.generate(bookId, originalKey);
+
+        // then
+        then(fileStorage).should().putImage(eq(originalKey + ".w160.jpg"), any(), eq("image/jpeg"));
+        then(fileStorage).should(never()).deleteImage(anyString());
+    }
+
+    @Test
+    void 원본이_변형보다_작으면_그_변형은_만들지_않는다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        given(fileStorage.openImage(ORIGINAL_KEY)).willReturn(png(300, 450));
+        given(bookRepository.updateThumbnailVariants(bookId, ORIGINAL_KEY,
+            "image/cover.png.w160.jpg", null)).willReturn(1);
+
+        // when
+        service.generate(bookId, ORIGINAL_KEY);
+
+        // then
+        then(fileStorage).should(never())
+            .putImage(eq("image/cover.png.w480.jpg"), any(), anyString());
+    }
+
+    @Test
+    void 읽을_수_없는_이미지는_변형_없이_원본을_쓴다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        given(fileStorage.openImage(ORIGINAL_KEY))
+            .willReturn(new ByteArrayInputStream("RIFF....WEBP".getBytes()));
+
+        // when
+        service.generate(bookId, ORIGINAL_KEY);
+
+        // then
+        then(fileStorage).should(never()).putImage(anyString(), any(), anyString());
+        then(bookRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 픽셀_수가_제한을_넘는_이미지는_디코딩하지_않고_원본을_쓴다() throws IOException {
+        // given
+        UUID bookId = UUID.randomUUID();
+        given(fileStorage.openImage(ORIGINAL_KEY)).willReturn(png(2500, 2000));
+
+        // when
+        service.generate(bookId, ORIGINAL_KEY);
+
+        // then
+        then(fileStorage).should(never()).putImage(anyString(), any(), anyString());
+        then(bookRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 큐가_가득_차면_요청_스레드에서_실행하지_않고_작업을_버린다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ThumbnailVariantService busy = new ThumbnailVariantService(fileStorage, bookRepository,
+            meterRegistry, true, 1, 1, 4_000_000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(fileStorage.openImage(ORIGINAL_KEY)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        try {
+            // when
+            busy.schedule(UUID.randomUUID(), ORIGINAL_KEY);
+            started.await(5, TimeUnit.SECONDS);
+            busy.schedule(UUID.randomUUID(), ORIGINAL_KEY);
+            busy.schedule(UUID.randomUUID(), ORIGINAL_KEY);
+
+            // then
+            assertThat(meterRegistry.counter("deokhugam.thumbnail.variant.rejected").count())
+                .isEqualTo(1.0);
+        } finally {
+            release.countDown();
+            busy.shutdown();
+        }
+    }
+
+    @Test
+    void 필요한_너비_이상인_가장_작은_변형을_고른다() {
+        // when & then
+        assertThat(ThumbnailVariant.select(ThumbnailVariant.SMALL, "o", "s", "m")).isEqualTo("s");
+        assertThat(ThumbnailVariant.select(ThumbnailVariant.SMALL, "o", null, "m")).isEqualTo("m");
+        assertThat(ThumbnailVariant.select(ThumbnailVariant.MEDIUM, "o", "s", "m")).isEqualTo("m");
+        assertThat(ThumbnailVariant.select(ThumbnailVariant.MEDIUM, "o", "s", null)).isEqualTo("o");
+    }
+
+    private ByteArrayInputStream png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+}
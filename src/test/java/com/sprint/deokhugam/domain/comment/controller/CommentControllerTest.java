@@ -2,6 +2,7 @@ package com.sprint.deokhugam.domain.comment.controller;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -283,7 +284,8 @@ class CommentControllerTest {
             true
         );
 
-        given(commentService.findAll(eq(reviewId), isNull(), isNull(), eq(direction), eq(limit)))
+        given(commentService.findAll(eq(reviewId), isNull(), isNull(), eq(direction), eq(limit),
+            eq(true)))
             .willReturn(response);
 
         // when
@@ -316,7 +318,7 @@ class CommentControllerTest {
     void 댓글_목록_조회시_존재하지_않는_리뷰면_404_반환() throws Exception {
         // given
         UUID reviewId = UUID.randomUUID();
-        given(commentService.findAll(any(), any(), any(), any(), anyInt()))
+        given(commentService.findAll(any(), any(), any(), any(), anyInt(), anyBoolean()))
             .willThrow(new ReviewNotFoundException(reviewId));
 
         // when
@@ -333,7 +335,8 @@ class CommentControllerTest {
         // given
         UUID reviewId = UUID.randomUUID();
         String invalidCursor = "invalid-cursor-format";
-        given(commentService.findAll(any(), eq(invalidCursor), any(), any(), anyInt()))
+        given(commentService.findAll(any(), eq(invalidCursor), any(), any(), anyInt(),
+            anyBoolean()))
             .willThrow(new InvalidCursorTypeException(invalidCursor, "잘못된 형식"));
 
         // when
@@ -351,7 +354,8 @@ class CommentControllerTest {
         // given
         UUID reviewId = UUID.randomUUID();
         String invalidDirection = "INVALID";
-        given(commentService.findAll(any(), any(), any(), eq(invalidDirection), anyInt()))
+        given(commentService.findAll(any(), any(), any(), eq(invalidDirection), anyInt(),
+            anyBoolean()))
             .willThrow(new IllegalArgumentException("잘못된 정렬 방향"));
 
         // when
@@ -377,7 +381,7 @@ class CommentControllerTest {
             false
         );
 
-        given(commentService.findAll(any(), any(), any(), any(), anyInt()))
+        given(commentService.findAll(any(), any(), any(), any(), anyInt(), anyBoolean()))
             .willReturn(emptyResponse);
 
         // when
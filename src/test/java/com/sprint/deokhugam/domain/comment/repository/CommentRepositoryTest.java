@@ -9,6 +9,7 @@ import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -27,7 +28,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 @DisplayName("CommentRepository 단위 테스트")
 class CommentRepositoryTest {
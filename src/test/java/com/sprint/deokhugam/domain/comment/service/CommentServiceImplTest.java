@@ -3,6 +3,7 @@ package com.sprint.deokhugam.domain.comment.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -19,6 +20,7 @@ import com.sprint.deokhugam.domain.comment.exception.CommentUnauthorizedAccessEx
 import com.sprint.deokhugam.domain.comment.exception.InvalidCursorTypeException;
 import com.sprint.deokhugam.domain.comment.mapper.CommentMapper;
 import com.sprint.deokhugam.domain.comment.repository.CommentRepository;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
@@ -26,12 +28,16 @@ import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
 import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.count.TotalCountService;
+import com.sprint.deokhugam.global.counter.CounterService;
+import com.sprint.deokhugam.global.counter.CounterType;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -61,8 +67,13 @@ public class CommentServiceImplTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private CounterService counterService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
+    @Mock
+    private TotalCountService totalCountService;
 
     /*테스트 초기값 설정 */
     private Instant createdAt;
@@ -159,6 +170,9 @@ public class CommentServiceImplTest {
         then(userRepository).should().findById(user1.getId());
         then(commentRepository).should().save(any());
         then(commentMapper).should().toDto(comment1);
+        then(counterService).should().add(CounterType.REVIEW_COMMENT, review1.getId(), 1);
+        then(notificationService).should().publish(NotificationEventType.REVIEW_COMMENTED,
+            review1.getId(), user1.getId(), comment1.getId());
 
     }
 
@@ -275,7 +289,7 @@ public class CommentServiceImplTest {
 
         // when
         Throwable thrown = catchThrowable(
-            () -> commentService.findAll(reviewId, null, null, "DESC", 10));
+            () -> commentService.findAll(reviewId, null, null, "DESC", 10, true));
 
         // then
         assertThat(thrown)
@@ -303,10 +317,11 @@ public class CommentServiceImplTest {
         given(commentMapper.toDto(comment1)).willReturn(dto1);
         given(commentMapper.toDto(comment2)).willReturn(dto2);
         given(commentRepository.countByReviewId(reviewId)).willReturn(10L);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<CommentDto> result =
-            commentService.findAll(reviewId, null, null, "DESC", limit);
+            commentService.findAll(reviewId, null, null, "DESC", limit, true);
 
         // then
         assertThat(result.content()).containsExactly(dto1, dto2);
@@ -337,10 +352,11 @@ public class CommentServiceImplTest {
         given(commentMapper.toDto(comment2)).willReturn(dto2);
         given(commentMapper.toDto(comment3)).willReturn(dto3);
         given(commentRepository.countByReviewId(reviewId)).willReturn(3L);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<CommentDto> result =
-            commentService.findAll(reviewId, cursor, null, "DESC", limit);
+            commentService.findAll(reviewId, cursor, null, "DESC", limit, true);
 
         // then
         assertThat(result.content()).containsExactly(dto3, dto2);
@@ -369,10 +385,11 @@ public class CommentServiceImplTest {
         given(commentMapper.toDto(comment2)).willReturn(dto2);
         given(commentMapper.toDto(comment3)).willReturn(dto3);
         given(commentRepository.countByReviewId(reviewId)).willReturn(3L);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<CommentDto> result =
-            commentService.findAll(reviewId, cursor, null, "DESC", limit);
+            commentService.findAll(reviewId, cursor, null, "DESC", limit, true);
 
         // then
         assertThat(result.content()).containsExactly(dto3, dto2);
@@ -390,7 +407,7 @@ public class CommentServiceImplTest {
 
         // when
         Throwable thrown = catchThrowable(
-            () -> commentService.findAll(reviewId, invalidCursor, null, "DESC", 10));
+            () -> commentService.findAll(reviewId, invalidCursor, null, "DESC", 10, true));
 
         // then
         assertThat(thrown)
@@ -410,6 +427,7 @@ public class CommentServiceImplTest {
 
         // Then
         verify(commentRepository).findById(comment1.getId());
+        verify(counterService).add(CounterType.REVIEW_COMMENT, comment1.getReview().getId(), -1);
     }
 
     @Test
@@ -528,4 +546,11 @@ public class CommentServiceImplTest {
         ReflectionTestUtils.setField(comment, "isDeleted", false);
         return comment;
     }
+
+    // 총 개수 캐시를 거치지 않고 저장소의 COUNT 결과를 그대로 쓴다.
+    @SuppressWarnings("unchecked")
+    private void givenTotalCountPassThrough() {
+        given(totalCountService.count(any(), any(), anyBoolean(), any()))
+            .willAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(3)).get());
+    }
 }
@@ -4,12 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sprint.deokhugam.domain.notification.entity.Notification;
 import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -53,6 +56,36 @@ class NotificationDeleteJobConfigTest {
             .containsExactlyInAnyOrder("recent confirmed", "old unconfirmed");
     }
 
+    @Test
+    void 잡_파라미터의_기준_시각으로_삭제하고_처리량을_기록한다() throws Exception {
+        // given
+        testDataHelper.saveTestData();
+
+        // when
+        JobExecution execution = jobLauncher.run(
+            notificationDeleteJob,
+            new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addString(NotificationDeleteJobConfig.CUTOFF_PARAMETER,
+                    Instant.now().minus(1, ChronoUnit.DAYS).toString())
+                .toJobParameters()
+        );
+
+        // then
+        assertThat(execution.getExitStatus().getExitCode()).isEqualTo("COMPLETED");
+
+        List<Notification> remain = notificationRepository.findAll();
+        assertThat(remain).extracting("content")
+            .containsExactly("old unconfirmed");
+
+        StepExecution stepExecution = execution.getStepExecutions().iterator().next();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(2);
+        assertThat(stepExecution.getExecutionContext()
+            .getLong(NotificationPurgeTasklet.DELETED_ROWS_KEY)).isEqualTo(2);
+        assertThat(stepExecution.getExecutionContext()
+            .containsKey(NotificationPurgeTasklet.ROWS_PER_SECOND_KEY)).isTrue();
+    }
+
     @AfterEach
     void tearDown() {
         testDataHelper.clearTestData();
@@ -0,0 +1,192 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import static com.sprint.deokhugam.fixture.BookFixture.createBookEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
+import com.sprint.deokhugam.domain.notification.entity.NotificationOutbox;
+import com.sprint.deokhugam.domain.notification.repository.NotificationOutboxRepository;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
+import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.config.JpaAuditingConfig;
+import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
+@ActiveProfiles("test")
+@DisplayName("NotificationOutboxDispatcher 테스트")
+class NotificationOutboxDispatcherTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseDialect databaseDialect;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    private Review review;
+    private List<User> actors;
+
+    @BeforeEach
+    void setUp() {
+        User author = em.persist(User.builder()
+            .email("author@test.com")
+            .nickname("author")
+            .password("pass")
+            .build());
+        actors = List.of(
+            em.persist(User.builder().email("a1@test.com").nickname("a1").password("pass").build()),
+            em.persist(User.builder().email("a2@test.com").nickname("a2").password("pass").build()),
+            em.persist(User.builder().email("a3@test.com").nickname("a3").password("pass").build()));
+
+        Book book = em.persist(createBookEntity("테스트 책", "작가", "설명",
+            "출판사", LocalDate.of(2023, 1, 1), "9031245672313",
+            null, 0.0, 0L));
+
+        review = em.persist(Review.builder()
+            .content("리뷰")
+            .likeCount(0L)
+            .commentCount(0L)
+            .rating(5)
+            .book(book)
+            .user(author)
+            .isDeleted(false)
+            .build());
+        em.flush();
+    }
+
+    private NotificationOutboxDispatcher dispatcher(boolean coalesceEnabled) {
+        return new NotificationOutboxDispatcher(jdbcTemplate, databaseDialect,
+            mock(NotificationSseService.class), mock(NotificationInboxCache.class),
+            transactionManager, new SimpleMeterRegistry(), 500, 10, coalesceEnabled);
+    }
+
+    private void publishLikes() {
+        actors.forEach(actor -> notificationOutboxRepository.save(
+            new NotificationOutbox(NotificationEventType.REVIEW_LIKED, review.getId(),
+                actor.getId(), null)));
+        em.flush();
+    }
+
+    private List<Map<String, Object>> findNotifications() {
+        return jdbcTemplate.queryForList(
+            "SELECT content, event_type, actor_count, confirmed FROM notifications ORDER BY created_at");
+    }
+
+    @Test
+    void 같은_리뷰의_좋아요_알림은_한_건으로_묶인다() {
+        // given
+        publishLikes();
+
+        // when
+        int dispatched = dispatcher(true).dispatchBatch();
+
+        // then
+        List<Map<String, Object>> notifications = findNotifications();
+        assertThat(dispatched).isEqualTo(3);
+        assertThat(notifications).hasSize(1);
+        assertThat(((Number) notifications.get(0).get("actor_count")).intValue()).isEqualTo(3);
+        assertThat(notifications.get(0).get("event_type")).isEqualTo("REVIEW_LIKED");
+        assertThat(notifications.get(0).get("content")).isNull();
+        assertThat(notificationOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void 읽지_않은_묶음_알림에_이후_이벤트가_합쳐진다() {
+        // given
+        NotificationOutboxDispatcher dispatcher = dispatcher(true);
+        publishLikes();
+        dispatcher.dispatchBatch();
+        User newcomer = em.persist(
+            User.builder().email("a4@test.com").nickname("a4").password("pass").build());
+        notificationOutboxRepository.save(new NotificationOutbox(
+            NotificationEventType.REVIEW_LIKED, review.getId(), newcomer.getId(), null));
+        em.flush();
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        List<Map<String, Object>> notifications = findNotifications();
+        assertThat(notifications).hasSize(1);
+        assertThat(((Number) notifications.get(0).get("actor_count")).intValue()).isEqualTo(4);
+    }
+
+    @Test
+    void 같은_행위자의_반복_이벤트는_행위자_수에_한_번만_센다() {
+        // given
+        NotificationOutboxDispatcher dispatcher = dispatcher(true);
+        publishLikes();
+        publishLikes();
+        dispatcher.dispatchBatch();
+
+        // when
+        publishLikes();
+        dispatcher.dispatchBatch();
+
+        // then
+        List<Map<String, Object>> notifications = findNotifications();
+        assertThat(notifications).hasSize(1);
+        assertThat(((Number) notifications.get(0).get("actor_count")).intValue()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification_actors",
+            Long.class)).isEqualTo(3L);
+    }
+
+    @Test
+    void 읽은_알림에는_합치지_않고_새_묶음을_만든다() {
+        // given
+        NotificationOutboxDispatcher dispatcher = dispatcher(true);
+        publishLikes();
+        dispatcher.dispatchBatch();
+        jdbcTemplate.update("UPDATE notifications SET confirmed = true");
+
+        // when
+        publishLikes();
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(findNotifications()).hasSize(2);
+    }
+
+    @Test
+    void 묶음_모드가_꺼져_있으면_이벤트마다_알림이_생성된다() {
+        // given
+        publishLikes();
+
+        // when
+        dispatcher(false).dispatchBatch();
+
+        // then
+        List<Map<String, Object>> notifications = findNotifications();
+        assertThat(notifications).hasSize(3);
+        assertThat(notifications)
+            .allSatisfy(row -> assertThat(((Number) row.get("actor_count")).intValue()).isEqualTo(1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import static com.sprint.deokhugam.fixture.BookFixture.createBookEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.config.JpaAuditingConfig;
+import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
+@ActiveProfiles("test")
+@DisplayName("NotificationPartitionManager 테스트")
+class NotificationPartitionManagerTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseDialect databaseDialect;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private NotificationPartitionManager partitionManager;
+    private User user;
+    private Review review;
+
+    @BeforeEach
+    void setUp() {
+        partitionManager = new NotificationPartitionManager(jdbcTemplate, databaseDialect,
+            transactionManager, meterRegistry, 3, 6);
+
+        user = em.persist(User.builder()
+            .email("user@test.com")
+            .nickname("user")
+            .password("pass")
+            .build());
+        Book book = em.persist(createBookEntity("테스트 책", "작가", "설명",
+            "출판사", LocalDate.of(2023, 1, 1), "9031245672313",
+            null, 0.0, 0L));
+        review = em.persist(Review.builder()
+            .content("리뷰")
+            .likeCount(0L)
+            .commentCount(0L)
+            .rating(5)
+            .book(book)
+            .user(user)
+            .isDeleted(false)
+            .build());
+        em.flush();
+    }
+
+    @Test
+    void 현재_월부터_앞으로_쓸_월_파티션을_미리_만든다() {
+        // when
+        partitionManager.maintain(YearMonth.of(2026, 10));
+        partitionManager.maintain(YearMonth.of(2026, 10));
+
+        // then
+        assertThat(partitionNames()).containsExactlyInAnyOrder(
+            "notifications_p202610",
+            "notifications_p202611",
+            "notifications_p202612",
+            "notifications_p202701");
+    }
+
+    @Test
+    void 보관_기간이_지난_파티션과_그_기간의_알림만_삭제한다() {
+        // given
+        partitionManager.maintain(YearMonth.of(2026, 1));
+        insertNotification(Instant.parse("2026-01-15T00:00:00Z"));
+        UUID kept = insertNotification(Instant.parse("2026-04-15T00:00:00Z"));
+
+        // when
+        partitionManager.maintain(YearMonth.of(2026, 10));
+
+        // then
+        assertThat(partitionNames())
+            .doesNotContain("notifications_p202601", "notifications_p202602",
+                "notifications_p202603")
+            .contains("notifications_p202604", "notifications_p202610");
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM notifications", String.class))
+            .containsExactly(kept.toString());
+    }
+
+    @Test
+    void 월_파티션_밖의_알림도_보관_기간이_지나면_삭제하고_남은_건수를_알린다() {
+        // given
+        partitionManager.maintain(YearMonth.of(2026, 10));
+        insertNotification(Instant.parse("2026-01-15T00:00:00Z"));
+        UUID kept = insertNotification(Instant.parse("2026-06-15T00:00:00Z"));
+
+        // when
+        partitionManager.maintain(YearMonth.of(2026, 10));
+
+        // then
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM notifications", String.class))
+            .containsExactly(kept.toString());
+        assertThat(meterRegistry.get("deokhugam.notification.partition.default-rows")
+            .gauge().value()).isEqualTo(1.0);
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList("SELECT partition_name FROM notification_partitions",
+            String.class);
+    }
+
+    private UUID insertNotification(Instant createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO notifications (id, created_at, updated_at, review_id, user_id, content,
+                                           confirmed)
+                VALUES (?, ?, ?, ?, ?, '알림', false)
+                """,
+            id, Timestamp.from(createdAt), Timestamp.from(createdAt), review.getId(),
+            user.getId());
+        return id;
+    }
+}
@@ -0,0 +1,137 @@
+package com.sprint.deokhugam.domain.notification.batch;
+
+import static com.sprint.deokhugam.fixture.BookFixture.createBookEntity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.config.JpaAuditingConfig;
+import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
+@ActiveProfiles("test")
+@DisplayName("모두 읽음 기준 시각 테스트")
+class NotificationReadCompactorTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    private User user;
+    private Notification oldUnread;
+    private Notification newUnread;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder()
+            .email("user@test.com")
+            .nickname("user")
+            .password("pass")
+            .build());
+        Book book = em.persist(createBookEntity("테스트 책", "작가", "설명",
+            "출판사", LocalDate.of(2023, 1, 1), "9031245672313",
+            null, 0.0, 0L));
+        Review review = em.persist(Review.builder()
+            .content("리뷰")
+            .likeCount(0L)
+            .commentCount(0L)
+            .rating(5)
+            .book(book)
+            .user(user)
+            .isDeleted(false)
+            .build());
+
+        oldUnread = em.persist(Notification.builder()
+            .user(user).review(review).content("old").isConfirmed(false).build());
+        newUnread = em.persist(Notification.builder()
+            .user(user).review(review).content("new").isConfirmed(false).build());
+        em.flush();
+
+        Instant now = Instant.now();
+        em.getEntityManager()
+            .createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id = :id")
+            .setParameter("createdAt", now.minus(1, ChronoUnit.DAYS))
+            .setParameter("id", oldUnread.getId())
+            .executeUpdate();
+        em.getEntityManager()
+            .createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id = :id")
+            .setParameter("createdAt", now.plus(1, ChronoUnit.HOURS))
+            .setParameter("id", newUnread.getId())
+            .executeUpdate();
+        em.persist(new NotificationReadWatermark(user.getId(), now));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 기준_시각_이전_알림은_안_읽은_수에서_제외된다() {
+        // when
+        long unread = notificationRepository.countUnreadByUserId(user.getId());
+
+        // then
+        assertThat(unread).isEqualTo(1);
+    }
+
+    @Test
+    void 정리_작업은_기준_시각_이전_알림만_읽음_처리한다() {
+        // given
+        NotificationReadCompactor compactor = new NotificationReadCompactor(jdbcTemplate,
+            new SimpleMeterRegistry(), 1000, 10, 0);
+
+        // when
+        int compacted = compactor.compactChunk();
+
+        // then
+        assertThat(compacted).isEqualTo(1);
+        assertThat(notificationRepository.findById(oldUnread.getId()).orElseThrow().isConfirmed())
+            .isTrue();
+        assertThat(notificationRepository.findById(newUnread.getId()).orElseThrow().isConfirmed())
+            .isFalse();
+        assertThat(notificationRepository.countUnreadByUserId(user.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void 읽은_알림의_행위자_기록은_정리한다() {
+        // given
+        NotificationReadCompactor compactor = new NotificationReadCompactor(jdbcTemplate,
+            new SimpleMeterRegistry(), 1000, 10, 0);
+        jdbcTemplate.update("INSERT INTO notification_actors (notification_id, actor_id) "
+            + "VALUES (?, ?)", oldUnread.getId(), user.getId());
+        jdbcTemplate.update("INSERT INTO notification_actors (notification_id, actor_id) "
+            + "VALUES (?, ?)", newUnread.getId(), user.getId());
+        compactor.compactChunk();
+
+        // when
+        int swept = compactor.sweepActorsChunk();
+
+        // then
+        assertThat(swept).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT notification_id FROM notification_actors", String.class))
+            .containsExactly(newUnread.getId().toString());
+    }
+}
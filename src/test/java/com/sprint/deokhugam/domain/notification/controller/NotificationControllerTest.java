@@ -11,6 +11,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.exception.InvalidNotificationRequestException;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import java.time.Instant;
 import java.util.List;
@@ -34,6 +35,9 @@ class NotificationControllerTest {
     @MockitoBean
     private NotificationService notificationService;
 
+    @MockitoBean
+    private NotificationSseService notificationSseService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
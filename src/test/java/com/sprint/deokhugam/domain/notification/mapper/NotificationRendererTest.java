@@ -0,0 +1,92 @@
+package com.sprint.deokhugam.domain.notification.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.deokhugam.domain.comment.entity.Comment;
+import com.sprint.deokhugam.domain.comment.repository.CommentRepository;
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationRenderer 단위 테스트")
+class NotificationRendererTest {
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @InjectMocks
+    private NotificationRenderer notificationRenderer;
+
+    @Test
+    void 알림_문구는_현재_닉네임과_댓글로_한_번에_조회해서_만든다() {
+        // given
+        User actor = User.builder().email("a@test.com").nickname("새닉네임").password("pass").build();
+        ReflectionTestUtils.setField(actor, "id", UUID.randomUUID());
+        Comment comment = Comment.builder().content("좋은 리뷰네요").isDeleted(false).build();
+        ReflectionTestUtils.setField(comment, "id", UUID.randomUUID());
+
+        Notification liked = Notification.builder()
+            .eventType(NotificationEventType.REVIEW_LIKED)
+            .actorCount(3)
+            .latestActorId(actor.getId())
+            .build();
+        Notification commented = Notification.builder()
+            .eventType(NotificationEventType.REVIEW_COMMENTED)
+            .latestActorId(actor.getId())
+            .commentId(comment.getId())
+            .build();
+        given(notificationMapper.toDto(any(Notification.class), any()))
+            .willReturn(NotificationDto.builder().build());
+        given(userRepository.findAllById(Set.of(actor.getId()))).willReturn(List.of(actor));
+        given(commentRepository.findAllById(Set.of(comment.getId()))).willReturn(List.of(comment));
+
+        // when
+        List<NotificationDto> result = notificationRenderer.toDtos(List.of(liked, commented), null);
+
+        // then
+        assertThat(result).extracting(NotificationDto::content).containsExactly(
+            "새닉네임님 외 2명이 나의 리뷰를 좋아합니다.",
+            "새닉네임님이 나의 리뷰 댓글을 남겼습니다.\n좋은 리뷰네요");
+    }
+
+    @Test
+    void 종류가_없는_예전_알림은_저장된_문구를_그대로_쓴다() {
+        // given
+        Notification legacy = Notification.builder()
+            .content("예전 알림")
+            .build();
+        NotificationDto dto = NotificationDto.builder().content("예전 알림").build();
+        given(notificationMapper.toDto(legacy, null)).willReturn(dto);
+
+        // when
+        List<NotificationDto> result = notificationRenderer.toDtos(List.of(legacy), null);
+
+        // then
+        assertThat(result).containsExactly(dto);
+        then(userRepository).should(never()).findAllById(any());
+        then(commentRepository).should(never()).findAllById(any());
+    }
+}
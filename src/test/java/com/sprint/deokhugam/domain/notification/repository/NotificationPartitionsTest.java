@@ -0,0 +1,29 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+class NotificationPartitionsTest {
+
+    @Test
+    void 파티션_시작_시각은_서비스_시간대의_월초다() {
+        // when
+        Instant start = NotificationPartitions.partitionStart(
+            Instant.parse("2026-09-30T16:00:00Z"));
+
+        // then
+        assertThat(start).isEqualTo(Instant.parse("2026-09-30T15:00:00Z"));
+    }
+
+    @Test
+    void 서비스_시간대_기준으로_속한_달을_정한다() {
+        // when
+        YearMonth month = NotificationPartitions.monthOf(Instant.parse("2026-09-30T15:00:00Z"));
+
+        // then
+        assertThat(month).isEqualTo(YearMonth.of(2026, 10));
+    }
+}
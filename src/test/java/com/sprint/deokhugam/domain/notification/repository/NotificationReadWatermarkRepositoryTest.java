@@ -0,0 +1,81 @@
+package com.sprint.deokhugam.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.deokhugam.config.TestQuerydslConfig;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.config.JpaAuditingConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, JpaAuditingConfig.class, DatabaseDialect.class})
+@DisplayName("NotificationReadWatermarkRepository 테스트")
+class NotificationReadWatermarkRepositoryTest {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+            .email("watermark@example.com")
+            .nickname("watermark")
+            .password("1234asdf!")
+            .build();
+        em.persist(user);
+        em.flush();
+        userId = user.getId();
+    }
+
+    @Test
+    void 기준_시각이_없으면_새로_만든다() {
+        // given
+        Instant readAt = Instant.parse("2026-10-01T00:00:00Z");
+
+        // when
+        notificationReadWatermarkRepository.advance(userId, readAt);
+
+        // then
+        assertThat(find().getLastReadAt()).isEqualTo(readAt);
+    }
+
+    @Test
+    void 기준_시각은_더_최근_시각으로만_옮긴다() {
+        // given
+        Instant first = Instant.parse("2026-10-02T00:00:00Z");
+        notificationReadWatermarkRepository.advance(userId, first);
+
+        // when
+        notificationReadWatermarkRepository.advance(userId,
+            Instant.parse("2026-10-01T00:00:00Z"));
+        Instant afterOlder = find().getLastReadAt();
+        Instant later = Instant.parse("2026-10-03T00:00:00Z");
+        notificationReadWatermarkRepository.advance(userId, later);
+
+        // then
+        assertThat(afterOlder).isEqualTo(first);
+        assertThat(find().getLastReadAt()).isEqualTo(later);
+    }
+
+    private NotificationReadWatermark find() {
+        em.clear();
+        return notificationReadWatermarkRepository.findById(userId).orElseThrow();
+    }
+}
@@ -7,10 +7,14 @@ import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.YearMonth;
 import java.util.Random;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -22,7 +26,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({TestQuerydslConfig.class, JpaAuditingConfig.class})
+@Import({TestQuerydslConfig.class, JpaAuditingConfig.class, DatabaseDialect.class})
 class NotificationRepositoryImplTest {
 
     @Autowired
@@ -32,12 +36,61 @@ class NotificationRepositoryImplTest {
     NotificationRepositoryImpl notificationRepository;
 
     @Test
-    @DisplayName("NotificationRepositoryImpl: 알림 전체 읽음 처리")
-    void markAllAsReadByUserId_test() {
+    @DisplayName("NotificationRepositoryImpl: 월 파티션 경계를 넘어 최신순으로 조회")
+    void findByUserIdWithCursor_acrossPartitions_test() {
         // given
+        Review review = persistReview();
+        User user = review.getUser();
+        Instant thisMonth = NotificationPartitions.partitionStart(Instant.now());
+        Instant lastMonth = NotificationPartitions.monthStart(
+            NotificationPartitions.monthOf(thisMonth).minusMonths(1));
+        Notification current = persistAt(user, review, thisMonth.plus(Duration.ofHours(1)));
+        Notification lateLastMonth = persistAt(user, review, thisMonth.minus(Duration.ofDays(1)));
+        persistAt(user, review, lastMonth.plus(Duration.ofDays(1)));
+        em.clear();
+
+        // when
+        CursorPageResponse<Notification> page = notificationRepository.findByUserIdWithCursor(
+            user.getId(), thisMonth.plus(Duration.ofHours(2)), null, 2);
+
+        // then
+        assertThat(page.content())
+            .extracting(Notification::getId)
+            .containsExactly(current.getId(), lateLastMonth.getId());
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("NotificationRepositoryImpl: 알림이 없는 달을 건너 보관 기간 안의 이전 알림까지 조회")
+    void findByUserIdWithCursor_skipsEmptyPartitions_test() {
+        // given
+        Review review = persistReview();
+        User user = review.getUser();
+        YearMonth current = NotificationPartitions.monthOf(Instant.now());
+        Notification recent = persistAt(user, review,
+            NotificationPartitions.monthStart(current).plus(Duration.ofHours(1)));
+        Notification older = persistAt(user, review,
+            NotificationPartitions.monthStart(current.minusMonths(3)).plus(Duration.ofDays(1)));
+        // 보관 기간(6개월)이 지난 달은 읽지 않는다.
+        persistAt(user, review,
+            NotificationPartitions.monthStart(current.minusMonths(8)).plus(Duration.ofDays(1)));
+        em.clear();
+
+        // when
+        CursorPageResponse<Notification> page = notificationRepository.findByUserIdWithCursor(
+            user.getId(), Instant.now().plus(Duration.ofDays(1)), null, 5);
+
+        // then
+        assertThat(page.content())
+            .extracting(Notification::getId)
+            .containsExactly(recent.getId(), older.getId());
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    private Review persistReview() {
         User user = User.builder()
-            .email("test@example.com")
-            .nickname("tester")
+            .email("partition" + UUID.randomUUID() + "@example.com")
+            .nickname("partition")
             .password("1234asdf!")
             .build();
         em.persist(user);
@@ -66,43 +119,22 @@ class NotificationRepositoryImplTest {
             .book(book)
             .build();
         em.persist(review);
+        return review;
+    }
 
-        Notification n1 = Notification.builder()
-            .user(user)
-            .review(review)
-            .content("알림1")
-            .isConfirmed(false)
-            .build();
-
-        Notification n2 = Notification.builder()
+    private Notification persistAt(User user, Review review, Instant createdAt) {
+        Notification notification = Notification.builder()
             .user(user)
             .review(review)
-            .content("알림2")
+            .content("알림")
             .isConfirmed(false)
             .build();
-
-        em.persist(n1);
-        em.persist(n2);
-        em.flush(); // 이 시점까지 DB 반영
-        em.clear(); // 영속성 초기화
-
-        UUID userId = user.getId();
-
-        // when
-        notificationRepository.markAllAsReadByUserId(userId);
-
+        em.persist(notification);
         em.flush();
-        em.clear(); // ← 이걸로 1차 캐시 싹 밀어줘야 DB에서 최신 데이터 다시 조회됨
-
-        // then
-        List<Notification> all = em.createQuery("""
-                select n from Notification n
-                where n.user.id = :userId
-                """, Notification.class)
-            .setParameter("userId", userId)
-            .getResultList();
-
-        assertThat(all).hasSize(2);
-        assertThat(all).allSatisfy(n -> assertThat(n.isConfirmed()).isTrue());
+        em.createQuery("update Notification n set n.createdAt = :createdAt where n.id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", notification.getId())
+            .executeUpdate();
+        return notification;
     }
-}
\ No newline at end of file
+}
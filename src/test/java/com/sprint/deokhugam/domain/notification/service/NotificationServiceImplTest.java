@@ -3,17 +3,26 @@ package com.sprint.deokhugam.domain.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
 import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
 import com.sprint.deokhugam.domain.notification.dto.request.NotificationGetRequest;
 import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
+import com.sprint.deokhugam.domain.notification.entity.NotificationOutbox;
 import com.sprint.deokhugam.domain.notification.exception.InvalidNotificationRequestException;
 import com.sprint.deokhugam.domain.notification.mapper.NotificationMapper;
+import com.sprint.deokhugam.domain.notification.mapper.NotificationRenderer;
+import com.sprint.deokhugam.domain.notification.repository.NotificationOutboxRepository;
+import com.sprint.deokhugam.domain.notification.repository.NotificationReadWatermarkRepository;
 import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import com.sprint.deokhugam.domain.notification.sse.NotificationSseService;
 import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.InvalidUserRequestException;
@@ -25,6 +34,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,6 +48,21 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationMapper notificationMapper;
 
+    @Mock
+    private NotificationRenderer notificationRenderer;
+
+    @Mock
+    private NotificationOutboxRepository notificationOutboxRepository;
+
+    @Mock
+    private NotificationSseService notificationSseService;
+
+    @Mock
+    private NotificationInboxCache notificationInboxCache;
+
+    @Mock
+    private NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -116,7 +141,7 @@ class NotificationServiceImplTest {
 
         when(notificationRepository.findByUserIdWithCursor(userId, now, null, limit))
             .thenReturn(fakeResponse);
-        when(notificationMapper.toDto(entity)).thenReturn(dto);
+        when(notificationRenderer.toDtos(List.of(entity), null)).thenReturn(List.of(dto));
 
         // when
         CursorPageResponse<NotificationDto> response = notificationService.getNotifications(
@@ -131,15 +156,40 @@ class NotificationServiceImplTest {
     }
 
     @Test
-    void markAllAsRead_호출되면_Repository메서드가_정확히_실행된다() {
+    void 커서_없는_첫_페이지는_캐시에서_조회한다() {
+        // given
+        UUID userId = UUID.randomUUID();
+        NotificationGetRequest request = new NotificationGetRequest(userId, null, null, null, 20);
+        CursorPageResponse<NotificationDto> cached = new CursorPageResponse<>(
+            List.of(), null, null, 0, null, false);
+        when(notificationInboxCache.getFirstPage(userId, 20)).thenReturn(cached);
+
+        // when
+        CursorPageResponse<NotificationDto> response = notificationService.getNotifications(
+            request);
+
+        // then
+        assertThat(response).isSameAs(cached);
+        verify(notificationRepository, never()).findByUserIdWithCursor(any(), any(), any(),
+            anyInt());
+    }
+
+    @Test
+    void markAllAsRead_호출되면_알림_행을_수정하지_않고_기준_시각을_옮긴다() {
         // given
         UUID userId = UUID.randomUUID();
+        Instant before = Instant.now();
 
         // when
         notificationService.markAllAsRead(userId);
 
         // then
-        verify(notificationRepository, times(1)).markAllAsReadByUserId(userId);
+        ArgumentCaptor<Instant> captor = ArgumentCaptor.forClass(Instant.class);
+        verify(notificationReadWatermarkRepository).advance(eq(userId), captor.capture());
+        assertThat(captor.getValue()).isAfterOrEqualTo(before);
+        verify(notificationReadWatermarkRepository, never()).save(any());
+        verify(notificationInboxCache).applyReadAll(userId);
+        verify(notificationSseService).publishUnreadCount(userId);
     }
 
     @Test
@@ -206,6 +256,37 @@ class NotificationServiceImplTest {
             .hasMessageContaining("null 값이 들어왔습니다.");
     }
 
+    @Test
+    void 알림_이벤트는_아웃박스에만_기록된다() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        UUID commentId = UUID.randomUUID();
+
+        // when
+        notificationService.publish(NotificationEventType.REVIEW_COMMENTED, reviewId, actorId,
+            commentId);
+
+        // then
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(
+            NotificationOutbox.class);
+        verify(notificationOutboxRepository).save(captor.capture());
+        assertThat(captor.getValue().getEventType()).isEqualTo(
+            NotificationEventType.REVIEW_COMMENTED);
+        assertThat(captor.getValue().getReviewId()).isEqualTo(reviewId);
+        assertThat(captor.getValue().getActorId()).isEqualTo(actorId);
+        assertThat(captor.getValue().getCommentId()).isEqualTo(commentId);
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    void 리뷰ID가_null이면_알림_이벤트_기록에_실패한다() {
+        // when & then
+        assertThatThrownBy(() -> notificationService.publish(NotificationEventType.REVIEW_LIKED,
+            null, UUID.randomUUID(), null))
+            .isInstanceOf(InvalidUserRequestException.class);
+    }
+
     @Test
     void 알림_ID로_확인여부를_업데이트한다() {
         // given
@@ -226,6 +307,7 @@ class NotificationServiceImplTest {
 
         // then
         verify(notificationRepository).findById(notificationId);
+        verify(notificationInboxCache).applyRead(mockUser.getId(), notificationId);
         assertThat(mockNotification.isConfirmed()).isTrue();
     }
 
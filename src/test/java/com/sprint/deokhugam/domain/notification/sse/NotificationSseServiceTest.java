@@ -0,0 +1,143 @@
+package com.sprint.deokhugam.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.deokhugam.domain.notification.cache.NotificationInboxCache;
+import com.sprint.deokhugam.domain.notification.dto.data.NotificationDto;
+import com.sprint.deokhugam.domain.notification.entity.Notification;
+import com.sprint.deokhugam.domain.notification.entity.NotificationReadWatermark;
+import com.sprint.deokhugam.domain.notification.mapper.NotificationRenderer;
+import com.sprint.deokhugam.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.sprint.deokhugam.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationSseService 단위 테스트")
+class NotificationSseServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+
+    @Mock
+    private NotificationRenderer notificationRenderer;
+
+    @Mock
+    private NotificationInboxCache notificationInboxCache;
+
+    private NotificationSseService notificationSseService;
+
+    @BeforeEach
+    void setUp() {
+        notificationSseService = new NotificationSseService(notificationRepository,
+            notificationReadWatermarkRepository, notificationRenderer, notificationInboxCache,
+            new SimpleMeterRegistry(), 60_000L, 10, 2, 100, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationSseService.shutdown();
+    }
+
+    @Test
+    void 사용자당_연결_수를_넘으면_가장_오래된_연결을_닫는다() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        notificationSseService.subscribe(userId, null);
+        notificationSseService.subscribe(userId, null);
+        notificationSseService.subscribe(userId, null);
+
+        // then
+        assertThat(notificationSseService.connectionCount()).isEqualTo(2);
+    }
+
+    @Test
+    void Last_Event_ID가_있으면_이후_알림을_다시_조회한다() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID lastId = UUID.randomUUID();
+        Instant lastCreatedAt = Instant.parse("2025-01-01T00:00:00Z");
+        given(notificationRepository.findByUserIdAfterCursor(userId, lastCreatedAt, lastId, 101))
+            .willReturn(List.of());
+
+        // when
+        notificationSseService.subscribe(userId, lastCreatedAt + "_" + lastId);
+
+        // then
+        then(notificationRepository).should()
+            .findByUserIdAfterCursor(userId, lastCreatedAt, lastId, 101);
+    }
+
+    @Test
+    void 다시_보내는_알림도_모두_읽음_기준_시각으로_읽음_처리한다() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID lastId = UUID.randomUUID();
+        Instant lastCreatedAt = Instant.parse("2025-01-01T00:00:00Z");
+        Notification missed = Notification.builder().content("알림").build();
+        NotificationReadWatermark watermark = new NotificationReadWatermark(userId,
+            Instant.parse("2025-01-02T00:00:00Z"));
+        given(notificationRepository.findByUserIdAfterCursor(userId, lastCreatedAt, lastId, 101))
+            .willReturn(List.of(missed));
+        given(notificationReadWatermarkRepository.findById(userId))
+            .willReturn(Optional.of(watermark));
+        given(notificationRenderer.toDtos(List.of(missed), watermark)).willReturn(List.of());
+
+        // when
+        notificationSseService.subscribe(userId, lastCreatedAt + "_" + lastId);
+
+        // then
+        then(notificationRenderer).should().toDtos(List.of(missed), watermark);
+    }
+
+    @Test
+    void 잘못된_Last_Event_ID는_재조회하지_않는다() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        notificationSseService.subscribe(userId, "invalid");
+
+        // then
+        then(notificationRepository).should(never())
+            .findByUserIdAfterCursor(eq(userId), any(), any(), anyInt());
+    }
+
+    @Test
+    void 구독하지_않은_사용자의_알림은_전송하지_않는다() {
+        // given
+        NotificationDto notification = NotificationDto.builder()
+            .id(UUID.randomUUID())
+            .userId(UUID.randomUUID())
+            .content("알림")
+            .createdAt(Instant.now())
+            .build();
+
+        // when
+        notificationSseService.publish(List.of(notification));
+
+        // then
+        then(notificationInboxCache).should(never()).getUnreadCount(any());
+    }
+}
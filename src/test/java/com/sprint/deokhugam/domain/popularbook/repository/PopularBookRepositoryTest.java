@@ -11,6 +11,7 @@ import com.sprint.deokhugam.domain.popularbook.dto.request.PopularBookGetRequest
 import com.sprint.deokhugam.domain.popularbook.entity.PopularBook;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
@@ -28,7 +29,7 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 @DisplayName("PopularBookReposiroty 테스트")
 class PopularBookRepositoryTest {
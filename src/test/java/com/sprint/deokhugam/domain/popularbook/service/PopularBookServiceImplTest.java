@@ -16,9 +16,10 @@ import com.sprint.deokhugam.domain.popularbook.exception.InvalidSortDirectionExc
 import com.sprint.deokhugam.domain.popularbook.repository.PopularBookRepository;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,7 +40,7 @@ class PopularBookServiceImplTest {
     private PopularBookRepository popularBookRepository;
 
     @Mock
-    private S3Storage s3Storage;
+    private FileStorage fileStorage;
 
     private PopularBookDto dto1;
     private PopularBookDto dto2;
@@ -76,8 +77,8 @@ class PopularBookServiceImplTest {
         given(popularBookRepository.findAllByRequest(request)).willReturn(
             List.of(dto1, dto2, dto3));
         given(popularBookRepository.countByPeriod(PeriodType.DAILY)).willReturn(3L);
-        given(s3Storage.generatePresignedUrl("test.jpg")).willReturn(
-            "https://cdn.example.com/cover.png");
+        given(fileStorage.presignAll(any())).willReturn(
+            Map.of("test.jpg", "https://cdn.example.com/cover.png"));
 
         // when
         CursorPageResponse<PopularBookDto> result = popularBookService.getPopularBooks(request);
@@ -85,7 +86,9 @@ class PopularBookServiceImplTest {
         // then
         assertFalse(result.content().isEmpty());
         assertEquals("test book1", result.content().get(0).getTitle());
-        verify(s3Storage).generatePresignedUrl(any());
+        assertEquals("https://cdn.example.com/cover.png",
+            result.content().get(0).getThumbnailUrl());
+        verify(fileStorage).presignAll(any());
     }
 
     @Test
@@ -101,8 +104,8 @@ class PopularBookServiceImplTest {
         given(popularBookRepository.findAllByRequest(request)).willReturn(
             List.of(dto1, dto3, dto2));
         given(popularBookRepository.countByPeriod(PeriodType.DAILY)).willReturn(3L);
-        given(s3Storage.generatePresignedUrl("test.jpg")).willReturn(
-            "https://cdn.example.com/cover.png");
+        given(fileStorage.presignAll(any())).willReturn(
+            Map.of("test.jpg", "https://cdn.example.com/cover.png"));
 
         // when
         CursorPageResponse<PopularBookDto> result = popularBookService.getPopularBooks(request);
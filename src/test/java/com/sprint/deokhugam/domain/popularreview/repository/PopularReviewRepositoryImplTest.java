@@ -14,6 +14,7 @@ import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.repository.UserRepository;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
@@ -29,7 +30,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
-@Import({QueryDslConfig.class, JpaAuditingConfig.class})
+@Import({QueryDslConfig.class, JpaAuditingConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 public class PopularReviewRepositoryImplTest {
 
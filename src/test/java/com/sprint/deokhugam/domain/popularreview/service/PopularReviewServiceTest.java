@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -25,7 +26,7 @@ import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import com.sprint.deokhugam.global.exception.BatchAlreadyRunException;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
@@ -60,7 +61,7 @@ public class PopularReviewServiceTest {
     private PopularReviewMapper popularReviewMapper;
 
     @Mock
-    private S3Storage s3Storage;
+    private FileStorage fileStorage;
 
     @Mock
     private StepContribution contribution;
@@ -197,9 +198,9 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(cursor), eq(after), eq(limit + 1)))
             .thenReturn(List.of(popularReview1, popularReview2, popularReview3)); // limit+1개 반환
-        when(popularReviewMapper.toDto(eq(popularReview1), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview1), anyMap()))
             .thenReturn(popularReviewDto1);
-        when(popularReviewMapper.toDto(eq(popularReview2), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview2), anyMap()))
             .thenReturn(popularReviewDto2);
 
         // when
@@ -226,9 +227,9 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(cursor), eq(after), eq(limit + 1)))
             .thenReturn(List.of(popularReview1, popularReview2));
-        when(popularReviewMapper.toDto(eq(popularReview1), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview1), anyMap()))
             .thenReturn(popularReviewDto1);
-        when(popularReviewMapper.toDto(eq(popularReview2), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview2), anyMap()))
             .thenReturn(popularReviewDto2);
 
         // when
@@ -278,7 +279,7 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(cursor), eq(after), eq(limit + 1)))
             .thenReturn(List.of(popularReview1, popularReview2));
-        when(popularReviewMapper.toDto(eq(popularReview1), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview1), anyMap()))
             .thenReturn(popularReviewDto1);
 
         // when
@@ -307,7 +308,7 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(cursor), eq(after), eq(limit + 1)))
             .thenReturn(List.of(popularReview1, popularReview2));
-        when(popularReviewMapper.toDto(eq(popularReview1), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview1), anyMap()))
             .thenReturn(popularReviewDto1);
 
         // when - 첫 번째 페이지 조회
@@ -326,7 +327,7 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(nextCursor), eq(nextAfter), eq(limit + 1)))
             .thenReturn(List.of(popularReview2)); // 마지막 페이지
-        when(popularReviewMapper.toDto(eq(popularReview2), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview2), anyMap()))
             .thenReturn(popularReviewDto2);
 
         // when
@@ -351,7 +352,7 @@ public class PopularReviewServiceTest {
         when(popularReviewRepository.findByPeriodWithCursor(
             eq(period), eq(direction), eq(cursor), eq(after), eq(limit + 1)))
             .thenReturn(List.of(popularReview1));
-        when(popularReviewMapper.toDto(eq(popularReview1), eq(s3Storage)))
+        when(popularReviewMapper.toDto(eq(popularReview1), anyMap()))
             .thenReturn(popularReviewDto1);
 
         // when
@@ -6,6 +6,7 @@ import com.sprint.deokhugam.domain.poweruser.entity.PowerUser;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,7 +19,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 @DisplayName("PowerUserRepositoryCustom 테스트")
 public class PowerUserRepositoryCustomTest {
@@ -2,6 +2,7 @@ package com.sprint.deokhugam.domain.poweruser.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
@@ -12,6 +13,7 @@ import com.sprint.deokhugam.domain.poweruser.dto.PowerUserDto;
 import com.sprint.deokhugam.domain.poweruser.entity.PowerUser;
 import com.sprint.deokhugam.domain.poweruser.repository.PowerUserRepository;
 import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
 import java.time.Instant;
@@ -19,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,6 +40,8 @@ public class PowerUserServiceTest {
 
     @InjectMocks
     private PowerUserService powerUserService;
+    @Mock
+    private TotalCountService totalCountService;
 
     @Test
     void 활동_점수_정상_계산() {
@@ -235,10 +240,11 @@ public class PowerUserServiceTest {
             .willReturn(mockUsers);
         given(powerUserRepository.countByPeriod(period))
             .willReturn(totalCount);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<PowerUserDto> response = powerUserService
-            .getPowerUsersWithCursor(period, direction, size, cursor, after);
+            .getPowerUsersWithCursor(period, direction, size, cursor, after, true);
 
         // then
         assertThat(response.content()).hasSize(3); // 실제로는 3개만 반환
@@ -269,10 +275,11 @@ public class PowerUserServiceTest {
             .willReturn(mockUsers);
         given(powerUserRepository.countByPeriod(period))
             .willReturn(totalCount);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<PowerUserDto> response = powerUserService
-            .getPowerUsersWithCursor(period, direction, size, cursor, after);
+            .getPowerUsersWithCursor(period, direction, size, cursor, after, true);
 
         // then
         assertThat(response.content()).hasSize(3);
@@ -301,10 +308,11 @@ public class PowerUserServiceTest {
             .willReturn(emptyList);
         given(powerUserRepository.countByPeriod(period))
             .willReturn(totalCount);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<PowerUserDto> response = powerUserService
-            .getPowerUsersWithCursor(period, direction, size, cursor, after);
+            .getPowerUsersWithCursor(period, direction, size, cursor, after, true);
 
         // then
         assertThat(response.content()).isEmpty();
@@ -343,10 +351,11 @@ public class PowerUserServiceTest {
             .willReturn(List.of(powerUser));
         given(powerUserRepository.countByPeriod(PeriodType.WEEKLY))
             .willReturn(1L);
+        givenTotalCountPassThrough();
 
         // when
         CursorPageResponse<PowerUserDto> response = powerUserService
-            .getPowerUsersWithCursor(PeriodType.WEEKLY, "ASC", 1, null, null);
+            .getPowerUsersWithCursor(PeriodType.WEEKLY, "ASC", 1, null, null, true);
 
         // then
         PowerUserDto dto = response.content().get(0);
@@ -445,4 +454,11 @@ public class PowerUserServiceTest {
             .password("hashedPassword")
             .build();
     }
-}
\ No newline at end of file
+
+    // 총 개수 캐시를 거치지 않고 저장소의 COUNT 결과를 그대로 쓴다.
+    @SuppressWarnings("unchecked")
+    private void givenTotalCountPassThrough() {
+        given(totalCountService.count(any(), any(), anyBoolean(), any()))
+            .willAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(3)).get());
+    }
+}
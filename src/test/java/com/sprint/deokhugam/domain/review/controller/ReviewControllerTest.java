@@ -1,5 +1,6 @@
 package com.sprint.deokhugam.domain.review.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -9,6 +10,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -21,11 +23,16 @@ import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewUpdateRequest;
 import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
 import com.sprint.deokhugam.domain.review.exception.ReviewUnauthorizedAccessException;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch.Plan;
+import com.sprint.deokhugam.domain.review.search.ReviewSearchResult;
 import com.sprint.deokhugam.domain.review.service.ReviewService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.enums.PeriodType;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -155,7 +162,7 @@ class ReviewControllerTest {
     void 리뷰를_전체조회하면_200을_반환한다() throws Exception {
         //given
         given(reviewService.findAll(any(ReviewGetRequest.class), any(UUID.class))).willReturn(
-            mockResponse);
+            new ReviewSearchResult(mockResponse, null));
 
         //when
         ResultActions result = mockMvc.perform(
@@ -172,6 +179,48 @@ class ReviewControllerTest {
             .andExpect(jsonPath("$.content[0].content").value("리뷰1"));
     }
 
+    @Test
+    void 키워드로_조회하면_검색_방식과_소요_시간을_응답_헤더로_알린다() throws Exception {
+        //given
+        ReviewKeywordMatch match = new ReviewKeywordMatch("스프링", Plan.TRIGRAM, Set.of(),
+            Set.of(), Duration.ofMillis(3));
+        given(reviewService.findAll(any(ReviewGetRequest.class), any(UUID.class))).willReturn(
+            new ReviewSearchResult(mockResponse, match));
+
+        //when
+        ResultActions result = mockMvc.perform(
+            get("/api/reviews")
+                .param("keyword", "스프링")
+                .header("Deokhugam-Request-User-ID", "cea1a965-2817-4431-90e3-e5701c70d43d")
+        );
+
+        //then
+        result
+            .andExpect(status().isOk())
+            .andExpect(header().string("Deokhugam-Search-Plan", "trigram"))
+            .andExpect(header().string("Server-Timing",
+                containsString("keyword-match;desc=\"trigram\";dur=3.0")));
+    }
+
+    @Test
+    void 키워드_없이_조회하면_검색_헤더를_보내지_않는다() throws Exception {
+        //given
+        given(reviewService.findAll(any(ReviewGetRequest.class), any(UUID.class))).willReturn(
+            new ReviewSearchResult(mockResponse, null));
+
+        //when
+        ResultActions result = mockMvc.perform(
+            get("/api/reviews")
+                .header("Deokhugam-Request-User-ID", "cea1a965-2817-4431-90e3-e5701c70d43d")
+        );
+
+        //then
+        result
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Deokhugam-Search-Plan"))
+            .andExpect(header().doesNotExist("Server-Timing"));
+    }
+
     @Test
     void 리뷰_정보_조회에_성공하면_200응답을_반환한다() throws Exception {
         // given
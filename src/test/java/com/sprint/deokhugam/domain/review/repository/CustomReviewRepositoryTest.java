@@ -4,17 +4,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 
 import com.sprint.deokhugam.domain.book.entity.Book;
+import com.sprint.deokhugam.domain.review.dto.data.ReviewDto;
 import com.sprint.deokhugam.domain.review.dto.request.ReviewGetRequest;
 import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch.Plan;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import com.sprint.deokhugam.global.exception.InvalidTypeException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,7 +32,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 @DisplayName("ReviewRepository 단위 테스트")
 public class CustomReviewRepositoryTest {
@@ -160,7 +166,7 @@ public class CustomReviewRepositoryTest {
     void 키워드를_포함하여_리뷰를_전체조회한다() throws Exception {
         //given
         ReviewGetRequest request = new ReviewGetRequest(null, null, "유저2", null, null, 2,
-            "createdAt", "DESC");
+            "createdAt", "DESC", true);
 
         //when
         List<Review> result = reviewRepository.findAll(request);
@@ -170,12 +176,64 @@ public class CustomReviewRepositoryTest {
         assertThat(result.get(0).getContent()).isEqualTo("리뷰2");
     }
 
+    @Test
+    void 키워드를_포함하여_리뷰를_DTO로_전체조회한다() throws Exception {
+        //given
+        ReviewGetRequest request = new ReviewGetRequest(null, null, "유저2", null, null, 2,
+            "createdAt", "DESC", true);
+
+        //when
+        List<ReviewDto> result = reviewRepository.findAllAsDto(request, null);
+
+        //then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).content()).isEqualTo("리뷰2");
+        assertThat(result.get(0).userNickname()).isEqualTo("유저2");
+        assertThat(result.get(0).bookTitle()).isNotNull();
+        assertThat(result.get(0).likedByMe()).isNull();
+    }
+
+    @Test
+    void 서비스가_찾아_넘긴_키워드_결과가_있으면_도서_작성자_id_로_거른다() throws Exception {
+        //given
+        Review review = reviewRepository.findAll(new ReviewGetRequest(null, null, "유저2", null,
+            null, 1, "createdAt", "DESC", true)).get(0);
+        ReviewGetRequest request = new ReviewGetRequest(null, null, "없는키워드", null, null, 10,
+            "createdAt", "DESC", true);
+        ReviewKeywordMatch match = new ReviewKeywordMatch("없는키워드", Plan.TRIGRAM,
+            Set.of(), Set.of(review.getUser().getId()), Duration.ZERO);
+
+        //when
+        List<ReviewDto> result = reviewRepository.findAllAsDto(request, match);
+        Long count = reviewRepository.countAllByFilterCondition(request, match);
+
+        //then
+        assertThat(result).extracting(ReviewDto::id).containsExactly(review.getId());
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void DTO_조회는_엔티티_조회와_같은_순서로_리뷰를_반환한다() throws Exception {
+        //given
+        ReviewGetRequest request = new ReviewGetRequest(null, null, null, null, null, 10,
+            "rating", "DESC", true);
+
+        //when
+        List<ReviewDto> result = reviewRepository.findAllAsDto(request, null);
+
+        //then
+        assertThat(result)
+            .extracting(ReviewDto::id)
+            .containsExactlyElementsOf(
+                reviewRepository.findAll(request).stream().map(Review::getId).toList());
+    }
+
     @Test
     void userId가_일치하는_리뷰를_전체조회한다() throws Exception {
         // given
         UUID userId = reviewRepository.findAll().get(0).getUser().getId();
         ReviewGetRequest request = new ReviewGetRequest(userId, null, null, null, null, 10,
-            "createdAt", "DESC");
+            "createdAt", "DESC", true);
         // when
         List<Review> result = reviewRepository.findAll(request);
 
@@ -189,7 +247,7 @@ public class CustomReviewRepositoryTest {
         // given
         UUID bookId = reviewRepository.findAll().get(1).getBook().getId();
         ReviewGetRequest request = new ReviewGetRequest(null, bookId, null, null, null, 10,
-            "createdAt", "DESC");
+            "createdAt", "DESC", true);
         // when
         List<Review> result = reviewRepository.findAll(request);
 
@@ -204,7 +262,7 @@ public class CustomReviewRepositoryTest {
         // given
         Instant after = Instant.parse("2025-01-02T00:00:00Z");
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, after, after, 10,
-            "createdAt", "DESC");
+            "createdAt", "DESC", true);
         // when
         List<Review> result = reviewRepository.findAll(request);
 
@@ -219,7 +277,7 @@ public class CustomReviewRepositoryTest {
         // given
         Instant after = Instant.parse("2025-01-02T00:00:00Z");
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, "1", after, 10,
-            "createdAt", "ASC");
+            "createdAt", "ASC", true);
 
         // when
         Throwable thrown = catchThrowable(() -> reviewRepository.findAll(request));
@@ -234,7 +292,7 @@ public class CustomReviewRepositoryTest {
         // given
         Instant after = Instant.parse("2025-01-02T00:00:00Z");
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, "1", after, 10,
-            "rating", "ASC");
+            "rating", "ASC", true);
 
         // when
         List<Review> result = reviewRepository.findAll(request);
@@ -253,7 +311,7 @@ public class CustomReviewRepositoryTest {
         // given
         Instant after = Instant.parse("2025-01-02T00:00:00Z");
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, "invalid", after, 10,
-            "rating", "ASC");
+            "rating", "ASC", true);
 
         // when
         Throwable thrown = catchThrowable(() -> reviewRepository.findAll(request));
@@ -267,9 +325,9 @@ public class CustomReviewRepositoryTest {
     void 총_리뷰갯수_반환() throws Exception {
         // given
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, null, null, 10,
-            "createdAt", "ASC");
+            "createdAt", "ASC", true);
         // when
-        Long result = reviewRepository.countAllByFilterCondition(request);
+        Long result = reviewRepository.countAllByFilterCondition(request, null);
 
         // then
         assertThat(result).isEqualTo(2);
@@ -280,9 +338,9 @@ public class CustomReviewRepositoryTest {
         // given
         UUID userId = reviewRepository.findAll().get(0).getUser().getId();
         ReviewGetRequest request = new ReviewGetRequest(userId, null, null, null, null, 10,
-            "createdAt", "DESC");
+            "createdAt", "DESC", true);
         // when
-        Long result = reviewRepository.countAllByFilterCondition(request);
+        Long result = reviewRepository.countAllByFilterCondition(request, null);
 
         // then
         assertThat(result).isEqualTo(1);
@@ -0,0 +1,126 @@
+package com.sprint.deokhugam.domain.review.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch.Plan;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("ReviewKeywordSearch 테스트")
+class ReviewKeywordSearchTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DatabaseDialect databaseDialect = mock(DatabaseDialect.class);
+
+    @Test
+    void H2_에서는_LIKE_로_처리한다() {
+        // given
+        givenPostgres(false);
+        ReviewKeywordSearch search = create("trigram");
+
+        // when
+        ReviewKeywordMatch match = search.resolve("스프링");
+
+        // then
+        assertThat(match.plan()).isEqualTo(Plan.LIKE);
+        assertThat(match.resolved()).isFalse();
+        then(jdbcTemplate).should(never())
+            .queryForList(anyString(), eq(UUID.class), any(Object[].class));
+    }
+
+    @Test
+    void PostgreSQL_trigram_모드는_도서와_작성자_id_를_찾는다() {
+        // given
+        givenPostgres(true);
+        UUID bookId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        given(jdbcTemplate.queryForList(contains("FROM books"), eq(UUID.class),
+            any(Object[].class)))
+            .willReturn(List.of(bookId));
+        given(jdbcTemplate.queryForList(contains("FROM users"), eq(UUID.class),
+            any(Object[].class)))
+            .willReturn(List.of(userId));
+        ReviewKeywordSearch search = create("trigram");
+
+        // when
+        ReviewKeywordMatch match = search.resolve("스프링");
+
+        // then
+        assertThat(match.plan()).isEqualTo(Plan.TRIGRAM);
+        assertThat(match.bookIds()).containsExactly(bookId);
+        assertThat(match.userIds()).containsExactly(userId);
+    }
+
+    @Test
+    void 세_글자_미만_키워드는_trigram_대신_LIKE_로_처리한다() {
+        // given
+        givenPostgres(true);
+        ReviewKeywordSearch search = create("trigram");
+
+        // when
+        ReviewKeywordMatch match = search.resolve("자바");
+
+        // then
+        assertThat(match.plan()).isEqualTo(Plan.LIKE);
+    }
+
+    @Test
+    void 찾은_id_가_너무_많으면_LIKE_로_처리한다() {
+        // given
+        givenPostgres(true);
+        given(jdbcTemplate.queryForList(contains("FROM books"), eq(UUID.class),
+            any(Object[].class)))
+            .willReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        ReviewKeywordSearch search = create("trigram");
+
+        // when
+        ReviewKeywordMatch match = search.resolve("스프링");
+
+        // then
+        assertThat(match.plan()).isEqualTo(Plan.LIKE);
+    }
+
+    @Test
+    void PostgreSQL_fulltext_모드는_단어_앞부분으로_도서를_찾는다() {
+        // given
+        givenPostgres(true);
+        ReviewKeywordSearch search = create("fulltext");
+
+        // when
+        ReviewKeywordMatch match = search.resolve("토비의 스프링");
+
+        // then
+        assertThat(match.plan()).isEqualTo(Plan.FULLTEXT);
+        assertThat(match.keyword()).isEqualTo("토비의 스프링");
+        then(jdbcTemplate).should().queryForList(contains("search_vector"), eq(UUID.class),
+            eq("토비의:* & 스프링:*"), eq(3));
+    }
+
+    @Test
+    void tsquery_연산자와_LIKE_와일드카드는_이스케이프한다() {
+        // when & then
+        assertThat(ReviewKeywordSearch.prefixQuery(" C++ & (자바)! ")).isEqualTo("c++:* & 자바:*");
+        assertThat(ReviewKeywordSearch.escapeLike("100%_a\\b")).isEqualTo("100\\%\\_a\\\\b");
+    }
+
+    private void givenPostgres(boolean postgres) {
+        given(databaseDialect.isPostgres()).willReturn(postgres);
+    }
+
+    private ReviewKeywordSearch create(String mode) {
+        return new ReviewKeywordSearch(jdbcTemplate, databaseDialect, new SimpleMeterRegistry(), mode, 2);
+    }
+}
@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
@@ -22,20 +25,29 @@ import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
 import com.sprint.deokhugam.domain.review.exception.ReviewUnauthorizedAccessException;
 import com.sprint.deokhugam.domain.review.mapper.ReviewMapper;
 import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordMatch.Plan;
+import com.sprint.deokhugam.domain.review.search.ReviewKeywordSearch;
+import com.sprint.deokhugam.domain.review.search.ReviewSearchResult;
 import com.sprint.deokhugam.domain.reviewlike.repository.ReviewLikeRepository;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
 import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.count.TotalCountService;
 import com.sprint.deokhugam.global.dto.response.CursorPageResponse;
 import com.sprint.deokhugam.global.exception.InvalidTypeException;
 import com.sprint.deokhugam.global.exception.NotFoundException;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -64,9 +76,13 @@ public class ReviewServiceImplTest {
     @Mock
     private ReviewMapper reviewMapper;
     @Mock
-    private S3Storage s3Storage;
+    private FileStorage fileStorage;
     @InjectMocks
     private ReviewServiceImpl reviewService;
+    @Mock
+    private TotalCountService totalCountService;
+    @Mock
+    private ReviewKeywordSearch reviewKeywordSearch;
     private CursorPageResponse<ReviewDto> mockResponse;
     private List<ReviewDto> mockReviewDtos;
     private List<Review> mockReviews;
@@ -279,7 +295,7 @@ public class ReviewServiceImplTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(reviewRepository.existsByBookIdAndUserId(bookId, userId)).willReturn(false);
         given(reviewRepository.save(any())).willReturn(savedReview);
-        given(reviewMapper.toDto(savedReview, s3Storage)).willReturn(expectedDto);
+        given(reviewMapper.toDto(savedReview, fileStorage)).willReturn(expectedDto);
 
         // when
         ReviewDto result = reviewService.create(createRequest());
@@ -289,7 +305,8 @@ public class ReviewServiceImplTest {
         then(bookRepository).should().findById(bookId);
         then(userRepository).should().findById(userId);
         then(reviewRepository).should().save(any());
-        then(reviewMapper).should().toDto(savedReview, s3Storage);
+        then(bookRepository).should().applyReviewRatingDelta(bookId, 4, 1);
+        then(reviewMapper).should().toDto(savedReview, fileStorage);
     }
 
     @Test
@@ -340,9 +357,9 @@ public class ReviewServiceImplTest {
         Review savedReview = createReview(book, user);
         ReviewDto expectedDto = createDto(reviewId);
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(savedReview));
-        given(reviewMapper.toDto(savedReview, s3Storage)).willReturn(expectedDto);
-        given(reviewLikeRepository.existsByReviewIdAndUserId(reviewId, requestUserId)).willReturn(
-            false);
+        given(reviewMapper.toDto(savedReview, fileStorage)).willReturn(expectedDto);
+        given(reviewLikeRepository.findLikedReviewIds(requestUserId, List.of(reviewId)))
+            .willReturn(Set.of());
 
         // when
         ReviewDto result = reviewService.findById(reviewId, requestUserId);
@@ -350,8 +367,8 @@ public class ReviewServiceImplTest {
         // then
         assertThat(result).isEqualTo(expectedDto.toBuilder().likedByMe(false).build());
         then(reviewRepository).should().findById(reviewId);
-        then(reviewMapper).should().toDto(savedReview, s3Storage);
-        then(reviewLikeRepository).should().existsByReviewIdAndUserId(reviewId, requestUserId);
+        then(reviewMapper).should().toDto(savedReview, fileStorage);
+        then(reviewLikeRepository).should().findLikedReviewIds(requestUserId, List.of(reviewId));
     }
 
     @Test
@@ -374,19 +391,21 @@ public class ReviewServiceImplTest {
     void 최신순_오름차순으로_리뷰를_전체조회한다() throws Exception {
         //given
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, null, null, 2,
-            "createdAt", "ASC");
+            "createdAt", "ASC", true);
         UUID requestUserId = UUID.fromString("36404724-4603-4cf4-8a8c-ebff46deb51b");
-        given(reviewRepository.findAll(any(ReviewGetRequest.class)))
-            .willReturn(mockReviews.subList(0, 3));
-        given(reviewRepository.countAllByFilterCondition(any(ReviewGetRequest.class)))
+        given(reviewRepository.findAllAsDto(any(ReviewGetRequest.class), isNull()))
+            .willReturn(mockReviewDtos.subList(0, 3));
+        given(reviewRepository.countAllByFilterCondition(any(ReviewGetRequest.class), isNull()))
             .willReturn(100L);
-        given(reviewMapper.toDto(any(Review.class), any(S3Storage.class)))
-            .willReturn(mockReviewDtos.get(0), mockReviewDtos.get(1));
-        given(reviewLikeRepository.existsByReviewIdAndUserId(any(UUID.class), any(UUID.class)))
-            .willReturn(false);
+        givenTotalCountPassThrough();
+        given(fileStorage.presignAll(anyCollection())).willReturn(Map.of(
+            "https://example.com/image1.jpg", "https://presigned.example.com/image.jpg"));
+        given(reviewLikeRepository.findLikedReviewIds(any(UUID.class), anyCollection()))
+            .willReturn(Set.of(mockReviews.get(1).getId()));
 
         //when
-        CursorPageResponse<ReviewDto> result = reviewService.findAll(request, requestUserId);
+        CursorPageResponse<ReviewDto> result = reviewService.findAll(request, requestUserId)
+            .page();
 
         //then
         assertThat(result.content()).hasSize(2);
@@ -394,8 +413,17 @@ public class ReviewServiceImplTest {
         assertThat(result.hasNext()).isTrue();
         assertThat(result.nextCursor()).isNotNull();
         assertThat(result.nextAfter()).isNotNull();
-        then(reviewMapper).should(atLeastOnce()).toDto(any(Review.class), any(S3Storage.class));
-        then(reviewRepository).should().countAllByFilterCondition(any(ReviewGetRequest.class));
+        then(reviewMapper).should(never()).toDto(any(Review.class), any(FileStorage.class));
+        then(reviewRepository).should(never()).findAll(any(ReviewGetRequest.class));
+        then(reviewRepository).should()
+            .countAllByFilterCondition(any(ReviewGetRequest.class), isNull());
+        then(reviewLikeRepository).should().findLikedReviewIds(requestUserId,
+            List.of(mockReviews.get(0).getId(), mockReviews.get(1).getId()));
+        then(reviewLikeRepository).should(never()).existsByReviewIdAndUserId(any(), any());
+        assertThat(result.content().get(0).likedByMe()).isFalse();
+        assertThat(result.content().get(1).likedByMe()).isTrue();
+        assertThat(result.content().get(0).bookThumbnailUrl())
+            .isEqualTo("https://presigned.example.com/image.jpg");
     }
 
     @Test
@@ -403,13 +431,13 @@ public class ReviewServiceImplTest {
     void 데이터가_없을때_최신순_오름차순으로_리뷰를_전체조회한다() throws Exception {
         //given
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, null, null, 2,
-            "createdAt", "ASC");
-        given(reviewRepository.findAll(any(ReviewGetRequest.class)))
+            "createdAt", "ASC", true);
+        given(reviewRepository.findAllAsDto(any(ReviewGetRequest.class), isNull()))
             .willReturn(null);
 
         //when
         CursorPageResponse<ReviewDto> result = reviewService.findAll(request,
-            UUID.fromString("36404724-4603-4cf4-8a8c-ebff46deb51b"));
+            UUID.fromString("36404724-4603-4cf4-8a8c-ebff46deb51b")).page();
 
         CursorPageResponse<ReviewDto> expectedCursorPage = new CursorPageResponse<>(
             new ArrayList<>(),
@@ -418,7 +446,32 @@ public class ReviewServiceImplTest {
         //then
         assertThat(result).isEqualTo(expectedCursorPage);
         then(reviewMapper).shouldHaveNoInteractions();
-        then(reviewRepository).should(never()).countAllByFilterCondition(any());
+        then(reviewRepository).should(never()).countAllByFilterCondition(any(), any());
+    }
+
+    @Test
+    void 키워드는_한_번만_찾아_목록과_총_개수_조회에_같이_넘긴다() throws Exception {
+        //given
+        ReviewGetRequest request = new ReviewGetRequest(null, null, "스프링", null, null, 2,
+            "createdAt", "ASC", true);
+        ReviewKeywordMatch match = new ReviewKeywordMatch("스프링", Plan.TRIGRAM, Set.of(bookId),
+            Set.of(), Duration.ofMillis(3));
+        given(reviewKeywordSearch.resolve("스프링")).willReturn(match);
+        given(reviewRepository.findAllAsDto(any(ReviewGetRequest.class), eq(match)))
+            .willReturn(mockReviewDtos.subList(0, 1));
+        given(reviewRepository.countAllByFilterCondition(any(ReviewGetRequest.class), eq(match)))
+            .willReturn(1L);
+        givenTotalCountPassThrough();
+        given(reviewLikeRepository.findLikedReviewIds(any(UUID.class), anyCollection()))
+            .willReturn(Set.of());
+
+        //when
+        ReviewSearchResult result = reviewService.findAll(request, userId);
+
+        //then
+        assertThat(result.keywordMatch()).isSameAs(match);
+        assertThat(result.page().totalElements()).isEqualTo(1L);
+        then(reviewKeywordSearch).should().resolve("스프링");
     }
 
     @Test
@@ -426,9 +479,9 @@ public class ReviewServiceImplTest {
     void 유효하지_않은_정렬_기준_예외_발생() throws Exception {
         //given
         ReviewGetRequest request = new ReviewGetRequest(null, null, null, null, null, 2,
-            "invalid", "ASC");
-        given(reviewRepository.findAll(any(ReviewGetRequest.class)))
-            .willReturn(mockReviews.subList(0, 3));
+            "invalid", "ASC", true);
+        given(reviewRepository.findAllAsDto(any(ReviewGetRequest.class), isNull()))
+            .willReturn(mockReviewDtos.subList(0, 3));
 
         //when
         Throwable thrown = catchThrowable(() -> reviewService.findAll(request,
@@ -548,8 +601,9 @@ public class ReviewServiceImplTest {
         Review basedReview = createReview(mockBook, mockUser);
         ReviewDto updatedDto = updateDto(reviewId);
         given(mockUser.getId()).willReturn(userId);
+        given(mockBook.getId()).willReturn(bookId);
         given(reviewRepository.findById(reviewId)).willReturn(Optional.of(basedReview));
-        given(reviewMapper.toDto(basedReview, s3Storage)).willReturn(updatedDto);
+        given(reviewMapper.toDto(basedReview, fileStorage)).willReturn(updatedDto);
 
         // when
         ReviewDto result = reviewService.update(reviewId, userId, updateRequest);
@@ -558,9 +612,11 @@ public class ReviewServiceImplTest {
         assertThat(result.content()).isEqualTo(newContent);
         assertThat(result.rating()).isEqualTo(newRating);
         then(reviewRepository).should().findById(reviewId);
-        then(reviewMapper).should().toDto(basedReview, s3Storage);
+        then(reviewMapper).should().toDto(basedReview, fileStorage);
         assertThat(basedReview.getContent()).isEqualTo(newContent);
         assertThat(basedReview.getRating()).isEqualTo(newRating);
+        // 기존 평점 4 -> 3 : 평점 합계만 -1, 리뷰 수는 그대로
+        then(bookRepository).should().applyReviewRatingDelta(bookId, -1, 0);
     }
 
     private ReviewCreateRequest createRequest() {
@@ -611,4 +667,10 @@ public class ReviewServiceImplTest {
         return new ReviewUpdateRequest("업데이트된 리뷰", 3);
     }
 
+    // 총 개수 캐시를 거치지 않고 저장소의 COUNT 결과를 그대로 쓴다.
+    @SuppressWarnings("unchecked")
+    private void givenTotalCountPassThrough() {
+        given(totalCountService.count(any(), any(), anyBoolean(), any()))
+            .willAnswer(invocation -> ((Supplier<Long>) invocation.getArgument(3)).get());
+    }
 }
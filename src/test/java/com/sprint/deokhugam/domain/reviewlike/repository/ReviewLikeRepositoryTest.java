@@ -2,17 +2,22 @@ package com.sprint.deokhugam.domain.reviewlike.repository;
 
 import static com.sprint.deokhugam.fixture.BookFixture.createBookEntity;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.review.entity.Review;
+import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeToggleResult;
 import com.sprint.deokhugam.domain.reviewlike.entity.ReviewLike;
 import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.global.config.JpaAuditingConfig;
 import com.sprint.deokhugam.global.config.QueryDslConfig;
+import com.sprint.deokhugam.global.database.DatabaseDialect;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +29,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
-@Import({JpaAuditingConfig.class, QueryDslConfig.class})
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, DatabaseDialect.class})
 @ActiveProfiles("test")
 @DisplayName("ReviewLikeRepository 단위 테스트")
 class ReviewLikeRepositoryTest {
@@ -35,10 +40,14 @@ class ReviewLikeRepositoryTest {
     @Autowired
     private TestEntityManager em;
 
+    private User user1;
+    private Review review1;
+    private Review review2;
+
     @BeforeEach
     void setUp() {
         // 유저 2명
-        User user1 = em.persist(User.builder()
+        user1 = em.persist(User.builder()
             .email("user1@test.com")
             .nickname("user1")
             .password("pass")
@@ -56,7 +65,7 @@ class ReviewLikeRepositoryTest {
             null, 4.0, 3L));
 
         // 리뷰 2개
-        Review review1 = em.persist(Review.builder()
+        review1 = em.persist(Review.builder()
             .content("리뷰 1")
             .likeCount(1L)
             .commentCount(2L)
@@ -66,7 +75,7 @@ class ReviewLikeRepositoryTest {
             .isDeleted(false)
             .build());
 
-        Review review2 = em.persist(Review.builder()
+        review2 = em.persist(Review.builder()
             .content("리뷰 2")
             .likeCount(1L)
             .commentCount(2L)
@@ -116,4 +125,61 @@ class ReviewLikeRepositoryTest {
         assertEquals(1, result.size());
         assertTrue(result.values().contains(1L));
     }
-}
\ No newline at end of file
+
+    @Test
+    void 페이지의_리뷰_중_사용자가_좋아요한_리뷰_ID만_조회한다() {
+
+        // when
+        Set<UUID> result = reviewLikeRepository.findLikedReviewIds(user1.getId(),
+            List.of(review1.getId(), review2.getId()));
+
+        // then
+        assertEquals(Set.of(review2.getId()), result);
+    }
+
+    @Test
+    void 조회할_리뷰_ID가_없으면_빈_집합을_반환한다() {
+
+        // when
+        Set<UUID> result = reviewLikeRepository.findLikedReviewIds(user1.getId(), List.of());
+
+        // then
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void 좋아요가_없으면_생성하고_다시_토글하면_삭제한다() {
+
+        // when
+        ReviewLikeToggleResult liked = reviewLikeRepository.toggle(review1.getId(), user1.getId());
+        ReviewLikeToggleResult unliked = reviewLikeRepository.toggle(review1.getId(),
+            user1.getId());
+
+        // then
+        assertEquals(new ReviewLikeToggleResult(true, 1), liked);
+        assertEquals(new ReviewLikeToggleResult(false, -1), unliked);
+        assertFalse(reviewLikeRepository.existsByReviewIdAndUserId(review1.getId(), user1.getId()));
+    }
+
+    @Test
+    void 이미_좋아요한_리뷰를_토글하면_좋아요가_삭제된다() {
+
+        // when
+        ReviewLikeToggleResult result = reviewLikeRepository.toggle(review2.getId(), user1.getId());
+
+        // then
+        assertEquals(new ReviewLikeToggleResult(false, -1), result);
+        assertFalse(reviewLikeRepository.existsByReviewIdAndUserId(review2.getId(), user1.getId()));
+    }
+
+    @Test
+    void 존재하지_않는_리뷰는_토글해도_변화가_없다() {
+
+        // when
+        ReviewLikeToggleResult result = reviewLikeRepository.toggle(UUID.randomUUID(),
+            user1.getId());
+
+        // then
+        assertEquals(new ReviewLikeToggleResult(false, 0), result);
+    }
+}
@@ -5,30 +5,25 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
+import com.sprint.deokhugam.domain.notification.entity.NotificationEventType;
 import com.sprint.deokhugam.domain.notification.service.NotificationService;
-import com.sprint.deokhugam.domain.review.entity.Review;
 import com.sprint.deokhugam.domain.review.exception.ReviewNotFoundException;
 import com.sprint.deokhugam.domain.review.repository.ReviewRepository;
 import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeDto;
-import com.sprint.deokhugam.domain.reviewlike.entity.ReviewLike;
-import com.sprint.deokhugam.domain.reviewlike.mapper.ReviewLikeMapper;
+import com.sprint.deokhugam.domain.reviewlike.dto.data.ReviewLikeToggleResult;
 import com.sprint.deokhugam.domain.reviewlike.repository.ReviewLikeRepository;
-import com.sprint.deokhugam.domain.user.entity.User;
 import com.sprint.deokhugam.domain.user.exception.UserNotFoundException;
-import com.sprint.deokhugam.domain.user.repository.UserRepository;
-import java.util.Optional;
+import com.sprint.deokhugam.global.counter.CounterService;
+import com.sprint.deokhugam.global.counter.CounterType;
 import java.util.UUID;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ReviewLikeService 단위 테스트")
@@ -36,73 +31,66 @@ public class ReviewLikeServiceImplTest {
 
     UUID reviewId = UUID.randomUUID();
     UUID userId = UUID.randomUUID();
-    Review review;
-    User user;
     @Mock
     private ReviewLikeRepository reviewLikeRepository;
     @Mock
-    private UserRepository userRepository;
-    @Mock
     private ReviewRepository reviewRepository;
-    @Mock
-    private ReviewLikeMapper reviewLikeMapper;
-
     @Mock
     private NotificationService notificationService;
+    @Mock
+    private CounterService counterService;
     @InjectMocks
     private ReviewLikeServiceImpl reviewLikeService;
 
-    @BeforeEach
-    void setUp() {
-        review = mock(Review.class);
-        ReflectionTestUtils.setField(review, "id", reviewId);
-
-        user = mock(User.class);
-        ReflectionTestUtils.setField(user, "id", userId);
-    }
-
     @Test
     void 리뷰좋아요가_존재하지않으면_리뷰좋아요를_생성한다() {
         // given
-        ReviewLike savedReviewLike = new ReviewLike(review, user);
-        ReviewLikeDto reviewLikeDto = new ReviewLikeDto(reviewId, userId, true);
-        given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(reviewLikeRepository.existsByReviewIdAndUserId(reviewId, userId)).willReturn(false);
-        given(reviewLikeRepository.save(any())).willReturn(savedReviewLike);
-        given(reviewLikeMapper.toDto(savedReviewLike)).willReturn(reviewLikeDto);
+        given(reviewLikeRepository.toggle(reviewId, userId))
+            .willReturn(new ReviewLikeToggleResult(true, 1));
 
         // when
         ReviewLikeDto result = reviewLikeService.toggleLike(reviewId, userId);
 
         // then
-        assertThat(result).isEqualTo(reviewLikeDto);
-        assertThat(result.liked()).isTrue();
-        then(review).should().increaseLikeCount();
-        then(reviewRepository).should().findById(reviewId);
-        then(userRepository).should().findById(userId);
-        then(reviewLikeRepository).should().existsByReviewIdAndUserId(reviewId, userId);
-        then(reviewLikeRepository).should().save(any(ReviewLike.class));
-        then(reviewLikeMapper).should().toDto(savedReviewLike);
-        then(reviewLikeRepository).should(never()).deleteByReviewIdAndUserId(any(), any());
+        assertThat(result).isEqualTo(new ReviewLikeDto(reviewId, userId, true));
+        then(counterService).should().add(CounterType.REVIEW_LIKE, reviewId, 1);
+        then(notificationService).should()
+            .publish(NotificationEventType.REVIEW_LIKED, reviewId, userId, null);
+        then(reviewLikeRepository).should().toggle(reviewId, userId);
+        then(reviewLikeRepository).should(never()).existsByReviewIdAndUserId(any(), any());
+        then(reviewRepository).shouldHaveNoInteractions();
     }
 
     @Test
     void 리뷰좋아요가_존재하면_리뷰좋아요를_삭제한다() {
         // given
-        ReviewLikeDto reviewLikeDto = new ReviewLikeDto(reviewId, userId, false);
-        given(reviewRepository.findById(reviewId)).willReturn(Optional.of(review));
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(reviewLikeRepository.existsByReviewIdAndUserId(reviewId, userId)).willReturn(true);
+        given(reviewLikeRepository.toggle(reviewId, userId))
+            .willReturn(new ReviewLikeToggleResult(false, -1));
 
         // when
         ReviewLikeDto result = reviewLikeService.toggleLike(reviewId, userId);
 
         // then
         assertThat(result.liked()).isFalse();
-        then(review).should().decreaseLikeCount();
-        then(reviewLikeRepository).should().deleteByReviewIdAndUserId(reviewId, userId);
-        then(reviewLikeRepository).should(never()).save(any());
+        then(counterService).should().add(CounterType.REVIEW_LIKE, reviewId, -1);
+        then(notificationService).shouldHaveNoInteractions();
+        then(reviewRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    void 동시_요청으로_이미_좋아요가_생성되었다면_카운터와_알림을_반영하지_않는다() {
+        // given
+        given(reviewLikeRepository.toggle(reviewId, userId))
+            .willReturn(new ReviewLikeToggleResult(true, 0));
+        given(reviewRepository.existsById(reviewId)).willReturn(true);
+
+        // when
+        ReviewLikeDto result = reviewLikeService.toggleLike(reviewId, userId);
+
+        // then
+        assertThat(result.liked()).isTrue();
+        then(counterService).shouldHaveNoInteractions();
+        then(notificationService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -110,7 +98,9 @@ public class ReviewLikeServiceImplTest {
         // given
         UUID reviewId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        given(reviewRepository.findById(reviewId)).willReturn(Optional.empty());
+        given(reviewLikeRepository.toggle(reviewId, userId))
+            .willReturn(new ReviewLikeToggleResult(false, 0));
+        given(reviewRepository.existsById(reviewId)).willReturn(false);
 
         // when
         Throwable thrown = catchThrowable(() -> reviewLikeService.toggleLike(reviewId, userId));
@@ -118,10 +108,8 @@ public class ReviewLikeServiceImplTest {
         // then
         assertThat(thrown)
             .isInstanceOf(ReviewNotFoundException.class);
-        then(reviewRepository).should().findById(reviewId);
-        then(userRepository).shouldHaveNoInteractions();
-        then(reviewLikeRepository).shouldHaveNoInteractions();
-        then(reviewLikeMapper).shouldHaveNoInteractions();
+        then(counterService).shouldHaveNoInteractions();
+        then(notificationService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -129,9 +117,9 @@ public class ReviewLikeServiceImplTest {
         // given
         UUID reviewId = UUID.randomUUID();
         UUID userId = UUID.randomUUID();
-        Review mockReview = mock(Review.class);
-        given(reviewRepository.findById(reviewId)).willReturn(Optional.of(mockReview));
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(reviewLikeRepository.toggle(reviewId, userId))
+            .willReturn(new ReviewLikeToggleResult(false, 0));
+        given(reviewRepository.existsById(reviewId)).willReturn(true);
 
         // when
         Throwable thrown = catchThrowable(() -> reviewLikeService.toggleLike(reviewId, userId));
@@ -139,10 +127,8 @@ public class ReviewLikeServiceImplTest {
         // then
         assertThat(thrown)
             .isInstanceOf(UserNotFoundException.class);
-        then(reviewRepository).should().findById(reviewId);
-        then(userRepository).should().findById(userId);
-        then(reviewLikeRepository).shouldHaveNoInteractions();
-        then(reviewLikeMapper).shouldHaveNoInteractions();
+        then(counterService).shouldHaveNoInteractions();
+        then(notificationService).shouldHaveNoInteractions();
     }
 
     @Test
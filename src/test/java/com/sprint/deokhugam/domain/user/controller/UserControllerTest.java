@@ -379,7 +379,7 @@ class UserControllerTest {
         );
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.DAILY), eq("ASC"), eq(50), isNull(), isNull()))
+            eq(PeriodType.DAILY), eq("ASC"), eq(50), isNull(), isNull(), eq(true)))
             .thenReturn(response);
 
         // when
@@ -415,7 +415,7 @@ class UserControllerTest {
         );
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.DAILY), eq("ASC"), eq(50), isNull(), isNull()))
+            eq(PeriodType.DAILY), eq("ASC"), eq(50), isNull(), isNull(), eq(true)))
             .thenReturn(response);
 
         // when
@@ -428,7 +428,7 @@ class UserControllerTest {
             .andExpect(jsonPath("$.hasNext").value(false));
 
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.DAILY, "ASC", 50, null, null);
+            PeriodType.DAILY, "ASC", 50, null, null, true);
     }
 
     @Test
@@ -438,7 +438,7 @@ class UserControllerTest {
             Collections.emptyList(), "next", "after", 20, 100L, true);
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.WEEKLY), eq("ASC"), eq(20), eq("cursor"), eq("after")))
+            eq(PeriodType.WEEKLY), eq("ASC"), eq(20), eq("cursor"), eq("after"), eq(true)))
             .thenReturn(response);
 
         // when
@@ -462,7 +462,7 @@ class UserControllerTest {
             Collections.emptyList(), null, null, 50, 0L, false);
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.DAILY), eq("DESC"), eq(50), isNull(), isNull()))
+            eq(PeriodType.DAILY), eq("DESC"), eq(50), isNull(), isNull(), eq(true)))
             .thenReturn(response);
 
         // when
@@ -472,13 +472,13 @@ class UserControllerTest {
         // then
         result.andExpect(status().isOk());
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.DAILY, "DESC", 50, null, null);
+            PeriodType.DAILY, "DESC", 50, null, null, true);
     }
 
     @Test
     void 파워유저_목록_조회시_잘못된_direction이면_400을_반환() throws Exception {
         when(powerUserService.getPowerUsersWithCursor(
-            any(PeriodType.class), eq("INVALID"), anyInt(), any(), any()))
+            any(PeriodType.class), eq("INVALID"), anyInt(), any(), any(), eq(true)))
             .thenThrow(new IllegalArgumentException("잘못된 정렬 방향"));
 
         // when
@@ -496,7 +496,7 @@ class UserControllerTest {
             Collections.emptyList(), null, null, 50, 0L, false);
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.ALL_TIME), eq("ASC"), eq(50), isNull(), isNull()))
+            eq(PeriodType.ALL_TIME), eq("ASC"), eq(50), isNull(), isNull(), eq(true)))
             .thenReturn(response);
 
         // when
@@ -506,7 +506,7 @@ class UserControllerTest {
         // then
         result.andExpect(status().isOk());
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.ALL_TIME, "ASC", 50, null, null);
+            PeriodType.ALL_TIME, "ASC", 50, null, null, true);
     }
 
     @Test
@@ -531,7 +531,7 @@ class UserControllerTest {
             eq(50),
             isNull(),
             isNull()
-        )).thenReturn(response);
+        , eq(true))).thenReturn(response);
 
         // when
         ResultActions result = mockMvc.perform(get("/api/users/power"));
@@ -543,7 +543,7 @@ class UserControllerTest {
             .andExpect(jsonPath("$.hasNext").value(false));
 
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.DAILY, "ASC", 50, null, null);
+            PeriodType.DAILY, "ASC", 50, null, null, true);
     }
 
 
@@ -554,7 +554,7 @@ class UserControllerTest {
             Collections.emptyList(), null, null, 100, 0L, false);
 
         when(powerUserService.getPowerUsersWithCursor(
-            eq(PeriodType.DAILY), eq("ASC"), eq(100), isNull(), isNull()))
+            eq(PeriodType.DAILY), eq("ASC"), eq(100), isNull(), isNull(), eq(true)))
             .thenReturn(response);
 
         // when
@@ -564,7 +564,7 @@ class UserControllerTest {
         // then
         result.andExpect(status().isOk());
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.DAILY, "ASC", 100, null, null);
+            PeriodType.DAILY, "ASC", 100, null, null, true);
     }
 
     @Test
@@ -576,7 +576,7 @@ class UserControllerTest {
             anyInt(),
             nullable(String.class),
             nullable(String.class)
-        )).thenThrow(new RuntimeException("Internal server error"));
+        , eq(true))).thenThrow(new RuntimeException("Internal server error"));
 
         // when
         ResultActions result = mockMvc.perform(get("/api/users/power"));
@@ -584,6 +584,6 @@ class UserControllerTest {
         // then
         result.andExpect(status().isInternalServerError());
         verify(powerUserService).getPowerUsersWithCursor(
-            PeriodType.DAILY, "ASC", 50, null, null);
+            PeriodType.DAILY, "ASC", 50, null, null, true);
     }
 }
\ No newline at end of file
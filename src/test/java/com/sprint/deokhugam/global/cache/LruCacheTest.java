@@ -0,0 +1,96 @@
+package com.sprint.deokhugam.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LruCache 단위 테스트")
+class LruCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 최대_크기를_넘으면_가장_오래_사용하지_않은_항목을_축출한다() {
+        // given
+        LruCache<String, Integer> cache = new LruCache<>("test", 2, Duration.ofMinutes(1),
+            meterRegistry);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+
+        // when
+        cache.put("c", 3);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo(3);
+        assertThat(meterRegistry.get("deokhugam.cache.evictions").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("deokhugam.cache.gets").tag("result", "hit").counter().count())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("deokhugam.cache.gets").tag("result", "miss").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void 만료된_항목은_조회되지_않는다() {
+        // given
+        MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        LruCache<String, Integer> cache = new LruCache<>("test", 10, Duration.ofSeconds(10),
+            meterRegistry, clock);
+        cache.put("a", 1);
+
+        // when
+        clock.instant = clock.instant.plusSeconds(10);
+
+        // then
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 캐시에_있는_값만_갱신한다() {
+        // given
+        LruCache<String, Integer> cache = new LruCache<>("test", 10, Duration.ofMinutes(1),
+            meterRegistry);
+        cache.put("a", 1);
+
+        // when
+        cache.computeIfPresent("a", value -> value + 1);
+        cache.computeIfPresent("b", value -> value + 1);
+
+        // then
+        assertThat(cache.get("a")).isEqualTo(2);
+        assertThat(cache.get("b")).isNull();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.sprint.deokhugam.global.count;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("TotalCountService 테스트")
+class TotalCountServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final DatabaseDialect databaseDialect = mock(DatabaseDialect.class);
+    private final AtomicLong counted = new AtomicLong();
+
+    @Test
+    void 같은_조건의_개수는_캐시된_값을_쓴다() {
+        // given
+        givenPostgres(false);
+        TotalCountService service = create();
+
+        // when
+        Long first = service.count(CountScope.BOOK, TotalCountService.filter("Java"), true,
+            this::count);
+        Long second = service.count(CountScope.BOOK, TotalCountService.filter("java"), true,
+            this::count);
+        Long other = service.count(CountScope.BOOK, TotalCountService.filter("kotlin"), true,
+            this::count);
+
+        // then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        assertThat(other).isEqualTo(2L);
+    }
+
+    @Test
+    void 목록_전체_또는_일치하는_조건만_무효화한다() {
+        // given
+        givenPostgres(false);
+        TotalCountService service = create();
+        UUID reviewA = UUID.randomUUID();
+        UUID reviewB = UUID.randomUUID();
+        service.count(CountScope.COMMENT, TotalCountService.filter(reviewA), true, this::count);
+        service.count(CountScope.COMMENT, TotalCountService.filter(reviewB), true, this::count);
+        service.count(CountScope.BOOK, TotalCountService.filter("java"), true, this::count);
+
+        // when
+        service.invalidate(CountScope.COMMENT, TotalCountService.filter(reviewA));
+
+        // then
+        assertThat(service.count(CountScope.COMMENT, TotalCountService.filter(reviewA),
+            true, this::count)).isEqualTo(4L);
+        assertThat(service.count(CountScope.COMMENT, TotalCountService.filter(reviewB),
+            true, this::count)).isEqualTo(2L);
+
+        // when
+        service.invalidate(CountScope.BOOK);
+
+        // then
+        assertThat(service.count(CountScope.BOOK, TotalCountService.filter("java"),
+            true, this::count)).isEqualTo(5L);
+    }
+
+    @Test
+    void includeTotal_이_false_면_개수를_구하지_않는다() {
+        // given
+        TotalCountService service = create();
+
+        // when
+        Long result = service.count(CountScope.REVIEW, TotalCountService.filter(null, null, null),
+            false, this::count);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(counted.get()).isZero();
+    }
+
+    @Test
+    void PostgreSQL_의_조건_없는_큰_목록은_추정치를_쓴다() {
+        // given
+        givenPostgres(true);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("reviews")))
+            .willReturn(250_000L);
+        given(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("books")))
+            .willReturn(-1L);
+        TotalCountService service = create();
+
+        // when
+        Long reviews = service.count(CountScope.REVIEW,
+            TotalCountService.filter(null, null, ""), true, this::count);
+        Long books = service.count(CountScope.BOOK, TotalCountService.filter((Object) null),
+            true, this::count);
+        Long filtered = service.count(CountScope.REVIEW,
+            TotalCountService.filter(null, null, "java"), true, this::count);
+
+        // then
+        assertThat(reviews).isEqualTo(250_000L);
+        assertThat(books).isEqualTo(1L);
+        assertThat(filtered).isEqualTo(2L);
+    }
+
+    private long count() {
+        return counted.incrementAndGet();
+    }
+
+    private void givenPostgres(boolean postgres) {
+        given(databaseDialect.isPostgres()).willReturn(postgres);
+    }
+
+    private TotalCountService create() {
+        return new TotalCountService(jdbcTemplate, databaseDialect, new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(1), true, 100_000);
+    }
+}
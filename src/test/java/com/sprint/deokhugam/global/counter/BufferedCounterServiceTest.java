@@ -0,0 +1,121 @@
+package com.sprint.deokhugam.global.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class BufferedCounterServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> argsCaptor;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BufferedCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counterService = new BufferedCounterService(jdbcTemplate, transactionManager,
+            meterRegistry, 4);
+    }
+
+    @Test
+    void 같은_리뷰의_변화량은_플러시때_UPDATE_한번으로_합쳐진다() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, 1);
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, 1);
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, -1);
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, 1);
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(
+            eq(CounterType.REVIEW_LIKE.incrementSql()),
+            argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).hasSize(1);
+        assertThat(argsCaptor.getValue().get(0)).containsExactly(2L, reviewId);
+        assertThat(meterRegistry.get("deokhugam.counter.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void 변화량이_상쇄되면_UPDATE하지_않는다() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        counterService.add(CounterType.REVIEW_COMMENT, reviewId, 1);
+        counterService.add(CounterType.REVIEW_COMMENT, reviewId, -1);
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void 플러시에_실패하면_다음_플러시에서_다시_반영한다() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, 3);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .willThrow(new DataAccessResourceFailureException("db down"))
+            .willReturn(new int[]{1});
+
+        // when
+        counterService.flush();
+        counterService.flush();
+
+        // then
+        verify(jdbcTemplate, times(2)).batchUpdate(
+            eq(CounterType.REVIEW_LIKE.incrementSql()),
+            argsCaptor.capture());
+        assertThat(argsCaptor.getValue().get(0)).containsExactly(3L, reviewId);
+        assertThat(meterRegistry.get("deokhugam.counter.flush.failed").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void 종료할_때_남은_변화량을_반영한다() {
+        // given
+        UUID reviewId = UUID.randomUUID();
+        counterService.add(CounterType.REVIEW_LIKE, reviewId, 2);
+
+        // when
+        counterService.flushOnShutdown();
+
+        // then
+        verify(jdbcTemplate).batchUpdate(
+            eq(CounterType.REVIEW_LIKE.incrementSql()),
+            argsCaptor.capture());
+        assertThat(argsCaptor.getValue().get(0)).containsExactly(2L, reviewId);
+        assertThat(meterRegistry.get("deokhugam.counter.pending").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sprint.deokhugam.global.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class QueryCountingJdbcTemplateTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new QueryCountingJdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS counted (id INT)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountInspector.stop();
+    }
+
+    @Test
+    void 집계_구간에서_실행한_JdbcTemplate_쿼리를_센다() {
+        // given
+        NamedParameterJdbcTemplate named = new NamedParameterJdbcTemplate(jdbcTemplate);
+        QueryCountInspector.start();
+
+        // when
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counted", Long.class);
+        jdbcTemplate.update("INSERT INTO counted (id) VALUES (?)", 1);
+        named.queryForList("SELECT id FROM counted WHERE id = :id",
+            new MapSqlParameterSource("id", 1), Integer.class);
+        jdbcTemplate.batchUpdate("INSERT INTO counted (id) VALUES (?)",
+            List.of(new Object[]{2}, new Object[]{3}));
+
+        // then
+        assertThat(QueryCountInspector.stop()).isEqualTo(4L);
+    }
+
+    @Test
+    void 집계_구간_밖의_쿼리는_세지_않는다() {
+        // when
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM counted", Long.class);
+        QueryCountInspector.start();
+
+        // then
+        assertThat(QueryCountInspector.current()).isZero();
+    }
+}
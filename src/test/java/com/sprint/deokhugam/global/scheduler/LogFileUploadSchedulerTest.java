@@ -6,7 +6,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -26,7 +26,7 @@ class LogFileUploadSchedulerTest {
     private LogFileUploadScheduler scheduler;
 
     @Mock
-    private S3Storage s3Storage;
+    private FileStorage fileStorage;
 
     @Test
     void 로그_파일이_존재하면_S3에_업로드_한다(@TempDir Path tempDir) throws Exception {
@@ -40,13 +40,13 @@ class LogFileUploadSchedulerTest {
         Files.writeString(logFile.toPath(), "테스트 로그 내용");
 
         String expectedKey = "logs/" + fileName;
-        given(s3Storage.uploadFile(logFile)).willReturn(expectedKey);
+        given(fileStorage.uploadFile(logFile)).willReturn(expectedKey);
 
         // when
         scheduler.uploadYesterdayLogFile(tempDir.toString());
 
         // then
-        verify(s3Storage).uploadFile(logFile);
+        verify(fileStorage).uploadFile(logFile);
     }
 
     @Test
@@ -60,7 +60,7 @@ class LogFileUploadSchedulerTest {
         scheduler.uploadYesterdayLogFile(notExistDir.toString());
 
         // then
-        verify(s3Storage, never()).uploadFile(any());
+        verify(fileStorage, never()).uploadFile(any());
     }
 
     @Test
@@ -73,13 +73,13 @@ class LogFileUploadSchedulerTest {
         File logFile = logFilePath.toFile();
 
         Files.writeString(logFile.toPath(), "테스트 로그 내용");
-        given(s3Storage.uploadFile(any(File.class))).willThrow(new RuntimeException("S3 업로드 실패"));
+        given(fileStorage.uploadFile(any(File.class))).willThrow(new RuntimeException("S3 업로드 실패"));
 
         // when
         Throwable thrown = catchThrowable(
             () -> scheduler.uploadYesterdayLogFile(tempDir.toString()));
 
         // then
-        verify(s3Storage).uploadFile(logFile);
+        verify(fileStorage).uploadFile(logFile);
     }
 }
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageReferenceService 테스트")
+class ImageReferenceServiceTest {
+
+    private static final String KEY = "image/sha256/abc.png";
+    private static final String OTHER_KEY = "image/sha256/def.png";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DatabaseDialect databaseDialect;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FileStorage fileStorage;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageReferenceService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ImageReferenceService(jdbcTemplate,
+            new ImageReservation(jdbcTemplate, databaseDialect, transactionManager), fileStorage,
+            meterRegistry, Duration.ofHours(1), 100);
+    }
+
+    @Test
+    void H2_에서는_행이_없을_때만_만든_뒤_참조_수를_늘린다() {
+        // given
+        given(databaseDialect.isPostgres()).willReturn(false);
+
+        // when
+        service.acquire(KEY);
+
+        // then
+        verify(jdbcTemplate).update(contains("WHERE NOT EXISTS"), eq(KEY), any(), eq(KEY));
+        verify(jdbcTemplate).update(contains("ref_count + 1"), any(), eq(KEY));
+    }
+
+    @Test
+    void 연결하지_못한_이미지는_참조_수를_늘리지_않고_정리_대상으로만_등록한다() {
+        // given
+        given(databaseDialect.isPostgres()).willReturn(false);
+
+        // when
+        service.track(KEY);
+
+        // then
+        verify(jdbcTemplate).update(contains("WHERE NOT EXISTS"), eq(KEY), any(), eq(KEY));
+        verify(jdbcTemplate, never()).update(contains("ref_count + 1"), any(), any());
+    }
+
+    @Test
+    void 참조_수를_관리하지_않는_key_는_해제할_수_없다() {
+        // given
+        given(jdbcTemplate.update(contains("ref_count - 1"), any(), eq("image/legacy.png")))
+            .willReturn(0);
+
+        // when
+        boolean released = service.release("image/legacy.png");
+
+        // then
+        assertThat(released).isFalse();
+    }
+
+    @Test
+    void 가져간_행의_객체만_잠금_없이_지운_뒤_행을_지운다() {
+        // given
+        given(jdbcTemplate.queryForList(contains("ORDER BY"), eq(String.class), any(), any(),
+            any())).willReturn(List.of(KEY, OTHER_KEY));
+        given(jdbcTemplate.update(contains("SET deleting_at = ?"), any(), eq(KEY), any(), any()))
+            .willReturn(1);
+        // 그 사이 다른 도서가 다시 참조했거나 업로드가 다시 잡음
+        given(jdbcTemplate.update(contains("SET deleting_at = ?"), any(), eq(OTHER_KEY), any(),
+            any())).willReturn(0);
+
+        // when
+        service.collect();
+
+        // then
+        ArgumentCaptor<Object> claimedAt = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(contains("SET deleting_at = ?"), claimedAt.capture(), eq(KEY),
+            any(), any());
+        verify(fileStorage).deleteImageWithDerivatives(KEY);
+        verify(fileStorage, never()).deleteImageWithDerivatives(OTHER_KEY);
+        verify(jdbcTemplate).update(contains("DELETE FROM image_refs"), eq(KEY),
+            eq(claimedAt.getValue()));
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM image_refs"), eq(OTHER_KEY),
+            any());
+        assertThat(meterRegistry.get("deokhugam.storage.image-refs.collected").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void 객체_삭제에_실패하면_표시를_지워_다음_주기에_다시_시도한다() {
+        // given
+        given(jdbcTemplate.queryForList(contains("ORDER BY"), eq(String.class), any(), any(),
+            any())).willReturn(List.of(KEY));
+        given(jdbcTemplate.update(contains("SET deleting_at = ?"), any(), eq(KEY), any(), any()))
+            .willReturn(1);
+        willThrow(SdkClientException.create("connection reset"))
+            .given(fileStorage).deleteImageWithDerivatives(KEY);
+
+        // when
+        service.collect();
+
+        // then
+        verify(jdbcTemplate).update(contains("SET deleting_at = NULL"), eq(KEY), any());
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM image_refs"), anyString(),
+            any());
+        assertThat(meterRegistry.get("deokhugam.storage.image-refs.collect.failed").counter()
+            .count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,118 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import com.sprint.deokhugam.global.storage.ImageReservation.Result;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageReservation 테스트")
+class ImageReservationTest {
+
+    private static final String KEY = "image/sha256/abc.png";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DatabaseDialect databaseDialect;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ImageReservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = new ImageReservation(jdbcTemplate, databaseDialect, transactionManager);
+    }
+
+    @Test
+    void 참조_중인_key_는_유예_시간을_새로_시작하고_다시_쓴다() throws Exception {
+        // given
+        givenRow(2, null);
+
+        // when
+        Result result = reservation.reserve(KEY);
+
+        // then
+        assertThat(result).isEqualTo(Result.REUSE);
+        verify(jdbcTemplate).update(contains("SET updated_at = ?"), any(), eq(KEY));
+    }
+
+    @Test
+    void 참조가_없던_key_는_유예_시간을_새로_시작하고_다시_올린다() throws Exception {
+        // given
+        givenRow(0, null);
+
+        // when
+        Result result = reservation.reserve(KEY);
+
+        // then
+        assertThat(result).isEqualTo(Result.UPLOAD);
+        verify(jdbcTemplate).update(contains("SET updated_at = ?"), any(), eq(KEY));
+    }
+
+    @Test
+    void 행이_없으면_참조_수_0_으로_만들고_올린다() {
+        // given
+        given(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), eq(KEY)))
+            .willReturn(List.of());
+        given(databaseDialect.isPostgres()).willReturn(true);
+
+        // when
+        Result result = reservation.reserve(KEY);
+
+        // then
+        assertThat(result).isEqualTo(Result.UPLOAD);
+        verify(jdbcTemplate).update(contains("ON CONFLICT"), eq(KEY), any());
+    }
+
+    @Test
+    void 정리_작업이_지우고_있는_key_는_쓰지_않는다() throws Exception {
+        // given
+        givenRow(0, Timestamp.from(Instant.now()));
+
+        // when
+        Result result = reservation.reserve(KEY);
+
+        // then
+        assertThat(result).isEqualTo(Result.UNAVAILABLE);
+        verify(jdbcTemplate, never()).update(contains("SET updated_at = ?"), any(), any());
+    }
+
+    /**
+     * 잠근 행을 reserve 의 RowMapper 로 그대로 읽는다.
+     */
+    private void givenRow(int refCount, Timestamp deletingAt) throws Exception {
+        given(resultSet.getTimestamp("deleting_at")).willReturn(deletingAt);
+        if (deletingAt == null) {
+            given(resultSet.getInt("ref_count")).willReturn(refCount);
+        }
+        given(jdbcTemplate.query(contains("FOR UPDATE"), any(RowMapper.class), eq(KEY)))
+            .willAnswer(invocation -> List.of(
+                invocation.<RowMapper<?>>getArgument(1).mapRow(resultSet, 0)));
+    }
+}
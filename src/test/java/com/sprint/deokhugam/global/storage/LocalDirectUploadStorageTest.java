@@ -0,0 +1,91 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("LocalDirectUploadStorage 테스트")
+class LocalDirectUploadStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalDirectUploadStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new LocalDirectUploadStorage(root, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void 세션_토큰으로_올린_파일은_HEAD_로_크기와_타입을_확인할_수_있다() throws IOException {
+        // given
+        byte[] png = png(64);
+        UploadSession session = storage.createUploadSession("image/png", png.length);
+
+        // when
+        boolean accepted = storage.accept(token(session), "image/png", png.length,
+            new ByteArrayInputStream(png));
+        Optional<UploadedObject> uploaded = storage.findUploadedObject(session.key());
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(session.key()).startsWith(DirectUploadStorage.KEY_PREFIX);
+        assertThat(session.method()).isEqualTo("PUT");
+        assertThat(uploaded).contains(new UploadedObject(session.key(), 64, "image/png"));
+    }
+
+    @Test
+    void 세션과_다른_타입이나_크기의_업로드는_거절한다() throws IOException {
+        // given
+        byte[] png = png(64);
+        UploadSession typeMismatch = storage.createUploadSession("image/png", png.length);
+        UploadSession sizeMismatch = storage.createUploadSession("image/png", png.length);
+
+        // when
+        boolean wrongType = storage.accept(token(typeMismatch), "image/jpeg", png.length,
+            new ByteArrayInputStream(png));
+        boolean wrongSize = storage.accept(token(sizeMismatch), "image/png", png.length,
+            new ByteArrayInputStream(png(128)));
+
+        // then
+        assertThat(wrongType).isFalse();
+        assertThat(wrongSize).isFalse();
+        assertThat(storage.findUploadedObject(typeMismatch.key())).isEmpty();
+        assertThat(storage.findUploadedObject(sizeMismatch.key())).isEmpty();
+    }
+
+    @Test
+    void 토큰은_한_번만_쓸_수_있다() throws IOException {
+        // given
+        byte[] png = png(64);
+        UploadSession session = storage.createUploadSession("image/png", png.length);
+        storage.accept(token(session), "image/png", png.length, new ByteArrayInputStream(png));
+
+        // when
+        boolean reused = storage.accept(token(session), "image/png", png.length,
+            new ByteArrayInputStream(png));
+
+        // then
+        assertThat(reused).isFalse();
+    }
+
+    private String token(UploadSession session) {
+        return session.uploadUrl().substring(LocalDirectUploadStorage.UPLOAD_PATH.length());
+    }
+
+    private byte[] png(int size) {
+        byte[] content = new byte[size];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
@@ -0,0 +1,242 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.deokhugam.global.storage.ImageReservation.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@DisplayName("LocalFileStorage 테스트")
+class LocalFileStorageTest {
+
+    @TempDir
+    Path root;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ImageReservation imageReservation;
+    private LocalFileStorage storage;
+    private LocalFileController controller;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        imageReservation = mock(ImageReservation.class);
+        storage = new LocalFileStorage(imageReservation, meterRegistry, root, 600,
+            "test-signing-key", DataSize.ofMegabytes(5));
+        controller = new LocalFileController(storage, meterRegistry,
+            "private, max-age=86400, immutable", DataSize.ofKilobytes(48));
+    }
+
+    @Test
+    void 같은_내용의_이미지는_한_번만_저장한다() throws IOException {
+        // given
+        MockMultipartFile first = new MockMultipartFile("file", "a.png", "image/png", png(64));
+        MockMultipartFile second = new MockMultipartFile("file", "b.png", "image/png", png(64));
+        given(imageReservation.reserve(anyString()))
+            .willReturn(Result.UPLOAD)
+            .willReturn(Result.REUSE);
+
+        // when
+        String firstKey = storage.uploadImage(first);
+        String secondKey = storage.uploadImage(second);
+
+        // then
+        assertThat(firstKey).isEqualTo(secondKey).startsWith(FileStorage.CONTENT_KEY_PREFIX);
+        assertThat(Files.readAllBytes(root.resolve(firstKey))).isEqualTo(png(64));
+        assertThat(meterRegistry.get("deokhugam.storage.upload.deduplicated").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void 참조가_없던_key_는_객체가_있어도_다시_저장한다() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", png(64));
+        given(imageReservation.reserve(anyString())).willReturn(Result.UPLOAD);
+        String key = storage.uploadImage(file);
+
+        // when
+        String secondKey = storage.uploadImage(file);
+
+        // then
+        assertThat(secondKey).isEqualTo(key);
+        assertThat(meterRegistry.get("deokhugam.storage.upload.deduplicated").counter().count())
+            .isZero();
+    }
+
+    @Test
+    void 정리_작업이_지우고_있는_key_면_고유_key_로_저장한다() throws IOException {
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "a.png", "image/png", png(64));
+        given(imageReservation.reserve(anyString())).willReturn(Result.UNAVAILABLE);
+
+        // when
+        String key = storage.uploadImage(file);
+
+        // then
+        assertThat(FileStorage.isContentAddressed(key)).isFalse();
+        assertThat(key).startsWith(DirectUploadStorage.KEY_PREFIX).endsWith(".png");
+        assertThat(Files.readAllBytes(root.resolve(key))).isEqualTo(png(64));
+    }
+
+    @Test
+    void 서명이_바뀌었거나_만료된_url_은_검증에_실패한다() {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        UriComponents url = UriComponentsBuilder.fromUriString(storage.generatePresignedUrl(key))
+            .build();
+        long expires = Long.parseLong(url.getQueryParams().getFirst("expires"));
+        String signature = url.getQueryParams().getFirst("signature");
+
+        // when & then
+        assertThat(storage.verify(key, expires, signature)).isTrue();
+        assertThat(storage.verify(FileStorage.CONTENT_KEY_PREFIX + "def.png", expires, signature))
+            .isFalse();
+        assertThat(storage.verify(key, expires + 1, signature)).isFalse();
+        assertThat(storage.verify(key, 1, signature)).isFalse();
+    }
+
+    @Test
+    void 같은_구간에서는_만료_시각이_같고_남은_유효_시간은_절반_이상이다() {
+        // when
+        long first = storage.expiresAt(1_000_200);
+        long second = storage.expiresAt(1_000_499);
+
+        // then
+        assertThat(first).isEqualTo(second);
+        assertThat(first - 1_000_499).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    void 파생_이미지까지_함께_지운다() throws IOException {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        storage.putImage(key, png(64), "image/png");
+        storage.putImage(key + "_w160.jpg", png(32), "image/jpeg");
+        storage.putImage(FileStorage.CONTENT_KEY_PREFIX + "def.png", png(64), "image/png");
+
+        // when
+        storage.deleteImageWithDerivatives(key);
+
+        // then
+        assertThat(storage.exists(key)).isFalse();
+        assertThat(storage.exists(key + "_w160.jpg")).isFalse();
+        assertThat(storage.exists(FileStorage.CONTENT_KEY_PREFIX + "def.png")).isTrue();
+    }
+
+    @Test
+    void 저장소_밖을_가리키는_key_는_거절한다() {
+        // when & then
+        assertThatThrownBy(() -> storage.resolve("../outside.png"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.openImage("image/../../outside.png"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 단일_Range_요청은_206_으로_해당_구간만_내려준다() throws IOException {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        storage.putImage(key, png(64), "image/png");
+        MockHttpServletRequest request = request(key);
+        request.addHeader("Range", "bytes=0-7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        serve(key, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 0-7/64");
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getContentAsByteArray()).hasSize(8);
+        assertThat(response.getContentAsByteArray()[1]).isEqualTo((byte) 'P');
+    }
+
+    @Test
+    void 파일_크기를_넘는_Range_요청은_416_으로_거절한다() throws IOException {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        storage.putImage(key, png(64), "image/png");
+        MockHttpServletRequest request = request(key);
+        request.addHeader("Range", "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        serve(key, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */64");
+    }
+
+    @Test
+    void sendfile_을_지원하면_파일_경로만_넘기고_본문은_쓰지_않는다() throws IOException {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "large.png";
+        storage.putImage(key, png(64 * 1024), "image/png");
+        MockHttpServletRequest request = request(key);
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        serve(key, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.filename"))
+            .isEqualTo(root.resolve(key).toString());
+        assertThat(request.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(64L * 1024);
+        assertThat(response.getContentLengthLong()).isEqualTo(64L * 1024);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 서명이_틀리면_403_을_돌려준다() throws IOException {
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        storage.putImage(key, png(64), "image/png");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        controller.serve(storage.expiresAt(System.currentTimeMillis() / 1000), "tampered",
+            request(key), response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(403);
+    }
+
+    private void serve(String key, MockHttpServletRequest request,
+        MockHttpServletResponse response) throws IOException {
+        UriComponents url = UriComponentsBuilder.fromUriString(storage.generatePresignedUrl(key))
+            .build();
+        controller.serve(Long.parseLong(url.getQueryParams().getFirst("expires")),
+            url.getQueryParams().getFirst("signature"), request, response);
+    }
+
+    private MockHttpServletRequest request(String key) {
+        return new MockHttpServletRequest("GET", LocalFileStorage.FILE_PATH + key);
+    }
+
+    private byte[] png(int size) {
+        byte[] content = new byte[size];
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
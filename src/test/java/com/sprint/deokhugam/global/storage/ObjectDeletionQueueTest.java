@@ -0,0 +1,157 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.sprint.deokhugam.global.database.DatabaseDialect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ObjectDeletionQueue 테스트")
+class ObjectDeletionQueueTest {
+
+    private static final String KEY = "image/legacy.png";
+    private static final String OTHER_KEY = "image/legacy.png_w160.jpg";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private DatabaseDialect databaseDialect;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private FileStorage fileStorage;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObjectDeletionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new ObjectDeletionQueue(jdbcTemplate, databaseDialect, transactionManager,
+            fileStorage, meterRegistry, 1000, 10, Duration.ofMinutes(5), Duration.ofSeconds(30),
+            Duration.ofHours(6), 12);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 삭제를_예약하면_저장소를_호출하지_않고_행만_기록한다() {
+        // given
+        given(databaseDialect.isPostgres()).willReturn(false);
+
+        // when
+        queue.enqueue(List.of(KEY, OTHER_KEY, KEY));
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("WHERE NOT EXISTS"), captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        verify(fileStorage, never()).deleteObjects(any());
+    }
+
+    @Test
+    void 지운_key_는_행을_지우고_실패한_key_는_백오프_후_다시_시도한다() {
+        // given
+        givenDue(List.of(KEY, OTHER_KEY));
+        given(fileStorage.deleteObjects(List.of(KEY, OTHER_KEY)))
+            .willReturn(Map.of(OTHER_KEY, "SlowDown: Please reduce your request rate."));
+
+        // when
+        int drained = queue.drainBatch();
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        ArgumentCaptor<List<Object[]>> deletes = argumentCaptor();
+        verify(jdbcTemplate).batchUpdate(contains("DELETE FROM object_deletions"),
+            deletes.capture());
+        assertThat(deletes.getValue()).hasSize(1);
+        assertThat(deletes.getValue().get(0)).containsExactly(KEY);
+
+        ArgumentCaptor<List<Object[]>> retries = argumentCaptor();
+        verify(jdbcTemplate).batchUpdate(contains("attempts = ?"), retries.capture());
+        Object[] retry = retries.getValue().get(0);
+        assertThat(retry[0]).isEqualTo(1);
+        assertThat(((Timestamp) retry[1]).toInstant())
+            .isAfter(Instant.now().plusSeconds(20));
+        assertThat(retry[3]).isEqualTo(OTHER_KEY);
+        assertThat(meterRegistry.get("deokhugam.storage.deletion.deleted").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void 저장소_요청이_실패하면_가져온_key_를_모두_다시_시도한다() {
+        // given
+        givenDue(List.of(KEY, OTHER_KEY));
+        given(fileStorage.deleteObjects(anyList()))
+            .willThrow(SdkClientException.create("connection reset"));
+
+        // when
+        queue.drainBatch();
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(contains("DELETE FROM object_deletions"),
+            anyList());
+        assertThat(meterRegistry.get("deokhugam.storage.deletion.retried").counter().count())
+            .isEqualTo(2.0);
+    }
+
+    @Test
+    void 재시도_간격은_두_배씩_늘고_최대_간격을_넘지_않는다() {
+        // when & then
+        assertThat(queue.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(queue.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(queue.backoff(20)).isEqualTo(Duration.ofHours(6));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDue(List<String> keys) {
+        given(databaseDialect.isPostgres()).willReturn(false);
+        // 트랜잭션 템플릿은 목 트랜잭션 매니저로 콜백을 그대로 실행한다.
+        given(jdbcTemplate.query(contains("next_attempt_at <= ?"), any(RowMapper.class), any(),
+            eq(12), anyInt()))
+            .willAnswer(invocation -> {
+                RowMapper<Object> mapper = invocation.getArgument(1);
+                List<Object> rows = new ArrayList<>();
+                for (String key : keys) {
+                    ResultSet rs = mock(ResultSet.class);
+                    given(rs.getString("object_key")).willReturn(key);
+                    rows.add(mapper.mapRow(rs, rows.size()));
+                }
+                return rows;
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArgumentCaptor<List<Object[]>> argumentCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+}
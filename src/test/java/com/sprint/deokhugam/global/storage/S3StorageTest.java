@@ -4,17 +4,27 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.sprint.deokhugam.domain.book.exception.FileSizeExceededException;
 import com.sprint.deokhugam.domain.book.exception.InvalidFileTypeException;
+import com.sprint.deokhugam.global.storage.ImageReservation.Result;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,9 +32,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
@@ -38,13 +65,18 @@ class S3StorageTest {
     @Mock
     private S3Presigner s3Presigner;
 
+    @Mock
+    private ImageReservation imageReservation;
+
     private S3Storage s3Storage;
 
     @BeforeEach
     void setUp() {
         s3Client = mock(S3Client.class);
         s3Presigner = mock(S3Presigner.class);
-        s3Storage = new S3Storage(s3Client, s3Presigner, "test-bucket");
+        s3Storage = new S3Storage(s3Client, s3Presigner, imageReservation,
+            new SimpleMeterRegistry(), "test-bucket", 600, 100, "private, max-age=86400",
+            DataSize.ofMegabytes(10), DataSize.ofMegabytes(6), DataSize.ofMegabytes(5));
     }
 
     @Test
@@ -55,8 +87,9 @@ class S3StorageTest {
             "file",
             "test.jpg",
             "image/jpeg",
-            "test-image-content".getBytes()
+            jpeg(1024)
         );
+        givenReservation(Result.UPLOAD);
 
         // when
         String key = s3Storage.uploadImage(file);
@@ -67,10 +100,210 @@ class S3StorageTest {
         verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
         PutObjectRequest capturedRequest = requestCaptor.getValue();
         assertThat(capturedRequest.bucket()).isEqualTo("test-bucket");
-        assertThat(capturedRequest.key()).startsWith("image/");
+        assertThat(capturedRequest.key()).startsWith(FileStorage.CONTENT_KEY_PREFIX);
+        assertThat(capturedRequest.key()).endsWith(".jpg");
+        assertThat(capturedRequest.contentType()).isEqualTo("image/jpeg");
+        assertThat(capturedRequest.contentLength()).isEqualTo(1024L);
+        assertThat(capturedRequest.checksumSHA256()).isNotNull();
         assertThat(key).isEqualTo(capturedRequest.key());
     }
 
+    @Test
+    void 같은_내용의_이미지는_파일명이_달라도_같은_key_로_한_번만_업로드한다() throws IOException {
+
+        // given
+        MockMultipartFile first = new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg(1024));
+        MockMultipartFile second = new MockMultipartFile("file", "b.jpeg", "image/jpeg",
+            jpeg(1024));
+        given(imageReservation.reserve(anyString()))
+            .willReturn(Result.UPLOAD)
+            .willReturn(Result.REUSE);
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+            .willReturn(HeadObjectResponse.builder().build());
+
+        // when
+        String firstKey = s3Storage.uploadImage(first);
+        String secondKey = s3Storage.uploadImage(second);
+
+        // then
+        assertThat(secondKey).isEqualTo(firstKey);
+        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, times(1)).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void 참조가_있어도_객체가_없으면_다시_업로드한다() throws IOException {
+
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg(1024));
+        givenReservation(Result.REUSE);
+        given(s3Client.headObject(any(HeadObjectRequest.class)))
+            .willThrow(NoSuchKeyException.builder().build());
+
+        // when
+        String key = s3Storage.uploadImage(file);
+
+        // then
+        assertThat(key).startsWith(FileStorage.CONTENT_KEY_PREFIX);
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 정리_작업이_지우고_있는_key_면_객체가_있어도_고유_key_로_업로드한다() throws IOException {
+
+        // given
+        MockMultipartFile file = new MockMultipartFile("file", "a.jpg", "image/jpeg", jpeg(1024));
+        givenReservation(Result.UNAVAILABLE);
+
+        // when
+        String key = s3Storage.uploadImage(file);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(
+            PutObjectRequest.class);
+        verify(s3Client).putObject(requestCaptor.capture(), any(RequestBody.class));
+        assertThat(key).isEqualTo(requestCaptor.getValue().key());
+        assertThat(FileStorage.isContentAddressed(key)).isFalse();
+        assertThat(key).startsWith(DirectUploadStorage.KEY_PREFIX).endsWith(".jpg");
+        verify(s3Client, never()).headObject(any(HeadObjectRequest.class));
+    }
+
+    @Test
+    void 원본과_파생_이미지를_접두어로_찾아_한_번에_지운다() {
+
+        // given
+        String key = FileStorage.CONTENT_KEY_PREFIX + "abc.png";
+        given(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+            .willReturn(ListObjectsV2Response.builder()
+                .contents(S3Object.builder().key(key).build(),
+                    S3Object.builder().key(key + ".w160.jpg").build())
+                .build());
+
+        // when
+        s3Storage.deleteImageWithDerivatives(key);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(
+            DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(captor.capture());
+        assertThat(captor.getValue().delete().objects().size()).isEqualTo(2);
+    }
+
+    @Test
+    void 여러_객체는_1000개씩_나눠_지우고_실패한_key_만_돌려준다() {
+
+        // given
+        List<String> keys = IntStream.range(0, 1500)
+            .mapToObj(i -> "image/legacy-" + i + ".png")
+            .toList();
+        given(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+            .willReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("image/legacy-7.png").code("AccessDenied")
+                    .message("Access Denied").build())
+                .build())
+            .willReturn(DeleteObjectsResponse.builder().build());
+
+        // when
+        Map<String, String> failed = s3Storage.deleteObjects(keys);
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(
+            DeleteObjectsRequest.class);
+        verify(s3Client, times(2)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues().get(0).delete().objects().size()).isEqualTo(1000);
+        assertThat(captor.getAllValues().get(1).delete().objects().size()).isEqualTo(500);
+        assertThat(failed.keySet()).isEqualTo(Set.of("image/legacy-7.png"));
+    }
+
+    @Test
+    void 이미지_시그니처가_아니면_Content_Type_이_image_여도_업로드에_실패한다() {
+
+        // given
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "fake.png",
+            "image/png",
+            "<script>alert(1)</script>".getBytes()
+        );
+
+        // when
+        Throwable thrown = catchThrowable(() -> s3Storage.uploadImage(file));
+
+        // then
+        assertThat(thrown)
+            .isInstanceOf(InvalidFileTypeException.class);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void threshold_보다_큰_이미지는_파트로_나눠_업로드한다() throws IOException {
+
+        // given
+        S3Storage storage = new S3Storage(s3Client, s3Presigner, imageReservation,
+            new SimpleMeterRegistry(), "test-bucket", 600, 100, "private",
+            DataSize.ofMegabytes(20), DataSize.ofMegabytes(6), DataSize.ofMegabytes(5));
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "large.jpg",
+            "image/jpeg",
+            jpeg(12 * 1024 * 1024)
+        );
+        givenReservation(Result.UPLOAD);
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .willReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        // when
+        String key = storage.uploadImage(file);
+
+        // then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(
+            UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(partCaptor.capture(), any(RequestBody.class));
+        assertThat(partCaptor.getAllValues().stream().map(UploadPartRequest::contentLength)
+            .toList()).isEqualTo(List.of(5L * 1024 * 1024, 5L * 1024 * 1024, 2L * 1024 * 1024));
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(
+            CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().key()).isEqualTo(key);
+        assertThat(completeCaptor.getValue().multipartUpload().parts().size()).isEqualTo(3);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void 파트_업로드에_실패하면_multipart_업로드를_중단한다() {
+
+        // given
+        S3Storage storage = new S3Storage(s3Client, s3Presigner, imageReservation,
+            new SimpleMeterRegistry(), "test-bucket", 600, 100, "private",
+            DataSize.ofMegabytes(20), DataSize.ofMegabytes(6), DataSize.ofMegabytes(5));
+        MockMultipartFile file = new MockMultipartFile(
+            "file",
+            "large.jpg",
+            "image/jpeg",
+            jpeg(7 * 1024 * 1024)
+        );
+        givenReservation(Result.UPLOAD);
+        given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        given(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .willThrow(SdkClientException.create("connection reset"));
+
+        // when
+        Throwable thrown = catchThrowable(() -> storage.uploadImage(file));
+
+        // then
+        assertThat(thrown).isInstanceOf(SdkClientException.class);
+        ArgumentCaptor<AbortMultipartUploadRequest> abortCaptor = ArgumentCaptor.forClass(
+            AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortCaptor.capture());
+        assertThat(abortCaptor.getValue().uploadId()).isEqualTo("upload-1");
+        verify(s3Client, never()).completeMultipartUpload(
+            any(CompleteMultipartUploadRequest.class));
+    }
+
     @Test
     void 파일_타입이_image가_아닌_경우_업로드에_실패한다() {
 
@@ -91,10 +324,10 @@ class S3StorageTest {
     }
 
     @Test
-    void 파일_크기가_5MB_보다_큰_경우_업로드에_실패한다() {
+    void 파일_크기가_10MB_보다_큰_경우_업로드에_실패한다() {
 
         // given
-        byte[] largeContent = new byte[6 * 1024 * 1024]; // 6MB
+        byte[] largeContent = new byte[11 * 1024 * 1024]; // 11MB
         MockMultipartFile file = new MockMultipartFile(
             "file",
             "large.jpg",
@@ -131,6 +364,39 @@ class S3StorageTest {
             GetObjectPresignRequest.class);
         verify(s3Presigner).presignGetObject(captor.capture());
         assertThat(captor.getValue().signatureDuration()).isEqualTo(Duration.ofMinutes(10));
+        assertThat(captor.getValue().getObjectRequest().responseCacheControl())
+            .isEqualTo("private, max-age=86400");
+    }
+
+    @Test
+    void 같은_key_의_presigned_url_은_캐시에서_재사용한다() {
+
+        // given
+        givenPresignedUrl("https://fake-presigned-url.com/image/test.jpg");
+
+        // when
+        String first = s3Storage.generatePresignedUrl("image/test.jpg");
+        String second = s3Storage.generatePresignedUrl("image/test.jpg");
+
+        // then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void 페이지의_key_를_모아_캐시에_없는_것만_한_번씩_서명한다() {
+
+        // given
+        givenPresignedUrl("https://fake-presigned-url.com/image");
+        s3Storage.generatePresignedUrl("image/a.jpg");
+
+        // when
+        Map<String, String> urls = s3Storage.presignAll(
+            Arrays.asList("image/a.jpg", "image/b.jpg", "image/b.jpg", null, ""));
+
+        // then
+        assertThat(urls).hasSize(2);
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
     }
 
     @Test
@@ -170,4 +436,25 @@ class S3StorageTest {
         assertThat(thrown)
             .isInstanceOf(InvalidFileTypeException.class);
     }
-}
\ No newline at end of file
+
+    private byte[] jpeg(int size) {
+        byte[] content = new byte[size];
+        content[0] = (byte) 0xFF;
+        content[1] = (byte) 0xD8;
+        content[2] = (byte) 0xFF;
+        return content;
+    }
+
+    private void givenReservation(Result result) {
+        given(imageReservation.reserve(anyString())).willReturn(result);
+    }
+
+    private void givenPresignedUrl(String url) {
+        URL fakeUrl = mock(URL.class);
+        PresignedGetObjectRequest presignedRequest = mock(PresignedGetObjectRequest.class);
+        given(fakeUrl.toString()).willReturn(url);
+        given(presignedRequest.url()).willReturn(fakeUrl);
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class)))
+            .willReturn(presignedRequest);
+    }
+}
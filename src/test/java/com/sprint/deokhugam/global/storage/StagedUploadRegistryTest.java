@@ -0,0 +1,108 @@
+package com.sprint.deokhugam.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StagedUploadRegistry 테스트")
+class StagedUploadRegistryTest {
+
+    private static final String KEY = "image/abc";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectDeletionQueue objectDeletionQueue;
+
+    private StagedUploadRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new StagedUploadRegistry(jdbcTemplate, transactionManager, objectDeletionQueue,
+            Duration.ofHours(1), 100);
+    }
+
+    @Test
+    void 발급받은_사용자가_기한_안에_처음_가져가면_성공한다() {
+        // given
+        given(jdbcTemplate.update(contains("DELETE FROM staged_uploads"), eq(KEY), eq(USER_ID),
+            any())).willReturn(1);
+
+        // when
+        boolean claimed = registry.claim(KEY, USER_ID);
+
+        // then
+        assertThat(claimed).isTrue();
+    }
+
+    @Test
+    void 다른_사용자의_key_이거나_이미_가져간_key_는_가져갈_수_없다() {
+        // given
+        given(jdbcTemplate.update(contains("DELETE FROM staged_uploads"), eq(KEY), eq(USER_ID),
+            any())).willReturn(0);
+
+        // when
+        boolean claimed = registry.claim(KEY, USER_ID);
+
+        // then
+        assertThat(claimed).isFalse();
+    }
+
+    @Test
+    void 발급할_때_기한이_지난_key_를_지우고_객체를_삭제_큐에_넣는다() {
+        // given
+        String expired = "image/expired";
+        String claimed = "image/claimed";
+        given(jdbcTemplate.queryForList(contains("expires_at <= ?"), eq(String.class), any(),
+            eq(100))).willReturn(List.of(expired, claimed));
+        given(jdbcTemplate.update(contains("DELETE FROM staged_uploads"), eq(expired), any()))
+            .willReturn(1);
+        // 그 사이 claim 이 먼저 가져간 key
+        given(jdbcTemplate.update(contains("DELETE FROM staged_uploads"), eq(claimed), any()))
+            .willReturn(0);
+
+        // when
+        registry.stage(KEY, USER_ID);
+
+        // then
+        verify(objectDeletionQueue).enqueue(List.of(expired));
+        verify(jdbcTemplate).update(contains("INSERT INTO staged_uploads"), eq(KEY), eq(USER_ID),
+            any(), any());
+    }
+
+    @Test
+    void 기한이_지난_key_가_없으면_삭제_큐를_건드리지_않는다() {
+        // given
+        given(jdbcTemplate.queryForList(contains("expires_at <= ?"), eq(String.class), any(),
+            eq(100))).willReturn(List.of());
+
+        // when
+        registry.stage(KEY, USER_ID);
+
+        // then
+        verify(objectDeletionQueue, never()).enqueue(anyCollection());
+    }
+}
@@ -20,7 +20,7 @@ import com.sprint.deokhugam.domain.book.dto.request.BookUpdateRequest;
 import com.sprint.deokhugam.domain.book.entity.Book;
 import com.sprint.deokhugam.domain.book.ocr.TesseractOcrExtractor;
 import com.sprint.deokhugam.domain.book.repository.BookRepository;
-import com.sprint.deokhugam.global.storage.S3Storage;
+import com.sprint.deokhugam.global.storage.FileStorage;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDate;
 import java.util.List;
@@ -60,7 +60,7 @@ class BookIntegrationTest {
     private EntityManager entityManager;
 
     @MockitoBean
-    private S3Storage storage; // 실제 업로드 방지
+    private FileStorage storage; // 실제 업로드 방지
 
     @MockitoBean
     private TesseractOcrExtractor tesseractOcrExtractor;
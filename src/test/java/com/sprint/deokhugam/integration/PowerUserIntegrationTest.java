@@ -0,0 +1,60 @@
+package com.sprint.deokhugam.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.deokhugam.domain.poweruser.entity.PowerUser;
+import com.sprint.deokhugam.domain.poweruser.repository.PowerUserRepository;
+import com.sprint.deokhugam.domain.user.entity.User;
+import com.sprint.deokhugam.domain.user.repository.UserRepository;
+import com.sprint.deokhugam.global.enums.PeriodType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 요청 동안 영속성 컨텍스트를 열어 두지 않는 설정에서 지연 로딩 연관을 응답으로 바꾸는 조회를 확인한다. 테스트 트랜잭션이 영속성 컨텍스트를
+ * 열어 두면 문제가 가려지므로 클래스에 트랜잭션을 걸지 않는다.
+ */
+@SpringBootTest(properties = "spring.jpa.open-in-view=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PowerUser 통합 테스트")
+@Sql(scripts = "/sql/clear-all.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class PowerUserIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PowerUserRepository powerUserRepository;
+
+    @Test
+    void 트랜잭션_밖에서도_파워_유저의_닉네임을_읽어_응답한다() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+            .email("power@example.com")
+            .nickname("파워유저")
+            .password("password123!")
+            .build());
+        powerUserRepository.save(new PowerUser(user, PeriodType.DAILY, 1L, 10.0, 8.0, 5L, 3L));
+
+        // when & then
+        mockMvc.perform(get("/api/users/power")
+                .param("period", "DAILY")
+                .param("direction", "ASC"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].userId").value(user.getId().toString()))
+            .andExpect(jsonPath("$.content[0].nickname").value("파워유저"))
+            .andExpect(jsonPath("$.content[0].rank").value(1));
+    }
+}
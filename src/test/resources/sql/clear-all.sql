@@ -1,7 +1,14 @@
 SET REFERENTIAL_INTEGRITY FALSE;
+TRUNCATE TABLE notifications;
+TRUNCATE TABLE notification_partitions;
+TRUNCATE TABLE notification_outbox;
+TRUNCATE TABLE notification_actors;
+TRUNCATE TABLE notification_read_watermarks;
 TRUNCATE TABLE review_likes;
 TRUNCATE TABLE comments;
 TRUNCATE TABLE reviews;
 TRUNCATE TABLE books;
+TRUNCATE TABLE staged_uploads;
+TRUNCATE TABLE power_users;
 TRUNCATE TABLE users;
 SET REFERENTIAL_INTEGRITY TRUE;
\ No newline at end of file
@@ -120,16 +120,64 @@ CREATE TABLE IF NOT EXISTS books
     updated_at     TIMESTAMP,
     title          VARCHAR(100) NOT NULL,
     thumbnail_url  VARCHAR(512),
+    thumbnail_small_key  VARCHAR(512),
+    thumbnail_medium_key VARCHAR(512),
     author         VARCHAR(50)  NOT NULL,
     description    TEXT         NOT NULL,
     publisher      VARCHAR(50)  NOT NULL,
     published_date DATE         NOT NULL,
     rating         DOUBLE       NOT NULL CHECK (rating BETWEEN 0 AND 5),
+    rating_sum     BIGINT       NOT NULL DEFAULT 0,
     review_count   BIGINT       NOT NULL DEFAULT 0,
     isbn           VARCHAR(16)  NOT NULL UNIQUE,
     is_deleted     BOOLEAN      NOT NULL DEFAULT FALSE
 );
 
+CREATE TABLE IF NOT EXISTS image_refs
+(
+    -- Primary Key
+    image_key   VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    ref_count   INT          NOT NULL DEFAULT 0 CHECK (ref_count >= 0),
+    updated_at  TIMESTAMP    NOT NULL,
+    -- 정리 작업이 객체를 지우는 중이면 가져간 시각
+    deleting_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS object_deletions
+(
+    -- Primary Key
+    object_key      VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    attempts        INT          NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    created_at      TIMESTAMP    NOT NULL,
+    last_error      VARCHAR(500)
+);
+
+CREATE TABLE IF NOT EXISTS staged_uploads
+(
+    -- Primary Key
+    object_key VARCHAR(512) PRIMARY KEY,
+
+    -- Column
+    user_id    VARCHAR(36)  NOT NULL,
+    expires_at TIMESTAMP    NOT NULL,
+    created_at TIMESTAMP    NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS book_info_cache
+(
+    -- Primary Key
+    isbn      VARCHAR(13) PRIMARY KEY,
+
+    -- Column
+    payload   TEXT,
+    cached_at TIMESTAMP   NOT NULL
+);
+
 CREATE TABLE IF NOT EXISTS reviews
 (
     -- Primary Key
@@ -184,15 +232,19 @@ CREATE TABLE IF NOT EXISTS comments
 CREATE TABLE IF NOT EXISTS notifications
 (
     -- Primary Key
-    id         VARCHAR(36) PRIMARY KEY,
+    id              VARCHAR(36) PRIMARY KEY,
 
     -- Column
-    created_at TIMESTAMP   NOT NULL,
-    updated_at TIMESTAMP,
-    review_id  VARCHAR(36) NOT NULL,
-    user_id    VARCHAR(36) NOT NULL,
-    content    VARCHAR(255),
-    confirmed  BOOLEAN     NOT NULL,
+    created_at      TIMESTAMP   NOT NULL,
+    updated_at      TIMESTAMP,
+    review_id       VARCHAR(36) NOT NULL,
+    user_id         VARCHAR(36) NOT NULL,
+    content         VARCHAR(255),
+    confirmed       BOOLEAN     NOT NULL,
+    event_type      VARCHAR(30) CHECK ( event_type IN ('REVIEW_LIKED', 'REVIEW_COMMENTED')),
+    actor_count     INT         NOT NULL DEFAULT 1,
+    latest_actor_id VARCHAR(36),
+    comment_id      VARCHAR(36),
 
     CONSTRAINT fk_notifications_user
         FOREIGN KEY (user_id)
@@ -202,6 +254,86 @@ CREATE TABLE IF NOT EXISTS notifications
     CONSTRAINT fk_notifications_review
         FOREIGN KEY (review_id)
             REFERENCES reviews (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_notifications_latest_actor
+        FOREIGN KEY (latest_actor_id)
+            REFERENCES users (id)
+            ON DELETE SET NULL,
+
+    CONSTRAINT fk_notifications_comment
+        FOREIGN KEY (comment_id)
+            REFERENCES comments (id)
+            ON DELETE SET NULL
+);
+
+CREATE TABLE IF NOT EXISTS notification_outbox
+(
+    -- Primary Key
+    id         VARCHAR(36) PRIMARY KEY,
+
+    -- Column
+    created_at TIMESTAMP   NOT NULL,
+    event_type VARCHAR(30) NOT NULL CHECK ( event_type IN ('REVIEW_LIKED', 'REVIEW_COMMENTED')),
+    review_id  VARCHAR(36) NOT NULL,
+    actor_id   VARCHAR(36) NOT NULL,
+    comment_id VARCHAR(36),
+
+    CONSTRAINT fk_notification_outbox_review
+        FOREIGN KEY (review_id)
+            REFERENCES reviews (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_notification_outbox_actor
+        FOREIGN KEY (actor_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE,
+
+    CONSTRAINT fk_notification_outbox_comment
+        FOREIGN KEY (comment_id)
+            REFERENCES comments (id)
+            ON DELETE CASCADE
+);
+
+-- H2 는 파티션 테이블이 없어 월 파티션 목록만 기록하고, 삭제는 해당 기간 행을 지우는 방식으로 흉내 낸다.
+CREATE TABLE IF NOT EXISTS notification_partitions
+(
+    -- Primary Key
+    partition_name VARCHAR(64) PRIMARY KEY,
+
+    -- Column
+    range_start    TIMESTAMP   NOT NULL,
+    range_end      TIMESTAMP   NOT NULL
+);
+
+-- 읽지 않은 묶음 알림의 서로 다른 행위자 - actor_count 는 이 테이블의 행 수다.
+CREATE TABLE IF NOT EXISTS notification_actors
+(
+    -- Column
+    notification_id VARCHAR(36) NOT NULL,
+    actor_id        VARCHAR(36) NOT NULL,
+
+    CONSTRAINT pk_notification_actors
+        PRIMARY KEY (notification_id, actor_id),
+
+    CONSTRAINT fk_notification_actors_actor
+        FOREIGN KEY (actor_id)
+            REFERENCES users (id)
+            ON DELETE CASCADE
+);
+
+-- 사용자별 "모두 읽음" 기준 시각 - 이 시각 이전에 생성된 알림은 행을 고치지 않아도 읽은 것으로 본다.
+CREATE TABLE IF NOT EXISTS notification_read_watermarks
+(
+    -- Primary Key
+    user_id      VARCHAR(36) PRIMARY KEY,
+
+    -- Column
+    last_read_at TIMESTAMP   NOT NULL,
+
+    CONSTRAINT fk_notification_read_watermarks_user
+        FOREIGN KEY (user_id)
+            REFERENCES users (id)
             ON DELETE CASCADE
 );
 
@@ -301,6 +433,12 @@ CREATE INDEX IF NOT EXISTS idx_popular_review_rankings ON popular_review_ranking
 
 -- notifications index 생성
 CREATE INDEX IF NOT EXISTS idx_notifications ON notifications (user_id, confirmed, created_at);
+-- 읽은 알림 보관 기간 삭제 배치용
+CREATE INDEX IF NOT EXISTS idx_notifications_purge ON notifications (confirmed, updated_at);
+CREATE INDEX IF NOT EXISTS idx_notifications_group ON notifications (user_id, review_id, event_type);
+
+-- notification_outbox index 생성
+CREATE INDEX IF NOT EXISTS idx_notification_outbox ON notification_outbox (created_at);
 
 -- reviews index 생성
 CREATE INDEX IF NOT EXISTS idx_reviews_created_at ON reviews (book_id, created_at);
@@ -310,7 +448,16 @@ CREATE INDEX IF NOT EXISTS idx_reviews_rating ON reviews (book_id, rating);
 CREATE INDEX IF NOT EXISTS idx_comments ON comments (review_id, created_at DESC);
 
 -- review likes index 생성
-CREATE INDEX IF NOT EXISTS idx_review_likes ON review_likes (user_id);
+CREATE INDEX IF NOT EXISTS idx_review_likes ON review_likes (user_id, review_id);
+
+-- image_refs index 생성
+CREATE INDEX IF NOT EXISTS idx_image_refs ON image_refs (ref_count, updated_at);
+
+-- object_deletions index 생성
+CREATE INDEX IF NOT EXISTS idx_object_deletions ON object_deletions (next_attempt_at);
+
+-- staged_uploads index 생성
+CREATE INDEX IF NOT EXISTS idx_staged_uploads_expires_at ON staged_uploads (expires_at);
 
 -- 지워지지 않은 review에 대한 unique index 생성
 CREATE UNIQUE INDEX IF NOT EXISTS review_active_unique